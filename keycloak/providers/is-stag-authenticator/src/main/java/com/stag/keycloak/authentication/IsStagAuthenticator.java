@@ -52,6 +52,7 @@ public class IsStagAuthenticator extends UsernamePasswordForm {
     // Attribute keys
     private static final String STUDENT_ID_ATTR = "studentId";
     private static final String TEACHER_ID_ATTR = "teacherId";
+    private static final String PERSON_ID_ATTR = "personId";
 
     /**
      * Authenticates the user based on the context and query parameters.
@@ -167,7 +168,8 @@ public class IsStagAuthenticator extends UsernamePasswordForm {
      * <p>
      * Decodes and parses the Base64 encoded {@code stagUserInfo}.
      * It then looks up the user in Keycloak by username. If the user does not exist,
-     * a new user is created. On successful processing, the user is authenticated.
+     * a new user is created, an existing user gets the person ID attribute if it is missing.
+     * On successful processing, the user is authenticated.
      * </p>
      *
      * @param context The {@link AuthenticationFlowContext} for user management.
@@ -197,6 +199,8 @@ public class IsStagAuthenticator extends UsernamePasswordForm {
 
             if (user == null) {
                 user = createUser(userProvider, realm, isStagUser, isStagUserDetails);
+            } else {
+                setPersonIdAttribute(user, isStagUserDetails);
             }
 
             log.info("IS/STAG authentication successful for user: " + isStagUserDetails.userName());
@@ -211,7 +215,7 @@ public class IsStagAuthenticator extends UsernamePasswordForm {
      * Creates a new user in Keycloak based on the provided IS/STAG data.
      * <p>
      * Sets the username, email, first name, last name, and additional attributes
-     * (student ID or teacher ID) based on the {@link IsStagUserDetails}.
+     * (student ID or teacher ID, person ID) based on the {@link IsStagUserDetails}.
      * It also assigns the user a role if one is specified and exists in the realm.
      * </p>
      *
@@ -250,6 +254,7 @@ public class IsStagAuthenticator extends UsernamePasswordForm {
                              log.debug("Setting teacher ID attribute for user: " + userName);
                              user.setSingleAttribute(TEACHER_ID_ATTR, id.toString());
                          });
+        setPersonIdAttribute(user, isStagUserDetails);
 
         // Assign role if specified
         String roleName = isStagUserDetails.role();
@@ -263,6 +268,36 @@ public class IsStagAuthenticator extends UsernamePasswordForm {
         return user;
     }
 
+    /**
+     * Sets the person ID attribute of the user if IS/STAG provides it and it differs from the stored one.
+     * <p>
+     * The attribute is mapped to the {@code personId} token claim, which lets the services check
+     * the ownership of person data without asking the student service for the person of a student.
+     * Users created before the attribute existed get it on their next login. When IS/STAG no longer
+     * provides the person ID, the stored attribute is removed so that a stale claim does not keep granting access.
+     * </p>
+     *
+     * @param user The {@link UserModel} to update.
+     * @param isStagUserDetails The {@link IsStagUserDetails} containing the person ID, if applicable.
+     */
+    static void setPersonIdAttribute(UserModel user, IsStagUserDetails isStagUserDetails) {
+        Optional<String> personId = isStagUserDetails.personId().map(String::valueOf);
+
+        if (personId.isEmpty()) {
+            if (user.getFirstAttribute(PERSON_ID_ATTR) != null) {
+                log.debug("Removing person ID attribute for user: " + user.getUsername());
+                user.removeAttribute(PERSON_ID_ATTR);
+            }
+            return;
+        }
+
+        personId.filter(id -> !id.equals(user.getFirstAttribute(PERSON_ID_ATTR)))
+                .ifPresent(id -> {
+                    log.debug("Setting person ID attribute for user: " + user.getUsername());
+                    user.setSingleAttribute(PERSON_ID_ATTR, id);
+                });
+    }
+
     /**
      * Handles authentication errors by setting a failure challenge.
      * <p>
@@ -17,6 +17,7 @@ import java.util.Optional;
  * @param email The email address of the user.
  * @param studentId An {@link Optional} containing the student's identification number ("osCislo"), if applicable.
  * @param teacherId An {@link Optional} containing the teacher's identification number ("ucitIdno"), if applicable.
+ * @param personId An {@link Optional} containing the person's identification number ("osobIdno"), if applicable.
  * @author Jakub Pavlíček
  * @version 1.0.0
  */
@@ -26,7 +27,8 @@ public record IsStagUserDetails(
     @JsonProperty("role") String role,
     @JsonProperty("email") String email,
     @JsonProperty("osCislo") Optional<String> studentId,
-    @JsonProperty("ucitIdno") Optional<Long> teacherId
+    @JsonProperty("ucitIdno") Optional<Long> teacherId,
+    @JsonProperty("osobIdno") Optional<Long> personId
 ) {
 
 }
@@ -0,0 +1,50 @@
+package com.stag.keycloak.authentication;
+
+import com.stag.keycloak.authentication.dto.IsStagUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.models.UserModel;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IsStagAuthenticatorTest {
+
+    @Mock
+    private UserModel user;
+
+    @Test
+    @DisplayName("Should store the person ID provided by IS/STAG")
+    void setPersonIdAttribute_PersonIdProvided_StoresIt() {
+        when(user.getFirstAttribute("personId")).thenReturn(null);
+
+        IsStagAuthenticator.setPersonIdAttribute(user, details(Optional.of(42L)));
+
+        verify(user).setSingleAttribute("personId", "42");
+        verify(user, never()).removeAttribute(anyString());
+    }
+
+    @Test
+    @DisplayName("Should remove the stored person ID when IS/STAG no longer provides it")
+    void setPersonIdAttribute_PersonIdAbsent_RemovesIt() {
+        when(user.getFirstAttribute("personId")).thenReturn("42");
+
+        IsStagAuthenticator.setPersonIdAttribute(user, details(Optional.empty()));
+
+        verify(user).removeAttribute("personId");
+        verify(user, never()).setSingleAttribute(anyString(), anyString());
+    }
+
+    private static IsStagUserDetails details(Optional<Long> personId) {
+        return new IsStagUserDetails("ST12345", "ST", "student@students.zcu.cz", Optional.empty(), Optional.empty(), personId);
+    }
+
+}
@@ -27,9 +27,13 @@ import java.util.Map;
 /// |--------|-----------|-------------|
 /// | `X-Student-Id` | `studentId` | Student identifier (if user is a student) |
 /// | `X-Teacher-Id` | `teacherId` | Teacher identifier (if user is a teacher) |
+/// | `X-Person-Id` | `personId` | Person identifier (if present in the token) |
 /// | `X-Roles` | `realm_access.roles` | Comma-separated list of user roles |
 /// | `X-Email` | `email` | User email address |
 ///
+/// A client-supplied `X-Person-Id` header is always removed, downstream services compare it with the person
+/// of a request to check ownership, so it must only ever come from the token.
+///
 /// This filter runs after JWT authentication and before routing to downstream services.
 /// It is disabled for the `perftest` profile where security is bypassed.
 ///
@@ -46,6 +50,9 @@ public class JwtClaimsExtractionFilter implements GlobalFilter, Ordered {
     /// Header name for teacher identifier
     public static final String HEADER_TEACHER_ID = "X-Teacher-Id";
 
+    /// Header name for person identifier
+    public static final String HEADER_PERSON_ID = "X-Person-Id";
+
     /// Header name for user roles
     public static final String HEADER_ROLES = "X-Roles";
 
@@ -73,7 +80,7 @@ public class JwtClaimsExtractionFilter implements GlobalFilter, Ordered {
                        .filter(JwtAuthenticationToken.class::isInstance)
                        .cast(JwtAuthenticationToken.class)
                        .map(jwt -> addClaimsHeaders(exchange, jwt))
-                       .defaultIfEmpty(exchange)
+                       .defaultIfEmpty(withoutPersonIdHeader(exchange))
                        .flatMap(chain::filter);
     }
 
@@ -95,6 +102,9 @@ public class JwtClaimsExtractionFilter implements GlobalFilter, Ordered {
     private ServerWebExchange addClaimsHeaders(ServerWebExchange exchange, JwtAuthenticationToken jwt) {
         ServerHttpRequest.Builder requestBuilder = exchange.getRequest().mutate();
 
+        // Never trust a person ID the client sent itself
+        requestBuilder.headers(headers -> headers.remove(HEADER_PERSON_ID));
+
         // Extract student ID (if present)
         String studentId = jwt.getToken().getClaimAsString("studentId");
         if (studentId != null) {
@@ -109,6 +119,13 @@ public class JwtClaimsExtractionFilter implements GlobalFilter, Ordered {
             log.debug(ADDED_HEADER, HEADER_TEACHER_ID, teacherId);
         }
 
+        // Extract person ID (if present, tokens issued before the claim existed lack it)
+        String personId = jwt.getToken().getClaimAsString("personId");
+        if (personId != null) {
+            requestBuilder.header(HEADER_PERSON_ID, personId);
+            log.debug(ADDED_HEADER, HEADER_PERSON_ID, personId);
+        }
+
         // Extract email
         String email = jwt.getToken().getClaimAsString("email");
         if (email != null) {
@@ -128,6 +145,20 @@ public class JwtClaimsExtractionFilter implements GlobalFilter, Ordered {
                        .build();
     }
 
+    /// Removes a client-supplied person ID header from a request without a JWT token.
+    ///
+    /// @param exchange the server web exchange
+    /// @return exchange without the person ID header
+    private ServerWebExchange withoutPersonIdHeader(ServerWebExchange exchange) {
+        if (!exchange.getRequest().getHeaders().containsHeader(HEADER_PERSON_ID)) {
+            return exchange;
+        }
+
+        return exchange.mutate()
+                       .request(request -> request.headers(headers -> headers.remove(HEADER_PERSON_ID)))
+                       .build();
+    }
+
     /// Extracts roles from the Keycloak JWT realm_access claim.
     ///
     /// @param jwt the JWT authentication token
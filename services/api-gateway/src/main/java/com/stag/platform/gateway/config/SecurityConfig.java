@@ -48,7 +48,7 @@ public class SecurityConfig {
                 .pathMatchers("/actuator/**").permitAll()
                 .pathMatchers("/api/*/openapi.yaml").permitAll()
                 .pathMatchers(SWAGGER_URLS).permitAll()
-                .pathMatchers("/api/v1/addresses/**", "/api/v1/countries/**", "/api/v1/domains/**").permitAll()
+                .pathMatchers("/api/v1/addresses/**", "/api/v1/countries/**", "/api/v1/domains/**", "/api/v1/high-schools/**").permitAll()
                 .anyExchange().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt ->
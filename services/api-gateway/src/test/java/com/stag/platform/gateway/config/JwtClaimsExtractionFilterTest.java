@@ -89,6 +89,67 @@ class JwtClaimsExtractionFilterTest {
                     .verifyComplete();
     }
 
+    @Test
+    @DisplayName("should extract person ID and add as header")
+    void filter_WithPersonId_AddsPersonIdHeader() {
+        Jwt jwt = createJwtWithClaims(Map.of(
+            "studentId", "S12345",
+            "personId", 456,
+            "realm_access", Map.of("roles", List.of("ST"))
+        ));
+
+        JwtAuthenticationToken authToken = new JwtAuthenticationToken(jwt);
+        GatewayFilterChain chain = mock(GatewayFilterChain.class);
+
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test").build();
+        ServerWebExchange exchange = MockServerWebExchange.from(request)
+            .mutate().principal(Mono.just(authToken)).build();
+
+        when(chain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerWebExchange modifiedExchange = invocation.getArgument(0);
+            HttpHeaders headers = modifiedExchange.getRequest().getHeaders();
+
+            assertThat(headers.getFirst(JwtClaimsExtractionFilter.HEADER_STUDENT_ID)).isEqualTo("S12345");
+            assertThat(headers.getFirst(JwtClaimsExtractionFilter.HEADER_PERSON_ID)).isEqualTo("456");
+
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange, chain))
+                    .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should remove client-supplied person ID header when token has no person ID")
+    void filter_WithSpoofedPersonIdHeader_RemovesHeader() {
+        Jwt jwt = createJwtWithClaims(Map.of(
+            "studentId", "S12345",
+            "realm_access", Map.of("roles", List.of("ST"))
+        ));
+
+        JwtAuthenticationToken authToken = new JwtAuthenticationToken(jwt);
+        GatewayFilterChain chain = mock(GatewayFilterChain.class);
+
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/test")
+                                                             .header(JwtClaimsExtractionFilter.HEADER_PERSON_ID, "999")
+                                                             .build();
+        ServerWebExchange exchange = MockServerWebExchange.from(request)
+            .mutate().principal(Mono.just(authToken)).build();
+
+        when(chain.filter(any(ServerWebExchange.class))).thenAnswer(invocation -> {
+            ServerWebExchange modifiedExchange = invocation.getArgument(0);
+            HttpHeaders headers = modifiedExchange.getRequest().getHeaders();
+
+            assertThat(headers.getFirst(JwtClaimsExtractionFilter.HEADER_STUDENT_ID)).isEqualTo("S12345");
+            assertThat(headers.getFirst(JwtClaimsExtractionFilter.HEADER_PERSON_ID)).isNull();
+
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange, chain))
+                    .verifyComplete();
+    }
+
     @Test
     @DisplayName("should extract multiple roles as comma-separated string")
     void filter_WithMultipleRoles_AddsCommaSeparatedRoles() {
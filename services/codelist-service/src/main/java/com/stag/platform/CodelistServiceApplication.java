@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /// **Codelist Service Application**
 ///
@@ -14,6 +15,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 /// @version 1.0.0
 @EnableAsync
 @EnableCaching
+@EnableScheduling
 @SpringBootApplication
 public class CodelistServiceApplication {
 
@@ -0,0 +1,62 @@
+package com.stag.platform.address.controller;
+
+import com.stag.platform.address.index.AddressSuggestScope;
+import com.stag.platform.address.index.AddressSuggestion;
+import com.stag.platform.address.mapper.AddressApiMapper;
+import com.stag.platform.address.service.AddressService;
+import com.stag.platform.api.AddressesApi;
+import com.stag.platform.api.dto.AddressSuggestionListResponse;
+import com.stag.platform.api.dto.AddressSuggestionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/// **Address Controller**
+///
+/// REST API endpoint for address autocomplete.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+@RestController
+public class AddressController implements AddressesApi {
+
+    /// Address Service
+    private final AddressService addressService;
+
+    /// Suggests streets, municipalities, municipality parts and postal codes.
+    ///
+    /// @param query Autocomplete query
+    /// @param type Requested element types, all types when empty
+    /// @param regionId Region the suggestions must belong to
+    /// @param districtId District the suggestions must belong to
+    /// @param municipalityId Municipality the suggestions must belong to
+    /// @param limit Maximum number of results
+    /// @return Response containing the matching address suggestions
+    @Override
+    public ResponseEntity<AddressSuggestionListResponse> suggestAddresses(
+        String query,
+        List<AddressSuggestionType> type,
+        Integer regionId,
+        Integer districtId,
+        Long municipalityId,
+        Integer limit
+    ) {
+        log.info("Address suggestions requested");
+
+        AddressSuggestScope scope = new AddressSuggestScope(
+            AddressApiMapper.INSTANCE.toAddressElementTypes(type), regionId, districtId, municipalityId
+        );
+        List<AddressSuggestion> suggestions = addressService.suggest(query, scope, limit);
+        AddressSuggestionListResponse suggestionListResponse = AddressApiMapper.INSTANCE.toAddressSuggestionListResponse(suggestions);
+
+        return ResponseEntity.ok(suggestionListResponse);
+    }
+
+}
@@ -1,18 +1,16 @@
 package com.stag.platform.address.controller;
 
 import com.stag.platform.address.mapper.CountryApiMapper;
-import com.stag.platform.address.repository.projection.CountryView;
 import com.stag.platform.address.service.CountryService;
 import com.stag.platform.api.CountriesApi;
 import com.stag.platform.api.dto.CountryListResponse;
+import com.stag.platform.shared.http.ConditionalResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Set;
-
 /// **Country Controller**
 ///
 /// REST API endpoint for country data retrieval.
@@ -27,19 +25,26 @@ public class CountryController implements CountriesApi {
 
     /// Country Service
     private final CountryService countryService;
+    /// Conditional Responses
+    private final ConditionalResponses conditionalResponses;
 
     /// Retrieves all valid countries in the specified language.
+    /// Answers `304 Not Modified` when the client already has the current list.
     ///
     /// @param language Language code ('cs' or 'en')
+    /// @param ifNoneMatch ETag from the If-None-Match header
     /// @return Response containing a list of countries
     @Override
-    public ResponseEntity<CountryListResponse> getCountries(String language) {
+    public ResponseEntity<CountryListResponse> getCountries(String language, String ifNoneMatch) {
         log.info("Countries requested in language: {}", language);
 
-        Set<CountryView> countries = countryService.getCountries(language);
-        CountryListResponse countryListResponse = CountryApiMapper.INSTANCE.toCountryListResponse(countries);
-
-        return ResponseEntity.ok(countryListResponse);
+        return conditionalResponses.respond(
+            "countries",
+            language,
+            ifNoneMatch,
+            () -> countryService.getCountries(language),
+            CountryApiMapper.INSTANCE::toCountryListResponse
+        );
     }
 
 }
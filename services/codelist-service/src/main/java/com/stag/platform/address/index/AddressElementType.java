@@ -0,0 +1,20 @@
+package com.stag.platform.address.index;
+
+/// **Address Element Type**
+///
+/// Types of address elements offered by the address autocomplete.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public enum AddressElementType {
+
+    /// Street
+    STREET,
+    /// Municipality
+    MUNICIPALITY,
+    /// Municipality part
+    MUNICIPALITY_PART,
+    /// Postal code
+    ZIP_CODE
+
+}
@@ -0,0 +1,235 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/// **Address Place Index**
+///
+/// Read-only view over a memory-mapped address place index file created by [AddressPlaceIndexWriter].
+/// The data stays off-heap in the page cache, so pods mapping the same file share a single copy.
+///
+/// File layout (big-endian):
+///
+/// - header: magic, format version, index version, export time (epoch millis), entry count, string count
+/// - municipality part IDs as a sorted `long` array, searched with binary search
+/// - for each entry three `int` string references (municipality, municipality part, district), `-1` for null
+/// - string offset table with `string count + 1` entries, relative to the start of the string data
+/// - deduplicated UTF-8 encoded names
+///
+/// Lookups only use absolute reads, the index is safe to share between threads.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class AddressPlaceIndex {
+
+    /// File magic ("STAI")
+    static final int MAGIC = 0x53544149;
+    /// Supported file format version
+    static final int FORMAT_VERSION = 1;
+    /// Header size in bytes
+    static final int HEADER_SIZE = 32;
+    /// Marker of a null string reference
+    static final int NULL_REF = -1;
+
+    /// Empty index used before a file is mapped
+    private static final AddressPlaceIndex EMPTY = new AddressPlaceIndex(ByteBuffer.allocate(0), 0, Instant.EPOCH, 0, 0);
+
+    /// Mapped file content
+    private final ByteBuffer buffer;
+    /// Index version
+    private final long version;
+    /// Time when the index was exported
+    private final Instant exportedAt;
+    /// Number of municipality parts
+    private final int size;
+    /// Offset of the string reference table
+    private final int refsOffset;
+    /// Offset of the string offset table
+    private final int stringOffsetsOffset;
+    /// Offset of the string data
+    private final int stringDataOffset;
+
+    private AddressPlaceIndex(ByteBuffer buffer, long version, Instant exportedAt, int size, int stringCount) {
+        this.buffer = buffer;
+        this.version = version;
+        this.exportedAt = exportedAt;
+        this.size = size;
+        this.refsOffset = HEADER_SIZE + size * Long.BYTES;
+        this.stringOffsetsOffset = refsOffset + size * 3 * Integer.BYTES;
+        this.stringDataOffset = stringOffsetsOffset + (stringCount + 1) * Integer.BYTES;
+    }
+
+    /// Returns the empty index.
+    ///
+    /// @return Index without any municipality parts
+    public static AddressPlaceIndex empty() {
+        return EMPTY;
+    }
+
+    /// Maps an index file read-only.
+    ///
+    /// @param file Index file
+    /// @return Mapped index
+    /// @throws IOException if the file cannot be mapped
+    /// @throws IllegalStateException if the file is not a valid index
+    public static AddressPlaceIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return of(buffer, file);
+        }
+    }
+
+    /// Reads the version of an index file without mapping it.
+    ///
+    /// @param file Index file
+    /// @return Index version
+    /// @throws IOException if the file cannot be read
+    /// @throws IllegalStateException if the file is not a valid index
+    public static long readVersion(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Read until the header is complete or the file ends
+            }
+            header.flip();
+            validateHeader(header, file);
+            return header.getLong(8);
+        }
+    }
+
+    /// Creates an index over a buffer in the index file format.
+    ///
+    /// @param buffer Buffer with the index content
+    /// @param source Source of the buffer, used in error messages
+    /// @return Index over the buffer
+    static AddressPlaceIndex of(ByteBuffer buffer, Object source) {
+        validateHeader(buffer, source);
+
+        long version = buffer.getLong(8);
+        Instant exportedAt = Instant.ofEpochMilli(buffer.getLong(16));
+        int size = buffer.getInt(24);
+        int stringCount = buffer.getInt(28);
+
+        long tablesEnd = HEADER_SIZE + (long) size * (Long.BYTES + 3 * Integer.BYTES) + ((long) stringCount + 1) * Integer.BYTES;
+        if (size < 0 || stringCount < 0 || tablesEnd > buffer.limit()) {
+            throw new IllegalStateException("Address place index " + source + " is truncated");
+        }
+
+        AddressPlaceIndex index = new AddressPlaceIndex(buffer, version, exportedAt, size, stringCount);
+
+        int stringDataSize = buffer.getInt(index.stringOffsetsOffset + stringCount * Integer.BYTES);
+        if (tablesEnd + stringDataSize > buffer.limit()) {
+            throw new IllegalStateException("Address place index " + source + " is truncated");
+        }
+
+        return index;
+    }
+
+    /// Finds the address place names of a municipality part.
+    ///
+    /// @param municipalityPartId Municipality part ID
+    /// @return Address place names or null if the municipality part is not indexed
+    public AddressPlaceNameProjection find(long municipalityPartId) {
+        int position = indexOf(municipalityPartId);
+
+        if (position < 0) {
+            return null;
+        }
+
+        int refs = refsOffset + position * 3 * Integer.BYTES;
+
+        return new AddressPlaceNameProjection(
+            municipalityPartId,
+            string(buffer.getInt(refs)),
+            string(buffer.getInt(refs + Integer.BYTES)),
+            string(buffer.getInt(refs + 2 * Integer.BYTES))
+        );
+    }
+
+    /// Returns the index version.
+    ///
+    /// @return Index version (0 for the empty index)
+    public long version() {
+        return version;
+    }
+
+    /// Returns the time when the index was exported.
+    ///
+    /// @return Export time
+    public Instant exportedAt() {
+        return exportedAt;
+    }
+
+    /// Returns the number of indexed municipality parts.
+    ///
+    /// @return Municipality part count
+    public int size() {
+        return size;
+    }
+
+    /// Binary search over the sorted municipality part IDs.
+    ///
+    /// @param municipalityPartId Municipality part ID
+    /// @return Position of the ID or -1 if not present
+    private int indexOf(long municipalityPartId) {
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(HEADER_SIZE + mid * Long.BYTES);
+
+            if (midId < municipalityPartId) {
+                low = mid + 1;
+            } else if (midId > municipalityPartId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    /// Decodes a string from the string data section.
+    ///
+    /// @param ref String reference
+    /// @return Decoded string or null for a null reference
+    private String string(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+
+        int start = buffer.getInt(stringOffsetsOffset + ref * Integer.BYTES);
+        int end = buffer.getInt(stringOffsetsOffset + (ref + 1) * Integer.BYTES);
+
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringDataOffset + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /// Validates the magic and format version of an index header.
+    ///
+    /// @param header Buffer starting with the header
+    /// @param source Source of the buffer, used in error messages
+    private static void validateHeader(ByteBuffer header, Object source) {
+        if (header.limit() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IllegalStateException("File " + source + " is not an address place index");
+        }
+
+        int formatVersion = header.getInt(4);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException(
+                "Address place index " + source + " has unsupported format version " + formatVersion
+            );
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.stag.platform.address.index;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/// **Address Place Index Endpoint**
+///
+/// Actuator endpoint exposing the state of the memory-mapped address place index.
+/// Available over JMX only, since its operations write and swap the shared index file.
+///
+/// - `index` - mapped index version, export time, size and file location
+/// - `export` - exports a new index version from the database and maps it
+/// - `reload` - maps the index file if its version changed
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@RequiredArgsConstructor
+@Component
+@JmxEndpoint(id = "addressindex")
+public class AddressPlaceIndexEndpoint {
+
+    /// Address Place Index Service
+    private final AddressPlaceIndexService indexService;
+
+    /// **Index Info**
+    ///
+    /// Summary of the mapped address place index.
+    ///
+    /// @param version Index version
+    /// @param exportedAt Time when the index was exported
+    /// @param size Number of municipality parts
+    /// @param file Index file location
+    public record IndexInfo(
+        long version,
+        Instant exportedAt,
+        int size,
+        String file
+    ) {
+
+    }
+
+    /// Returns information about the mapped index.
+    ///
+    /// @return Current index info
+    @ReadOperation
+    public IndexInfo index() {
+        return toInfo(indexService.current());
+    }
+
+    /// Exports a new index version from the database and maps it.
+    ///
+    /// @return Index info after the export
+    @WriteOperation
+    public IndexInfo export() {
+        return toInfo(indexService.export());
+    }
+
+    /// Maps the index file if its version changed.
+    ///
+    /// @return Index info after the reload
+    @WriteOperation
+    public IndexInfo reload() {
+        return toInfo(indexService.reload());
+    }
+
+    /// Creates index info from an index.
+    ///
+    /// @param index Address place index
+    /// @return Index info
+    private IndexInfo toInfo(AddressPlaceIndex index) {
+        return new IndexInfo(index.version(), index.exportedAt(), index.size(), indexService.getIndexFile().toString());
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// **Address Place Index Service**
+///
+/// Optional engine serving municipality part address names from a memory-mapped [AddressPlaceIndex] file.
+/// Enabled by `codelist.address-index.enabled`, the file location is configured by `codelist.address-index.path`.
+///
+/// The file is produced by [#export()] (exposed through the JMX-only `addressindex` actuator endpoint) and can live on
+/// a volume shared by all pods. Each pod maps it read-only and periodically checks its version, a newer file
+/// is mapped and swapped in atomically (hot reload).
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class AddressPlaceIndexService {
+
+    /// Municipality Part Repository
+    private final MunicipalityPartRepository municipalityPartRepository;
+    /// Whether lookups are served from the index
+    private final boolean enabled;
+    /// Index file location
+    private final Path indexFile;
+    /// Currently mapped index
+    private final AtomicReference<AddressPlaceIndex> current = new AtomicReference<>(AddressPlaceIndex.empty());
+    /// Guards against concurrent exports and reloads
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// Creates the index service and registers its metrics.
+    ///
+    /// @param municipalityPartRepository Municipality part repository
+    /// @param meterRegistry Meter registry
+    /// @param enabled Whether lookups are served from the index
+    /// @param indexFile Index file location
+    public AddressPlaceIndexService(
+        MunicipalityPartRepository municipalityPartRepository,
+        MeterRegistry meterRegistry,
+        @Value("${codelist.address-index.enabled:false}") boolean enabled,
+        @Value("${codelist.address-index.path:/var/lib/codelist/address-places.idx}") String indexFile
+    ) {
+        this.municipalityPartRepository = municipalityPartRepository;
+        this.enabled = enabled;
+        this.indexFile = Path.of(indexFile);
+
+        Gauge.builder("codelist.address.index.size", current, ref -> ref.get().size())
+             .description("Number of municipality parts in the mapped address place index")
+             .register(meterRegistry);
+
+        Gauge.builder("codelist.address.index.version", current, ref -> ref.get().version())
+             .description("Version of the mapped address place index")
+             .register(meterRegistry);
+    }
+
+    /// Returns the currently mapped index.
+    ///
+    /// @return Current index, empty when the engine is disabled or no file was mapped yet
+    public AddressPlaceIndex current() {
+        return current.get();
+    }
+
+    /// Returns the index file location.
+    ///
+    /// @return Index file path
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    /// Maps the index file if it contains a different version than the current index.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.address-index.reload-interval`.
+    /// A missing or invalid file keeps the current index in place.
+    ///
+    /// @return Index that is current after the reload
+    @Scheduled(fixedDelayString = "${codelist.address-index.reload-interval:PT1M}")
+    public AddressPlaceIndex reload() {
+        if (!enabled || !Files.exists(indexFile)) {
+            return current.get();
+        }
+
+        lock.lock();
+        try {
+            long fileVersion = AddressPlaceIndex.readVersion(indexFile);
+
+            if (fileVersion == current.get().version()) {
+                return current.get();
+            }
+
+            AddressPlaceIndex index = AddressPlaceIndex.open(indexFile);
+            current.set(index);
+
+            log.info("Address place index version {} mapped with {} municipality parts", index.version(), index.size());
+            return index;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to reload address place index {}, keeping version {}", indexFile, current.get().version(), e);
+            return current.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Exports all municipality parts into a new version of the index file and reloads it.
+    ///
+    /// @return Index that is current after the export
+    /// @throws UncheckedIOException if the file cannot be written
+    public AddressPlaceIndex export() {
+        lock.lock();
+        try {
+            log.info("Exporting address place index to {}", indexFile);
+
+            long version = Math.max(current.get().version(), currentFileVersion()) + 1;
+            List<AddressPlaceNameProjection> rows = municipalityPartRepository.findAllAddressNames();
+
+            AddressPlaceIndexWriter.write(indexFile, version, Instant.now(), rows);
+
+            log.info("Address place index version {} exported with {} municipality parts", version, rows.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export address place index to " + indexFile, e);
+        } finally {
+            lock.unlock();
+        }
+
+        return reload();
+    }
+
+    /// Reads the version of the existing index file.
+    ///
+    /// @return File version, 0 if there is no readable file
+    private long currentFileVersion() {
+        try {
+            return Files.exists(indexFile) ? AddressPlaceIndex.readVersion(indexFile) : 0;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Unable to read version of address place index {}, starting from scratch", indexFile, e);
+            return 0;
+        }
+    }
+
+}
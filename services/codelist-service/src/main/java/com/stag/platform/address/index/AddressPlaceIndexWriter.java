@@ -0,0 +1,129 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// **Address Place Index Writer**
+///
+/// Serializes address place names into the [AddressPlaceIndex] file format.
+/// Municipality, municipality part and district names are deduplicated, so each distinct name is stored once.
+///
+/// The file is written next to the target and atomically moved in place, so readers mapping the previous
+/// file keep a consistent view and never observe a partially written index.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+final class AddressPlaceIndexWriter {
+
+    private AddressPlaceIndexWriter() {
+    }
+
+    /// Writes an index file.
+    ///
+    /// @param file Target index file
+    /// @param version Index version
+    /// @param exportedAt Export time
+    /// @param rows Address place names, duplicate municipality part IDs are ignored
+    /// @throws IOException if the file cannot be written
+    static void write(Path file, long version, Instant exportedAt, List<AddressPlaceNameProjection> rows) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, serialize(version, exportedAt, rows).array());
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /// Serializes address place names into a heap buffer.
+    ///
+    /// @param version Index version
+    /// @param exportedAt Export time
+    /// @param rows Address place names, duplicate municipality part IDs are ignored
+    /// @return Buffer with the index content
+    static ByteBuffer serialize(long version, Instant exportedAt, List<AddressPlaceNameProjection> rows) {
+        List<AddressPlaceNameProjection> sortedRows = new ArrayList<>(rows);
+        sortedRows.sort(Comparator.comparing(AddressPlaceNameProjection::municipalityPartId));
+
+        List<AddressPlaceNameProjection> entries = new ArrayList<>(sortedRows.size());
+        for (AddressPlaceNameProjection row : sortedRows) {
+            if (entries.isEmpty() || !entries.getLast().municipalityPartId().equals(row.municipalityPartId())) {
+                entries.add(row);
+            }
+        }
+
+        Map<String, Integer> stringRefs = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] refs = new int[entries.size() * 3];
+        int stringDataSize = 0;
+
+        for (int i = 0; i < entries.size(); i++) {
+            AddressPlaceNameProjection entry = entries.get(i);
+            String[] names = { entry.municipalityName(), entry.municipalityPartName(), entry.districtName() };
+
+            for (int j = 0; j < names.length; j++) {
+                if (names[j] == null) {
+                    refs[i * 3 + j] = AddressPlaceIndex.NULL_REF;
+                    continue;
+                }
+
+                Integer ref = stringRefs.get(names[j]);
+                if (ref == null) {
+                    byte[] bytes = names[j].getBytes(StandardCharsets.UTF_8);
+                    ref = strings.size();
+                    strings.add(bytes);
+                    stringRefs.put(names[j], ref);
+                    stringDataSize += bytes.length;
+                }
+                refs[i * 3 + j] = ref;
+            }
+        }
+
+        int size = AddressPlaceIndex.HEADER_SIZE
+            + entries.size() * (Long.BYTES + 3 * Integer.BYTES)
+            + (strings.size() + 1) * Integer.BYTES
+            + stringDataSize;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+
+        buffer.putInt(AddressPlaceIndex.MAGIC)
+              .putInt(AddressPlaceIndex.FORMAT_VERSION)
+              .putLong(version)
+              .putLong(exportedAt.toEpochMilli())
+              .putInt(entries.size())
+              .putInt(strings.size());
+
+        entries.forEach(entry -> buffer.putLong(entry.municipalityPartId()));
+
+        for (int ref : refs) {
+            buffer.putInt(ref);
+        }
+
+        int offset = 0;
+        for (byte[] string : strings) {
+            buffer.putInt(offset);
+            offset += string.length;
+        }
+        buffer.putInt(offset);
+
+        strings.forEach(buffer::put);
+
+        return buffer.flip();
+    }
+
+}
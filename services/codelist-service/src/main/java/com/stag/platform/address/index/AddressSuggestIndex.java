@@ -0,0 +1,329 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.shared.text.TextFolding;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/// **Address Suggest Index**
+///
+/// Immutable in-memory prefix index of streets, municipalities, municipality parts and postal codes.
+///
+/// Every name is folded (see [TextFolding]) and indexed under each of its word-start suffixes, so "nám republiky"
+/// is found by both "nam rep" and "repub". The keys are kept in a sorted array with a parallel array of owning
+/// suggestions, a query is resolved by two binary searches bounding the keys prefixed by its first word and a scan
+/// over that range, in which the following words of a key must start with the following query words.
+/// Keys of each municipality are additionally kept in their own sorted array, so municipality scoped
+/// queries only scan the keys of that municipality.
+///
+/// Suggestions whose name starts with the query come first, the rest follows, both in alphabetical order.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class AddressSuggestIndex {
+
+    /// Query consisting only of digits and spaces, matched against postal codes without spaces
+    private static final Pattern NUMERIC_QUERY = Pattern.compile("[0-9 ]+");
+
+    /// Empty index used before the first successful load
+    private static final AddressSuggestIndex EMPTY = new AddressSuggestIndex(0, Instant.EPOCH, new AddressSuggestion[0], Keys.EMPTY, Map.of());
+
+    /// Index version (0 for the empty index)
+    private final long version;
+    /// Time when the suggestions were loaded
+    private final Instant loadedAt;
+    /// Indexed suggestions, addressed by position
+    private final AddressSuggestion[] suggestions;
+    /// Keys of all suggestions
+    private final Keys keys;
+    /// Keys of the suggestions of each municipality
+    private final Map<Long, Keys> keysByMunicipality;
+
+    private AddressSuggestIndex(
+        long version,
+        Instant loadedAt,
+        AddressSuggestion[] suggestions,
+        Keys keys,
+        Map<Long, Keys> keysByMunicipality
+    ) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.suggestions = suggestions;
+        this.keys = keys;
+        this.keysByMunicipality = keysByMunicipality;
+    }
+
+    /// Returns the empty index.
+    ///
+    /// @return Index without any suggestions
+    public static AddressSuggestIndex empty() {
+        return EMPTY;
+    }
+
+    /// Builds an index over address suggestions.
+    ///
+    /// @param version Index version
+    /// @param loadedAt Time when the suggestions were loaded
+    /// @param rows Address suggestions
+    /// @return Immutable index
+    public static AddressSuggestIndex of(long version, Instant loadedAt, List<AddressSuggestion> rows) {
+        AddressSuggestion[] suggestions = rows.toArray(AddressSuggestion[]::new);
+        Map<String, String> interned = new HashMap<>();
+
+        List<Key> allKeys = new ArrayList<>();
+        Map<Long, List<Key>> municipalityKeys = new HashMap<>();
+
+        for (int owner = 0; owner < suggestions.length; owner++) {
+            AddressSuggestion suggestion = suggestions[owner] = intern(suggestions[owner], interned);
+            List<Key> ownerKeys = keysOf(suggestion, owner);
+
+            allKeys.addAll(ownerKeys);
+            if (suggestion.municipalityId() != null) {
+                municipalityKeys.computeIfAbsent(suggestion.municipalityId(), _ -> new ArrayList<>()).addAll(ownerKeys);
+            }
+        }
+
+        Map<Long, Keys> keysByMunicipality = HashMap.newHashMap(municipalityKeys.size());
+        municipalityKeys.forEach((municipalityId, municipalityKeyList) -> keysByMunicipality.put(municipalityId, Keys.of(municipalityKeyList)));
+
+        return new AddressSuggestIndex(version, loadedAt, suggestions, Keys.of(allKeys), Map.copyOf(keysByMunicipality));
+    }
+
+    /// Suggests address elements whose name (or postal code) has a word starting with the query.
+    ///
+    /// @param query Query text, diacritics and case are ignored
+    /// @param scope Element types and hierarchy the suggestions must belong to
+    /// @param limit Maximum number of suggestions
+    /// @return Matching suggestions, those whose name starts with the query first
+    public List<AddressSuggestion> suggest(String query, AddressSuggestScope scope, int limit) {
+        String[] words = TextFolding.words(normalizeQuery(query));
+        if (words.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        Keys scopedKeys = scope.municipalityId() == null
+            ? keys
+            : keysByMunicipality.getOrDefault(scope.municipalityId(), Keys.EMPTY);
+
+        int from = scopedKeys.lowerBound(words[0]);
+        int to = scopedKeys.lowerBound(words[0] + Character.MAX_VALUE);
+
+        List<Integer> owners = new ArrayList<>(Math.min(limit, to - from));
+        collect(scopedKeys, from, to, words, true, scope, limit, owners);
+        collect(scopedKeys, from, to, words, false, scope, limit, owners);
+
+        List<AddressSuggestion> result = new ArrayList<>(owners.size());
+        owners.forEach(owner -> result.add(suggestions[owner]));
+        return result;
+    }
+
+    /// Returns the index version.
+    ///
+    /// @return Index version
+    public long version() {
+        return version;
+    }
+
+    /// Returns the time when the suggestions were loaded.
+    ///
+    /// @return Load time
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /// Returns the number of indexed suggestions.
+    ///
+    /// @return Suggestion count
+    public int size() {
+        return suggestions.length;
+    }
+
+    /// Collects owners of matching keys that lie within the scope, skipping owners already collected.
+    ///
+    /// @param keys Keys to scan
+    /// @param from First matching key position
+    /// @param to Position after the last matching key
+    /// @param words Folded query words
+    /// @param nameStarts Whether to collect keys starting at the beginning of the name or the other keys
+    /// @param scope Suggestion scope
+    /// @param limit Maximum number of owners
+    /// @param owners Collected owner positions
+    private void collect(
+        Keys keys,
+        int from,
+        int to,
+        String[] words,
+        boolean nameStarts,
+        AddressSuggestScope scope,
+        int limit,
+        List<Integer> owners
+    ) {
+        for (int i = from; i < to && owners.size() < limit; i++) {
+            if (keys.nameStarts.get(i) != nameStarts || !startsWithWords(keys.texts[i], words)) {
+                continue;
+            }
+
+            int owner = keys.owners[i];
+            if (scope.includes(suggestions[owner]) && !owners.contains(owner)) {
+                owners.add(owner);
+            }
+        }
+    }
+
+    /// Checks whether consecutive words of a key start with the query words.
+    ///
+    /// @param key Folded key text, already known to start with the first query word
+    /// @param words Folded query words
+    /// @return True if every following key word starts with the following query word
+    private static boolean startsWithWords(String key, String[] words) {
+        int position = 0;
+
+        for (int i = 1; i < words.length; i++) {
+            position = key.indexOf(' ', position) + 1;
+            if (position == 0) {
+                return false;
+            }
+            while (key.charAt(position) == ' ') {
+                position++;
+            }
+            if (!key.startsWith(words[i], position)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /// Folds the query, numeric queries lose their spaces to match postal codes.
+    ///
+    /// @param query Query text, may be null
+    /// @return Folded query
+    private static String normalizeQuery(String query) {
+        String folded = TextFolding.fold(query);
+        return NUMERIC_QUERY.matcher(folded).matches() ? folded.replace(" ", "") : folded;
+    }
+
+    /// Creates the keys of a suggestion: every word-start suffix of its folded name, plus the postal code.
+    ///
+    /// @param suggestion Address suggestion
+    /// @param owner Suggestion position
+    /// @return Keys of the suggestion
+    private static List<Key> keysOf(AddressSuggestion suggestion, int owner) {
+        List<Key> keys = new ArrayList<>();
+
+        if (suggestion.type() == AddressElementType.ZIP_CODE) {
+            keys.add(new Key(suggestion.id().replace(" ", ""), owner, true));
+        }
+
+        String folded = TextFolding.fold(suggestion.name());
+        boolean nameStart = suggestion.type() != AddressElementType.ZIP_CODE;
+        for (int start = 0; start < folded.length(); start++) {
+            if (folded.charAt(start) != ' ' && (start == 0 || folded.charAt(start - 1) == ' ')) {
+                keys.add(new Key(folded.substring(start), owner, nameStart && start == 0));
+            }
+        }
+
+        return keys;
+    }
+
+    /// Shares repeated hierarchy names between suggestions.
+    ///
+    /// @param suggestion Address suggestion
+    /// @param interned Already seen names
+    /// @return Suggestion with shared names
+    private static AddressSuggestion intern(AddressSuggestion suggestion, Map<String, String> interned) {
+        return new AddressSuggestion(
+            suggestion.type(),
+            suggestion.id(),
+            suggestion.name(),
+            suggestion.municipalityId(),
+            suggestion.municipalityName() == null ? null : interned.computeIfAbsent(suggestion.municipalityName(), name -> name),
+            suggestion.districtId(),
+            suggestion.districtName() == null ? null : interned.computeIfAbsent(suggestion.districtName(), name -> name),
+            suggestion.regionId()
+        );
+    }
+
+    /// Key of a suggestion during index build.
+    ///
+    /// @param text Folded key text
+    /// @param owner Suggestion position
+    /// @param nameStart Whether the key starts at the beginning of the name
+    private record Key(
+        String text,
+        int owner,
+        boolean nameStart
+    ) {
+
+    }
+
+    /// Sorted key texts with parallel owner positions.
+    private static final class Keys {
+
+        /// Keys without any entries
+        private static final Keys EMPTY = new Keys(new String[0], new int[0], new BitSet());
+
+        /// Sorted key texts
+        private final String[] texts;
+        /// Suggestion positions by key position
+        private final int[] owners;
+        /// Key positions starting at the beginning of the name
+        private final BitSet nameStarts;
+
+        private Keys(String[] texts, int[] owners, BitSet nameStarts) {
+            this.texts = texts;
+            this.owners = owners;
+            this.nameStarts = nameStarts;
+        }
+
+        /// Sorts keys into parallel arrays.
+        ///
+        /// @param keys Keys
+        /// @return Sorted keys
+        private static Keys of(List<Key> keys) {
+            Key[] sorted = keys.toArray(Key[]::new);
+            Arrays.sort(sorted, Comparator.comparing(Key::text).thenComparingInt(Key::owner));
+
+            String[] texts = new String[sorted.length];
+            int[] owners = new int[sorted.length];
+            BitSet nameStarts = new BitSet(sorted.length);
+
+            for (int i = 0; i < sorted.length; i++) {
+                texts[i] = sorted[i].text();
+                owners[i] = sorted[i].owner();
+                nameStarts.set(i, sorted[i].nameStart());
+            }
+
+            return new Keys(texts, owners, nameStarts);
+        }
+
+        /// Finds the first key not less than the text.
+        ///
+        /// @param text Folded text
+        /// @return Key position
+        private int lowerBound(String text) {
+            int low = 0;
+            int high = texts.length;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (texts[mid].compareTo(text) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.address.repository.MunicipalityRepository;
+import com.stag.platform.address.repository.StreetRepository;
+import com.stag.platform.address.repository.ZipCodeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// **Address Suggest Index Service**
+///
+/// Holds the [AddressSuggestIndex] of existing streets, municipalities, municipality parts and postal codes
+/// and rebuilds it in the background. The index reference is swapped atomically, suggestions never query the database.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class AddressSuggestIndexService {
+
+    /// Street Repository
+    private final StreetRepository streetRepository;
+    /// Municipality Repository
+    private final MunicipalityRepository municipalityRepository;
+    /// Municipality Part Repository
+    private final MunicipalityPartRepository municipalityPartRepository;
+    /// Zip Code Repository
+    private final ZipCodeRepository zipCodeRepository;
+    /// Timer measuring index load and swap duration
+    private final Timer swapTimer;
+    /// Currently published index
+    private final AtomicReference<AddressSuggestIndex> current = new AtomicReference<>(AddressSuggestIndex.empty());
+    /// Guards against concurrent rebuilds
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /// Creates the index service and registers its metrics.
+    ///
+    /// @param streetRepository Street repository
+    /// @param municipalityRepository Municipality repository
+    /// @param municipalityPartRepository Municipality part repository
+    /// @param zipCodeRepository Zip code repository
+    /// @param meterRegistry Meter registry
+    public AddressSuggestIndexService(
+        StreetRepository streetRepository,
+        MunicipalityRepository municipalityRepository,
+        MunicipalityPartRepository municipalityPartRepository,
+        ZipCodeRepository zipCodeRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.streetRepository = streetRepository;
+        this.municipalityRepository = municipalityRepository;
+        this.municipalityPartRepository = municipalityPartRepository;
+        this.zipCodeRepository = zipCodeRepository;
+
+        this.swapTimer = Timer.builder("codelist.address.suggest-index.swap")
+                              .description("Time taken to load and swap the address suggest index")
+                              .register(meterRegistry);
+
+        Gauge.builder("codelist.address.suggest-index.size", current, ref -> ref.get().size())
+             .description("Number of address elements in the current address suggest index")
+             .register(meterRegistry);
+    }
+
+    /// Returns the currently published index.
+    ///
+    /// @return Current index, empty until the first successful load
+    public AddressSuggestIndex current() {
+        return current.get();
+    }
+
+    /// Loads all address elements and atomically swaps the current index.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.snapshot.refresh-interval`.
+    /// Failures keep the previous index in place.
+    @Scheduled(fixedDelayString = "${codelist.snapshot.refresh-interval:PT1H}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            swapTimer.record(this::loadAndSwap);
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh address suggest index, keeping version {}", current.get().version(), e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /// Loads the rows and publishes a new index.
+    private void loadAndSwap() {
+        log.info("Loading address suggest index");
+
+        Instant loadedAt = Instant.now();
+        long version = current.get().version() + 1;
+
+        List<AddressSuggestion> suggestions = new ArrayList<>();
+        municipalityRepository.findAllExistingHierarchies()
+                              .forEach(row -> suggestions.add(AddressSuggestion.of(AddressElementType.MUNICIPALITY, row)));
+        municipalityPartRepository.findAllExistingHierarchies()
+                                  .forEach(row -> suggestions.add(AddressSuggestion.of(AddressElementType.MUNICIPALITY_PART, row)));
+        streetRepository.findAllExistingHierarchies()
+                        .forEach(row -> suggestions.add(AddressSuggestion.of(AddressElementType.STREET, row)));
+        zipCodeRepository.findAllExisting()
+                         .forEach(row -> suggestions.add(AddressSuggestion.of(row)));
+
+        AddressSuggestIndex index = AddressSuggestIndex.of(version, loadedAt, suggestions);
+        current.set(index);
+
+        log.info("Address suggest index version {} loaded with {} address elements", version, index.size());
+    }
+
+}
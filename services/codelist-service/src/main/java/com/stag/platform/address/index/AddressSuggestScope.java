@@ -0,0 +1,57 @@
+package com.stag.platform.address.index;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/// **Address Suggest Scope**
+///
+/// Restricts address suggestions to element types and to a region, district or municipality.
+/// Postal codes carry no hierarchy and are excluded from scoped suggestions.
+///
+/// @param types Allowed element types, empty for all types
+/// @param regionId Region ID, null for any region
+/// @param districtId District ID, null for any district
+/// @param municipalityId Municipality ID, null for any municipality
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record AddressSuggestScope(
+    Set<AddressElementType> types,
+    Integer regionId,
+    Integer districtId,
+    Long municipalityId
+) {
+
+    /// Scope allowing all element types everywhere
+    private static final AddressSuggestScope UNRESTRICTED = new AddressSuggestScope(Set.of(), null, null, null);
+
+    /// Creates the scope with an immutable copy of the types, all types are allowed when null or empty.
+    public AddressSuggestScope {
+        types = types == null || types.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(types));
+    }
+
+    /// Returns the scope allowing all element types everywhere.
+    ///
+    /// @return Unrestricted scope
+    public static AddressSuggestScope unrestricted() {
+        return UNRESTRICTED;
+    }
+
+    /// Checks whether a suggestion lies within the scope.
+    ///
+    /// @param suggestion Address suggestion
+    /// @return True if the type and hierarchy match
+    boolean includes(AddressSuggestion suggestion) {
+        if (!types.isEmpty() && !types.contains(suggestion.type())) {
+            return false;
+        }
+        if (regionId != null && (suggestion.regionId() == null || suggestion.regionId() != regionId.intValue())) {
+            return false;
+        }
+        if (districtId != null && !districtId.equals(suggestion.districtId())) {
+            return false;
+        }
+        return municipalityId == null || municipalityId.equals(suggestion.municipalityId());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.projection.AddressHierarchyProjection;
+import com.stag.platform.address.repository.projection.ZipCodeProjection;
+
+/// **Address Suggestion**
+///
+/// Address element offered by the address autocomplete, together with the IDs and names of the
+/// municipality, district and region it belongs to. Postal codes carry no hierarchy.
+///
+/// @param type Address element type
+/// @param id Element ID (postal code for [AddressElementType#ZIP_CODE])
+/// @param name Element name (post office for [AddressElementType#ZIP_CODE])
+/// @param municipalityId Municipality ID
+/// @param municipalityName Municipality name
+/// @param districtId District ID
+/// @param districtName District name
+/// @param regionId Region ID
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record AddressSuggestion(
+    AddressElementType type,
+    String id,
+    String name,
+    Long municipalityId,
+    String municipalityName,
+    Integer districtId,
+    String districtName,
+    Short regionId
+) {
+
+    /// Creates a suggestion of a street, municipality or municipality part.
+    ///
+    /// @param type Address element type
+    /// @param row Address hierarchy projection
+    /// @return Address suggestion
+    public static AddressSuggestion of(AddressElementType type, AddressHierarchyProjection row) {
+        return new AddressSuggestion(
+            type,
+            String.valueOf(row.id()),
+            row.name(),
+            row.municipalityId(),
+            row.municipalityName(),
+            row.districtId(),
+            row.districtName(),
+            row.regionId()
+        );
+    }
+
+    /// Creates a suggestion of a postal code.
+    ///
+    /// @param row Zip code projection
+    /// @return Address suggestion
+    public static AddressSuggestion of(ZipCodeProjection row) {
+        return new AddressSuggestion(AddressElementType.ZIP_CODE, row.zipCode(), row.postOffice(), null, null, null, null, null);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+
+/// **Country Name Index**
+///
+/// Immutable array-backed index of country names addressed directly by the (small, dense) country ID.
+/// Each language has its own name array, so a lookup is a bounds check and an array read without boxing.
+///
+/// Countries with IDs above [#MAX_INDEXED_ID] are not indexed and are resolved from the database instead.
+/// All countries are loaded regardless of validity, so a loaded index also proves the absence of IDs
+/// up to the highest loaded one. Higher IDs may belong to countries added after the load and are never ruled out.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class CountryNameIndex {
+
+    /// Highest country ID kept in the index, bounds the array size
+    static final int MAX_INDEXED_ID = 0xFFFF;
+
+    /// Empty index used before the first successful load
+    private static final CountryNameIndex EMPTY = new CountryNameIndex(0, Instant.EPOCH, new String[0], new String[0], new BitSet(), 0);
+
+    /// Index version (0 for the empty index)
+    private final long version;
+    /// Time when the index was loaded
+    private final Instant loadedAt;
+    /// Czech names indexed by country ID
+    private final String[] namesCz;
+    /// English names indexed by country ID
+    private final String[] namesEn;
+    /// Country IDs present in the index (a country may exist with a null name)
+    private final BitSet present;
+    /// Number of indexed countries
+    private final int size;
+
+    private CountryNameIndex(long version, Instant loadedAt, String[] namesCz, String[] namesEn, BitSet present, int size) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.namesCz = namesCz;
+        this.namesEn = namesEn;
+        this.present = present;
+        this.size = size;
+    }
+
+    /// Returns the empty index.
+    ///
+    /// @return Index without any countries
+    public static CountryNameIndex empty() {
+        return EMPTY;
+    }
+
+    /// Builds an index from country translation projections.
+    ///
+    /// @param version Index version
+    /// @param loadedAt Time when the rows were loaded
+    /// @param rows Country translation projections
+    /// @return Immutable index
+    public static CountryNameIndex of(long version, Instant loadedAt, List<CountryTranslationProjection> rows) {
+        int maxId = rows.stream()
+                        .mapToInt(CountryTranslationProjection::id)
+                        .filter(id -> id >= 0 && id <= MAX_INDEXED_ID)
+                        .max()
+                        .orElse(-1);
+
+        String[] namesCz = new String[maxId + 1];
+        String[] namesEn = new String[maxId + 1];
+        BitSet present = new BitSet(maxId + 1);
+
+        for (CountryTranslationProjection row : rows) {
+            int id = row.id();
+            if (id < 0 || id > maxId) {
+                continue;
+            }
+            namesCz[id] = row.name();
+            namesEn[id] = row.englishName();
+            present.set(id);
+        }
+
+        return new CountryNameIndex(version, loadedAt, namesCz, namesEn, present, present.cardinality());
+    }
+
+    /// Checks whether a country is part of the index.
+    ///
+    /// @param countryId Country ID
+    /// @return True if the country is indexed
+    public boolean contains(int countryId) {
+        return countryId >= 0 && present.get(countryId);
+    }
+
+    /// Checks whether a country definitely does not exist in the database.
+    ///
+    /// Only IDs below the highest loaded country ID are ruled out, IDs above it may belong to countries
+    /// created after the index was loaded and have to be checked in the database.
+    ///
+    /// @param countryId Country ID
+    /// @return True if a non-empty index is loaded and the ID is below its highest country ID but not present
+    public boolean isDefinitelyMissing(int countryId) {
+        return size > 0 && countryId >= 0 && countryId < namesCz.length && !present.get(countryId);
+    }
+
+    /// Returns the country name in the given language.
+    ///
+    /// Mirrors the database query: English names are returned as stored, without a Czech fallback.
+    ///
+    /// @param countryId Country ID
+    /// @param language Language code ('cs' or 'en')
+    /// @return Country name or null if the country is not indexed or has no name in that language
+    public String name(int countryId, String language) {
+        if (!contains(countryId)) {
+            return null;
+        }
+        return "en".equals(language) ? namesEn[countryId] : namesCz[countryId];
+    }
+
+    /// Returns the index version.
+    ///
+    /// @return Index version
+    public long version() {
+        return version;
+    }
+
+    /// Returns the time when the index was loaded.
+    ///
+    /// @return Load time
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /// Returns the number of indexed countries.
+    ///
+    /// @return Country count
+    public int size() {
+        return size;
+    }
+
+}
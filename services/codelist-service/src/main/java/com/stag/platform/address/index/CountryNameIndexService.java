@@ -0,0 +1,110 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.CountryRepository;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// **Country Name Index Service**
+///
+/// Holds the current [CountryNameIndex] and rebuilds it in the background.
+/// The index reference is swapped atomically, readers never observe a partially built index.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class CountryNameIndexService {
+
+    /// Country Repository
+    private final CountryRepository countryRepository;
+    /// Timer measuring index load and swap duration
+    private final Timer swapTimer;
+    /// Counter of lookups answered as missing without querying the database
+    private final Counter definitelyMissingCounter;
+    /// Currently published index
+    private final AtomicReference<CountryNameIndex> current = new AtomicReference<>(CountryNameIndex.empty());
+    /// Guards against concurrent rebuilds
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /// Creates the index service and registers its metrics.
+    ///
+    /// @param countryRepository Country repository
+    /// @param meterRegistry Meter registry
+    public CountryNameIndexService(CountryRepository countryRepository, MeterRegistry meterRegistry) {
+        this.countryRepository = countryRepository;
+
+        this.swapTimer = Timer.builder("codelist.country.index.swap")
+                              .description("Time taken to load and swap the country name index")
+                              .register(meterRegistry);
+
+        this.definitelyMissingCounter = Counter.builder("codelist.lookup.definitely-missing")
+                                               .description("Number of lookups of IDs that definitely do not exist, skipped without a database query")
+                                               .tag("type", "country")
+                                               .register(meterRegistry);
+
+        Gauge.builder("codelist.country.index.size", current, ref -> ref.get().size())
+             .description("Number of countries in the current country name index")
+             .register(meterRegistry);
+    }
+
+    /// Returns the currently published index.
+    ///
+    /// @return Current index, empty until the first successful load
+    public CountryNameIndex current() {
+        return current.get();
+    }
+
+    /// Records lookups of countries that were skipped because they definitely do not exist.
+    ///
+    /// @param count Number of skipped IDs
+    public void recordDefinitelyMissing(int count) {
+        definitelyMissingCounter.increment(count);
+    }
+
+    /// Loads all countries and atomically swaps the current index.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.snapshot.refresh-interval`.
+    /// Failures keep the previous index in place.
+    ///
+    /// @return Index that is current after the refresh
+    @Scheduled(fixedDelayString = "${codelist.snapshot.refresh-interval:PT1H}")
+    public CountryNameIndex refresh() {
+        refreshLock.lock();
+        try {
+            return swapTimer.record(this::loadAndSwap);
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh country name index, keeping version {}", current.get().version(), e);
+            return current.get();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /// Loads the rows and publishes a new index.
+    ///
+    /// @return Newly published index
+    private CountryNameIndex loadAndSwap() {
+        log.info("Loading country name index");
+
+        Instant loadedAt = Instant.now();
+        List<CountryTranslationProjection> rows = countryRepository.findAllTranslations();
+
+        CountryNameIndex index = CountryNameIndex.of(current.get().version() + 1, loadedAt, rows);
+        current.set(index);
+
+        log.info("Country name index version {} loaded with {} countries", index.version(), index.size());
+        return index;
+    }
+
+}
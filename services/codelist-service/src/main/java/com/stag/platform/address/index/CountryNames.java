@@ -0,0 +1,60 @@
+package com.stag.platform.address.index;
+
+import java.util.Map;
+
+/// **Country Names**
+///
+/// Read-only view of country names in one language, resolved by a single request.
+/// Names are read straight from the [CountryNameIndex]; countries that were not indexed yet
+/// and had to be loaded from the database are kept in a small fallback map.
+///
+/// @param index Country name index
+/// @param language Language code ('cs' or 'en')
+/// @param fallbackNames Names of countries missing from the index
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CountryNames(
+    CountryNameIndex index,
+    String language,
+    Map<Integer, String> fallbackNames
+) {
+
+    /// View without any country names
+    private static final CountryNames EMPTY = new CountryNames(CountryNameIndex.empty(), null, Map.of());
+
+    /// Returns a view without any country names.
+    ///
+    /// @return Empty view
+    public static CountryNames empty() {
+        return EMPTY;
+    }
+
+    /// Creates a view backed by a plain ID to name map.
+    ///
+    /// @param names Country ID to name map
+    /// @return View over the map
+    public static CountryNames of(Map<Integer, String> names) {
+        return new CountryNames(CountryNameIndex.empty(), null, names);
+    }
+
+    /// Checks whether the country is known to this view.
+    ///
+    /// @param countryId Country ID
+    /// @return True if the country was found in the index or in the database
+    public boolean contains(int countryId) {
+        return index.contains(countryId) || fallbackNames.containsKey(countryId);
+    }
+
+    /// Returns the country name.
+    ///
+    /// @param countryId Country ID
+    /// @return Country name or null if unknown
+    public String get(int countryId) {
+        if (index.contains(countryId)) {
+            return index.name(countryId, language);
+        }
+        return fallbackNames.isEmpty() ? null : fallbackNames.get(countryId);
+    }
+
+}
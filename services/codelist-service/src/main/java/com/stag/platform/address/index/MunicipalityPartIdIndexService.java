@@ -0,0 +1,106 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.shared.lookup.ExistingIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// **Municipality Part ID Index Service**
+///
+/// Holds the [ExistingIds] filter of all municipality part IDs and rebuilds it in the background.
+/// Lookups of IDs the filter rules out are answered as missing without querying the database,
+/// IDs above the highest loaded one are always checked in the database.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class MunicipalityPartIdIndexService {
+
+    /// Municipality Part Repository
+    private final MunicipalityPartRepository municipalityPartRepository;
+    /// Counter of lookups answered as missing without querying the database
+    private final Counter definitelyMissingCounter;
+    /// Currently published filter
+    private final AtomicReference<ExistingIds> current = new AtomicReference<>(ExistingIds.unknown());
+    /// Guards against concurrent rebuilds
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /// Creates the index service and registers its metrics.
+    ///
+    /// @param municipalityPartRepository Municipality part repository
+    /// @param meterRegistry Meter registry
+    public MunicipalityPartIdIndexService(MunicipalityPartRepository municipalityPartRepository, MeterRegistry meterRegistry) {
+        this.municipalityPartRepository = municipalityPartRepository;
+
+        this.definitelyMissingCounter = Counter.builder("codelist.lookup.definitely-missing")
+                                               .description("Number of lookups of IDs that definitely do not exist, skipped without a database query")
+                                               .tag("type", "municipality-part")
+                                               .register(meterRegistry);
+
+        Gauge.builder("codelist.municipality-part.id-index.size", current, ref -> ref.get().size())
+             .description("Number of municipality part IDs in the existing IDs filter")
+             .register(meterRegistry);
+    }
+
+    /// Returns the currently published filter.
+    ///
+    /// @return Current filter, accepting all IDs until the first successful load
+    public ExistingIds current() {
+        return current.get();
+    }
+
+    /// Records lookups of municipality parts that were skipped because they definitely do not exist.
+    ///
+    /// @param count Number of skipped IDs
+    public void recordDefinitelyMissing(int count) {
+        definitelyMissingCounter.increment(count);
+    }
+
+    /// Loads all municipality part IDs and atomically swaps the current filter.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.snapshot.refresh-interval`.
+    /// Failures keep the previous filter in place, an empty result leaves it unchanged as well.
+    ///
+    /// @return Filter that is current after the refresh
+    @Scheduled(fixedDelayString = "${codelist.snapshot.refresh-interval:PT1H}")
+    public ExistingIds refresh() {
+        refreshLock.lock();
+        try {
+            return loadAndSwap();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh municipality part ID index, keeping {} IDs", current.get().size(), e);
+            return current.get();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /// Loads the IDs and publishes a new filter.
+    ///
+    /// @return Newly published filter
+    private ExistingIds loadAndSwap() {
+        log.info("Loading municipality part ID index");
+
+        List<Long> ids = municipalityPartRepository.findAllIds();
+        if (ids.isEmpty()) {
+            log.warn("No municipality part IDs loaded, keeping the current filter");
+            return current.get();
+        }
+
+        ExistingIds existingIds = ExistingIds.of(ids.stream().mapToLong(Long::longValue).toArray());
+        current.set(existingIds);
+
+        log.info("Municipality part ID index loaded with {} IDs", existingIds.size());
+        return existingIds;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.stag.platform.address.mapper;
+
+import com.stag.platform.address.index.AddressElementType;
+import com.stag.platform.api.dto.AddressSuggestion;
+import com.stag.platform.api.dto.AddressSuggestionListResponse;
+import com.stag.platform.api.dto.AddressSuggestionType;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+import java.util.Set;
+
+/// **Address API Mapper**
+///
+/// MapStruct mapper for converting address suggestions to API DTOs.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Mapper
+public interface AddressApiMapper {
+
+    /// Mapper instance
+    AddressApiMapper INSTANCE = Mappers.getMapper(AddressApiMapper.class);
+
+    /// Converts address suggestions to address suggestion list response.
+    ///
+    /// @param suggestions List of address suggestions
+    /// @return Address suggestion list response DTO
+    default AddressSuggestionListResponse toAddressSuggestionListResponse(
+        List<com.stag.platform.address.index.AddressSuggestion> suggestions
+    ) {
+        return new AddressSuggestionListResponse(toAddressSuggestionList(suggestions));
+    }
+
+    /// Maps address suggestions to address suggestion DTOs.
+    ///
+    /// @param suggestions List of address suggestions
+    /// @return List of address suggestion DTOs
+    List<AddressSuggestion> toAddressSuggestionList(List<com.stag.platform.address.index.AddressSuggestion> suggestions);
+
+    /// Maps requested suggestion types to address element types.
+    ///
+    /// @param types Requested suggestion types, may be null
+    /// @return Set of address element types
+    Set<AddressElementType> toAddressElementTypes(List<AddressSuggestionType> types);
+
+    /// Maps a requested suggestion type to an address element type.
+    ///
+    /// @param type Requested suggestion type
+    /// @return Address element type
+    AddressElementType toAddressElementType(AddressSuggestionType type);
+
+}
@@ -2,6 +2,7 @@ package com.stag.platform.address.repository;
 
 import com.stag.platform.address.entity.Country;
 import com.stag.platform.address.repository.projection.CountryNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
 import com.stag.platform.address.repository.projection.CountryView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -75,4 +76,12 @@ public interface CountryRepository extends JpaRepository<Country, Integer> {
     @Query("SELECT c.id FROM Country c WHERE c.name = :countryName OR c.englishName = :countryName")
     Optional<Integer> findCountryIdByName(String countryName);
 
+    /// Retrieves all countries with both Czech and English names.
+    ///
+    /// Used to build the in-memory country name index.
+    ///
+    /// @return list of country translation projections
+    @Query("SELECT c.id, c.name, c.englishName FROM Country c")
+    List<CountryTranslationProjection> findAllTranslations();
+
 }
@@ -1,5 +1,6 @@
 package com.stag.platform.address.repository;
 
+import com.stag.platform.address.repository.projection.AddressHierarchyProjection;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
 import com.stag.platform.address.entity.MunicipalityPart;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -38,4 +39,67 @@ public interface MunicipalityPartRepository extends JpaRepository<MunicipalityPa
     )
     List<AddressPlaceNameProjection> findAddressNamesByIds(Collection<Long> ids);
 
+    /// Retrieves address place names (municipality part, municipality, district) of all municipality parts.
+    ///
+    /// Used to export the memory-mapped address place index.
+    ///
+    /// @return list of address place name projections ordered by municipality part ID
+    @Query(
+        """
+        SELECT new com.stag.platform.address.repository.projection.AddressPlaceNameProjection(
+            CAST(mp.id AS Long),
+            m.name,
+            mp.name,
+            d.name
+        )
+        FROM
+            MunicipalityPart mp
+        INNER JOIN mp.municipality m
+        INNER JOIN m.district d
+        ORDER BY
+            mp.id
+        """
+    )
+    List<AddressPlaceNameProjection> findAllAddressNames();
+
+    /// Retrieves all existing municipality parts with their hierarchy for the address suggest index.
+    ///
+    /// @return list of address hierarchy projections
+    @Query(
+        """
+        SELECT new com.stag.platform.address.repository.projection.AddressHierarchyProjection(
+            CAST(mp.id AS Long),
+            mp.name,
+            m.id,
+            m.name,
+            d.id,
+            d.name,
+            r.id
+        )
+        FROM
+            MunicipalityPart mp
+        INNER JOIN mp.municipality m
+        INNER JOIN m.district d
+        INNER JOIN d.regionCode r
+        WHERE
+            mp.dissolutionDate IS NULL
+        """
+    )
+    List<AddressHierarchyProjection> findAllExistingHierarchies();
+
+    /// Retrieves the IDs of all municipality parts, including dissolved ones.
+    ///
+    /// Used to build the existing municipality part IDs filter.
+    ///
+    /// @return list of municipality part IDs
+    @Query(
+        """
+        SELECT
+            CAST(mp.id AS Long)
+        FROM
+            MunicipalityPart mp
+        """
+    )
+    List<Long> findAllIds();
+
 }
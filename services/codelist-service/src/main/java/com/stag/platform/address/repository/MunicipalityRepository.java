@@ -0,0 +1,42 @@
+package com.stag.platform.address.repository;
+
+import com.stag.platform.address.entity.Municipality;
+import com.stag.platform.address.repository.projection.AddressHierarchyProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/// **Municipality Repository**
+///
+/// Data access layer for municipality entities.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public interface MunicipalityRepository extends JpaRepository<Municipality, Long> {
+
+    /// Retrieves all existing municipalities with their hierarchy for the address suggest index.
+    ///
+    /// @return list of address hierarchy projections
+    @Query(
+        """
+        SELECT new com.stag.platform.address.repository.projection.AddressHierarchyProjection(
+            m.id,
+            m.name,
+            m.id,
+            m.name,
+            d.id,
+            d.name,
+            r.id
+        )
+        FROM
+            Municipality m
+        INNER JOIN m.district d
+        INNER JOIN d.regionCode r
+        WHERE
+            m.dissolutionDate IS NULL
+        """
+    )
+    List<AddressHierarchyProjection> findAllExistingHierarchies();
+
+}
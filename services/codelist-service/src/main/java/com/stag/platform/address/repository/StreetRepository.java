@@ -0,0 +1,43 @@
+package com.stag.platform.address.repository;
+
+import com.stag.platform.address.entity.Street;
+import com.stag.platform.address.repository.projection.AddressHierarchyProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/// **Street Repository**
+///
+/// Data access layer for street entities.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public interface StreetRepository extends JpaRepository<Street, Long> {
+
+    /// Retrieves all existing streets with their hierarchy for the address suggest index.
+    ///
+    /// @return list of address hierarchy projections
+    @Query(
+        """
+        SELECT new com.stag.platform.address.repository.projection.AddressHierarchyProjection(
+            s.id,
+            s.name,
+            m.id,
+            m.name,
+            d.id,
+            d.name,
+            r.id
+        )
+        FROM
+            Street s
+        INNER JOIN s.municipality m
+        INNER JOIN m.district d
+        INNER JOIN d.regionCode r
+        WHERE
+            s.dissolutionDate IS NULL
+        """
+    )
+    List<AddressHierarchyProjection> findAllExistingHierarchies();
+
+}
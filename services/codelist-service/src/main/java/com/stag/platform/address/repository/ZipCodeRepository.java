@@ -0,0 +1,35 @@
+package com.stag.platform.address.repository;
+
+import com.stag.platform.address.entity.ZipCode;
+import com.stag.platform.address.repository.projection.ZipCodeProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/// **Zip Code Repository**
+///
+/// Data access layer for postal code entities.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public interface ZipCodeRepository extends JpaRepository<ZipCode, String> {
+
+    /// Retrieves all existing postal codes for the address suggest index.
+    ///
+    /// @return list of zip code projections
+    @Query(
+        """
+        SELECT new com.stag.platform.address.repository.projection.ZipCodeProjection(
+            z.zipCodeId,
+            z.postOffice
+        )
+        FROM
+            ZipCode z
+        WHERE
+            z.dissolutionDate IS NULL
+        """
+    )
+    List<ZipCodeProjection> findAllExisting();
+
+}
@@ -0,0 +1,28 @@
+package com.stag.platform.address.repository.projection;
+
+/// **Address Hierarchy Projection**
+///
+/// Projection for a named address element (street, municipality part or municipality)
+/// together with the IDs and names of the municipality, district and region it belongs to.
+///
+/// @param id Element ID
+/// @param name Element name
+/// @param municipalityId Municipality ID
+/// @param municipalityName Municipality name
+/// @param districtId District ID
+/// @param districtName District name
+/// @param regionId Region ID
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record AddressHierarchyProjection(
+    Long id,
+    String name,
+    Long municipalityId,
+    String municipalityName,
+    Integer districtId,
+    String districtName,
+    Short regionId
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.stag.platform.address.repository.projection;
+
+/// **Country Translation Projection**
+///
+/// Projection for country ID with both Czech and English names.
+///
+/// @param id Country ID
+/// @param name Czech country name
+/// @param englishName English country name
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CountryTranslationProjection(
+    Integer id,
+    String name,
+    String englishName
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.stag.platform.address.repository.projection;
+
+/// **Zip Code Projection**
+///
+/// Projection for a postal code and its post office.
+///
+/// @param zipCode Postal code
+/// @param postOffice Post office name
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record ZipCodeProjection(
+    String zipCode,
+    String postOffice
+) {
+
+}
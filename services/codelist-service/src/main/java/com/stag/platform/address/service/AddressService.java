@@ -0,0 +1,37 @@
+package com.stag.platform.address.service;
+
+import com.stag.platform.address.index.AddressSuggestIndexService;
+import com.stag.platform.address.index.AddressSuggestScope;
+import com.stag.platform.address.index.AddressSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/// **Address Service**
+///
+/// Manages address autocomplete over streets, municipalities, municipality parts and postal codes.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AddressService {
+
+    /// Address Suggest Index Service
+    private final AddressSuggestIndexService suggestIndexService;
+
+    /// Suggests address elements matching a query within a scope.
+    ///
+    /// @param query Autocomplete query
+    /// @param scope Element types and hierarchy the suggestions must belong to
+    /// @param limit Maximum number of results
+    /// @return Matching address suggestions
+    public List<AddressSuggestion> suggest(String query, AddressSuggestScope scope, int limit) {
+        log.info("Suggesting addresses, scope: {}, limit: {}", scope, limit);
+        return suggestIndexService.current().suggest(query, scope, limit);
+    }
+
+}
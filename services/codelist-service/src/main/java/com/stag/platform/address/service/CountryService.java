@@ -2,16 +2,22 @@ package com.stag.platform.address.service;
 
 import com.stag.platform.address.exception.CountriesNotFoundException;
 import com.stag.platform.address.exception.CountryNotFoundException;
+import com.stag.platform.address.index.CountryNameIndex;
+import com.stag.platform.address.index.CountryNameIndexService;
+import com.stag.platform.address.index.CountryNames;
 import com.stag.platform.address.repository.CountryRepository;
 import com.stag.platform.address.repository.projection.CountryNameProjection;
 import com.stag.platform.address.repository.projection.CountryView;
+import com.stag.platform.shared.http.ETaggedContent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,16 +36,29 @@ public class CountryService {
 
     /// Country Repository
     private final CountryRepository countryRepository;
+    /// Country Name Index Service
+    private final CountryNameIndexService countryNameIndexService;
 
     /// Retrieves all valid countries in the specified language.
+    /// The ETag is computed once when the cache entry is built.
     ///
     /// @param language Language code ('cs' or 'en')
-    /// @return Set of country views
+    /// @return Set of country views with ETag
     @Transactional(readOnly = true)
     @Cacheable(value = "countries", key = "#language")
-    public Set<CountryView> getCountries(String language) {
+    public ETaggedContent<Set<CountryView>> getCountries(String language) {
+        return loadCountries(language);
+    }
+
+    /// Loads all valid countries in the specified language without going through the cache,
+    /// used to refresh hot entries of the `countries` cache ahead of expiration.
+    ///
+    /// @param language Language code ('cs' or 'en')
+    /// @return Set of country views with ETag
+    @Transactional(readOnly = true)
+    public ETaggedContent<Set<CountryView>> loadCountries(String language) {
         log.info("Fetching all countries for language: {}", language);
-        return countryRepository.findAllValidCountries(language);
+        return ETaggedContent.of(countryRepository.findAllValidCountries(language));
     }
 
     /// Finds country ID by country name.
@@ -62,38 +81,105 @@ public class CountryService {
 
     /// Retrieves country names by IDs in the specified language.
     ///
-    /// @param countryIds Collection of country IDs
+    /// Names are read from the in-memory country name index, only IDs missing from it are queried from the database.
+    ///
+    /// @param countryIds Country IDs
     /// @param language Language code
-    /// @return Map of IDs to country names
+    /// @return Country names view
     /// @throws CountriesNotFoundException if any IDs are missing
-    @Transactional(readOnly = true)
-    public Map<Integer, String> findNamesByIds(Collection<Integer> countryIds, String language) {
-        log.info("Finding country names for {} IDs in language: {}", countryIds.size(), language);
+    public CountryNames findNamesByIds(int[] countryIds, String language) {
+        log.info("Finding country names for {} IDs in language: {}", countryIds.length, language);
+        return resolveNames(countryIds, language, true);
+    }
 
-        List<CountryNameProjection> foundCountries = countryRepository.findNamesByIds(countryIds, language);
+    /// Looks up country names for a bulk of distinct IDs without failing on unknown IDs.
+    ///
+    /// Unknown IDs are simply absent from the returned view, see [CountryNames#contains(int)].
+    ///
+    /// @param countryIds Distinct country IDs
+    /// @param language Language code
+    /// @return Country names view
+    public CountryNames lookupNamesByIds(int[] countryIds, String language) {
+        log.info("Looking up country names for {} IDs in language: {}", countryIds.length, language);
+        return resolveNames(countryIds, language, false);
+    }
 
-        ensureAllCountriesWereFound(countryIds, foundCountries);
+    /// Resolves country names from the index, falling back to the database for index misses.
+    ///
+    /// IDs the loaded index proves absent are not queried. All missing IDs are reported together,
+    /// after the remaining index misses were checked against the database.
+    ///
+    /// @param countryIds Country IDs
+    /// @param language Language code
+    /// @param failOnMissing Whether unknown IDs raise an exception
+    /// @return Country names view
+    /// @throws CountriesNotFoundException if any IDs are missing and failOnMissing is set
+    private CountryNames resolveNames(int[] countryIds, String language, boolean failOnMissing) {
+        CountryNameIndex index = countryNameIndexService.current();
+        List<Integer> indexMisses = null;
+        List<Integer> definitelyMissing = List.of();
+
+        for (int countryId : countryIds) {
+            if (index.contains(countryId)) {
+                continue;
+            }
+            if (index.isDefinitelyMissing(countryId)) {
+                if (definitelyMissing.isEmpty()) {
+                    definitelyMissing = new ArrayList<>();
+                }
+                definitelyMissing.add(countryId);
+            } else {
+                if (indexMisses == null) {
+                    indexMisses = new ArrayList<>(countryIds.length);
+                }
+                indexMisses.add(countryId);
+            }
+        }
+
+        if (!definitelyMissing.isEmpty()) {
+            log.debug("{} countries do not exist in index version {}, skipping database", definitelyMissing.size(), index.version());
+            countryNameIndexService.recordDefinitelyMissing(definitelyMissing.size());
+        }
+
+        if (indexMisses == null) {
+            if (failOnMissing && !definitelyMissing.isEmpty()) {
+                throw new CountriesNotFoundException(definitelyMissing);
+            }
+            return new CountryNames(index, language, Map.of());
+        }
+
+        log.debug("{} countries not in index version {}, querying database", indexMisses.size(), index.version());
+        List<CountryNameProjection> foundCountries = countryRepository.findNamesByIds(indexMisses, language);
+
+        if (failOnMissing) {
+            ensureAllCountriesWereFound(indexMisses, foundCountries, definitelyMissing);
+        }
+
+        Map<Integer, String> fallbackNames = HashMap.newHashMap(foundCountries.size());
+        foundCountries.forEach(country -> fallbackNames.put(country.id(), country.name()));
 
-        log.debug("Successfully retrieved {} country names", foundCountries.size());
-        return foundCountries.stream()
-                             .collect(Collectors.toMap(
-                                 CountryNameProjection::id,
-                                 CountryNameProjection::name
-                             ));
+        log.debug("Successfully retrieved {} country names from database", foundCountries.size());
+        return new CountryNames(index, language, fallbackNames);
     }
 
     /// Validates that all requested countries were found.
     ///
-    /// @param requestedIds Collection of requested country IDs
+    /// @param requestedIds Collection of country IDs queried from the database
     /// @param foundCountries List of found country projections
+    /// @param definitelyMissing Country IDs already known to be missing without a query
     /// @throws CountriesNotFoundException if any IDs are missing
-    private void ensureAllCountriesWereFound(Collection<Integer> requestedIds, List<CountryNameProjection> foundCountries) {
-        // If counts match, all countries were found (assumes no duplicates in requestedIds)
-        if (requestedIds.size() == foundCountries.size()) {
+    private void ensureAllCountriesWereFound(
+        Collection<Integer> requestedIds,
+        List<CountryNameProjection> foundCountries,
+        List<Integer> definitelyMissing
+    ) {
+        // If counts match, all queried countries were found (assumes no duplicates in requestedIds)
+        if (requestedIds.size() == foundCountries.size() && definitelyMissing.isEmpty()) {
             return;
         }
 
-        List<Integer> missingIds = getMissingIds(requestedIds, foundCountries);
+        List<Integer> missingIds = new ArrayList<>(definitelyMissing);
+        missingIds.addAll(getMissingIds(requestedIds, foundCountries));
 
         // If, after filtering, there are IDs still missing, throw an exception
         if (!missingIds.isEmpty()) {
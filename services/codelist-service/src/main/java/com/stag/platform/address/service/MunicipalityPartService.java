@@ -1,14 +1,19 @@
 package com.stag.platform.address.service;
 
 import com.stag.platform.address.exception.MunicipalityPartsNotFoundException;
+import com.stag.platform.address.index.AddressPlaceIndex;
+import com.stag.platform.address.index.AddressPlaceIndexService;
+import com.stag.platform.address.index.MunicipalityPartIdIndexService;
 import com.stag.platform.address.repository.MunicipalityPartRepository;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.shared.lookup.ExistingIds;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,40 +32,105 @@ public class MunicipalityPartService {
 
     /// Municipality Part Repository
     private final MunicipalityPartRepository municipalityPartRepository;
+    /// Address Place Index Service
+    private final AddressPlaceIndexService addressPlaceIndexService;
+    /// Municipality Part ID Index Service
+    private final MunicipalityPartIdIndexService municipalityPartIdIndexService;
 
     /// Retrieves address place names by municipality part IDs.
     ///
+    /// Names are read from the memory-mapped address place index when it is enabled,
+    /// only IDs missing from it are queried from the database.
+    ///
     /// @param ids Collection of municipality part IDs
     /// @return Map of IDs to address place names
     /// @throws MunicipalityPartsNotFoundException if any IDs are missing
-    @Transactional(readOnly = true)
     public Map<Long, AddressPlaceNameProjection> findAddressNamesByIds(Collection<Long> ids) {
         log.info("Finding address place names for {} municipality part IDs", ids.size());
+        return resolveAddressNames(ids, true);
+    }
+
+    /// Looks up address place names for a bulk of distinct municipality part IDs without failing on unknown IDs.
+    ///
+    /// @param ids Collection of distinct municipality part IDs
+    /// @return Map of found IDs to address place names, unknown IDs are omitted
+    public Map<Long, AddressPlaceNameProjection> lookupAddressNamesByIds(Collection<Long> ids) {
+        log.info("Looking up address place names for {} municipality part IDs", ids.size());
+        return resolveAddressNames(ids, false);
+    }
+
+    /// Resolves address place names from the index, falling back to the database for index misses.
+    ///
+    /// IDs the existing municipality part IDs filter rules out are not queried. All missing IDs are reported
+    /// together, after the remaining index misses were checked against the database.
+    ///
+    /// @param ids Collection of municipality part IDs
+    /// @param failOnMissing Whether unknown IDs raise an exception
+    /// @return Map of IDs to address place names
+    /// @throws MunicipalityPartsNotFoundException if any IDs are missing and failOnMissing is set
+    private Map<Long, AddressPlaceNameProjection> resolveAddressNames(Collection<Long> ids, boolean failOnMissing) {
+        AddressPlaceIndex index = addressPlaceIndexService.current();
+        ExistingIds existingIds = municipalityPartIdIndexService.current();
+        Map<Long, AddressPlaceNameProjection> addressNames = HashMap.newHashMap(ids.size());
+        List<Long> indexMisses = new ArrayList<>();
+        List<Long> definitelyMissing = List.of();
 
-        List<AddressPlaceNameProjection> foundMunicipalityParts = municipalityPartRepository.findAddressNamesByIds(ids);
+        for (Long id : ids) {
+            AddressPlaceNameProjection addressName = index.find(id);
+            if (addressName != null) {
+                addressNames.put(id, addressName);
+            } else if (existingIds.isDefinitelyMissing(id)) {
+                if (definitelyMissing.isEmpty()) {
+                    definitelyMissing = new ArrayList<>();
+                }
+                definitelyMissing.add(id);
+            } else {
+                indexMisses.add(id);
+            }
+        }
 
-        ensureAllMunicipalityPartsWereFound(ids, foundMunicipalityParts);
+        if (!definitelyMissing.isEmpty()) {
+            log.debug("{} municipality parts do not exist, skipping database", definitelyMissing.size());
+            municipalityPartIdIndexService.recordDefinitelyMissing(definitelyMissing.size());
+        }
+
+        if (indexMisses.isEmpty()) {
+            if (failOnMissing && !definitelyMissing.isEmpty()) {
+                throw new MunicipalityPartsNotFoundException(definitelyMissing);
+            }
+            log.debug("Resolved {} address place names from index version {}", addressNames.size(), index.version());
+            return addressNames;
+        }
 
-        log.debug("Successfully retrieved {} address place names", foundMunicipalityParts.size());
-        return foundMunicipalityParts.stream()
-                                     .collect(Collectors.toMap(
-                                         AddressPlaceNameProjection::municipalityPartId,
-                                         addressPlaceNameProjection -> addressPlaceNameProjection
-                                     ));
+        List<AddressPlaceNameProjection> foundMunicipalityParts = municipalityPartRepository.findAddressNamesByIds(indexMisses);
+
+        if (failOnMissing) {
+            ensureAllMunicipalityPartsWereFound(indexMisses, foundMunicipalityParts, definitelyMissing);
+        }
+
+        log.debug("Successfully retrieved {} address place names from database", foundMunicipalityParts.size());
+        foundMunicipalityParts.forEach(place -> addressNames.put(place.municipalityPartId(), place));
+        return addressNames;
     }
 
     /// Validates that all requested municipality parts were found.
     ///
-    /// @param requestedIds Collection of requested municipality part IDs
+    /// @param requestedIds Collection of municipality part IDs queried from the database
     /// @param foundMunicipalityParts List of found municipality part projections
+    /// @param definitelyMissing Municipality part IDs already known to be missing without a query
     /// @throws MunicipalityPartsNotFoundException if any IDs are missing
-    private void ensureAllMunicipalityPartsWereFound(Collection<Long> requestedIds, List<AddressPlaceNameProjection> foundMunicipalityParts) {
-        // If counts match, all municipality parts were found (assumes no duplicates in requestedIds)
-        if (requestedIds.size() == foundMunicipalityParts.size()) {
+    private void ensureAllMunicipalityPartsWereFound(
+        Collection<Long> requestedIds,
+        List<AddressPlaceNameProjection> foundMunicipalityParts,
+        List<Long> definitelyMissing
+    ) {
+        // If counts match, all queried municipality parts were found (assumes no duplicates in requestedIds)
+        if (requestedIds.size() == foundMunicipalityParts.size() && definitelyMissing.isEmpty()) {
             return;
         }
 
-        List<Long> missingIds = getMissingIds(requestedIds, foundMunicipalityParts);
+        List<Long> missingIds = new ArrayList<>(definitelyMissing);
+        missingIds.addAll(getMissingIds(requestedIds, foundMunicipalityParts));
 
         // If, after filtering, there are IDs still missing, throw an exception
         if (!missingIds.isEmpty()) {
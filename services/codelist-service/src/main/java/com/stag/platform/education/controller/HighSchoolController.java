@@ -0,0 +1,66 @@
+package com.stag.platform.education.controller;
+
+import com.stag.platform.api.HighSchoolsApi;
+import com.stag.platform.api.dto.FieldOfStudyListResponse;
+import com.stag.platform.api.dto.HighSchoolListResponse;
+import com.stag.platform.education.mapper.HighSchoolApiMapper;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
+import com.stag.platform.education.service.HighSchoolFieldOfStudyService;
+import com.stag.platform.education.service.HighSchoolService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/// **High School Controller**
+///
+/// REST API endpoint for high school and field of study typeahead search.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+@RestController
+public class HighSchoolController implements HighSchoolsApi {
+
+    /// High School Service
+    private final HighSchoolService highSchoolService;
+    /// High School Field Of Study Service
+    private final HighSchoolFieldOfStudyService fieldOfStudyService;
+
+    /// Searches high schools by name, municipality and district.
+    ///
+    /// @param query Typeahead query
+    /// @param limit Maximum number of results
+    /// @return Response containing the best matching high schools
+    @Override
+    public ResponseEntity<HighSchoolListResponse> searchHighSchools(String query, Integer limit) {
+        log.info("High school search requested");
+
+        List<HighSchoolSearchProjection> highSchools = highSchoolService.searchHighSchools(query, limit);
+        HighSchoolListResponse highSchoolListResponse = HighSchoolApiMapper.INSTANCE.toHighSchoolListResponse(highSchools);
+
+        return ResponseEntity.ok(highSchoolListResponse);
+    }
+
+    /// Searches high school fields of study by name and code.
+    ///
+    /// @param query Typeahead query
+    /// @param limit Maximum number of results
+    /// @return Response containing the best matching fields of study
+    @Override
+    public ResponseEntity<FieldOfStudyListResponse> searchHighSchoolFieldsOfStudy(String query, Integer limit) {
+        log.info("High school field of study search requested");
+
+        List<HighSchoolFieldOfStudyNameProjection> fieldsOfStudy = fieldOfStudyService.searchFieldsOfStudy(query, limit);
+        FieldOfStudyListResponse fieldOfStudyListResponse = HighSchoolApiMapper.INSTANCE.toFieldOfStudyListResponse(fieldsOfStudy);
+
+        return ResponseEntity.ok(fieldOfStudyListResponse);
+    }
+
+}
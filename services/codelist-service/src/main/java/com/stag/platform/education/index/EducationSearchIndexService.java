@@ -0,0 +1,130 @@
+package com.stag.platform.education.index;
+
+import com.stag.platform.education.repository.HighSchoolFieldOfStudyRepository;
+import com.stag.platform.education.repository.HighSchoolRepository;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// **Education Search Index Service**
+///
+/// Holds the typeahead indexes of high schools and high school fields of study and rebuilds them in the background.
+/// High schools are searched by name, municipality and district, fields of study by name and code.
+/// The index references are swapped atomically, searches never query the database.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class EducationSearchIndexService {
+
+    /// High School Repository
+    private final HighSchoolRepository highSchoolRepository;
+    /// High School Field Of Study Repository
+    private final HighSchoolFieldOfStudyRepository fieldOfStudyRepository;
+    /// Timer measuring index load and swap duration
+    private final Timer swapTimer;
+    /// Currently published high school index
+    private final AtomicReference<TypeaheadIndex<HighSchoolSearchProjection>> highSchools = new AtomicReference<>(TypeaheadIndex.empty());
+    /// Currently published field of study index
+    private final AtomicReference<TypeaheadIndex<HighSchoolFieldOfStudyNameProjection>> fieldsOfStudy = new AtomicReference<>(TypeaheadIndex.empty());
+    /// Guards against concurrent rebuilds
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /// Creates the index service and registers its metrics.
+    ///
+    /// @param highSchoolRepository High school repository
+    /// @param fieldOfStudyRepository High school field of study repository
+    /// @param meterRegistry Meter registry
+    public EducationSearchIndexService(
+        HighSchoolRepository highSchoolRepository,
+        HighSchoolFieldOfStudyRepository fieldOfStudyRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.highSchoolRepository = highSchoolRepository;
+        this.fieldOfStudyRepository = fieldOfStudyRepository;
+
+        this.swapTimer = Timer.builder("codelist.education.index.swap")
+                              .description("Time taken to load and swap the education search indexes")
+                              .register(meterRegistry);
+
+        Gauge.builder("codelist.education.index.size", highSchools, ref -> ref.get().size())
+             .description("Number of documents in the current education search index")
+             .tag("index", "high-schools")
+             .register(meterRegistry);
+
+        Gauge.builder("codelist.education.index.size", fieldsOfStudy, ref -> ref.get().size())
+             .description("Number of documents in the current education search index")
+             .tag("index", "fields-of-study")
+             .register(meterRegistry);
+    }
+
+    /// Returns the currently published high school index.
+    ///
+    /// @return Current index, empty until the first successful load
+    public TypeaheadIndex<HighSchoolSearchProjection> highSchools() {
+        return highSchools.get();
+    }
+
+    /// Returns the currently published field of study index.
+    ///
+    /// @return Current index, empty until the first successful load
+    public TypeaheadIndex<HighSchoolFieldOfStudyNameProjection> fieldsOfStudy() {
+        return fieldsOfStudy.get();
+    }
+
+    /// Loads all high schools and fields of study and atomically swaps the current indexes.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.snapshot.refresh-interval`.
+    /// Failures keep the previous indexes in place.
+    @Scheduled(fixedDelayString = "${codelist.snapshot.refresh-interval:PT1H}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            swapTimer.record(this::loadAndSwap);
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh education search indexes, keeping version {}", highSchools.get().version(), e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /// Loads the rows and publishes new indexes.
+    private void loadAndSwap() {
+        log.info("Loading education search indexes");
+
+        Instant loadedAt = Instant.now();
+        long version = highSchools.get().version() + 1;
+
+        TypeaheadIndex<HighSchoolSearchProjection> highSchoolIndex = TypeaheadIndex.of(
+            version,
+            loadedAt,
+            highSchoolRepository.findAllValidForSearch(),
+            HighSchoolSearchProjection::name,
+            HighSchoolSearchProjection::location
+        );
+        TypeaheadIndex<HighSchoolFieldOfStudyNameProjection> fieldOfStudyIndex = TypeaheadIndex.of(
+            version,
+            loadedAt,
+            fieldOfStudyRepository.findAllNames(),
+            HighSchoolFieldOfStudyNameProjection::name,
+            HighSchoolFieldOfStudyNameProjection::id
+        );
+
+        highSchools.set(highSchoolIndex);
+        fieldsOfStudy.set(fieldOfStudyIndex);
+
+        log.info("Education search indexes version {} loaded with {} high schools and {} fields of study",
+            version, highSchoolIndex.size(), fieldOfStudyIndex.size());
+    }
+
+}
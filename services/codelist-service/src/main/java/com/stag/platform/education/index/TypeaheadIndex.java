@@ -0,0 +1,343 @@
+package com.stag.platform.education.index;
+
+import com.stag.platform.shared.text.TextFolding;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/// **Typeahead Index**
+///
+/// Immutable in-memory prefix index for typeahead search. Every document has a primary text (e.g. a name)
+/// and a secondary text (e.g. a location or a code). Both are folded (lower case, diacritics removed),
+/// split into words (see [TextFolding]) and kept in sorted term dictionaries with posting lists, so a query word is resolved
+/// by a binary search and a scan over the terms sharing its prefix.
+///
+/// All query words must match. Documents are ranked by exact word matches in the primary text first,
+/// then prefix matches in the primary text, then matches in the secondary text, ties are broken by
+/// the shorter and then alphabetically first primary text.
+///
+/// @param <T> Document type
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class TypeaheadIndex<T> {
+
+    /// Maximum number of query words taken into account
+    static final int MAX_QUERY_WORDS = 8;
+
+    /// Score of an exact word match in the primary text
+    private static final int PRIMARY_EXACT_SCORE = 4;
+    /// Score of a prefix match in the primary text
+    private static final int PRIMARY_PREFIX_SCORE = 3;
+    /// Score of an exact word match in the secondary text
+    private static final int SECONDARY_EXACT_SCORE = 2;
+    /// Score of a prefix match in the secondary text
+    private static final int SECONDARY_PREFIX_SCORE = 1;
+
+    /// Index version (0 for the empty index)
+    private final long version;
+    /// Time when the documents were loaded
+    private final Instant loadedAt;
+    /// Indexed documents, addressed by position
+    private final List<T> documents;
+    /// Folded primary texts used for tie-breaking
+    private final String[] sortKeys;
+    /// Primary text terms
+    private final Terms primaryTerms;
+    /// Secondary text terms
+    private final Terms secondaryTerms;
+
+    private TypeaheadIndex(long version, Instant loadedAt, List<T> documents, String[] sortKeys, Terms primaryTerms, Terms secondaryTerms) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.documents = documents;
+        this.sortKeys = sortKeys;
+        this.primaryTerms = primaryTerms;
+        this.secondaryTerms = secondaryTerms;
+    }
+
+    /// Returns an empty index.
+    ///
+    /// @param <T> Document type
+    /// @return Index without any documents
+    public static <T> TypeaheadIndex<T> empty() {
+        return new TypeaheadIndex<>(0, Instant.EPOCH, List.of(), new String[0], Terms.EMPTY, Terms.EMPTY);
+    }
+
+    /// Builds an index over documents.
+    ///
+    /// @param version Index version
+    /// @param loadedAt Time when the documents were loaded
+    /// @param documents Documents
+    /// @param primaryText Extracts the primary text, may return null
+    /// @param secondaryText Extracts the secondary text, may return null
+    /// @param <T> Document type
+    /// @return Immutable index
+    public static <T> TypeaheadIndex<T> of(
+        long version,
+        Instant loadedAt,
+        List<T> documents,
+        Function<T, String> primaryText,
+        Function<T, String> secondaryText
+    ) {
+        List<T> indexed = List.copyOf(documents);
+        String[] sortKeys = new String[indexed.size()];
+        List<String[]> primaryWords = new ArrayList<>(indexed.size());
+        List<String[]> secondaryWords = new ArrayList<>(indexed.size());
+
+        for (int i = 0; i < indexed.size(); i++) {
+            T document = indexed.get(i);
+            sortKeys[i] = TextFolding.fold(primaryText.apply(document));
+            primaryWords.add(TextFolding.words(sortKeys[i]));
+            secondaryWords.add(TextFolding.words(TextFolding.fold(secondaryText.apply(document))));
+        }
+
+        return new TypeaheadIndex<>(version, loadedAt, indexed, sortKeys, Terms.of(primaryWords), Terms.of(secondaryWords));
+    }
+
+    /// Searches documents matching all words of a query.
+    ///
+    /// @param query Query text, diacritics and case are ignored
+    /// @param limit Maximum number of results
+    /// @return Best ranked documents, empty for a blank query
+    public List<T> search(String query, int limit) {
+        String[] queryWords = Arrays.stream(TextFolding.words(TextFolding.fold(query)))
+                                    .distinct()
+                                    .limit(MAX_QUERY_WORDS)
+                                    .toArray(String[]::new);
+
+        if (queryWords.length == 0 || documents.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] totalScores = new int[documents.size()];
+        int[] matchedWords = new int[documents.size()];
+        int[] wordScores = new int[documents.size()];
+        int[] touched = new int[documents.size()];
+        int touchedCount = 0;
+
+        for (int w = 0; w < queryWords.length; w++) {
+            touchedCount = primaryTerms.collect(queryWords[w], w, PRIMARY_EXACT_SCORE, PRIMARY_PREFIX_SCORE, matchedWords, wordScores, touched, 0);
+            touchedCount = secondaryTerms.collect(queryWords[w], w, SECONDARY_EXACT_SCORE, SECONDARY_PREFIX_SCORE, matchedWords, wordScores, touched, touchedCount);
+
+            for (int i = 0; i < touchedCount; i++) {
+                int document = touched[i];
+                totalScores[document] += wordScores[document];
+                matchedWords[document] = w + 1;
+                wordScores[document] = 0;
+            }
+
+            if (touchedCount == 0) {
+                return List.of();
+            }
+        }
+
+        return topRanked(touched, touchedCount, totalScores, limit);
+    }
+
+    /// Selects the best ranked candidates with a bounded heap, without sorting all candidates.
+    ///
+    /// @param candidates Candidate document positions
+    /// @param count Number of candidates
+    /// @param totalScores Scores per document
+    /// @param limit Maximum number of results
+    /// @return Best ranked documents, best first
+    private List<T> topRanked(int[] candidates, int count, int[] totalScores, int limit) {
+        int capacity = Math.min(limit, count);
+        // Heap ordered worst first, so the root is the candidate to replace
+        int[] heap = new int[capacity];
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+            int document = candidates[i];
+            if (size < capacity) {
+                heap[size] = document;
+                siftUp(heap, size++, totalScores);
+            } else if (compare(document, heap[0], totalScores) < 0) {
+                heap[0] = document;
+                siftDown(heap, size, totalScores);
+            }
+        }
+
+        Integer[] ranked = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ranked[i] = heap[i];
+        }
+        Arrays.sort(ranked, (a, b) -> compare(a, b, totalScores));
+
+        List<T> results = new ArrayList<>(size);
+        for (Integer document : ranked) {
+            results.add(documents.get(document));
+        }
+        return results;
+    }
+
+    /// Moves a heap element up until its parent ranks better.
+    private void siftUp(int[] heap, int index, int[] totalScores) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (compare(heap[index], heap[parent], totalScores) <= 0) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    /// Moves the heap root down until both children rank better.
+    private void siftDown(int[] heap, int size, int[] totalScores) {
+        int index = 0;
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && compare(heap[left], heap[worst], totalScores) > 0) {
+                worst = left;
+            }
+            if (right < size && compare(heap[right], heap[worst], totalScores) > 0) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(heap, index, worst);
+            index = worst;
+        }
+    }
+
+    /// Compares documents by rank: higher score, then shorter and alphabetically first primary text.
+    ///
+    /// @return Negative if the first document ranks better
+    private int compare(int first, int second, int[] totalScores) {
+        int byScore = Integer.compare(totalScores[second], totalScores[first]);
+        if (byScore != 0) {
+            return byScore;
+        }
+        int byLength = Integer.compare(sortKeys[first].length(), sortKeys[second].length());
+        return byLength != 0 ? byLength : sortKeys[first].compareTo(sortKeys[second]);
+    }
+
+    /// Swaps two heap elements.
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    /// Returns the index version.
+    ///
+    /// @return Index version
+    public long version() {
+        return version;
+    }
+
+    /// Returns the time when the documents were loaded.
+    ///
+    /// @return Load time
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /// Returns the number of indexed documents.
+    ///
+    /// @return Document count
+    public int size() {
+        return documents.size();
+    }
+
+    /// **Terms**
+    ///
+    /// Sorted term dictionary with posting lists of document positions.
+    ///
+    /// @param terms Sorted distinct terms
+    /// @param postings Document positions per term
+    private record Terms(
+        String[] terms,
+        int[][] postings
+    ) {
+
+        /// Empty dictionary
+        private static final Terms EMPTY = new Terms(new String[0], new int[0][]);
+
+        /// Builds a dictionary from the words of each document.
+        ///
+        /// @param documentWords Words per document position
+        /// @return Term dictionary
+        private static Terms of(List<String[]> documentWords) {
+            Map<String, List<Integer>> postingLists = new TreeMap<>();
+
+            for (int document = 0; document < documentWords.size(); document++) {
+                Set<String> distinctWords = new LinkedHashSet<>(Arrays.asList(documentWords.get(document)));
+                for (String word : distinctWords) {
+                    postingLists.computeIfAbsent(word, _ -> new ArrayList<>()).add(document);
+                }
+            }
+
+            String[] terms = new String[postingLists.size()];
+            int[][] postings = new int[postingLists.size()][];
+            int i = 0;
+            for (Map.Entry<String, List<Integer>> entry : postingLists.entrySet()) {
+                terms[i] = entry.getKey();
+                postings[i] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                i++;
+            }
+
+            return new Terms(terms, postings);
+        }
+
+        /// Scores documents containing a term starting with a query word.
+        ///
+        /// Only documents that matched all previous query words are scored. Each document keeps its best score
+        /// for the word and is recorded once in the touched array.
+        ///
+        /// @param prefix Query word
+        /// @param wordIndex Position of the query word
+        /// @param exactScore Score of an exact match
+        /// @param prefixScore Score of a prefix match
+        /// @param matchedWords Number of matched query words per document
+        /// @param wordScores Best score of the current word per document
+        /// @param touched Documents scored for the current word
+        /// @param touchedCount Number of touched documents
+        /// @return New number of touched documents
+        private int collect(
+            String prefix,
+            int wordIndex,
+            int exactScore,
+            int prefixScore,
+            int[] matchedWords,
+            int[] wordScores,
+            int[] touched,
+            int touchedCount
+        ) {
+            int position = Arrays.binarySearch(terms, prefix);
+            if (position < 0) {
+                position = -position - 1;
+            }
+
+            for (int t = position; t < terms.length && terms[t].startsWith(prefix); t++) {
+                int score = terms[t].length() == prefix.length() ? exactScore : prefixScore;
+
+                for (int document : postings[t]) {
+                    if (matchedWords[document] != wordIndex) {
+                        continue;
+                    }
+                    if (wordScores[document] == 0) {
+                        touched[touchedCount++] = document;
+                    }
+                    wordScores[document] = Math.max(wordScores[document], score);
+                }
+            }
+
+            return touchedCount;
+        }
+
+    }
+
+}
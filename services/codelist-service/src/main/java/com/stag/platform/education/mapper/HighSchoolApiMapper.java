@@ -0,0 +1,54 @@
+package com.stag.platform.education.mapper;
+
+import com.stag.platform.api.dto.FieldOfStudy;
+import com.stag.platform.api.dto.FieldOfStudyListResponse;
+import com.stag.platform.api.dto.HighSchool;
+import com.stag.platform.api.dto.HighSchoolListResponse;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/// **High School API Mapper**
+///
+/// MapStruct mapper for converting high school search projections to API DTOs.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Mapper
+public interface HighSchoolApiMapper {
+
+    /// Mapper instance
+    HighSchoolApiMapper INSTANCE = Mappers.getMapper(HighSchoolApiMapper.class);
+
+    /// Converts high school search projections to high school list response.
+    ///
+    /// @param highSchools List of high school search projections
+    /// @return High school list response DTO
+    default HighSchoolListResponse toHighSchoolListResponse(List<HighSchoolSearchProjection> highSchools) {
+        return new HighSchoolListResponse(toHighSchoolList(highSchools));
+    }
+
+    /// Converts field of study projections to field of study list response.
+    ///
+    /// @param fieldsOfStudy List of field of study name projections
+    /// @return Field of study list response DTO
+    default FieldOfStudyListResponse toFieldOfStudyListResponse(List<HighSchoolFieldOfStudyNameProjection> fieldsOfStudy) {
+        return new FieldOfStudyListResponse(toFieldOfStudyList(fieldsOfStudy));
+    }
+
+    /// Maps high school search projections to high school DTOs.
+    ///
+    /// @param highSchools List of high school search projections
+    /// @return List of high school DTOs
+    List<HighSchool> toHighSchoolList(List<HighSchoolSearchProjection> highSchools);
+
+    /// Maps field of study projections to field of study DTOs.
+    ///
+    /// @param fieldsOfStudy List of field of study name projections
+    /// @return List of field of study DTOs
+    List<FieldOfStudy> toFieldOfStudyList(List<HighSchoolFieldOfStudyNameProjection> fieldsOfStudy);
+
+}
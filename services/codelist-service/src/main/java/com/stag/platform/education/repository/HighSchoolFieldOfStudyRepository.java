@@ -1,9 +1,12 @@
 package com.stag.platform.education.repository;
 
 import com.stag.platform.education.entity.HighSchoolFieldOfStudy;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /// **High School Field Of Study Repository**
@@ -21,4 +24,17 @@ public interface HighSchoolFieldOfStudyRepository extends JpaRepository<HighScho
     @Query("SELECT h.name FROM HighSchoolFieldOfStudy h WHERE h.id = :id")
     Optional<String> findNameById(String id);
 
-}
\ No newline at end of file
+    /// Finds the names of multiple fields of study.
+    ///
+    /// @param ids collection of field of study IDs
+    /// @return list of field of study name projections
+    @Query("SELECT h.id, h.name FROM HighSchoolFieldOfStudy h WHERE h.id IN :ids")
+    List<HighSchoolFieldOfStudyNameProjection> findNamesByIds(Collection<String> ids);
+
+    /// Finds the names of all fields of study for the typeahead search index.
+    ///
+    /// @return list of field of study name projections
+    @Query("SELECT h.id, h.name FROM HighSchoolFieldOfStudy h")
+    List<HighSchoolFieldOfStudyNameProjection> findAllNames();
+
+}
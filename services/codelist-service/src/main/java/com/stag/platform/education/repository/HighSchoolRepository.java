@@ -1,10 +1,15 @@
 package com.stag.platform.education.repository;
 
 import com.stag.platform.education.entity.HighSchool;
+import com.stag.platform.education.repository.projection.EducationLookupRowProjection;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.education.repository.projection.HighSchoolAddressRowProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /// **High School Repository**
@@ -38,4 +43,101 @@ public interface HighSchoolRepository extends JpaRepository<HighSchool, String>
     )
     Optional<HighSchoolAddressProjection> findHighSchoolAddressById(String id);
 
-}
\ No newline at end of file
+    /// Retrieves high school address information for multiple schools.
+    ///
+    /// @param ids collection of high school IDs
+    /// @return list of address projections with their high school IDs
+    @Query(
+        """
+        SELECT new com.stag.platform.education.repository.projection.HighSchoolAddressRowProjection(
+            hs.id,
+            hs.name,
+            hs.street,
+            hs.zipCode,
+            m.name,
+            d.name
+        )
+        FROM
+            HighSchool hs
+        LEFT JOIN hs.municipality m
+        LEFT JOIN m.district d
+        WHERE
+            hs.id IN :ids
+        """
+    )
+    List<HighSchoolAddressRowProjection> findHighSchoolAddressesByIds(Collection<String> ids);
+
+    /// Retrieves a high school address and a field of study name in a single round trip.
+    ///
+    /// A null ID matches no row, so either part may be skipped.
+    ///
+    /// @param highSchoolId the high school ID, may be null
+    /// @param fieldOfStudyNumber the field of study number, may be null
+    /// @return list of at most one row per part
+    @Query(
+        """
+        SELECT new com.stag.platform.education.repository.projection.EducationLookupRowProjection(
+            lookup.part,
+            lookup.id,
+            lookup.name,
+            lookup.street,
+            lookup.zipCode,
+            lookup.municipality,
+            lookup.district
+        )
+        FROM (
+            SELECT
+                'HIGH_SCHOOL' AS part,
+                hs.id AS id,
+                hs.name AS name,
+                hs.street AS street,
+                hs.zipCode AS zipCode,
+                m.name AS municipality,
+                d.name AS district
+            FROM
+                HighSchool hs
+            LEFT JOIN hs.municipality m
+            LEFT JOIN m.district d
+            WHERE
+                hs.id = :highSchoolId
+            UNION ALL
+            SELECT
+                'FIELD_OF_STUDY',
+                f.id,
+                f.name,
+                CAST(NULL AS String),
+                CAST(NULL AS String),
+                CAST(NULL AS String),
+                CAST(NULL AS String)
+            FROM
+                HighSchoolFieldOfStudy f
+            WHERE
+                f.id = :fieldOfStudyNumber
+        ) lookup
+        """
+    )
+    List<EducationLookupRowProjection> findEducationLookupRows(String highSchoolId, String fieldOfStudyNumber);
+
+    /// Retrieves all currently valid high schools for the typeahead search index.
+    ///
+    /// @return list of search projections
+    @Query(
+        """
+        SELECT new com.stag.platform.education.repository.projection.HighSchoolSearchProjection(
+            hs.id,
+            hs.name,
+            m.name,
+            d.name
+        )
+        FROM
+            HighSchool hs
+        LEFT JOIN hs.municipality m
+        LEFT JOIN m.district d
+        WHERE
+            hs.validTo IS NULL
+            OR hs.validTo >= CURRENT_DATE
+        """
+    )
+    List<HighSchoolSearchProjection> findAllValidForSearch();
+
+}
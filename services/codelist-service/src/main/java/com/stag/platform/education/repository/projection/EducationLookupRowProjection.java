@@ -0,0 +1,39 @@
+package com.stag.platform.education.repository.projection;
+
+/// **Education Lookup Row Projection**
+///
+/// Row of the composite education lookup query, either a high school address or a field of study name.
+///
+/// @param part Lookup part ([#HIGH_SCHOOL] or [#FIELD_OF_STUDY])
+/// @param id High school ID or field of study number
+/// @param name High school or field of study name
+/// @param street Street address of the high school
+/// @param zipCode Zip code of the high school
+/// @param municipality Municipality name of the high school
+/// @param district District name of the high school
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record EducationLookupRowProjection(
+    String part,
+    String id,
+    String name,
+    String street,
+    String zipCode,
+    String municipality,
+    String district
+) {
+
+    /// Part of a high school address row
+    public static final String HIGH_SCHOOL = "HIGH_SCHOOL";
+    /// Part of a field of study name row
+    public static final String FIELD_OF_STUDY = "FIELD_OF_STUDY";
+
+    /// Converts a high school row to a high school address projection.
+    ///
+    /// @return High school address projection
+    public HighSchoolAddressProjection toAddress() {
+        return new HighSchoolAddressProjection(name, street, zipCode, municipality, district);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.stag.platform.education.repository.projection;
+
+/// **High School Address Row Projection**
+///
+/// Projection for high school address information together with the high school ID.
+///
+/// @param id High school ID
+/// @param name High school name
+/// @param street Street address
+/// @param zipCode Zip code
+/// @param municipality Municipality name
+/// @param district District name
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record HighSchoolAddressRowProjection(
+    String id,
+    String name,
+    String street,
+    String zipCode,
+    String municipality,
+    String district
+) {
+
+    /// Converts the row to a high school address projection.
+    ///
+    /// @return High school address projection
+    public HighSchoolAddressProjection toAddress() {
+        return new HighSchoolAddressProjection(name, street, zipCode, municipality, district);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.stag.platform.education.repository.projection;
+
+/// **High School Field Of Study Name Projection**
+///
+/// Projection for field of study ID and name.
+///
+/// @param id Field of study ID
+/// @param name Field of study name
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record HighSchoolFieldOfStudyNameProjection(
+    String id,
+    String name
+) {
+
+}
@@ -0,0 +1,31 @@
+package com.stag.platform.education.repository.projection;
+
+/// **High School Search Projection**
+///
+/// Projection for high school typeahead search results.
+///
+/// @param id High school ID
+/// @param name High school name
+/// @param municipality Municipality name
+/// @param district District name
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record HighSchoolSearchProjection(
+    String id,
+    String name,
+    String municipality,
+    String district
+) {
+
+    /// Returns the location text searched next to the name.
+    ///
+    /// @return Municipality and district names
+    public String location() {
+        if (municipality == null) {
+            return district;
+        }
+        return district == null ? municipality : municipality + " " + district;
+    }
+
+}
@@ -1,12 +1,19 @@
 package com.stag.platform.education.service;
 
 import com.stag.platform.education.exception.HighSchoolFieldOfStudyNotFoundException;
+import com.stag.platform.education.index.EducationSearchIndexService;
 import com.stag.platform.education.repository.HighSchoolFieldOfStudyRepository;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /// **High School Field Of Study Service**
 ///
 /// Manages high school field of study data retrieval.
@@ -20,6 +27,8 @@ public class HighSchoolFieldOfStudyService {
 
     /// High School Field of Study Repository
     private final HighSchoolFieldOfStudyRepository fieldOfStudyRepository;
+    /// Education Search Index Service
+    private final EducationSearchIndexService searchIndexService;
 
     /// Retrieves a field of study name by its number.
     ///
@@ -34,4 +43,29 @@ public class HighSchoolFieldOfStudyService {
                                      .orElseThrow(() -> new HighSchoolFieldOfStudyNotFoundException(fieldOfStudyNumber));
     }
 
+    /// Retrieves field of study names for multiple field of study numbers.
+    ///
+    /// @param fieldOfStudyNumbers Collection of field of study identifiers
+    /// @return Map of found field of study numbers to names, unknown numbers are omitted
+    @Transactional(readOnly = true)
+    public Map<String, String> findFieldOfStudyNames(Collection<String> fieldOfStudyNumbers) {
+        log.info("Finding field of study names for {} numbers", fieldOfStudyNumbers.size());
+
+        Map<String, String> names = HashMap.newHashMap(fieldOfStudyNumbers.size());
+        for (HighSchoolFieldOfStudyNameProjection fieldOfStudy : fieldOfStudyRepository.findNamesByIds(fieldOfStudyNumbers)) {
+            names.put(fieldOfStudy.id(), fieldOfStudy.name());
+        }
+        return names;
+    }
+
+    /// Searches fields of study by name and code.
+    ///
+    /// @param query Typeahead query
+    /// @param limit Maximum number of results
+    /// @return Best matching fields of study
+    public List<HighSchoolFieldOfStudyNameProjection> searchFieldsOfStudy(String query, int limit) {
+        log.info("Searching fields of study, limit: {}", limit);
+        return searchIndexService.fieldsOfStudy().search(query, limit);
+    }
+
 }
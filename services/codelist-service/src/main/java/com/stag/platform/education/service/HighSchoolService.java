@@ -1,13 +1,24 @@
 package com.stag.platform.education.service;
 
+import com.stag.platform.education.exception.HighSchoolFieldOfStudyNotFoundException;
 import com.stag.platform.education.exception.HighSchoolNotFoundException;
+import com.stag.platform.education.index.EducationSearchIndexService;
 import com.stag.platform.education.repository.HighSchoolRepository;
+import com.stag.platform.education.repository.projection.EducationLookupRowProjection;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.education.repository.projection.HighSchoolAddressRowProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
+import com.stag.platform.education.service.dto.EducationLookup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /// **High School Service**
 ///
 /// Manages high school data retrieval.
@@ -21,6 +32,8 @@ public class HighSchoolService {
 
     /// High School Repository
     private final HighSchoolRepository highSchoolRepository;
+    /// Education Search Index Service
+    private final EducationSearchIndexService searchIndexService;
 
     /// Retrieves high school address information by ID.
     ///
@@ -35,4 +48,62 @@ public class HighSchoolService {
                                    .orElseThrow(() -> new HighSchoolNotFoundException(highSchoolId));
     }
 
+    /// Retrieves high school address information for multiple schools.
+    ///
+    /// @param highSchoolIds Collection of high school identifiers
+    /// @return Map of found high school IDs to address projections, unknown IDs are omitted
+    @Transactional(readOnly = true)
+    public Map<String, HighSchoolAddressProjection> findHighSchoolAddressesByIds(Collection<String> highSchoolIds) {
+        log.info("Finding high school addresses for {} IDs", highSchoolIds.size());
+
+        return highSchoolRepository.findHighSchoolAddressesByIds(highSchoolIds)
+                                   .stream()
+                                   .collect(Collectors.toMap(
+                                       HighSchoolAddressRowProjection::id,
+                                       HighSchoolAddressRowProjection::toAddress
+                                   ));
+    }
+
+    /// Retrieves a high school address and a field of study name with a single query.
+    ///
+    /// @param highSchoolId High school identifier, null to skip the high school
+    /// @param fieldOfStudyNumber Field of study identifier, null to skip the field of study
+    /// @return Education lookup with the requested parts
+    /// @throws HighSchoolNotFoundException if the high school is not found
+    /// @throws HighSchoolFieldOfStudyNotFoundException if the field of study is not found
+    @Transactional(readOnly = true)
+    public EducationLookup findEducationLookup(String highSchoolId, String fieldOfStudyNumber) {
+        log.info("Finding education lookup for high school: {}, field of study: {}", highSchoolId, fieldOfStudyNumber);
+
+        HighSchoolAddressProjection highSchoolAddress = null;
+        String fieldOfStudyName = null;
+
+        for (EducationLookupRowProjection row : highSchoolRepository.findEducationLookupRows(highSchoolId, fieldOfStudyNumber)) {
+            if (EducationLookupRowProjection.HIGH_SCHOOL.equals(row.part())) {
+                highSchoolAddress = row.toAddress();
+            } else {
+                fieldOfStudyName = row.name();
+            }
+        }
+
+        if (highSchoolId != null && highSchoolAddress == null) {
+            throw new HighSchoolNotFoundException(highSchoolId);
+        }
+        if (fieldOfStudyNumber != null && fieldOfStudyName == null) {
+            throw new HighSchoolFieldOfStudyNotFoundException(fieldOfStudyNumber);
+        }
+
+        return new EducationLookup(highSchoolAddress, fieldOfStudyName);
+    }
+
+    /// Searches high schools by name, municipality and district.
+    ///
+    /// @param query Typeahead query
+    /// @param limit Maximum number of results
+    /// @return Best matching high schools
+    public List<HighSchoolSearchProjection> searchHighSchools(String query, int limit) {
+        log.info("Searching high schools, limit: {}", limit);
+        return searchIndexService.highSchools().search(query, limit);
+    }
+
 }
@@ -0,0 +1,18 @@
+package com.stag.platform.education.service.dto;
+
+import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+
+/// **Education Lookup**
+///
+/// DTO containing the high school address and field of study name of a person.
+///
+/// @param highSchoolAddress High school address, null if not requested
+/// @param fieldOfStudyName Field of study name, null if not requested
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record EducationLookup(
+    HighSchoolAddressProjection highSchoolAddress,
+    String fieldOfStudyName
+) {
+}
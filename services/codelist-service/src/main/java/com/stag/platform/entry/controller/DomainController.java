@@ -4,8 +4,8 @@ import com.stag.platform.api.DomainsApi;
 import com.stag.platform.api.dto.DomainListResponse;
 import com.stag.platform.api.dto.DomainValueListResponse;
 import com.stag.platform.entry.mapper.DomainApiMapper;
-import com.stag.platform.entry.repository.projection.DomainValueView;
 import com.stag.platform.entry.service.DomainService;
+import com.stag.platform.shared.http.ConditionalResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -28,20 +28,27 @@ public class DomainController implements DomainsApi {
 
     /// Domain Service
     private final DomainService domainService;
+    /// Conditional Responses
+    private final ConditionalResponses conditionalResponses;
 
     /// Retrieves all values for a specific domain.
+    /// Answers `304 Not Modified` when the client already has the current values.
     ///
     /// @param domain Domain name
     /// @param acceptLanguage Language code from Accept-Language header
+    /// @param ifNoneMatch ETag from the If-None-Match header
     /// @return Response containing domain values
     @Override
-    public ResponseEntity<DomainValueListResponse> getDomainValues(String domain, String acceptLanguage) {
+    public ResponseEntity<DomainValueListResponse> getDomainValues(String domain, String acceptLanguage, String ifNoneMatch) {
         log.info("Domain values requested for domain: {} in language: {}", domain, acceptLanguage);
 
-        List<DomainValueView> domainValues = domainService.getDomainValues(domain, acceptLanguage);
-        DomainValueListResponse domainValuesResponse = DomainApiMapper.INSTANCE.toDomainValueListResponse(domainValues);
-
-        return ResponseEntity.ok(domainValuesResponse);
+        return conditionalResponses.respond(
+            "domain-values",
+            List.of(domain, acceptLanguage),
+            ifNoneMatch,
+            () -> domainService.getDomainValues(domain, acceptLanguage),
+            DomainApiMapper.INSTANCE::toDomainValueListResponse
+        );
     }
 
     /// Retrieves all available domain names.
@@ -2,7 +2,9 @@ package com.stag.platform.entry.repository;
 
 import com.stag.platform.entry.entity.CodelistEntry;
 import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.projection.CodelistEntryLookupProjection;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
 import com.stag.platform.entry.repository.projection.DomainValueView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -74,4 +76,44 @@ public interface CodelistEntryRepository extends JpaRepository<CodelistEntry, Co
     )
     List<CodelistEntryMeaningProjection> findCodelistEntriesByIds(Collection<CodelistEntryId> ids, String language);
 
+    /// Retrieves all valid codelist entries with both Czech and English meanings.
+    ///
+    /// Used to build the in-memory codelist snapshot.
+    ///
+    /// @return List of codelist entry translation projections
+    @Query(
+        """
+        SELECT
+            ce.id,
+            ce.meaningCz,
+            ce.meaningEn
+        FROM
+            CodelistEntry ce
+        WHERE
+            ce.isValid != 'N'
+        """
+    )
+    List<CodelistEntryTranslationProjection> findAllValidTranslations();
+
+    /// Retrieves codelist entries of the given domains with all values a meaning can be matched against.
+    ///
+    /// Used to build the in-memory meaning to low value index.
+    ///
+    /// @param domains Collection of domain names
+    /// @return List of codelist entry lookup projections
+    @Query(
+        """
+        SELECT
+            ce.id,
+            ce.abbreviation,
+            ce.meaningCz,
+            ce.meaningEn
+        FROM
+            CodelistEntry ce
+        WHERE
+            ce.id.domain IN :domains
+        """
+    )
+    List<CodelistEntryLookupProjection> findLookupsByDomains(Collection<String> domains);
+
 }
@@ -0,0 +1,23 @@
+package com.stag.platform.entry.repository.projection;
+
+import com.stag.platform.entry.entity.CodelistEntryId;
+
+/// **Codelist Entry Lookup Projection**
+///
+/// Projection for codelist entry ID with all values a meaning can be matched against.
+///
+/// @param id Codelist entry ID
+/// @param abbreviation Abbreviation
+/// @param meaningCz Czech meaning
+/// @param meaningEn English meaning
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistEntryLookupProjection(
+    CodelistEntryId id,
+    String abbreviation,
+    String meaningCz,
+    String meaningEn
+) {
+
+}
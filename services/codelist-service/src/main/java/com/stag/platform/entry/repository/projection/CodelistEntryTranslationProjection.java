@@ -0,0 +1,21 @@
+package com.stag.platform.entry.repository.projection;
+
+import com.stag.platform.entry.entity.CodelistEntryId;
+
+/// **Codelist Entry Translation Projection**
+///
+/// Projection for codelist entry ID with both Czech and English meanings.
+///
+/// @param id Codelist entry ID
+/// @param meaningCz Czech meaning
+/// @param meaningEn English meaning
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistEntryTranslationProjection(
+    CodelistEntryId id,
+    String meaningCz,
+    String meaningEn
+) {
+
+}
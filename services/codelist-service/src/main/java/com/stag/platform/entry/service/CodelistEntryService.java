@@ -8,12 +8,16 @@ import com.stag.platform.entry.exception.CodelistMeaningsNotFoundException.Missi
 import com.stag.platform.entry.repository.CodelistEntryRepository;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
 import com.stag.platform.entry.repository.specification.CodelistEntrySpecification;
+import com.stag.platform.entry.service.dto.CodelistMeaningsLookup;
 import com.stag.platform.entry.service.dto.PersonProfileLowValues;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshot;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshot.LocalizedMeaning;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshotService;
+import com.stag.platform.entry.snapshot.CodelistMeaningIndex;
 import com.stag.platform.shared.grpc.model.CodelistDomain;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,18 +37,21 @@ public class CodelistEntryService {
 
     /// Codelist Entry Repository
     private final CodelistEntryRepository codelistEntryRepository;
+    /// Codelist Entry Snapshot Service
+    private final CodelistEntrySnapshotService snapshotService;
 
     /// Retrieves codelist entry meanings by their composite IDs.
     ///
+    /// Entries are resolved from the in-memory snapshot, only IDs missing from it are queried from the database.
+    ///
     /// @param entryIds List of codelist entry IDs
     /// @param language Language code ('cs' or 'en')
     /// @return List of codelist entry meaning projections
     /// @throws CodelistEntriesNotFoundException if any IDs are missing
-    @Transactional(readOnly = true)
     public List<CodelistEntryMeaningProjection> findMeaningsByIds(List<CodelistEntryId> entryIds, String language) {
         log.info("Finding codelist entry meanings for {} IDs in language: {}", entryIds.size(), language);
 
-        List<CodelistEntryMeaningProjection> foundEntries = codelistEntryRepository.findCodelistEntriesByIds(entryIds, language);
+        List<CodelistEntryMeaningProjection> foundEntries = lookupMeanings(entryIds, language);
 
         ensureAllEntriesWereFound(entryIds, foundEntries);
 
@@ -52,6 +59,58 @@ public class CodelistEntryService {
         return foundEntries;
     }
 
+    /// Looks up codelist entry meanings for a bulk of IDs without failing on missing entries.
+    ///
+    /// Duplicate IDs are resolved once. IDs missing from the snapshot are queried from the database in a single IN-list query.
+    ///
+    /// @param entryIds List of codelist entry IDs
+    /// @param language Language code ('cs' or 'en')
+    /// @return Found meanings and IDs without a codelist entry
+    public CodelistMeaningsLookup lookupMeaningsByIds(List<CodelistEntryId> entryIds, String language) {
+        log.info("Looking up codelist entry meanings for {} IDs in language: {}", entryIds.size(), language);
+
+        List<CodelistEntryId> distinctIds = entryIds.stream()
+                                                    .distinct()
+                                                    .toList();
+
+        List<CodelistEntryMeaningProjection> foundEntries = lookupMeanings(distinctIds, language);
+        List<CodelistEntryId> missingIds = foundEntries.size() == distinctIds.size()
+            ? List.of()
+            : getMissingIds(distinctIds, foundEntries);
+
+        log.debug("Found {} codelist entry meanings, {} missing", foundEntries.size(), missingIds.size());
+        return new CodelistMeaningsLookup(foundEntries, missingIds);
+    }
+
+    /// Resolves codelist entry meanings from the snapshot, falling back to the database for snapshot misses.
+    ///
+    /// @param entryIds List of codelist entry IDs
+    /// @param language Language code ('cs' or 'en')
+    /// @return List of found codelist entry meaning projections
+    private List<CodelistEntryMeaningProjection> lookupMeanings(List<CodelistEntryId> entryIds, String language) {
+        CodelistEntrySnapshot snapshot = snapshotService.current();
+
+        List<CodelistEntryMeaningProjection> foundEntries = new ArrayList<>(entryIds.size());
+        List<CodelistEntryId> snapshotMisses = new ArrayList<>();
+
+        for (CodelistEntryId entryId : entryIds) {
+            LocalizedMeaning localizedMeaning = snapshot.find(entryId);
+
+            if (localizedMeaning == null) {
+                snapshotMisses.add(entryId);
+            } else {
+                foundEntries.add(new CodelistEntryMeaningProjection(entryId, localizedMeaning.resolve(language)));
+            }
+        }
+
+        if (!snapshotMisses.isEmpty()) {
+            log.debug("{} codelist entries not in snapshot version {}, querying database", snapshotMisses.size(), snapshot.version());
+            foundEntries.addAll(codelistEntryRepository.findCodelistEntriesByIds(snapshotMisses, language));
+        }
+
+        return foundEntries;
+    }
+
     /// Validates that all requested codelist entries were found.
     ///
     /// @throws CodelistEntriesNotFoundException if any IDs are missing
@@ -84,15 +143,60 @@ public class CodelistEntryService {
 
     /// Finds low values for person profile codelist entries by their meanings.
     ///
+    /// Meanings are resolved from the reverse meaning index of the in-memory snapshot.
+    /// Meanings missing from the index, such as entries added after the snapshot was loaded,
+    /// and all meanings until the first snapshot is loaded are queried from the database.
+    ///
     /// @param maritalStatus Marital status meaning
     /// @param titlePrefix Title prefix meaning
     /// @param titleSuffix Title suffix meaning
     /// @return Person profile low values
     /// @throws CodelistMeaningsNotFoundException if any meanings are not found
-    @Transactional(readOnly = true)
     public PersonProfileLowValues findPersonProfileLowValues(String maritalStatus, String titlePrefix, String titleSuffix) {
         log.info("Finding person profile low values for maritalStatus: {}, titlePrefix: {}, titleSuffix: {}", maritalStatus, titlePrefix, titleSuffix);
-        
+
+        CodelistEntrySnapshot snapshot = snapshotService.current();
+
+        if (snapshot.version() == 0) {
+            return findPersonProfileLowValuesInDatabase(maritalStatus, titlePrefix, titleSuffix);
+        }
+
+        CodelistMeaningIndex meaningIndex = snapshot.meaningIndex();
+
+        String maritalStatusLowValue = findLowValue(meaningIndex, CodelistDomain.STAV, maritalStatus);
+        String titlePrefixLowValue = findLowValue(meaningIndex, CodelistDomain.TITUL_PRED, titlePrefix);
+        String titleSuffixLowValue = findLowValue(meaningIndex, CodelistDomain.TITUL_ZA, titleSuffix);
+
+        if (isUnresolved(maritalStatus, maritalStatusLowValue)
+            || isUnresolved(titlePrefix, titlePrefixLowValue)
+            || isUnresolved(titleSuffix, titleSuffixLowValue)) {
+            log.debug("Meanings missing from snapshot version {}, querying the database", snapshot.version());
+
+            PersonProfileLowValues queried = findPersonProfileLowValuesInDatabase(
+                maritalStatusLowValue == null ? maritalStatus : null,
+                titlePrefixLowValue == null ? titlePrefix : null,
+                titleSuffixLowValue == null ? titleSuffix : null
+            );
+
+            return new PersonProfileLowValues(
+                maritalStatusLowValue != null ? maritalStatusLowValue : queried.maritalStatusLowValue(),
+                titlePrefixLowValue != null ? titlePrefixLowValue : queried.titlePrefixLowValue(),
+                titleSuffixLowValue != null ? titleSuffixLowValue : queried.titleSuffixLowValue()
+            );
+        }
+
+        log.debug("Successfully found person profile low values in snapshot version {}", snapshot.version());
+        return new PersonProfileLowValues(maritalStatusLowValue, titlePrefixLowValue, titleSuffixLowValue);
+    }
+
+    /// Finds low values for person profile codelist entries by querying the database.
+    ///
+    /// @param maritalStatus Marital status meaning
+    /// @param titlePrefix Title prefix meaning
+    /// @param titleSuffix Title suffix meaning
+    /// @return Person profile low values
+    /// @throws CodelistMeaningsNotFoundException if any meanings are not found
+    private PersonProfileLowValues findPersonProfileLowValuesInDatabase(String maritalStatus, String titlePrefix, String titleSuffix) {
         List<CodelistEntry> entries = codelistEntryRepository.findAll(
             CodelistEntrySpecification.byPersonProfileCriteria(maritalStatus, titlePrefix, titleSuffix)
         );
@@ -111,6 +215,24 @@ public class CodelistEntryService {
         return new PersonProfileLowValues(maritalStatusLowValue, titlePrefixLowValue, titleSuffixLowValue);
     }
 
+    /// Finds low value for a specific domain and meaning in the meaning index.
+    ///
+    /// @return Low value or null if the meaning is blank or not indexed
+    private String findLowValue(CodelistMeaningIndex meaningIndex, CodelistDomain domain, String meaning) {
+        if (meaning == null || meaning.isBlank()) {
+            return null;
+        }
+
+        return meaningIndex.findLowValue(domain, meaning);
+    }
+
+    /// Checks whether a requested meaning was not resolved.
+    ///
+    /// @return True if the meaning is not blank and has no low value
+    private boolean isUnresolved(String meaning, String lowValue) {
+        return lowValue == null && meaning != null && !meaning.isBlank();
+    }
+
     /// Finds low value for a specific domain and meaning, collecting missing entries.
     ///
     /// @return Low value or null if not found
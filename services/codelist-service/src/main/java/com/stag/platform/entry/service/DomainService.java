@@ -3,6 +3,7 @@ package com.stag.platform.entry.service;
 import com.stag.platform.entry.repository.CodelistEntryRepository;
 import com.stag.platform.entry.repository.DomainRepository;
 import com.stag.platform.entry.repository.projection.DomainValueView;
+import com.stag.platform.shared.http.ETaggedContent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -28,15 +29,27 @@ public class DomainService {
     private final DomainRepository domainRepository;
 
     /// Retrieves all values for a specific domain in the given language.
+    /// The ETag is computed once when the cache entry is built.
     ///
     /// @param domain Domain name
     /// @param language Language code ('cs' or 'en')
-    /// @return List of domain value views
+    /// @return List of domain value views with ETag
     @Cacheable(value = "domain-values", key = "{#domain, #language}")
     @Transactional(readOnly = true)
-    public List<DomainValueView> getDomainValues(String domain, String language) {
+    public ETaggedContent<List<DomainValueView>> getDomainValues(String domain, String language) {
+        return loadDomainValues(domain, language);
+    }
+
+    /// Loads all values for a specific domain without going through the cache,
+    /// used to refresh hot entries of the `domain-values` cache ahead of expiration.
+    ///
+    /// @param domain Domain name
+    /// @param language Language code ('cs' or 'en')
+    /// @return List of domain value views with ETag
+    @Transactional(readOnly = true)
+    public ETaggedContent<List<DomainValueView>> loadDomainValues(String domain, String language) {
         log.info("Fetching domain values for domain: {} in language: {}", domain, language);
-        return codelistEntryRepository.findDomainValuesByDomain(domain, language);
+        return ETaggedContent.of(codelistEntryRepository.findDomainValuesByDomain(domain, language));
     }
 
     /// Retrieves all domain names.
@@ -45,6 +58,15 @@ public class DomainService {
     @Cacheable(value = "domains")
     @Transactional(readOnly = true)
     public List<String> getDomains() {
+        return loadDomains();
+    }
+
+    /// Loads all domain names without going through the cache,
+    /// used to refresh the `domains` cache ahead of expiration.
+    ///
+    /// @return List of domain names
+    @Transactional(readOnly = true)
+    public List<String> loadDomains() {
         log.info("Fetching all domain names");
         return domainRepository.findAllDomainNames();
     }
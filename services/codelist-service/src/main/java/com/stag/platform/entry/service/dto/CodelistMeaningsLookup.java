@@ -0,0 +1,21 @@
+package com.stag.platform.entry.service.dto;
+
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
+
+import java.util.List;
+
+/// **Codelist Meanings Lookup**
+///
+/// DTO containing the result of a bulk codelist meanings lookup.
+///
+/// @param meanings Found codelist entry meanings
+/// @param missingIds IDs without a codelist entry
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistMeaningsLookup(
+    List<CodelistEntryMeaningProjection> meanings,
+    List<CodelistEntryId> missingIds
+) {
+}
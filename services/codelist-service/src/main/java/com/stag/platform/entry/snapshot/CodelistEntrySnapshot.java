@@ -0,0 +1,113 @@
+package com.stag.platform.entry.snapshot;
+
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.projection.CodelistEntryLookupProjection;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// **Codelist Entry Snapshot**
+///
+/// Immutable in-memory copy of all valid codelist entries keyed by their composite ID,
+/// together with the reverse meaning to low value index of the person profile domains.
+/// A snapshot is never modified after creation; refreshes build a new instance and swap it atomically.
+///
+/// @param version Monotonic snapshot version (0 for the empty snapshot)
+/// @param loadedAt Time when the snapshot was loaded
+/// @param entries Codelist entry ID to localized meanings map
+/// @param meaningIndex Meaning to low value index
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistEntrySnapshot(
+    long version,
+    Instant loadedAt,
+    Map<CodelistEntryId, LocalizedMeaning> entries,
+    CodelistMeaningIndex meaningIndex
+) {
+
+    /// Empty snapshot used before the first successful load
+    private static final CodelistEntrySnapshot EMPTY = new CodelistEntrySnapshot(0, Instant.EPOCH, Map.of(), CodelistMeaningIndex.empty());
+
+    /// **Localized Meaning**
+    ///
+    /// Czech and English meanings of a single codelist entry.
+    ///
+    /// @param meaningCz Czech meaning
+    /// @param meaningEn English meaning
+    public record LocalizedMeaning(
+        String meaningCz,
+        String meaningEn
+    ) {
+
+        /// Resolves the meaning for a language, falling back to Czech when English translation is unavailable.
+        ///
+        /// @param language Language code ('cs' or 'en')
+        /// @return Language-specific meaning
+        public String resolve(String language) {
+            if ("en".equals(language) && meaningEn != null) {
+                return meaningEn;
+            }
+            return meaningCz;
+        }
+
+    }
+
+    /// Returns the empty snapshot.
+    ///
+    /// @return Snapshot without any entries
+    public static CodelistEntrySnapshot empty() {
+        return EMPTY;
+    }
+
+    /// Builds a snapshot from translation projections.
+    ///
+    /// @param version Snapshot version
+    /// @param loadedAt Time when the rows were loaded
+    /// @param rows Codelist entry translation projections
+    /// @return Immutable snapshot
+    public static CodelistEntrySnapshot of(long version, Instant loadedAt, List<CodelistEntryTranslationProjection> rows) {
+        return of(version, loadedAt, rows, List.of());
+    }
+
+    /// Builds a snapshot from translation and lookup projections.
+    ///
+    /// @param version Snapshot version
+    /// @param loadedAt Time when the rows were loaded
+    /// @param rows Codelist entry translation projections
+    /// @param lookupRows Codelist entry lookup projections of the person profile domains
+    /// @return Immutable snapshot
+    public static CodelistEntrySnapshot of(
+        long version,
+        Instant loadedAt,
+        List<CodelistEntryTranslationProjection> rows,
+        List<CodelistEntryLookupProjection> lookupRows
+    ) {
+        Map<CodelistEntryId, LocalizedMeaning> entries = HashMap.newHashMap(rows.size());
+
+        for (CodelistEntryTranslationProjection row : rows) {
+            entries.put(row.id(), new LocalizedMeaning(row.meaningCz(), row.meaningEn()));
+        }
+
+        return new CodelistEntrySnapshot(version, loadedAt, Map.copyOf(entries), CodelistMeaningIndex.of(lookupRows));
+    }
+
+    /// Finds the localized meanings of a codelist entry.
+    ///
+    /// @param id Codelist entry ID
+    /// @return Localized meanings or null if the entry is not part of the snapshot
+    public LocalizedMeaning find(CodelistEntryId id) {
+        return entries.get(id);
+    }
+
+    /// Returns the number of entries in the snapshot.
+    ///
+    /// @return Entry count
+    public int size() {
+        return entries.size();
+    }
+
+}
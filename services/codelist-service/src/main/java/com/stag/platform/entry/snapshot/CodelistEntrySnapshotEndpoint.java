@@ -0,0 +1,68 @@
+package com.stag.platform.entry.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/// **Codelist Entry Snapshot Endpoint**
+///
+/// Actuator endpoint exposing the state of the codelist entry snapshot and allowing an on-demand refresh.
+/// Available over JMX only, so a refresh cannot be triggered through the unauthenticated actuator web paths.
+///
+/// - `snapshot` - current snapshot version, load time and size
+/// - `refresh` - reloads the snapshot from the database
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@RequiredArgsConstructor
+@Component
+@JmxEndpoint(id = "codelistsnapshot")
+public class CodelistEntrySnapshotEndpoint {
+
+    /// Codelist Entry Snapshot Service
+    private final CodelistEntrySnapshotService snapshotService;
+
+    /// **Snapshot Info**
+    ///
+    /// Summary of a codelist entry snapshot.
+    ///
+    /// @param version Snapshot version
+    /// @param loadedAt Time when the snapshot was loaded
+    /// @param size Number of entries
+    public record SnapshotInfo(
+        long version,
+        Instant loadedAt,
+        int size
+    ) {
+
+        /// Creates snapshot info from a snapshot.
+        ///
+        /// @param snapshot Codelist entry snapshot
+        /// @return Snapshot info
+        static SnapshotInfo of(CodelistEntrySnapshot snapshot) {
+            return new SnapshotInfo(snapshot.version(), snapshot.loadedAt(), snapshot.size());
+        }
+
+    }
+
+    /// Returns information about the current snapshot.
+    ///
+    /// @return Current snapshot info
+    @ReadOperation
+    public SnapshotInfo snapshot() {
+        return SnapshotInfo.of(snapshotService.current());
+    }
+
+    /// Reloads the snapshot from the database.
+    ///
+    /// @return Snapshot info after the refresh
+    @WriteOperation
+    public SnapshotInfo refresh() {
+        return SnapshotInfo.of(snapshotService.refresh());
+    }
+
+}
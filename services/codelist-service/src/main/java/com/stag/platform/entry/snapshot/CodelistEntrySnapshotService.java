@@ -0,0 +1,125 @@
+package com.stag.platform.entry.snapshot;
+
+import com.stag.platform.entry.repository.CodelistEntryRepository;
+import com.stag.platform.entry.repository.projection.CodelistEntryLookupProjection;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+import com.stag.platform.shared.grpc.model.CodelistDomain;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// **Codelist Entry Snapshot Service**
+///
+/// Holds the current [CodelistEntrySnapshot] and periodically replaces it with a freshly loaded one.
+/// Readers always see a complete snapshot, the reference is swapped atomically after the new one is built.
+/// A refresh can also be triggered on demand through the `codelistsnapshot` actuator endpoint.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class CodelistEntrySnapshotService {
+
+    /// Domains included in the meaning to low value index
+    private static final List<String> MEANING_INDEX_DOMAINS = Arrays.stream(CodelistDomain.values())
+                                                                    .map(CodelistDomain::name)
+                                                                    .toList();
+
+    /// Codelist Entry Repository
+    private final CodelistEntryRepository codelistEntryRepository;
+    /// Timer measuring snapshot load and swap duration
+    private final Timer swapTimer;
+    /// Currently published snapshot
+    private final AtomicReference<CodelistEntrySnapshot> current = new AtomicReference<>(CodelistEntrySnapshot.empty());
+    /// Guards against concurrent refreshes (scheduled and on-demand)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /// Creates the snapshot service and registers its metrics.
+    ///
+    /// @param codelistEntryRepository Codelist entry repository
+    /// @param meterRegistry Meter registry
+    public CodelistEntrySnapshotService(CodelistEntryRepository codelistEntryRepository, MeterRegistry meterRegistry) {
+        this.codelistEntryRepository = codelistEntryRepository;
+
+        this.swapTimer = Timer.builder("codelist.snapshot.swap")
+                              .description("Time taken to load and swap the codelist entry snapshot")
+                              .register(meterRegistry);
+
+        Gauge.builder("codelist.snapshot.size", current, ref -> ref.get().size())
+             .description("Number of codelist entries in the current snapshot")
+             .register(meterRegistry);
+
+        TimeGauge.builder("codelist.snapshot.age", this, TimeUnit.SECONDS, service -> service.getAge().toSeconds())
+                 .description("Age of the current codelist entry snapshot")
+                 .register(meterRegistry);
+    }
+
+    /// Returns the currently published snapshot.
+    ///
+    /// @return Current snapshot, empty until the first successful load
+    public CodelistEntrySnapshot current() {
+        return current.get();
+    }
+
+    /// Returns the age of the current snapshot.
+    ///
+    /// @return Time elapsed since the current snapshot was loaded, zero if nothing was loaded yet
+    public Duration getAge() {
+        CodelistEntrySnapshot snapshot = current.get();
+
+        if (snapshot.version() == 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.between(snapshot.loadedAt(), Instant.now());
+    }
+
+    /// Loads all valid codelist entries and atomically swaps the current snapshot.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.snapshot.refresh-interval`.
+    /// Failures keep the previous snapshot in place.
+    ///
+    /// @return Snapshot that is current after the refresh
+    @Scheduled(fixedDelayString = "${codelist.snapshot.refresh-interval:PT1H}")
+    public CodelistEntrySnapshot refresh() {
+        refreshLock.lock();
+        try {
+            return swapTimer.record(this::loadAndSwap);
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh codelist entry snapshot, keeping version {}", current.get().version(), e);
+            return current.get();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /// Loads the rows and publishes a new snapshot.
+    ///
+    /// @return Newly published snapshot
+    private CodelistEntrySnapshot loadAndSwap() {
+        log.info("Loading codelist entry snapshot");
+
+        Instant loadedAt = Instant.now();
+        List<CodelistEntryTranslationProjection> rows = codelistEntryRepository.findAllValidTranslations();
+        List<CodelistEntryLookupProjection> lookupRows = codelistEntryRepository.findLookupsByDomains(MEANING_INDEX_DOMAINS);
+
+        CodelistEntrySnapshot snapshot = CodelistEntrySnapshot.of(current.get().version() + 1, loadedAt, rows, lookupRows);
+        current.set(snapshot);
+
+        log.info("Codelist entry snapshot version {} loaded with {} entries", snapshot.version(), snapshot.size());
+        return snapshot;
+    }
+
+}
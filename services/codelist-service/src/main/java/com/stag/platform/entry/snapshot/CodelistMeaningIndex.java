@@ -0,0 +1,145 @@
+package com.stag.platform.entry.snapshot;
+
+import com.stag.platform.entry.repository.projection.CodelistEntryLookupProjection;
+import com.stag.platform.shared.grpc.model.CodelistDomain;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/// **Codelist Meaning Index**
+///
+/// Immutable reverse index from (domain, meaning) to low value for the person profile domains ([CodelistDomain]).
+/// A meaning is matched against the abbreviation and the Czech and English meanings of every entry.
+///
+/// Lookups first try an exact match. If there is none, the meaning is normalized (trimmed, lower-cased,
+/// diacritics removed) and matched again, so "ženatý" and "Zenaty" resolve to the same entry.
+/// Normalized keys shared by entries with different low values are ambiguous and never resolved.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class CodelistMeaningIndex {
+
+    /// Empty index used before the first successful load
+    private static final CodelistMeaningIndex EMPTY = new CodelistMeaningIndex(Map.of(), Map.of());
+
+    /// Marker of a normalized key matching more than one low value
+    private static final String AMBIGUOUS = "";
+
+    /// Combining marks left after canonical decomposition
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    /// Whitespace sequences
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /// Exact meaning to low value maps per domain
+    private final Map<CodelistDomain, Map<String, String>> exact;
+    /// Normalized meaning to low value maps per domain
+    private final Map<CodelistDomain, Map<String, String>> normalized;
+
+    private CodelistMeaningIndex(Map<CodelistDomain, Map<String, String>> exact, Map<CodelistDomain, Map<String, String>> normalized) {
+        this.exact = exact;
+        this.normalized = normalized;
+    }
+
+    /// Returns the empty index.
+    ///
+    /// @return Index without any meanings
+    public static CodelistMeaningIndex empty() {
+        return EMPTY;
+    }
+
+    /// Builds an index from codelist entry lookup projections.
+    ///
+    /// Entries outside the person profile domains are ignored.
+    ///
+    /// @param rows Codelist entry lookup projections
+    /// @return Immutable index
+    public static CodelistMeaningIndex of(List<CodelistEntryLookupProjection> rows) {
+        Map<CodelistDomain, Map<String, String>> exact = new EnumMap<>(CodelistDomain.class);
+        Map<CodelistDomain, Map<String, String>> normalized = new EnumMap<>(CodelistDomain.class);
+
+        for (CodelistEntryLookupProjection row : rows) {
+            CodelistDomain domain = toDomain(row.id().getDomain());
+            if (domain == null) {
+                continue;
+            }
+
+            String lowValue = row.id().getLowValue();
+            Map<String, String> exactMeanings = exact.computeIfAbsent(domain, _ -> new HashMap<>());
+            Map<String, String> normalizedMeanings = normalized.computeIfAbsent(domain, _ -> new HashMap<>());
+
+            for (String meaning : new String[]{ row.abbreviation(), row.meaningCz(), row.meaningEn() }) {
+                if (meaning == null || meaning.isBlank()) {
+                    continue;
+                }
+
+                exactMeanings.putIfAbsent(meaning, lowValue);
+                normalizedMeanings.merge(normalize(meaning), lowValue, (a, b) -> a.equals(b) ? a : AMBIGUOUS);
+            }
+        }
+
+        return new CodelistMeaningIndex(freeze(exact), freeze(normalized));
+    }
+
+    /// Finds the low value of an entry matching the meaning.
+    ///
+    /// @param domain Codelist domain
+    /// @param meaning Meaning, abbreviation or English meaning
+    /// @return Low value or null if no entry (or more than one entry) matches
+    public String findLowValue(CodelistDomain domain, String meaning) {
+        String lowValue = exact.getOrDefault(domain, Map.of()).get(meaning);
+
+        if (lowValue != null) {
+            return lowValue;
+        }
+
+        lowValue = normalized.getOrDefault(domain, Map.of()).get(normalize(meaning));
+        return AMBIGUOUS.equals(lowValue) ? null : lowValue;
+    }
+
+    /// Returns the number of indexed meanings.
+    ///
+    /// @return Exact meaning count across all domains
+    public int size() {
+        return exact.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /// Normalizes a meaning for case- and diacritics-insensitive matching.
+    ///
+    /// @param meaning Meaning
+    /// @return Normalized meaning
+    static String normalize(String meaning) {
+        String decomposed = Normalizer.normalize(meaning.strip(), Normalizer.Form.NFD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutDiacritics).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /// Resolves a person profile domain by its name.
+    ///
+    /// @param domain Domain name
+    /// @return Codelist domain or null for other domains
+    private static CodelistDomain toDomain(String domain) {
+        for (CodelistDomain codelistDomain : CodelistDomain.values()) {
+            if (codelistDomain.name().equals(domain)) {
+                return codelistDomain;
+            }
+        }
+        return null;
+    }
+
+    /// Creates an immutable copy of per-domain maps.
+    ///
+    /// @param maps Per-domain maps
+    /// @return Immutable copy
+    private static Map<CodelistDomain, Map<String, String>> freeze(Map<CodelistDomain, Map<String, String>> maps) {
+        Map<CodelistDomain, Map<String, String>> frozen = new EnumMap<>(CodelistDomain.class);
+        maps.forEach((domain, meanings) -> frozen.put(domain, Map.copyOf(meanings)));
+        return frozen;
+    }
+
+}
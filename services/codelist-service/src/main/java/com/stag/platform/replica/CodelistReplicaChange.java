@@ -0,0 +1,55 @@
+package com.stag.platform.replica;
+
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshot.LocalizedMeaning;
+
+import java.util.List;
+import java.util.Map;
+
+/// **Codelist Replica Change**
+///
+/// Delta between two consecutive replica versions. A reset change carries no data and tells the client
+/// that its version cannot be continued and the snapshot has to be reloaded.
+///
+/// @param version Replica version after the change
+/// @param resetRequired Whether the client has to reload the snapshot
+/// @param upsertedEntries New and changed codelist entries
+/// @param removedEntries Removed codelist entry IDs
+/// @param upsertedCountries New and changed countries
+/// @param removedCountries Removed country IDs
+/// @param upsertedAddressPlaces New and changed address places
+/// @param removedAddressPlaces Removed municipality part IDs
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistReplicaChange(
+    long version,
+    boolean resetRequired,
+    Map<CodelistEntryId, LocalizedMeaning> upsertedEntries,
+    List<CodelistEntryId> removedEntries,
+    List<CountryTranslationProjection> upsertedCountries,
+    List<Integer> removedCountries,
+    List<AddressPlaceNameProjection> upsertedAddressPlaces,
+    List<Long> removedAddressPlaces
+) {
+
+    /// Creates a reset change.
+    ///
+    /// @param version Current replica version
+    /// @return Change requiring a snapshot reload
+    public static CodelistReplicaChange reset(long version) {
+        return new CodelistReplicaChange(version, true, Map.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    /// Checks whether the change carries no data.
+    ///
+    /// @return True if nothing was upserted or removed
+    public boolean isEmpty() {
+        return upsertedEntries.isEmpty() && removedEntries.isEmpty()
+            && upsertedCountries.isEmpty() && removedCountries.isEmpty()
+            && upsertedAddressPlaces.isEmpty() && removedAddressPlaces.isEmpty();
+    }
+
+}
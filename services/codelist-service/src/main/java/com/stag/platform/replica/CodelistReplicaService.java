@@ -0,0 +1,219 @@
+package com.stag.platform.replica;
+
+import com.stag.platform.address.repository.CountryRepository;
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.entry.repository.CodelistEntryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/// **Codelist Replica Service**
+///
+/// Source of the client replicas. Periodically reloads codelist entries, countries and address names,
+/// and when anything changed publishes a new [CodelistReplicaState] version together with the delta
+/// to the previous one. The last deltas are kept in a bounded change log, so a reconnecting client
+/// can catch up without reloading the whole snapshot.
+///
+/// Versions are local to this instance, which is identified by a random replica ID. A client that
+/// continues with a version of another instance (or one that already left the change log) is told
+/// to reload the snapshot.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class CodelistReplicaService {
+
+    /// Codelist Entry Repository
+    private final CodelistEntryRepository codelistEntryRepository;
+    /// Country Repository
+    private final CountryRepository countryRepository;
+    /// Municipality Part Repository
+    private final MunicipalityPartRepository municipalityPartRepository;
+    /// Maximum number of deltas kept for catching up
+    private final int changeLogSize;
+    /// Identifier of this replica source, versions are only comparable within it
+    private final String replicaId = UUID.randomUUID().toString();
+    /// Currently published state
+    private final AtomicReference<CodelistReplicaState> current = new AtomicReference<>(CodelistReplicaState.empty());
+    /// Latest deltas, oldest first
+    private final Deque<CodelistReplicaChange> changeLog = new ArrayDeque<>();
+    /// Listeners of published deltas (open watch streams)
+    private final List<Consumer<CodelistReplicaChange>> listeners = new CopyOnWriteArrayList<>();
+    /// Guards the state, the change log and listener registration
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /// Creates the replica service and registers its metrics.
+    ///
+    /// @param codelistEntryRepository Codelist entry repository
+    /// @param countryRepository Country repository
+    /// @param municipalityPartRepository Municipality part repository
+    /// @param meterRegistry Meter registry
+    /// @param changeLogSize Maximum number of deltas kept for catching up
+    public CodelistReplicaService(
+        CodelistEntryRepository codelistEntryRepository,
+        CountryRepository countryRepository,
+        MunicipalityPartRepository municipalityPartRepository,
+        MeterRegistry meterRegistry,
+        @Value("${codelist.replica.change-log-size:100}") int changeLogSize
+    ) {
+        this.codelistEntryRepository = codelistEntryRepository;
+        this.countryRepository = countryRepository;
+        this.municipalityPartRepository = municipalityPartRepository;
+        this.changeLogSize = changeLogSize;
+
+        Gauge.builder("codelist.replica.version", current, ref -> ref.get().version())
+             .description("Version of the published codelist replica state")
+             .register(meterRegistry);
+
+        Gauge.builder("codelist.replica.watchers", listeners, List::size)
+             .description("Number of open codelist change streams")
+             .register(meterRegistry);
+    }
+
+    /// Returns the identifier of this replica source.
+    ///
+    /// @return Replica ID
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    /// Returns the currently published state.
+    ///
+    /// @return Current state, empty until the first successful load
+    public CodelistReplicaState current() {
+        return current.get();
+    }
+
+    /// Reloads the replicated data and publishes a new version if anything changed.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.replica.refresh-interval`.
+    /// Failures keep the current version in place.
+    ///
+    /// @return State that is current after the refresh
+    @Scheduled(fixedDelayString = "${codelist.replica.refresh-interval:PT5M}")
+    public CodelistReplicaState refresh() {
+        try {
+            CodelistReplicaState previous = current.get();
+            CodelistReplicaState loaded = CodelistReplicaState.of(
+                previous.version() + 1,
+                Instant.now(),
+                codelistEntryRepository.findAllValidTranslations(),
+                countryRepository.findAllTranslations(),
+                municipalityPartRepository.findAllAddressNames()
+            );
+
+            publish(previous, loaded);
+            return current.get();
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh codelist replica state, keeping version {}", current.get().version(), e);
+            return current.get();
+        }
+    }
+
+    /// Subscribes to deltas newer than a client version.
+    ///
+    /// Deltas still in the change log are delivered before the method returns, later ones as they are published.
+    /// If the client version cannot be continued, a single reset change is delivered instead.
+    ///
+    /// @param clientReplicaId Replica ID the client version belongs to
+    /// @param fromVersion Last version applied by the client
+    /// @param listener Listener of deltas
+    /// @return Callback removing the subscription
+    public Runnable subscribe(String clientReplicaId, long fromVersion, Consumer<CodelistReplicaChange> listener) {
+        lock.lock();
+        try {
+            long version = current.get().version();
+
+            if (canContinue(clientReplicaId, fromVersion)) {
+                changeLog.stream()
+                         .filter(change -> change.version() > fromVersion)
+                         .forEach(listener);
+            } else {
+                log.debug("Client version {} of replica {} cannot be continued, requesting reset", fromVersion, clientReplicaId);
+                listener.accept(CodelistReplicaChange.reset(version));
+            }
+
+            listeners.add(listener);
+        } finally {
+            lock.unlock();
+        }
+
+        return () -> listeners.remove(listener);
+    }
+
+    /// Publishes a loaded state if it differs from the previous one.
+    ///
+    /// @param previous Previously published state
+    /// @param loaded Newly loaded state
+    private void publish(CodelistReplicaState previous, CodelistReplicaState loaded) {
+        lock.lock();
+        try {
+            if (previous.version() == 0) {
+                current.set(loaded);
+                log.info("Codelist replica state version {} loaded with {} records", loaded.version(), loaded.size());
+                listeners.forEach(listener -> notify(listener, CodelistReplicaChange.reset(loaded.version())));
+                return;
+            }
+
+            CodelistReplicaChange change = loaded.changesSince(previous);
+            if (change.isEmpty()) {
+                log.debug("Codelist replica state version {} is up to date", previous.version());
+                return;
+            }
+
+            current.set(loaded);
+            changeLog.addLast(change);
+            while (changeLog.size() > changeLogSize) {
+                changeLog.removeFirst();
+            }
+
+            log.info("Codelist replica state version {} published to {} watchers", loaded.version(), listeners.size());
+            listeners.forEach(listener -> notify(listener, change));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Delivers a change to a listener, a failing listener does not affect the others.
+    ///
+    /// @param listener Listener of deltas
+    /// @param change Published change
+    private void notify(Consumer<CodelistReplicaChange> listener, CodelistReplicaChange change) {
+        try {
+            listener.accept(change);
+        } catch (RuntimeException e) {
+            log.warn("Failed to deliver codelist replica version {}, dropping watcher", change.version(), e);
+            listeners.remove(listener);
+        }
+    }
+
+    /// Checks whether the change log continues a client version.
+    ///
+    /// @param clientReplicaId Replica ID the client version belongs to
+    /// @param fromVersion Last version applied by the client
+    /// @return True if all deltas after the client version are available
+    private boolean canContinue(String clientReplicaId, long fromVersion) {
+        long version = current.get().version();
+
+        if (!replicaId.equals(clientReplicaId) || fromVersion <= 0 || fromVersion > version) {
+            return false;
+        }
+
+        return fromVersion == version || (!changeLog.isEmpty() && changeLog.getFirst().version() <= fromVersion + 1);
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.stag.platform.replica;
+
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshot.LocalizedMeaning;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/// **Codelist Replica State**
+///
+/// Immutable versioned copy of everything a client replica needs to enrich person data locally:
+/// codelist entries, countries and municipality part address names.
+///
+/// @param version Replica version (0 for the empty state)
+/// @param loadedAt Time when the state was loaded
+/// @param entries Codelist entry ID to localized meanings map
+/// @param countries Country ID to translations map
+/// @param addressPlaces Municipality part ID to address names map
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistReplicaState(
+    long version,
+    Instant loadedAt,
+    Map<CodelistEntryId, LocalizedMeaning> entries,
+    Map<Integer, CountryTranslationProjection> countries,
+    Map<Long, AddressPlaceNameProjection> addressPlaces
+) {
+
+    /// Subsystem addressed by gRPC codelist keys, entries of other subsystems are not replicated
+    private static final String REPLICATED_SUBSYSTEM_CODE = "STA";
+
+    /// Empty state used before the first successful load
+    private static final CodelistReplicaState EMPTY = new CodelistReplicaState(0, Instant.EPOCH, Map.of(), Map.of(), Map.of());
+
+    /// Returns the empty state.
+    ///
+    /// @return State without any data
+    public static CodelistReplicaState empty() {
+        return EMPTY;
+    }
+
+    /// Builds a state from the loaded rows.
+    ///
+    /// @param version State version
+    /// @param loadedAt Time when the rows were loaded
+    /// @param entryRows Codelist entry translation projections
+    /// @param countryRows Country translation projections
+    /// @param addressRows Address place name projections
+    /// @return Immutable state
+    public static CodelistReplicaState of(
+        long version,
+        Instant loadedAt,
+        List<CodelistEntryTranslationProjection> entryRows,
+        List<CountryTranslationProjection> countryRows,
+        List<AddressPlaceNameProjection> addressRows
+    ) {
+        Map<CodelistEntryId, LocalizedMeaning> entries = HashMap.newHashMap(entryRows.size());
+        entryRows.stream()
+                 .filter(row -> REPLICATED_SUBSYSTEM_CODE.equals(row.id().getSubsystemCode()))
+                 .forEach(row -> entries.put(row.id(), new LocalizedMeaning(row.meaningCz(), row.meaningEn())));
+
+        Map<Integer, CountryTranslationProjection> countries = HashMap.newHashMap(countryRows.size());
+        countryRows.forEach(row -> countries.put(row.id(), row));
+
+        Map<Long, AddressPlaceNameProjection> addressPlaces = HashMap.newHashMap(addressRows.size());
+        addressRows.forEach(row -> addressPlaces.put(row.municipalityPartId(), row));
+
+        return new CodelistReplicaState(version, loadedAt, Map.copyOf(entries), Map.copyOf(countries), Map.copyOf(addressPlaces));
+    }
+
+    /// Computes the change leading from a previous state to this one.
+    ///
+    /// @param previous Previous state
+    /// @return Change with the version of this state, empty if the data did not change
+    public CodelistReplicaChange changesSince(CodelistReplicaState previous) {
+        return new CodelistReplicaChange(
+            version,
+            false,
+            upserted(previous.entries, entries),
+            removed(previous.entries, entries),
+            List.copyOf(upserted(previous.countries, countries).values()),
+            removed(previous.countries, countries),
+            List.copyOf(upserted(previous.addressPlaces, addressPlaces).values()),
+            removed(previous.addressPlaces, addressPlaces)
+        );
+    }
+
+    /// Returns the number of replicated records.
+    ///
+    /// @return Entry, country and address place count
+    public int size() {
+        return entries.size() + countries.size() + addressPlaces.size();
+    }
+
+    /// Collects records that are new or differ from the previous state.
+    ///
+    /// @param previous Previous records
+    /// @param current Current records
+    /// @return New and changed records
+    private static <K, V> Map<K, V> upserted(Map<K, V> previous, Map<K, V> current) {
+        Map<K, V> upserted = new HashMap<>();
+        current.forEach((key, value) -> {
+            if (!Objects.equals(previous.get(key), value)) {
+                upserted.put(key, value);
+            }
+        });
+        return Map.copyOf(upserted);
+    }
+
+    /// Collects keys of records missing from the current state.
+    ///
+    /// @param previous Previous records
+    /// @param current Current records
+    /// @return Removed keys
+    private static <K, V> List<K> removed(Map<K, V> previous, Map<K, V> current) {
+        List<K> removed = new ArrayList<>();
+        previous.keySet().forEach(key -> {
+            if (!current.containsKey(key)) {
+                removed.add(key);
+            }
+        });
+        return List.copyOf(removed);
+    }
+
+}
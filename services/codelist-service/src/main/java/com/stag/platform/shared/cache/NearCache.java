@@ -0,0 +1,577 @@
+package com.stag.platform.shared.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/// **Near Cache**
+///
+/// Two-tier cache with a bounded in-process L1 in front of the shared Redis L2.
+///
+/// Reads try L1 first and fill it from L2 on a miss. Writes, evictions and clears go to L2 and are published
+/// through [NearCacheInvalidations], so other instances drop their L1 copies. L1 entries also expire on their
+/// own, which bounds staleness if an invalidation message is lost. An L2 read fills L1 only if the key
+/// was not invalidated while it ran, so a value read just before a write cannot outlive the write in L1.
+///
+/// L1 is weighted by the approximate size of the values estimated by [NearCacheWeigher], which neither serializes
+/// nor copies them.
+///
+/// Loads through [#get(Object, Callable)] (`@Cacheable(sync = true)`) are coalesced: a single loader runs per key
+/// and instance, concurrent callers wait for its result. With a [NearCacheLoadLock], a single instance loads
+/// the entry and the others wait for it to appear in L2.
+///
+/// With a [RefreshAheadPolicy], entries loaded by this instance and read at least `minHits` times are recomputed
+/// by a background virtual thread once they enter the last part of their Redis lifetime. The refresh runs the
+/// [RefreshAheadLoader] registered for the cache, which computes the value from the key alone, so nothing of the reads
+/// is kept or replayed. Readers keep getting the current value until the new one is stored.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class NearCache extends AbstractValueAdaptingCache {
+
+    /// Maximum number of entries tracked for refresh-ahead
+    private static final int MAX_REFRESH_TRACKED_KEYS = 10_000;
+    /// Number of stripes keys are spread over for invalidation generations
+    private static final int GENERATION_STRIPES = 64;
+
+    /// Redis L2 cache
+    private final RedisCache l2;
+    /// In-process L1 cache keyed by the string form of the cache key
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    /// Invalidation publisher
+    private final NearCacheInvalidations invalidations;
+    /// Distributed load lock, null when loads are coalesced only within this instance
+    private final NearCacheLoadLock loadLock;
+    /// Refresh-ahead policy, null when entries are loaded only on a miss
+    private final RefreshAheadPolicy refreshAhead;
+    /// Recomputes an entry from its key for refresh-ahead, null when entries are loaded only on a miss
+    private final Function<Object, ?> refreshLoader;
+    /// Loads in progress by the string form of the cache key
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    /// Refresh-ahead state of entries loaded by this instance by the string form of the cache key
+    private final Map<String, RefreshState> refreshStates = new ConcurrentHashMap<>();
+    /// Invalidation generations of key stripes, incremented before L1 entries of the stripe change
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    /// L1 hit counter
+    private final Counter l1Hits;
+    /// L1 miss counter
+    private final Counter l1Misses;
+    /// L2 hit counter
+    private final Counter l2Hits;
+    /// L2 miss counter
+    private final Counter l2Misses;
+    /// Callers that waited for a load of this instance
+    private final Counter localWaiters;
+    /// Loads answered from L2 after waiting for another instance
+    private final Counter distributedWaiters;
+    /// L1 lookup latency
+    private final Timer l1Latency;
+    /// L2 lookup latency
+    private final Timer l2Latency;
+    /// Successful refresh-ahead counter
+    private final Counter refreshSuccesses;
+    /// Failed refresh-ahead counter
+    private final Counter refreshFailures;
+
+    /// Creates a near cache and registers its metrics.
+    ///
+    /// @param l2 Redis L2 cache
+    /// @param maxWeight Maximum L1 weight in bytes
+    /// @param timeToLive Lifetime of L1 entries
+    /// @param invalidations Invalidation publisher
+    /// @param loadLock Distributed load lock, null to coalesce loads only within this instance
+    /// @param refreshAhead Refresh-ahead policy, null to load entries only on a miss
+    /// @param refreshLoader Recomputes an entry from its key, required with a refresh-ahead policy
+    /// @param meterRegistry Meter registry
+    public NearCache(
+        RedisCache l2,
+        long maxWeight,
+        Duration timeToLive,
+        NearCacheInvalidations invalidations,
+        NearCacheLoadLock loadLock,
+        RefreshAheadPolicy refreshAhead,
+        Function<Object, ?> refreshLoader,
+        MeterRegistry meterRegistry
+    ) {
+        super(false);
+        this.l2 = l2;
+        this.invalidations = invalidations;
+        this.loadLock = loadLock;
+        this.refreshAhead = refreshAhead;
+        this.refreshLoader = refreshLoader;
+        this.l1 = Caffeine.newBuilder()
+                          .maximumWeight(maxWeight)
+                          .weigher(this::weigh)
+                          .expireAfterWrite(timeToLive)
+                          .build();
+
+        String name = l2.getName();
+        this.l1Hits = requests(meterRegistry, name, "l1", "hit");
+        this.l1Misses = requests(meterRegistry, name, "l1", "miss");
+        this.l2Hits = requests(meterRegistry, name, "l2", "hit");
+        this.l2Misses = requests(meterRegistry, name, "l2", "miss");
+        this.localWaiters = waiters(meterRegistry, name, "local");
+        this.distributedWaiters = waiters(meterRegistry, name, "distributed");
+        this.l1Latency = latency(meterRegistry, name, "l1");
+        this.l2Latency = latency(meterRegistry, name, "l2");
+        this.refreshSuccesses = refreshes(meterRegistry, name, "success");
+        this.refreshFailures = refreshes(meterRegistry, name, "failure");
+
+        Gauge.builder("cache.near.l1.size", l1, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+             .description("Number of entries in the in-process L1 cache")
+             .tag("cache", name)
+             .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String l1Key = toL1Key(key);
+
+        Object value = l1Latency.record(() -> l1.getIfPresent(l1Key));
+        if (value != null) {
+            l1Hits.increment();
+            recordHit(key);
+            return value;
+        }
+        l1Misses.increment();
+
+        long generation = generation(l1Key);
+        ValueWrapper wrapper = l2Latency.record(() -> l2.get(key));
+        if (wrapper == null || wrapper.get() == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        recordHit(key);
+
+        fillL1(l1Key, wrapper.get(), generation);
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        String l1Key = toL1Key(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(l1Key, flight);
+
+        if (running != null) {
+            localWaiters.increment();
+            return (T) await(running);
+        }
+
+        try {
+            long generation = generation(l1Key);
+            T loaded = loadLock == null ? load(key, valueLoader) : loadExclusively(key, l1Key, valueLoader);
+            if (loaded != null) {
+                fillL1(l1Key, loaded, generation);
+                trackRefresh(l1Key);
+            }
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(l1Key, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        invalidated(toL1Key(key));
+        l1.put(toL1Key(key), value);
+        trackRefresh(toL1Key(key));
+        invalidations.publishEvict(getName(), toL1Key(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        if (existing == null && value != null) {
+            invalidated(toL1Key(key));
+            l1.put(toL1Key(key), value);
+            trackRefresh(toL1Key(key));
+            invalidations.publishEvict(getName(), toL1Key(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        invalidated(toL1Key(key));
+        l1.invalidate(toL1Key(key));
+        refreshStates.remove(toL1Key(key));
+        invalidations.publishEvict(getName(), toL1Key(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        invalidated(toL1Key(key));
+        l1.invalidate(toL1Key(key));
+        refreshStates.remove(toL1Key(key));
+        invalidations.publishEvict(getName(), toL1Key(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        allInvalidated();
+        l1.invalidateAll();
+        refreshStates.clear();
+        invalidations.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l2.invalidate();
+        allInvalidated();
+        l1.invalidateAll();
+        refreshStates.clear();
+        invalidations.publishClear(getName());
+        return invalidated;
+    }
+
+    /// Returns the number of keys currently being loaded by this instance.
+    ///
+    /// @return In-flight load count
+    int inFlightLoads() {
+        return inFlight.size();
+    }
+
+    /// Returns the number of entries tracked for refresh-ahead.
+    ///
+    /// @return Tracked entry count
+    int refreshTrackedKeys() {
+        return refreshStates.size();
+    }
+
+    /// Counts a read of an entry tracked for refresh-ahead and starts its refresh when it is hot and due.
+    ///
+    /// @param key Cache key
+    private void recordHit(Object key) {
+        if (refreshAhead == null) {
+            return;
+        }
+
+        String l1Key = toL1Key(key);
+        RefreshState state = refreshStates.get(l1Key);
+        if (state == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (now - state.expiresAt() >= 0) {
+            refreshStates.remove(l1Key, state);
+            return;
+        }
+
+        state.hits().increment();
+
+        if (now - state.refreshAt() >= 0
+            && state.hits().sum() >= refreshAhead.minHits()
+            && state.refreshing().compareAndSet(false, true)) {
+            Thread.ofVirtual()
+                  .name("near-cache-refresh-" + getName())
+                  .start(() -> refresh(key, l1Key, state));
+        }
+    }
+
+    /// Recomputes a hot entry with the refresh loader and stores it in both tiers, other instances drop their L1 copies.
+    ///
+    /// A failed refresh stops tracking the entry, it is loaded again on the next miss.
+    ///
+    /// @param key Cache key
+    /// @param l1Key String form of the cache key
+    /// @param state Refresh-ahead state of the entry
+    private void refresh(Object key, String l1Key, RefreshState state) {
+        try {
+            Object value = refreshLoader.apply(key);
+            if (value == null || refreshStates.get(l1Key) != state) {
+                refreshStates.remove(l1Key, state);
+                return;
+            }
+
+            put(key, value);
+            refreshSuccesses.increment();
+            log.debug("Refreshed entry {} of cache {} ahead of its expiration", l1Key, getName());
+        } catch (RuntimeException e) {
+            refreshStates.remove(l1Key, state);
+            refreshFailures.increment();
+            log.warn("Failed to refresh entry {} of cache {} ahead of its expiration", l1Key, getName(), e);
+        }
+    }
+
+    /// Starts tracking an entry just stored by this instance for refresh-ahead.
+    ///
+    /// @param l1Key String form of the cache key
+    private void trackRefresh(String l1Key) {
+        if (refreshAhead == null) {
+            return;
+        }
+
+        if (refreshStates.size() >= MAX_REFRESH_TRACKED_KEYS) {
+            long now = System.nanoTime();
+            refreshStates.values().removeIf(state -> now - state.expiresAt() >= 0);
+
+            if (refreshStates.size() >= MAX_REFRESH_TRACKED_KEYS && !refreshStates.containsKey(l1Key)) {
+                return;
+            }
+        }
+
+        refreshStates.put(l1Key, RefreshState.start(refreshAhead));
+    }
+
+    /// Loads an entry while holding the distributed lock, or waits for the instance holding it.
+    ///
+    /// Gives up waiting and loads the entry itself when the lease elapses or Redis is unavailable.
+    ///
+    /// @param key Cache key
+    /// @param l1Key String form of the cache key
+    /// @param valueLoader Value loader
+    /// @return Loaded value
+    @SuppressWarnings("unchecked")
+    private <T> T loadExclusively(Object key, String l1Key, Callable<T> valueLoader) {
+        Instant deadline = Instant.now().plus(loadLock.getLease());
+
+        while (Instant.now().isBefore(deadline)) {
+            String token;
+            try {
+                token = loadLock.tryAcquire(getName(), l1Key);
+            } catch (RuntimeException e) {
+                return load(key, valueLoader);
+            }
+
+            if (token != null) {
+                try {
+                    return load(key, valueLoader);
+                } finally {
+                    loadLock.release(getName(), l1Key, token);
+                }
+            }
+
+            try {
+                Thread.sleep(loadLock.getPollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+
+            ValueWrapper wrapper = l2.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                distributedWaiters.increment();
+                return (T) wrapper.get();
+            }
+        }
+
+        return load(key, valueLoader);
+    }
+
+    /// Runs the value loader and stores a non-null result in L2.
+    ///
+    /// Newly loaded entries are not published, other instances had no L1 copy of the missing entry.
+    ///
+    /// @param key Cache key
+    /// @param valueLoader Value loader
+    /// @return Loaded value
+    /// @throws ValueRetrievalException if the loader fails
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value != null) {
+            l2.put(key, value);
+        }
+        return value;
+    }
+
+    /// Waits for the result of a load started by another caller of this instance.
+    ///
+    /// @param running Load in progress
+    /// @return Loaded value
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /// Drops an L1 entry after another instance changed it in L2.
+    ///
+    /// @param l1Key String form of the cache key
+    void evictLocal(String l1Key) {
+        invalidated(l1Key);
+        l1.invalidate(l1Key);
+        refreshStates.remove(l1Key);
+    }
+
+    /// Drops all L1 entries after another instance cleared L2.
+    void clearLocal() {
+        allInvalidated();
+        l1.invalidateAll();
+        refreshStates.clear();
+    }
+
+    /// Fills L1 with a value read or loaded for a key, unless the key was invalidated since the read started.
+    ///
+    /// The generation is compared inside the atomic compute of the key, and invalidations increment it
+    /// before changing L1, so an invalidation either sees the filled entry or makes the fill skip.
+    ///
+    /// @param l1Key String form of the cache key
+    /// @param value Value read or loaded
+    /// @param generation Generation of the key when the read started
+    private void fillL1(String l1Key, Object value, long generation) {
+        l1.asMap().compute(l1Key, (_, current) -> generation(l1Key) == generation ? value : current);
+    }
+
+    /// Returns the invalidation generation of a key.
+    ///
+    /// @param l1Key String form of the cache key
+    /// @return Generation of the stripe of the key
+    private long generation(String l1Key) {
+        return generations.get(stripe(l1Key));
+    }
+
+    /// Marks a key as invalidated, L2 reads started before skip filling L1.
+    ///
+    /// @param l1Key String form of the cache key
+    private void invalidated(String l1Key) {
+        generations.incrementAndGet(stripe(l1Key));
+    }
+
+    /// Marks all keys as invalidated.
+    private void allInvalidated() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    /// Returns the generation stripe of a key.
+    ///
+    /// @param l1Key String form of the cache key
+    /// @return Stripe index
+    private static int stripe(String l1Key) {
+        return Math.floorMod(l1Key.hashCode(), GENERATION_STRIPES);
+    }
+
+    /// Converts a cache key to the form shared by all instances in invalidation messages.
+    ///
+    /// @param key Cache key
+    /// @return String form of the key
+    static String toL1Key(Object key) {
+        return String.valueOf(key);
+    }
+
+    /// Weighs an L1 entry by the approximate size of its key and value.
+    ///
+    /// @param key L1 key
+    /// @param value Cached value
+    /// @return Entry weight in bytes
+    private int weigh(String key, Object value) {
+        return key.length() + NearCacheWeigher.weigh(value);
+    }
+
+    /// Registers a request counter of a tier.
+    private static Counter requests(MeterRegistry meterRegistry, String name, String tier, String result) {
+        return Counter.builder("cache.near.requests")
+                      .description("Number of near cache lookups per tier and result")
+                      .tags("cache", name, "tier", tier, "result", result)
+                      .register(meterRegistry);
+    }
+
+    /// Registers a counter of callers served by a load they did not run.
+    private static Counter waiters(MeterRegistry meterRegistry, String name, String scope) {
+        return Counter.builder("cache.near.coalesced")
+                      .description("Number of cache misses served by a load running elsewhere instead of loading again")
+                      .tags("cache", name, "scope", scope)
+                      .register(meterRegistry);
+    }
+
+    /// Registers a refresh-ahead counter.
+    private static Counter refreshes(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.near.refreshes")
+                      .description("Number of hot entries recomputed ahead of their expiration")
+                      .tags("cache", name, "result", result)
+                      .register(meterRegistry);
+    }
+
+    /// Registers a lookup latency timer of a tier.
+    private static Timer latency(MeterRegistry meterRegistry, String name, String tier) {
+        return Timer.builder("cache.near.latency")
+                    .description("Time taken to look up a near cache tier")
+                    .tags("cache", name, "tier", tier)
+                    .register(meterRegistry);
+    }
+
+    /// Refresh-ahead state of an entry loaded by this instance.
+    ///
+    /// @param refreshAt Nano time from which the entry is refreshed when hot
+    /// @param expiresAt Nano time when the Redis entry expires
+    /// @param hits Reads since the entry was loaded
+    /// @param refreshing Whether a refresh is running
+    private record RefreshState(
+        long refreshAt,
+        long expiresAt,
+        LongAdder hits,
+        AtomicBoolean refreshing
+    ) {
+
+        /// Creates the state of an entry loaded now.
+        static RefreshState start(RefreshAheadPolicy policy) {
+            long now = System.nanoTime();
+            return new RefreshState(
+                now + policy.refreshAfter().toNanos(),
+                now + policy.timeToLive().toNanos(),
+                new LongAdder(),
+                new AtomicBoolean()
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.stag.platform.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/// **Near Cache Load Lock**
+///
+/// Distributed lock in Redis letting a single instance load a missing cache entry, while other instances
+/// wait for the entry to appear in L2. The lock is a lease, a crashed holder blocks others for at most
+/// [#getLease()].
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class NearCacheLoadLock {
+
+    /// Prefix of lock keys
+    private static final String KEY_PREFIX = "near-cache:lock:";
+
+    /// Deletes the lock only if it is still held by the given token
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    /// Redis template
+    private final StringRedisTemplate redisTemplate;
+    /// Lock lease, also the longest time an instance waits for another one
+    private final Duration lease;
+    /// Interval of checking L2 while another instance holds the lock
+    private final Duration pollInterval;
+
+    /// Creates the load lock.
+    ///
+    /// @param redisTemplate Redis template
+    /// @param lease Lock lease
+    /// @param pollInterval Interval of checking L2 while another instance holds the lock
+    public NearCacheLoadLock(StringRedisTemplate redisTemplate, Duration lease, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+    }
+
+    /// Tries to acquire the lock of a cache entry.
+    ///
+    /// @param cacheName Cache name
+    /// @param key String form of the cache key
+    /// @return Lock token, null if another instance holds the lock
+    /// @throws RuntimeException if Redis is unavailable
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lease);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /// Releases the lock of a cache entry if it is still held with the token.
+    ///
+    /// @param cacheName Cache name
+    /// @param key String form of the cache key
+    /// @param token Lock token returned by [#tryAcquire(String, String)]
+    public void release(String cacheName, String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release near cache load lock of {}::{}, it expires after {}", cacheName, key, lease, e);
+        }
+    }
+
+    /// Returns the lock lease.
+    ///
+    /// @return Lease duration
+    public Duration getLease() {
+        return lease;
+    }
+
+    /// Returns the interval of checking L2 while another instance holds the lock.
+    ///
+    /// @return Poll interval
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    /// Builds the Redis key of a lock.
+    private static String lockKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+
+}
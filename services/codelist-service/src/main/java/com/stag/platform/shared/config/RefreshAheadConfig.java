@@ -0,0 +1,66 @@
+package com.stag.platform.shared.config;
+
+import com.stag.platform.address.repository.projection.CountryView;
+import com.stag.platform.address.service.CountryService;
+import com.stag.platform.entry.repository.projection.DomainValueView;
+import com.stag.platform.entry.service.DomainService;
+import com.stag.platform.shared.cache.RefreshAheadLoader;
+import com.stag.platform.shared.http.ConditionalResponses;
+import com.stag.platform.shared.http.ETaggedContent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Set;
+
+/// **Refresh-Ahead Configuration**
+///
+/// Registers the loaders recomputing entries of the caches refreshed ahead of expiration.
+/// Each loader maps the cache key of the `@Cacheable` method back to its arguments and calls
+/// the uncached load method of the service. Loaders of caches served with conditional responses also
+/// replace the tracked ETag and serialized body of the reloaded entry.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Configuration
+public class RefreshAheadConfig {
+
+    /// Creates the refresh-ahead loader of the `countries` cache, keyed by language.
+    ///
+    /// @param countryService Country service
+    /// @param conditionalResponses Conditional responses serving the cache
+    /// @return Refresh-ahead loader
+    @Bean
+    public RefreshAheadLoader countriesRefreshAheadLoader(CountryService countryService, ConditionalResponses conditionalResponses) {
+        return new RefreshAheadLoader("countries", key -> {
+            ETaggedContent<Set<CountryView>> content = countryService.loadCountries((String) key);
+            conditionalResponses.refreshed("countries", key, content);
+            return content;
+        });
+    }
+
+    /// Creates the refresh-ahead loader of the `domains` cache, which has a single entry.
+    ///
+    /// @param domainService Domain service
+    /// @return Refresh-ahead loader
+    @Bean
+    public RefreshAheadLoader domainsRefreshAheadLoader(DomainService domainService) {
+        return new RefreshAheadLoader("domains", _ -> domainService.loadDomains());
+    }
+
+    /// Creates the refresh-ahead loader of the `domain-values` cache, keyed by domain and language.
+    ///
+    /// @param domainService Domain service
+    /// @param conditionalResponses Conditional responses serving the cache
+    /// @return Refresh-ahead loader
+    @Bean
+    public RefreshAheadLoader domainValuesRefreshAheadLoader(DomainService domainService, ConditionalResponses conditionalResponses) {
+        return new RefreshAheadLoader("domain-values", key -> {
+            List<?> arguments = (List<?>) key;
+            ETaggedContent<List<DomainValueView>> content = domainService.loadDomainValues((String) arguments.get(0), (String) arguments.get(1));
+            conditionalResponses.refreshed("domain-values", key, content);
+            return content;
+        });
+    }
+
+}
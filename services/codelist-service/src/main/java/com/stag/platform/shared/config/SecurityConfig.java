@@ -26,6 +26,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /// Actuator health URLs probed by Kubernetes
+    private static final String[] HEALTH_URLS = {
+        "/actuator/health",
+        "/actuator/health/**"
+    };
+
     /// Swagger UI and OpenAPI documentation URLs
     private static final String[] SWAGGER_URLS = {
         "/swagger-ui.html",
@@ -45,10 +51,11 @@ public class SecurityConfig {
         return http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/actuator/**").permitAll()
+                .requestMatchers(HEALTH_URLS).permitAll()
+                .requestMatchers("/actuator/**").denyAll()
                 .requestMatchers("/openapi.yaml").permitAll()
                 .requestMatchers(SWAGGER_URLS).permitAll()
-                .requestMatchers("/api/v1/addresses/**", "/api/v1/countries/**", "/api/v1/domains/**").permitAll()
+                .requestMatchers("/api/v1/addresses/**", "/api/v1/countries/**", "/api/v1/domains/**", "/api/v1/high-schools/**").permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(headerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -1,9 +1,18 @@
 package com.stag.platform.shared.grpc.mapper;
 
 import com.google.protobuf.Message;
+import com.stag.platform.address.exception.CountriesNotFoundException;
+import com.stag.platform.address.exception.MunicipalityPartsNotFoundException;
+import com.stag.platform.address.index.CountryNames;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import com.stag.platform.codelist.v1.AddressPlaceRecord;
+import com.stag.platform.codelist.v1.BatchItemError;
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
+import com.stag.platform.codelist.v1.CodelistEntryRecord;
 import com.stag.platform.codelist.v1.CodelistKey;
 import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.CountryRecord;
 import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
 import com.stag.platform.codelist.v1.GetPersonAddressDataResponse;
 import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
@@ -13,10 +22,16 @@ import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataResponse;
+import com.stag.platform.education.exception.HighSchoolFieldOfStudyNotFoundException;
+import com.stag.platform.education.exception.HighSchoolNotFoundException;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
 import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.exception.CodelistEntriesNotFoundException;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshot.LocalizedMeaning;
 import com.stag.platform.entry.service.dto.PersonProfileLowValues;
+import com.stag.platform.replica.CodelistReplicaChange;
+import io.grpc.Status;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
@@ -27,11 +42,13 @@ import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.factory.Mappers;
 import org.springframework.data.util.Pair;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /// **Codelist Mapper**
@@ -47,25 +64,27 @@ public interface CodelistMapper {
     /// Mapper instance
     CodelistMapper INSTANCE = Mappers.getMapper(CodelistMapper.class);
 
-    /// Extracts country IDs from gRPC request messages.
+    /// Extracts distinct country IDs from gRPC request messages.
     ///
     /// @param message gRPC request message
-    /// @return Set of country IDs present in the message
-    default Set<Integer> extractCountryIds(Message message) {
+    /// @return Country IDs present in the message
+    default int[] extractCountryIds(Message message) {
         return switch (message) {
-            case GetPersonProfileDataRequest r -> extractValues(
-                Pair.of(r.hasBirthCountryId(), r.getBirthCountryId()),
-                Pair.of(r.hasCitizenshipCountryId(), r.getCitizenshipCountryId())
+            case GetPersonProfileDataRequest r -> extractIds(
+                r.hasBirthCountryId(), r.getBirthCountryId(),
+                r.hasCitizenshipCountryId(), r.getCitizenshipCountryId()
             );
-            case GetPersonAddressDataRequest r -> extractValues(
-                Pair.of(r.hasPermanentCountryId(), r.getPermanentCountryId()),
-                Pair.of(r.hasTemporaryCountryId(), r.getTemporaryCountryId())
+            case GetPersonAddressDataRequest r -> extractIds(
+                r.hasPermanentCountryId(), r.getPermanentCountryId(),
+                r.hasTemporaryCountryId(), r.getTemporaryCountryId()
             );
-            case GetPersonBankingDataRequest r -> extractValues(
-                Pair.of(r.hasEuroAccountCountryId(), r.getEuroAccountCountryId())
+            case GetPersonBankingDataRequest r -> extractIds(
+                r.hasEuroAccountCountryId(), r.getEuroAccountCountryId(),
+                false, 0
             );
-            case GetPersonEducationDataRequest r -> extractValues(
-                Pair.of(r.hasHighSchoolCountryId(), r.getHighSchoolCountryId())
+            case GetPersonEducationDataRequest r -> extractIds(
+                r.hasHighSchoolCountryId(), r.getHighSchoolCountryId(),
+                false, 0
             );
             default -> throw new IllegalStateException("Unexpected value: " + message);
         };
@@ -85,12 +104,45 @@ public interface CodelistMapper {
         };
     }
 
+    /// Extracts codelist keys from gRPC request messages.
+    ///
+    /// @param message gRPC request message
+    /// @return Codelist keys present in the message, empty for messages without codelist keys
+    default List<CodelistKey> extractCodelistKeys(Message message) {
+        return switch (message) {
+            case GetPersonProfileDataRequest r -> r.getCodelistKeysList();
+            case GetPersonBankingDataRequest r -> r.getCodelistKeysList();
+            case GetPersonAddressDataRequest _, GetPersonEducationDataRequest _ -> List.of();
+            default -> throw new IllegalStateException("Unexpected value: " + message);
+        };
+    }
+
+    /// Extracts the language from gRPC request messages.
+    ///
+    /// @param message gRPC request message
+    /// @return Language code
+    default String extractLanguage(Message message) {
+        return switch (message) {
+            case GetPersonProfileDataRequest r -> r.getLanguage();
+            case GetPersonAddressDataRequest r -> r.getLanguage();
+            case GetPersonBankingDataRequest r -> r.getLanguage();
+            case GetPersonEducationDataRequest r -> r.getLanguage();
+            default -> throw new IllegalStateException("Unexpected value: " + message);
+        };
+    }
+
     /// Converts gRPC codelist keys to internal codelist entry IDs.
     ///
     /// @param codelistKeys List of gRPC codelist keys
     /// @return List of codelist entry IDs
     List<CodelistEntryId> toCodelistEntryIds(List<CodelistKey> codelistKeys);
 
+    /// Converts internal codelist entry IDs to gRPC codelist keys.
+    ///
+    /// @param entryIds List of codelist entry IDs
+    /// @return List of gRPC codelist keys
+    List<CodelistKey> toCodelistKeys(List<CodelistEntryId> entryIds);
+
     /// Converts internal codelist entries to gRPC codelist meanings.
     ///
     /// @param entries List of codelist entry meaning projections
@@ -109,7 +161,7 @@ public interface CodelistMapper {
     GetPersonProfileDataResponse buildPersonProfileDataResponse(
         GetPersonProfileDataRequest request,
         @Context List<CodelistMeaning> codelistMeanings,
-        @Context Map<Integer, String> countryNames
+        @Context CountryNames countryNames
     );
 
     /// Builds person profile update data response from low values and country ID.
@@ -142,7 +194,7 @@ public interface CodelistMapper {
     GetPersonAddressDataResponse buildPersonAddressDataResponse(
         GetPersonAddressDataRequest request,
         @Context Map<Long, AddressPlaceNameProjection> addressNames,
-        @Context Map<Integer, String> countryNames
+        @Context CountryNames countryNames
     );
 
     /// Builds person banking data response from request and context data.
@@ -156,7 +208,7 @@ public interface CodelistMapper {
     GetPersonBankingDataResponse buildPersonBankingDataResponse(
         GetPersonBankingDataRequest request,
         @Context List<CodelistMeaning> codelistMeanings,
-        @Context Map<Integer, String> countryNames
+        @Context CountryNames countryNames
     );
 
     /// Builds person education data response from request and context data.
@@ -177,9 +229,57 @@ public interface CodelistMapper {
         GetPersonEducationDataRequest request,
         HighSchoolAddressProjection highSchoolAddress,
         String fieldOfStudy,
-        @Context Map<Integer, String> countryNames
+        @Context CountryNames countryNames
     );
 
+    /// Builds per-person batch results in the order of the requests.
+    ///
+    /// A failing item is turned into a [BatchItemError] and does not affect the other items.
+    ///
+    /// @param requests Per-person requests
+    /// @param buildResponse Builds the response of a single person
+    /// @param toData Wraps a successful response into a batch result
+    /// @param toError Wraps an item error into a batch result
+    /// @return Batch results, one per request
+    default <Q, R, T> List<T> buildBatchResults(
+        List<Q> requests,
+        Function<Q, R> buildResponse,
+        Function<R, T> toData,
+        Function<BatchItemError, T> toError
+    ) {
+        List<T> results = new ArrayList<>(requests.size());
+
+        for (Q request : requests) {
+            try {
+                results.add(toData.apply(buildResponse.apply(request)));
+            } catch (RuntimeException e) {
+                results.add(toError.apply(toBatchItemError(e)));
+            }
+        }
+
+        return results;
+    }
+
+    /// Converts an exception to a batch item error with the status the single-person RPC would have returned.
+    ///
+    /// @param ex Exception raised for a batch item
+    /// @return Batch item error
+    default BatchItemError toBatchItemError(RuntimeException ex) {
+        Status status = switch (ex) {
+            case CodelistEntriesNotFoundException _,
+                 CountriesNotFoundException _,
+                 MunicipalityPartsNotFoundException _,
+                 HighSchoolNotFoundException _,
+                 HighSchoolFieldOfStudyNotFoundException _ -> Status.NOT_FOUND;
+            default -> Status.INTERNAL;
+        };
+
+        return BatchItemError.newBuilder()
+                             .setCode(status.getCode().value())
+                             .setMessage(Optional.ofNullable(ex.getMessage()).orElse(""))
+                             .build();
+    }
+
     /// Converts codelist entry meaning projection to gRPC codelist meaning.
     ///
     /// @param entry Codelist entry meaning projection
@@ -189,6 +289,57 @@ public interface CodelistMapper {
     @Mapping(target = "meaning", source = "meaning")
     CodelistMeaning toCodelistMeaning(CodelistEntryMeaningProjection entry);
 
+    /// Converts a country translation projection to a replica country record.
+    ///
+    /// @param country Country translation projection
+    /// @return Country record
+    @Mapping(target = "nameCz", source = "name")
+    @Mapping(target = "nameEn", source = "englishName")
+    CountryRecord toCountryRecord(CountryTranslationProjection country);
+
+    /// Converts an address place name projection to a replica address place record.
+    ///
+    /// @param addressPlace Address place name projection
+    /// @return Address place record
+    AddressPlaceRecord toAddressPlaceRecord(AddressPlaceNameProjection addressPlace);
+
+    /// Converts a codelist entry to a replica codelist entry record.
+    ///
+    /// @param id Codelist entry ID
+    /// @param meaning Localized meanings
+    /// @return Codelist entry record
+    default CodelistEntryRecord toCodelistEntryRecord(CodelistEntryId id, LocalizedMeaning meaning) {
+        var builder = CodelistEntryRecord.newBuilder()
+                                         .setDomain(id.getDomain())
+                                         .setLowValue(id.getLowValue());
+
+        Optional.ofNullable(meaning.meaningCz()).ifPresent(builder::setMeaningCz);
+        Optional.ofNullable(meaning.meaningEn()).ifPresent(builder::setMeaningEn);
+
+        return builder.build();
+    }
+
+    /// Converts a replica change to a gRPC change event.
+    ///
+    /// @param replicaId Replica ID the version belongs to
+    /// @param change Replica change
+    /// @return Codelist change event
+    default CodelistChangeEvent toCodelistChangeEvent(String replicaId, CodelistReplicaChange change) {
+        var builder = CodelistChangeEvent.newBuilder()
+                                         .setReplicaId(replicaId)
+                                         .setVersion(change.version())
+                                         .setResetRequired(change.resetRequired())
+                                         .addAllRemovedCodelistKeys(toCodelistKeys(change.removedEntries()))
+                                         .addAllRemovedCountryIds(change.removedCountries())
+                                         .addAllRemovedMunicipalityPartIds(change.removedAddressPlaces());
+
+        change.upsertedEntries().forEach((id, meaning) -> builder.addUpsertedCodelistEntries(toCodelistEntryRecord(id, meaning)));
+        change.upsertedCountries().forEach(country -> builder.addUpsertedCountries(toCountryRecord(country)));
+        change.upsertedAddressPlaces().forEach(place -> builder.addUpsertedAddressPlaces(toAddressPlaceRecord(place)));
+
+        return builder.build();
+    }
+
     /// Adds codelist meanings to response builder after mapping.
     ///
     /// @param codelistMeanings List of codelist meanings
@@ -209,16 +360,17 @@ public interface CodelistMapper {
         }
     }
 
-    /// Retrieves country name from context map.
+    /// Retrieves country name from context.
     ///
     /// @param countryId Country ID
-    /// @param countryNames Country names map
+    /// @param countryNames Country names context
     /// @return Country name or null
     @Named("getCountryName")
-    default String getCountryName(Integer countryId, @Context Map<Integer, String> countryNames) {
-        return Optional.ofNullable(countryNames)
-                       .map(names -> names.get(countryId))
-                       .orElse(null);
+    default String getCountryName(int countryId, @Context CountryNames countryNames) {
+        if (countryNames == null) {
+            return null;
+        }
+        return countryNames.get(countryId);
     }
 
     /// Retrieves municipality name from context map.
@@ -269,6 +421,26 @@ public interface CodelistMapper {
                        .orElse(null);
     }
 
+    /// Collects up to two present IDs without boxing, skipping duplicates.
+    ///
+    /// @param hasFirst Whether the first ID is present
+    /// @param first First ID
+    /// @param hasSecond Whether the second ID is present
+    /// @param second Second ID
+    /// @return Array of present IDs
+    private static int[] extractIds(boolean hasFirst, int first, boolean hasSecond, int second) {
+        if (hasFirst && hasSecond && first != second) {
+            return new int[]{ first, second };
+        }
+        if (hasFirst) {
+            return new int[]{ first };
+        }
+        if (hasSecond) {
+            return new int[]{ second };
+        }
+        return new int[0];
+    }
+
     /// Extracts non-null values from pairs when the first element is true.
     ///
     /// @param pairs Varargs of boolean-value pairs
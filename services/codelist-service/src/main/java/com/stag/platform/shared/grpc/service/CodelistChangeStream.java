@@ -0,0 +1,102 @@
+package com.stag.platform.shared.grpc.service;
+
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
+import com.stag.platform.replica.CodelistReplicaChange;
+import com.stag.platform.shared.grpc.mapper.CodelistMapper;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/// **Codelist Change Stream**
+///
+/// One open watch stream of a client replica. Published deltas are queued per subscriber and sent
+/// only while the transport is ready, so a slow client never makes the server buffer the whole change stream.
+/// When the queue is full the stream is failed with `RESOURCE_EXHAUSTED` and unsubscribed,
+/// the client then reconnects from its last applied version.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+final class CodelistChangeStream {
+
+    /// Server side of the watch stream
+    private final ServerCallStreamObserver<CodelistChangeEvent> observer;
+    /// Identifier of this replica source
+    private final String replicaId;
+    /// Maximum number of events waiting for the transport
+    private final int capacity;
+    /// Events waiting for the transport, oldest first
+    private final Queue<CodelistChangeEvent> pending = new ArrayDeque<>();
+    /// Removes the listener from the replica service, set once subscribed
+    private Runnable unsubscribe;
+    /// Whether the stream was cancelled or failed
+    private boolean closed;
+
+    /// Creates a change stream.
+    ///
+    /// @param observer Server side of the watch stream
+    /// @param replicaId Identifier of this replica source
+    /// @param capacity Maximum number of events waiting for the transport
+    CodelistChangeStream(ServerCallStreamObserver<CodelistChangeEvent> observer, String replicaId, int capacity) {
+        this.observer = observer;
+        this.replicaId = replicaId;
+        this.capacity = capacity;
+    }
+
+    /// Registers the unsubscribe action, running it right away when the stream is already closed.
+    ///
+    /// @param unsubscribe Removes the listener from the replica service
+    synchronized void subscribed(Runnable unsubscribe) {
+        this.unsubscribe = unsubscribe;
+
+        if (closed) {
+            unsubscribe.run();
+        }
+    }
+
+    /// Queues a published delta and sends what the transport accepts.
+    ///
+    /// @param change Published delta
+    synchronized void push(CodelistReplicaChange change) {
+        if (closed) {
+            return;
+        }
+
+        if (pending.size() >= capacity) {
+            log.warn("Codelist change stream exceeded {} pending events, closing it", capacity);
+            close();
+            observer.onError(Status.RESOURCE_EXHAUSTED
+                                 .withDescription("Codelist change stream consumer is too slow")
+                                 .asRuntimeException());
+            return;
+        }
+
+        pending.add(CodelistMapper.INSTANCE.toCodelistChangeEvent(replicaId, change));
+        drain();
+    }
+
+    /// Sends queued events while the transport is ready.
+    synchronized void drain() {
+        while (!closed && !pending.isEmpty() && observer.isReady()) {
+            observer.onNext(pending.poll());
+        }
+    }
+
+    /// Drops queued events and unsubscribes from the replica service.
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        pending.clear();
+
+        if (unsubscribe != null) {
+            unsubscribe.run();
+        }
+    }
+
+}
@@ -1,27 +1,35 @@
 package com.stag.platform.shared.grpc.service;
 
 import com.google.protobuf.Message;
+import com.stag.platform.address.index.CountryNames;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
 import com.stag.platform.address.service.CountryService;
 import com.stag.platform.address.service.MunicipalityPartService;
 import com.stag.platform.codelist.v1.CodelistKey;
 import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
 import com.stag.platform.education.service.HighSchoolFieldOfStudyService;
 import com.stag.platform.education.service.HighSchoolService;
+import com.stag.platform.education.service.dto.EducationLookup;
 import com.stag.platform.entry.entity.CodelistEntryId;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
 import com.stag.platform.entry.service.CodelistEntryService;
+import com.stag.platform.entry.service.dto.CodelistMeaningsLookup;
 import com.stag.platform.entry.service.dto.PersonProfileLowValues;
 import com.stag.platform.shared.grpc.mapper.CodelistMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /// **Codelist Data Service**
 ///
@@ -59,22 +67,73 @@ class CodelistDataService {
         return CodelistMapper.INSTANCE.toCodelistMeanings(entries);
     }
 
+    /// Looks up codelist meanings for a bulk of keys, reporting missing keys instead of failing.
+    ///
+    /// @param codelistKeys List of codelist keys
+    /// @param language Language code
+    /// @return Found meanings and IDs without a codelist entry
+    public CodelistMeaningsLookup lookupCodelistMeanings(List<CodelistKey> codelistKeys, String language) {
+        List<CodelistEntryId> entryIds = CodelistMapper.INSTANCE.toCodelistEntryIds(codelistKeys);
+        return codelistEntryService.lookupMeaningsByIds(entryIds, language);
+    }
+
+    /// Fetches codelist meanings of all batch requests with a single lenient lookup.
+    ///
+    /// @param requests gRPC request messages sharing the language
+    /// @param language Language code
+    /// @return Codelist entry ID to a meaning map, missing keys are omitted
+    public Map<CodelistEntryId, CodelistMeaning> fetchBatchCodelistMeanings(List<? extends Message> requests, String language) {
+        List<CodelistKey> codelistKeys = requests.stream()
+                                                 .flatMap(request -> CodelistMapper.INSTANCE.extractCodelistKeys(request).stream())
+                                                 .toList();
+
+        if (codelistKeys.isEmpty()) {
+            log.debug("No codelist keys to fetch");
+            return Collections.emptyMap();
+        }
+
+        CodelistMeaningsLookup lookup = lookupCodelistMeanings(codelistKeys, language);
+
+        Map<CodelistEntryId, CodelistMeaning> meanings = HashMap.newHashMap(lookup.meanings().size());
+        lookup.meanings().forEach(entry -> meanings.put(entry.id(), CodelistMapper.INSTANCE.toCodelistMeaning(entry)));
+        return meanings;
+    }
+
     /// Fetches country names by extracting IDs from the request.
     ///
     /// @param request gRPC request message
     /// @param language Language code
-    /// @return Country ID to a name map
-    public Map<Integer, String> fetchCountryNames(Message request, String language) {
-        Set<Integer> countryIds = CodelistMapper.INSTANCE.extractCountryIds(request);
+    /// @return Country names view
+    public CountryNames fetchCountryNames(Message request, String language) {
+        int[] countryIds = CodelistMapper.INSTANCE.extractCountryIds(request);
 
-        if (countryIds.isEmpty()) {
+        if (countryIds.length == 0) {
             log.debug("No country IDs to fetch");
-            return Collections.emptyMap();
+            return CountryNames.empty();
         }
 
         return countryService.findNamesByIds(countryIds, language);
     }
 
+    /// Fetches country names of all batch requests with a single lenient lookup.
+    ///
+    /// @param requests gRPC request messages sharing the language
+    /// @param language Language code
+    /// @return Country names view, unknown IDs are absent
+    public CountryNames fetchBatchCountryNames(List<? extends Message> requests, String language) {
+        int[] countryIds = requests.stream()
+                                   .flatMapToInt(request -> Arrays.stream(CodelistMapper.INSTANCE.extractCountryIds(request)))
+                                   .distinct()
+                                   .toArray();
+
+        if (countryIds.length == 0) {
+            log.debug("No country IDs to fetch");
+            return CountryNames.empty();
+        }
+
+        return countryService.lookupNamesByIds(countryIds, language);
+    }
+
     /// Fetches codelist low values for person profile update.
     ///
     /// @param maritalStatus Marital status meaning
@@ -108,6 +167,23 @@ class CodelistDataService {
         return municipalityPartService.findAddressNamesByIds(municipalityPartIds);
     }
 
+    /// Fetches address names of all batch requests with a single lenient lookup.
+    ///
+    /// @param requests gRPC request messages with municipality part IDs
+    /// @return Municipality part ID to an address name map, unknown IDs are omitted
+    public Map<Long, AddressPlaceNameProjection> fetchBatchAddressNames(List<? extends Message> requests) {
+        Set<Long> municipalityPartIds = requests.stream()
+                                                .flatMap(request -> CodelistMapper.INSTANCE.extractMunicipalityPartIds(request).stream())
+                                                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (municipalityPartIds.isEmpty()) {
+            log.debug("No municipality part IDs to fetch");
+            return Collections.emptyMap();
+        }
+
+        return municipalityPartService.lookupAddressNamesByIds(municipalityPartIds);
+    }
+
     /// Fetches high school address if high school ID is present.
     ///
     /// @param hasHighSchoolId Whether high school ID is present in request
@@ -136,4 +212,56 @@ class CodelistDataService {
         return highSchoolFieldOfStudyService.findFieldOfStudyName(fieldOfStudyNumber);
     }
 
+    /// Fetches the high school address and the field of study name of a request with a single query.
+    ///
+    /// @param request Education request
+    /// @return Education lookup, parts missing from the request are null
+    public EducationLookup fetchEducationLookup(GetPersonEducationDataRequest request) {
+        if (!request.hasHighSchoolId() && !request.hasHighSchoolFieldOfStudyNumber()) {
+            log.debug("No high school ID or field of study number provided");
+            return new EducationLookup(null, null);
+        }
+
+        return highSchoolService.findEducationLookup(
+            request.hasHighSchoolId() ? request.getHighSchoolId() : null,
+            request.hasHighSchoolFieldOfStudyNumber() ? request.getHighSchoolFieldOfStudyNumber() : null
+        );
+    }
+
+    /// Fetches high school addresses of all batch requests with a single query.
+    ///
+    /// @param requests Education requests
+    /// @return High school ID to an address map, unknown IDs are omitted
+    public Map<String, HighSchoolAddressProjection> fetchBatchHighSchoolAddresses(List<GetPersonEducationDataRequest> requests) {
+        Set<String> highSchoolIds = requests.stream()
+                                            .filter(GetPersonEducationDataRequest::hasHighSchoolId)
+                                            .map(GetPersonEducationDataRequest::getHighSchoolId)
+                                            .collect(Collectors.toSet());
+
+        if (highSchoolIds.isEmpty()) {
+            log.debug("No high school IDs to fetch");
+            return Collections.emptyMap();
+        }
+
+        return highSchoolService.findHighSchoolAddressesByIds(highSchoolIds);
+    }
+
+    /// Fetches field of study names of all batch requests with a single query.
+    ///
+    /// @param requests Education requests
+    /// @return Field of study number to a name map, unknown numbers are omitted
+    public Map<String, String> fetchBatchFieldsOfStudy(List<GetPersonEducationDataRequest> requests) {
+        Set<String> fieldOfStudyNumbers = requests.stream()
+                                                  .filter(GetPersonEducationDataRequest::hasHighSchoolFieldOfStudyNumber)
+                                                  .map(GetPersonEducationDataRequest::getHighSchoolFieldOfStudyNumber)
+                                                  .collect(Collectors.toSet());
+
+        if (fieldOfStudyNumbers.isEmpty()) {
+            log.debug("No field of study numbers to fetch");
+            return Collections.emptyMap();
+        }
+
+        return highSchoolFieldOfStudyService.findFieldOfStudyNames(fieldOfStudyNumbers);
+    }
+
 }
@@ -1,34 +1,71 @@
 package com.stag.platform.shared.grpc.service;
 
+import com.google.protobuf.Message;
+import com.stag.platform.address.index.CountryNames;
+import com.stag.platform.codelist.v1.BatchGetPersonAddressDataRequest;
+import com.stag.platform.codelist.v1.BatchGetPersonAddressDataResponse;
+import com.stag.platform.codelist.v1.BatchGetPersonBankingDataRequest;
+import com.stag.platform.codelist.v1.BatchGetPersonBankingDataResponse;
+import com.stag.platform.codelist.v1.BatchGetPersonEducationDataRequest;
+import com.stag.platform.codelist.v1.BatchGetPersonEducationDataResponse;
+import com.stag.platform.codelist.v1.BatchGetPersonProfileDataRequest;
+import com.stag.platform.codelist.v1.BatchGetPersonProfileDataResponse;
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
 import com.stag.platform.codelist.v1.CodelistMeaning;
 import com.stag.platform.codelist.v1.CodelistServiceGrpc;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotRequest;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotResponse;
 import com.stag.platform.codelist.v1.GetCodelistValuesRequest;
 import com.stag.platform.codelist.v1.GetCodelistValuesResponse;
 import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
 import com.stag.platform.codelist.v1.GetPersonAddressDataResponse;
 import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
 import com.stag.platform.codelist.v1.GetPersonBankingDataResponse;
+import com.stag.platform.codelist.v1.GetPersonDossierDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataResponse;
 import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
 import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataResponse;
+import com.stag.platform.codelist.v1.PersonAddressDataResult;
+import com.stag.platform.codelist.v1.PersonBankingDataResult;
+import com.stag.platform.codelist.v1.PersonEducationDataResult;
+import com.stag.platform.codelist.v1.PersonProfileDataResult;
+import com.stag.platform.codelist.v1.StreamCodelistValuesRequest;
+import com.stag.platform.codelist.v1.StreamCodelistValuesResponse;
+import com.stag.platform.codelist.v1.WatchCodelistChangesRequest;
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.service.dto.CodelistMeaningsLookup;
+import com.stag.platform.replica.CodelistReplicaService;
+import com.stag.platform.replica.CodelistReplicaState;
 import com.stag.platform.shared.grpc.mapper.CodelistMapper;
 import grpcstarter.server.GrpcService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static java.util.concurrent.StructuredTaskScope.Joiner.allSuccessfulOrThrow;
 
 /// **Codelist gRPC Service**
 ///
 /// Synchronous gRPC service implementation for codelist data retrieval.
-/// Orchestrates operations for fetching a person's profile, address, banking, and education data.
+/// Orchestrates operations for fetching a person's profile, address, banking, and education data,
+/// separately or combined into a single dossier call.
+/// Lookups of a person data RPC run concurrently, or on a single connection when
+/// [SingleConnectionPersonDataService] is enabled.
 ///
 /// @author Jakub Pavlíček
 /// @version 1.0.0
@@ -37,8 +74,17 @@ import static java.util.concurrent.StructuredTaskScope.Joiner.allSuccessfulOrThr
 @GrpcService
 public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImplBase {
 
+    /// Maximum number of records of one type in a snapshot chunk
+    private static final int SNAPSHOT_CHUNK_SIZE = 5_000;
+    /// Maximum number of change events queued for a slow watcher, above the change log size so catching up fits
+    private static final int WATCH_QUEUE_SIZE = 256;
+
     /// Codelist Data Service for data fetching
     private final CodelistDataService dataService;
+    /// Codelist Replica Service for client replicas
+    private final CodelistReplicaService replicaService;
+    /// Single connection execution of person data RPCs
+    private final SingleConnectionPersonDataService singleConnectionService;
 
     /// Retrieves codelist meanings for provided keys.
     ///
@@ -62,6 +108,74 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
         completeResponse(responseObserver, response);
     }
 
+    /// Resolves codelist meanings for a stream of key batches.
+    ///
+    /// Each request batch is resolved with a single snapshot lookup (and one IN-list query for snapshot misses)
+    /// and answered with one response batch. Flow control is manual: the next request batch is only pulled
+    /// once the previous response was sent and the transport is ready, so slow consumers apply backpressure.
+    /// Missing keys are reported in the response batch instead of failing the whole stream.
+    ///
+    /// @param responseObserver Response stream observer
+    /// @return Request stream observer
+    @Override
+    public StreamObserver<StreamCodelistValuesRequest> streamCodelistValues(
+        StreamObserver<StreamCodelistValuesResponse> responseObserver
+    ) {
+        log.info("Opening codelist values stream");
+
+        var serverObserver = (ServerCallStreamObserver<StreamCodelistValuesResponse>) responseObserver;
+        var wasReady = new AtomicBoolean(false);
+
+        serverObserver.disableAutoRequest();
+        serverObserver.setOnReadyHandler(() -> {
+            if (serverObserver.isReady() && wasReady.compareAndSet(false, true)) {
+                serverObserver.request(1);
+            }
+        });
+
+        return new StreamObserver<>() {
+
+            @Override
+            public void onNext(StreamCodelistValuesRequest request) {
+                try {
+                    CodelistMeaningsLookup lookup = dataService.lookupCodelistMeanings(
+                        request.getCodelistKeysList(), request.getLanguage()
+                    );
+
+                    serverObserver.onNext(
+                        StreamCodelistValuesResponse.newBuilder()
+                                                    .setBatchId(request.getBatchId())
+                                                    .addAllCodelistMeanings(CodelistMapper.INSTANCE.toCodelistMeanings(lookup.meanings()))
+                                                    .addAllMissingCodelistKeys(CodelistMapper.INSTANCE.toCodelistKeys(lookup.missingIds()))
+                                                    .build()
+                    );
+                } catch (RuntimeException e) {
+                    log.error("Error processing codelist values batch {}", request.getBatchId(), e);
+                    serverObserver.onError(batchStatus(e).withDescription(e.getMessage()).withCause(e).asRuntimeException());
+                    return;
+                }
+
+                if (serverObserver.isReady()) {
+                    serverObserver.request(1);
+                } else {
+                    wasReady.set(false);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Codelist values stream cancelled by client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("Codelist values stream completed");
+                serverObserver.onCompleted();
+            }
+
+        };
+    }
+
     /// Retrieves person profile data including codelist meanings and country names.
     ///
     /// @param request Request containing profile data and codelist keys
@@ -73,6 +187,11 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
     ) {
         log.info("Fetching person profile data");
 
+        if (singleConnectionService.isEnabled()) {
+            respondOnSingleConnection(responseObserver, () -> singleConnectionService.getPersonProfileData(request));
+            return;
+        }
+
         try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
             var codelistMeaningsTask = scope.fork(
                 () -> dataService.fetchCodelistMeanings(request.getCodelistKeysList(), request.getLanguage())
@@ -110,6 +229,11 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
     ) {
         log.info("Fetching person profile update data");
 
+        if (singleConnectionService.isEnabled()) {
+            respondOnSingleConnection(responseObserver, () -> singleConnectionService.getPersonProfileUpdateData(request));
+            return;
+        }
+
         try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
             var codelistLowValuesTask = scope.fork(
                 () -> dataService.fetchCodelistLowValues(
@@ -148,6 +272,11 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
     ) {
         log.info("Fetching person address data");
 
+        if (singleConnectionService.isEnabled()) {
+            respondOnSingleConnection(responseObserver, () -> singleConnectionService.getPersonAddressData(request));
+            return;
+        }
+
         try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
             var addressNamesTask = scope.fork(
                 () -> dataService.fetchAddressNames(request)
@@ -185,6 +314,11 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
     ) {
         log.info("Fetching person banking data");
 
+        if (singleConnectionService.isEnabled()) {
+            respondOnSingleConnection(responseObserver, () -> singleConnectionService.getPersonBankingData(request));
+            return;
+        }
+
         try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
             var codelistMeaningsTask = scope.fork(
                 () -> dataService.fetchCodelistMeanings(request.getCodelistKeysList(), request.getLanguage())
@@ -222,6 +356,11 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
     ) {
         log.info("Fetching person education data");
 
+        if (singleConnectionService.isEnabled()) {
+            respondOnSingleConnection(responseObserver, () -> singleConnectionService.getPersonEducationData(request));
+            return;
+        }
+
         try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
             var highSchoolAddressTask = scope.fork(
                 () -> dataService.fetchHighSchoolAddress(request.hasHighSchoolId(), request.getHighSchoolId())
@@ -255,6 +394,411 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
         }
     }
 
+    /// Retrieves all person data of a dossier in one call.
+    ///
+    /// The present parts share a single lookup pass: codelist meanings and country names of all parts are fetched
+    /// together, as in the batch RPCs. Unlike the batch RPCs, an unknown ID in any part fails the whole call
+    /// with the same status as the single-part RPC.
+    ///
+    /// @param request Request containing the profile, address, banking and education parts
+    /// @param responseObserver Response stream observer
+    @Override
+    public void getPersonDossierData(
+        GetPersonDossierDataRequest request,
+        StreamObserver<GetPersonDossierDataResponse> responseObserver
+    ) {
+        log.info("Fetching person dossier data");
+
+        if (singleConnectionService.isEnabled()) {
+            respondOnSingleConnection(responseObserver, () -> singleConnectionService.getPersonDossierData(request));
+            return;
+        }
+
+        List<Message> parts = new ArrayList<>(4);
+        if (request.hasProfile()) {
+            parts.add(request.getProfile());
+        }
+        if (request.hasAddress()) {
+            parts.add(request.getAddress());
+        }
+        if (request.hasBanking()) {
+            parts.add(request.getBanking());
+        }
+        if (request.hasEducation()) {
+            parts.add(request.getEducation());
+        }
+
+        try {
+            PersonBatchData batchData = fetchBatchData(parts);
+            completeResponse(responseObserver, buildPersonDossierDataResponse(request, batchData));
+        } catch (StructuredTaskScope.FailedException e) {
+            errorResponse(responseObserver, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorResponse(responseObserver, e);
+        }
+    }
+
+    /// Retrieves person profile data for a batch of persons.
+    ///
+    /// Lookups are deduplicated across the whole batch. Results keep the order of the requests,
+    /// a person with unknown IDs gets an error result without failing the rest of the batch.
+    ///
+    /// @param request Request containing per-person profile data requests
+    /// @param responseObserver Response stream observer
+    @Override
+    public void batchGetPersonProfileData(
+        BatchGetPersonProfileDataRequest request,
+        StreamObserver<BatchGetPersonProfileDataResponse> responseObserver
+    ) {
+        log.info("Fetching person profile data for a batch of {} persons", request.getRequestsCount());
+
+        try {
+            PersonBatchData batchData = fetchBatchData(request.getRequestsList());
+
+            var results = CodelistMapper.INSTANCE.buildBatchResults(
+                request.getRequestsList(),
+                item -> CodelistMapper.INSTANCE.buildPersonProfileDataResponse(
+                    item,
+                    batchData.codelistMeanings(item.getCodelistKeysList(), item.getLanguage()),
+                    batchData.countryNames(item, item.getLanguage())
+                ),
+                data -> PersonProfileDataResult.newBuilder().setData(data).build(),
+                error -> PersonProfileDataResult.newBuilder().setError(error).build()
+            );
+
+            completeResponse(responseObserver, BatchGetPersonProfileDataResponse.newBuilder().addAllResults(results).build());
+        } catch (StructuredTaskScope.FailedException e) {
+            errorResponse(responseObserver, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorResponse(responseObserver, e);
+        }
+    }
+
+    /// Retrieves person address data for a batch of persons.
+    ///
+    /// @param request Request containing per-person address data requests
+    /// @param responseObserver Response stream observer
+    @Override
+    public void batchGetPersonAddressData(
+        BatchGetPersonAddressDataRequest request,
+        StreamObserver<BatchGetPersonAddressDataResponse> responseObserver
+    ) {
+        log.info("Fetching person address data for a batch of {} persons", request.getRequestsCount());
+
+        try {
+            PersonBatchData batchData = fetchBatchData(request.getRequestsList());
+
+            var results = CodelistMapper.INSTANCE.buildBatchResults(
+                request.getRequestsList(),
+                item -> CodelistMapper.INSTANCE.buildPersonAddressDataResponse(
+                    item,
+                    batchData.addressNames(item),
+                    batchData.countryNames(item, item.getLanguage())
+                ),
+                data -> PersonAddressDataResult.newBuilder().setData(data).build(),
+                error -> PersonAddressDataResult.newBuilder().setError(error).build()
+            );
+
+            completeResponse(responseObserver, BatchGetPersonAddressDataResponse.newBuilder().addAllResults(results).build());
+        } catch (StructuredTaskScope.FailedException e) {
+            errorResponse(responseObserver, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorResponse(responseObserver, e);
+        }
+    }
+
+    /// Retrieves person banking data for a batch of persons.
+    ///
+    /// @param request Request containing per-person banking data requests
+    /// @param responseObserver Response stream observer
+    @Override
+    public void batchGetPersonBankingData(
+        BatchGetPersonBankingDataRequest request,
+        StreamObserver<BatchGetPersonBankingDataResponse> responseObserver
+    ) {
+        log.info("Fetching person banking data for a batch of {} persons", request.getRequestsCount());
+
+        try {
+            PersonBatchData batchData = fetchBatchData(request.getRequestsList());
+
+            var results = CodelistMapper.INSTANCE.buildBatchResults(
+                request.getRequestsList(),
+                item -> CodelistMapper.INSTANCE.buildPersonBankingDataResponse(
+                    item,
+                    batchData.codelistMeanings(item.getCodelistKeysList(), item.getLanguage()),
+                    batchData.countryNames(item, item.getLanguage())
+                ),
+                data -> PersonBankingDataResult.newBuilder().setData(data).build(),
+                error -> PersonBankingDataResult.newBuilder().setError(error).build()
+            );
+
+            completeResponse(responseObserver, BatchGetPersonBankingDataResponse.newBuilder().addAllResults(results).build());
+        } catch (StructuredTaskScope.FailedException e) {
+            errorResponse(responseObserver, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorResponse(responseObserver, e);
+        }
+    }
+
+    /// Retrieves person education data for a batch of persons.
+    ///
+    /// @param request Request containing per-person education data requests
+    /// @param responseObserver Response stream observer
+    @Override
+    public void batchGetPersonEducationData(
+        BatchGetPersonEducationDataRequest request,
+        StreamObserver<BatchGetPersonEducationDataResponse> responseObserver
+    ) {
+        log.info("Fetching person education data for a batch of {} persons", request.getRequestsCount());
+
+        try {
+            PersonBatchData batchData = fetchBatchData(request.getRequestsList());
+
+            var results = CodelistMapper.INSTANCE.buildBatchResults(
+                request.getRequestsList(),
+                item -> CodelistMapper.INSTANCE.buildPersonEducationDataResponse(
+                    item,
+                    batchData.highSchoolAddress(item),
+                    batchData.fieldOfStudy(item),
+                    batchData.countryNames(item, item.getLanguage())
+                ),
+                data -> PersonEducationDataResult.newBuilder().setData(data).build(),
+                error -> PersonEducationDataResult.newBuilder().setError(error).build()
+            );
+
+            completeResponse(responseObserver, BatchGetPersonEducationDataResponse.newBuilder().addAllResults(results).build());
+        } catch (StructuredTaskScope.FailedException e) {
+            errorResponse(responseObserver, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorResponse(responseObserver, e);
+        }
+    }
+
+    /// Streams the current replica state in gzip-compressed chunks.
+    ///
+    /// All chunks carry the same replica ID and version, a client has to read the stream to the end
+    /// before replacing its replica. Version 0 means the state was not loaded yet.
+    ///
+    /// @param request Snapshot request
+    /// @param responseObserver Response stream observer
+    @Override
+    public void getCodelistSnapshot(
+        GetCodelistSnapshotRequest request,
+        StreamObserver<GetCodelistSnapshotResponse> responseObserver
+    ) {
+        CodelistReplicaState state = replicaService.current();
+        log.info("Streaming codelist snapshot version {} with {} records", state.version(), state.size());
+
+        var serverObserver = (ServerCallStreamObserver<GetCodelistSnapshotResponse>) responseObserver;
+        serverObserver.setCompression("gzip");
+
+        var chunk = newSnapshotChunk(state);
+        int chunkSize = 0;
+
+        for (var entry : state.entries().entrySet()) {
+            chunk.addCodelistEntries(CodelistMapper.INSTANCE.toCodelistEntryRecord(entry.getKey(), entry.getValue()));
+            if (++chunkSize == SNAPSHOT_CHUNK_SIZE) {
+                serverObserver.onNext(chunk.build());
+                chunk = newSnapshotChunk(state);
+                chunkSize = 0;
+            }
+        }
+
+        for (var country : state.countries().values()) {
+            chunk.addCountries(CodelistMapper.INSTANCE.toCountryRecord(country));
+            if (++chunkSize == SNAPSHOT_CHUNK_SIZE) {
+                serverObserver.onNext(chunk.build());
+                chunk = newSnapshotChunk(state);
+                chunkSize = 0;
+            }
+        }
+
+        for (var addressPlace : state.addressPlaces().values()) {
+            chunk.addAddressPlaces(CodelistMapper.INSTANCE.toAddressPlaceRecord(addressPlace));
+            if (++chunkSize == SNAPSHOT_CHUNK_SIZE) {
+                serverObserver.onNext(chunk.build());
+                chunk = newSnapshotChunk(state);
+                chunkSize = 0;
+            }
+        }
+
+        serverObserver.onNext(chunk.build());
+        serverObserver.onCompleted();
+    }
+
+    /// Pushes replica deltas newer than the client version until the client cancels the stream.
+    ///
+    /// Deltas still in the change log are sent right away. When the client version cannot be continued
+    /// (another instance, too old, or not loaded yet) a reset event tells the client to reload the snapshot.
+    /// Deltas are queued per client and sent while the transport is ready, a client falling
+    /// [#WATCH_QUEUE_SIZE] events behind has its stream failed and reconnects from its last version.
+    ///
+    /// @param request Watch request with the last version applied by the client
+    /// @param responseObserver Response stream observer
+    @Override
+    public void watchCodelistChanges(
+        WatchCodelistChangesRequest request,
+        StreamObserver<CodelistChangeEvent> responseObserver
+    ) {
+        log.info("Opening codelist change stream from version {}", request.getFromVersion());
+
+        var serverObserver = (ServerCallStreamObserver<CodelistChangeEvent>) responseObserver;
+        serverObserver.setCompression("gzip");
+
+        var stream = new CodelistChangeStream(serverObserver, replicaService.getReplicaId(), WATCH_QUEUE_SIZE);
+        serverObserver.setOnReadyHandler(stream::drain);
+        serverObserver.setOnCancelHandler(() -> {
+            log.info("Codelist change stream closed by client");
+            stream.close();
+        });
+
+        stream.subscribed(replicaService.subscribe(request.getReplicaId(), request.getFromVersion(), stream::push));
+    }
+
+    /// Fetches lookup data shared by all persons of a batch.
+    ///
+    /// Codelist meanings and country names are fetched once per language, address names, high schools
+    /// and fields of study once for the whole batch. All lookups run concurrently and are lenient,
+    /// unknown IDs are reported per person by [PersonBatchData].
+    ///
+    /// @param requests Per-person gRPC request messages
+    /// @return Lookup data of the batch
+    /// @throws InterruptedException if interrupted while waiting for the lookups
+    private PersonBatchData fetchBatchData(List<? extends Message> requests) throws InterruptedException {
+        List<Message> batchRequests = List.copyOf(requests);
+
+        Map<String, List<Message>> requestsByLanguage = batchRequests.stream()
+                                                                     .collect(Collectors.groupingBy(CodelistMapper.INSTANCE::extractLanguage));
+
+        List<GetPersonAddressDataRequest> addressRequests = filterRequests(batchRequests, GetPersonAddressDataRequest.class);
+        List<GetPersonEducationDataRequest> educationRequests = filterRequests(batchRequests, GetPersonEducationDataRequest.class);
+
+        try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
+            Map<String, StructuredTaskScope.Subtask<Map<CodelistEntryId, CodelistMeaning>>> codelistMeaningsTasks = new HashMap<>();
+            Map<String, StructuredTaskScope.Subtask<CountryNames>> countryNamesTasks = new HashMap<>();
+
+            for (Map.Entry<String, List<Message>> entry : requestsByLanguage.entrySet()) {
+                String language = entry.getKey();
+                List<Message> languageRequests = entry.getValue();
+
+                codelistMeaningsTasks.put(language, scope.fork(
+                    () -> dataService.fetchBatchCodelistMeanings(languageRequests, language)
+                ));
+
+                countryNamesTasks.put(language, scope.fork(
+                    () -> dataService.fetchBatchCountryNames(languageRequests, language)
+                ));
+            }
+
+            var addressNamesTask = scope.fork(
+                () -> dataService.fetchBatchAddressNames(addressRequests)
+            );
+
+            var highSchoolAddressesTask = scope.fork(
+                () -> dataService.fetchBatchHighSchoolAddresses(educationRequests)
+            );
+
+            var fieldsOfStudyTask = scope.fork(
+                () -> dataService.fetchBatchFieldsOfStudy(educationRequests)
+            );
+
+            scope.join();
+
+            return new PersonBatchData(
+                taskResults(codelistMeaningsTasks),
+                taskResults(countryNamesTasks),
+                addressNamesTask.get(),
+                highSchoolAddressesTask.get(),
+                fieldsOfStudyTask.get()
+            );
+        }
+    }
+
+    /// Builds the dossier response from the shared lookup data of its parts.
+    ///
+    /// @param request Dossier request
+    /// @param batchData Lookup data of all parts
+    /// @return Dossier response containing the requested parts
+    private GetPersonDossierDataResponse buildPersonDossierDataResponse(
+        GetPersonDossierDataRequest request,
+        PersonBatchData batchData
+    ) {
+        var response = GetPersonDossierDataResponse.newBuilder();
+
+        if (request.hasProfile()) {
+            GetPersonProfileDataRequest profile = request.getProfile();
+            response.setProfile(CodelistMapper.INSTANCE.buildPersonProfileDataResponse(
+                profile,
+                batchData.codelistMeanings(profile.getCodelistKeysList(), profile.getLanguage()),
+                batchData.countryNames(profile, profile.getLanguage())
+            ));
+        }
+        if (request.hasAddress()) {
+            GetPersonAddressDataRequest address = request.getAddress();
+            response.setAddress(CodelistMapper.INSTANCE.buildPersonAddressDataResponse(
+                address,
+                batchData.addressNames(address),
+                batchData.countryNames(address, address.getLanguage())
+            ));
+        }
+        if (request.hasBanking()) {
+            GetPersonBankingDataRequest banking = request.getBanking();
+            response.setBanking(CodelistMapper.INSTANCE.buildPersonBankingDataResponse(
+                banking,
+                batchData.codelistMeanings(banking.getCodelistKeysList(), banking.getLanguage()),
+                batchData.countryNames(banking, banking.getLanguage())
+            ));
+        }
+        if (request.hasEducation()) {
+            GetPersonEducationDataRequest education = request.getEducation();
+            response.setEducation(CodelistMapper.INSTANCE.buildPersonEducationDataResponse(
+                education,
+                batchData.highSchoolAddress(education),
+                batchData.fieldOfStudy(education),
+                batchData.countryNames(education, education.getLanguage())
+            ));
+        }
+
+        return response.build();
+    }
+
+    /// Creates an empty snapshot chunk of a replica state.
+    ///
+    /// @param state Replica state
+    /// @return Snapshot chunk builder
+    private GetCodelistSnapshotResponse.Builder newSnapshotChunk(CodelistReplicaState state) {
+        return GetCodelistSnapshotResponse.newBuilder()
+                                          .setReplicaId(replicaService.getReplicaId())
+                                          .setVersion(state.version());
+    }
+
+    /// Selects batch requests of the given type.
+    ///
+    /// @param requests Batch requests
+    /// @param type Request type
+    /// @return Requests of the given type
+    private static <T extends Message> List<T> filterRequests(List<Message> requests, Class<T> type) {
+        return requests.stream()
+                       .filter(type::isInstance)
+                       .map(type::cast)
+                       .toList();
+    }
+
+    /// Collects results of completed per-language subtasks.
+    ///
+    /// @param tasks Subtasks by language
+    /// @return Results by language
+    private static <T> Map<String, T> taskResults(Map<String, StructuredTaskScope.Subtask<T>> tasks) {
+        Map<String, T> results = HashMap.newHashMap(tasks.size());
+        tasks.forEach((language, task) -> results.put(language, task.get()));
+        return results;
+    }
+
     /// Completes the gRPC response by sending the result and marking the stream as completed.
     ///
     /// @param responseObserver Response stream observer
@@ -264,6 +808,24 @@ public class CodelistGrpcService extends CodelistServiceGrpc.CodelistServiceImpl
         responseObserver.onCompleted();
     }
 
+    /// Completes the gRPC response with a person data response built on a single connection.
+    ///
+    /// Failures propagate, so the global gRPC exception handler maps them to their status.
+    ///
+    /// @param responseObserver Response stream observer
+    /// @param response Builds the response
+    private <T> void respondOnSingleConnection(StreamObserver<T> responseObserver, Supplier<T> response) {
+        completeResponse(responseObserver, response.get());
+    }
+
+    /// Maps a failed stream batch to its status, the stream is not covered by the global gRPC exception handler.
+    ///
+    /// @param ex Exception of the batch
+    /// @return `INVALID_ARGUMENT` for an invalid request batch, `INTERNAL` otherwise
+    private static Status batchStatus(RuntimeException ex) {
+        return ex instanceof IllegalArgumentException ? Status.INVALID_ARGUMENT : Status.INTERNAL;
+    }
+
     /// Handles errors by logging and sending error status to the client.
     ///
     /// @param responseObserver Response stream observer
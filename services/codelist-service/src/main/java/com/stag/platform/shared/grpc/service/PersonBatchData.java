@@ -0,0 +1,146 @@
+package com.stag.platform.shared.grpc.service;
+
+import com.google.protobuf.Message;
+import com.stag.platform.address.exception.CountriesNotFoundException;
+import com.stag.platform.address.exception.MunicipalityPartsNotFoundException;
+import com.stag.platform.address.index.CountryNames;
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.codelist.v1.CodelistKey;
+import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
+import com.stag.platform.education.exception.HighSchoolFieldOfStudyNotFoundException;
+import com.stag.platform.education.exception.HighSchoolNotFoundException;
+import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.exception.CodelistEntriesNotFoundException;
+import com.stag.platform.shared.grpc.mapper.CodelistMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/// **Person Batch Data**
+///
+/// Lookup data shared by all persons of a batch request, fetched once per entity type (and language).
+/// Accessors resolve the data of a single person and raise the same not-found exceptions
+/// as the single-person RPCs, so a person with unknown IDs fails on its own.
+///
+/// @param codelistMeanings Codelist meanings per language
+/// @param countryNames Country names per language
+/// @param addressNames Address place names by municipality part ID
+/// @param highSchoolAddresses High school addresses by high school ID
+/// @param fieldsOfStudy Field of study names by field of study number
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+record PersonBatchData(
+    Map<String, Map<CodelistEntryId, CodelistMeaning>> codelistMeanings,
+    Map<String, CountryNames> countryNames,
+    Map<Long, AddressPlaceNameProjection> addressNames,
+    Map<String, HighSchoolAddressProjection> highSchoolAddresses,
+    Map<String, String> fieldsOfStudy
+) {
+
+    /// Resolves codelist meanings of a single person.
+    ///
+    /// @param codelistKeys Codelist keys of the person
+    /// @param language Language code
+    /// @return List of codelist meanings
+    /// @throws CodelistEntriesNotFoundException if any keys are missing
+    List<CodelistMeaning> codelistMeanings(List<CodelistKey> codelistKeys, String language) {
+        Map<CodelistEntryId, CodelistMeaning> meanings = codelistMeanings.getOrDefault(language, Map.of());
+        List<CodelistMeaning> found = new ArrayList<>(codelistKeys.size());
+        List<CodelistEntryId> missingIds = new ArrayList<>();
+
+        for (CodelistEntryId id : CodelistMapper.INSTANCE.toCodelistEntryIds(codelistKeys)) {
+            CodelistMeaning meaning = meanings.get(id);
+            if (meaning != null) {
+                found.add(meaning);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            throw new CodelistEntriesNotFoundException(missingIds);
+        }
+
+        return found;
+    }
+
+    /// Resolves country names of a single person.
+    ///
+    /// @param request gRPC request message of the person
+    /// @param language Language code
+    /// @return Country names view
+    /// @throws CountriesNotFoundException if any IDs are missing
+    CountryNames countryNames(Message request, String language) {
+        CountryNames names = countryNames.getOrDefault(language, CountryNames.empty());
+        List<Integer> missingIds = new ArrayList<>();
+
+        for (int countryId : CodelistMapper.INSTANCE.extractCountryIds(request)) {
+            if (!names.contains(countryId)) {
+                missingIds.add(countryId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            throw new CountriesNotFoundException(missingIds);
+        }
+
+        return names;
+    }
+
+    /// Resolves address place names of a single person.
+    ///
+    /// @param request gRPC request message of the person
+    /// @return Municipality part ID to an address name map
+    /// @throws MunicipalityPartsNotFoundException if any IDs are missing
+    Map<Long, AddressPlaceNameProjection> addressNames(Message request) {
+        List<Long> missingIds = CodelistMapper.INSTANCE.extractMunicipalityPartIds(request)
+                                                       .stream()
+                                                       .filter(id -> !addressNames.containsKey(id))
+                                                       .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new MunicipalityPartsNotFoundException(missingIds);
+        }
+
+        return addressNames;
+    }
+
+    /// Resolves the high school address of a single person.
+    ///
+    /// @param request Education request of the person
+    /// @return High school address or null if no high school ID is present
+    /// @throws HighSchoolNotFoundException if the high school is missing
+    HighSchoolAddressProjection highSchoolAddress(GetPersonEducationDataRequest request) {
+        if (!request.hasHighSchoolId()) {
+            return null;
+        }
+
+        HighSchoolAddressProjection address = highSchoolAddresses.get(request.getHighSchoolId());
+        if (address == null) {
+            throw new HighSchoolNotFoundException(request.getHighSchoolId());
+        }
+        return address;
+    }
+
+    /// Resolves the field of study name of a single person.
+    ///
+    /// @param request Education request of the person
+    /// @return Field of study name or null if no field of study number is present
+    /// @throws HighSchoolFieldOfStudyNotFoundException if the field of study is missing
+    String fieldOfStudy(GetPersonEducationDataRequest request) {
+        if (!request.hasHighSchoolFieldOfStudyNumber()) {
+            return null;
+        }
+
+        String name = fieldsOfStudy.get(request.getHighSchoolFieldOfStudyNumber());
+        if (name == null) {
+            throw new HighSchoolFieldOfStudyNotFoundException(request.getHighSchoolFieldOfStudyNumber());
+        }
+        return name;
+    }
+
+}
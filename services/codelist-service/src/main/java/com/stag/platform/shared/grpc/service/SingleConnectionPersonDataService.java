@@ -0,0 +1,170 @@
+package com.stag.platform.shared.grpc.service;
+
+import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
+import com.stag.platform.codelist.v1.GetPersonAddressDataResponse;
+import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
+import com.stag.platform.codelist.v1.GetPersonBankingDataResponse;
+import com.stag.platform.codelist.v1.GetPersonDossierDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataResponse;
+import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
+import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
+import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
+import com.stag.platform.codelist.v1.GetPersonProfileDataResponse;
+import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataRequest;
+import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataResponse;
+import com.stag.platform.education.service.dto.EducationLookup;
+import com.stag.platform.shared.grpc.mapper.CodelistMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/// **Single Connection Person Data Service**
+///
+/// Alternative execution of the person data RPCs enabled by `codelist.grpc.single-connection`.
+///
+/// Instead of forking a subtask per lookup, where each subtask that misses the in-memory indexes borrows its own
+/// pooled connection, all lookups of an RPC run sequentially in one read-only transaction. An RPC therefore holds
+/// at most one connection, and none when everything is served from memory, as the connection is acquired lazily.
+/// The high school address and the field of study name are resolved with a single `UNION ALL` query.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+class SingleConnectionPersonDataService {
+
+    /// Codelist Data Service for data fetching
+    private final CodelistDataService dataService;
+    /// Read-only transaction binding one connection to the RPC
+    private final TransactionTemplate transactionTemplate;
+    /// Whether person data RPCs use this execution
+    private final boolean enabled;
+
+    /// Creates the single connection execution.
+    ///
+    /// @param dataService Codelist data service
+    /// @param transactionManager Transaction manager
+    /// @param enabled Whether person data RPCs use this execution
+    SingleConnectionPersonDataService(
+        CodelistDataService dataService,
+        PlatformTransactionManager transactionManager,
+        @Value("${codelist.grpc.single-connection:false}") boolean enabled
+    ) {
+        this.dataService = dataService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /// Checks whether person data RPCs use this execution.
+    ///
+    /// @return True if enabled
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /// Retrieves person profile data including codelist meanings and country names.
+    ///
+    /// @param request Request containing profile data and codelist keys
+    /// @return Person profile data response
+    public GetPersonProfileDataResponse getPersonProfileData(GetPersonProfileDataRequest request) {
+        return inTransaction(() -> CodelistMapper.INSTANCE.buildPersonProfileDataResponse(
+            request,
+            dataService.fetchCodelistMeanings(request.getCodelistKeysList(), request.getLanguage()),
+            dataService.fetchCountryNames(request, request.getLanguage())
+        ));
+    }
+
+    /// Retrieves person profile update data including low values and country ID.
+    ///
+    /// @param request Request containing marital status, titles, and country name
+    /// @return Person profile update data response
+    public GetPersonProfileUpdateDataResponse getPersonProfileUpdateData(GetPersonProfileUpdateDataRequest request) {
+        return inTransaction(() -> CodelistMapper.INSTANCE.buildPersonProfileUpdateDataResponse(
+            dataService.fetchCodelistLowValues(request.getMaritalStatus(), request.getTitlePrefix(), request.getTitleSuffix()),
+            dataService.fetchCountryId(request.getBirthCountryName())
+        ));
+    }
+
+    /// Retrieves person address data including municipality and country information.
+    ///
+    /// @param request Request containing address IDs and language
+    /// @return Person address data response
+    public GetPersonAddressDataResponse getPersonAddressData(GetPersonAddressDataRequest request) {
+        return inTransaction(() -> CodelistMapper.INSTANCE.buildPersonAddressDataResponse(
+            request,
+            dataService.fetchAddressNames(request),
+            dataService.fetchCountryNames(request, request.getLanguage())
+        ));
+    }
+
+    /// Retrieves person's banking data including codelist meanings and country name.
+    ///
+    /// @param request Request containing banking data and codelist keys
+    /// @return Person banking data response
+    public GetPersonBankingDataResponse getPersonBankingData(GetPersonBankingDataRequest request) {
+        return inTransaction(() -> CodelistMapper.INSTANCE.buildPersonBankingDataResponse(
+            request,
+            dataService.fetchCodelistMeanings(request.getCodelistKeysList(), request.getLanguage()),
+            dataService.fetchCountryNames(request, request.getLanguage())
+        ));
+    }
+
+    /// Retrieves person's education data including high school and field of study information.
+    ///
+    /// @param request Request containing education IDs and language
+    /// @return Person education data response
+    public GetPersonEducationDataResponse getPersonEducationData(GetPersonEducationDataRequest request) {
+        return inTransaction(() -> {
+            EducationLookup educationLookup = dataService.fetchEducationLookup(request);
+
+            return CodelistMapper.INSTANCE.buildPersonEducationDataResponse(
+                request,
+                educationLookup.highSchoolAddress(),
+                educationLookup.fieldOfStudyName(),
+                dataService.fetchCountryNames(request, request.getLanguage())
+            );
+        });
+    }
+
+    /// Retrieves all present parts of a person dossier.
+    ///
+    /// The parts are built one after another, each joining the same read-only transaction,
+    /// so the whole dossier holds at most one connection.
+    ///
+    /// @param request Request containing the profile, address, banking and education parts
+    /// @return Dossier response containing the requested parts
+    public GetPersonDossierDataResponse getPersonDossierData(GetPersonDossierDataRequest request) {
+        return inTransaction(() -> {
+            var response = GetPersonDossierDataResponse.newBuilder();
+
+            if (request.hasProfile()) {
+                response.setProfile(getPersonProfileData(request.getProfile()));
+            }
+            if (request.hasAddress()) {
+                response.setAddress(getPersonAddressData(request.getAddress()));
+            }
+            if (request.hasBanking()) {
+                response.setBanking(getPersonBankingData(request.getBanking()));
+            }
+            if (request.hasEducation()) {
+                response.setEducation(getPersonEducationData(request.getEducation()));
+            }
+
+            return response.build();
+        });
+    }
+
+    /// Runs the lookups of an RPC in the read-only transaction.
+    ///
+    /// @param lookups Lookups building the response
+    /// @return Response
+    private <T> T inTransaction(Supplier<T> lookups) {
+        return transactionTemplate.execute(_ -> lookups.get());
+    }
+
+}
@@ -0,0 +1,382 @@
+package com.stag.platform.shared.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/// **Conditional Responses**
+///
+/// Builds cacheable REST responses with `ETag`, `Cache-Control` and `Vary` headers.
+///
+/// ETags of recently served cache entries are tracked in memory, so a request whose `If-None-Match`
+/// matches is answered with `304 Not Modified` without reading the cache or serializing the body.
+/// A tracked ETag expires together with the cache entry it was computed for, or is replaced earlier
+/// when refresh-ahead reloads the entry. An ETag of older content never replaces a newer tracked one.
+///
+/// When `codelist.http-cache.serialized-bodies` is enabled and the client accepts gzip, the final
+/// gzip-compressed JSON body is cached in `<cache name>-body` and written to the response as is.
+/// Other clients are served from the object cache, which also feeds the body cache on a miss.
+/// Body cache keys equal the keys of the object cache, a refreshed entry drops its body and a body
+/// built from content older than the tracked ETag is serialized again.
+/// The gzip representation carries its own strong ETag (the content ETag with a `-gzip` suffix),
+/// `If-None-Match` accepts either form.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Component
+public class ConditionalResponses {
+
+    /// Suffix of caches holding serialized bodies
+    private static final String BODY_CACHE_SUFFIX = "-body";
+    /// Gzip content coding
+    private static final String GZIP = "gzip";
+    /// Suffix distinguishing the ETag of the gzip representation
+    private static final String GZIP_ETAG_SUFFIX = "-" + GZIP;
+
+    /// Cache Manager
+    private final CacheManager cacheManager;
+    /// JSON mapper used by Spring MVC
+    private final JsonMapper jsonMapper;
+    /// Current request (proxy)
+    private final HttpServletRequest request;
+    /// Current response (proxy)
+    private final HttpServletResponse response;
+    /// Whether serialized bodies are cached
+    private final boolean serializedBodies;
+    /// Lifetime of cache entries, tracked ETags expire with them
+    private final Duration entryTimeToLive;
+    /// Maximum number of tracked ETags
+    private final int maxTrackedETags;
+    /// Cache-Control header of cacheable responses
+    private final CacheControl cacheControl;
+    /// Tracked ETags by cache name and key
+    private final Map<String, TrackedETag> trackedETags = new ConcurrentHashMap<>();
+
+    /// Creates the conditional responses support and registers its metrics.
+    ///
+    /// @param cacheManager Cache manager
+    /// @param jsonMapper JSON mapper used by Spring MVC
+    /// @param request Current request (proxy)
+    /// @param response Current response (proxy)
+    /// @param meterRegistry Meter registry
+    /// @param serializedBodies Whether serialized bodies are cached
+    /// @param entryTimeToLive Lifetime of cache entries
+    /// @param maxAge Max age of responses in browser and gateway caches
+    /// @param staleWhileRevalidate Time a stale response may be served while revalidating
+    /// @param maxTrackedETags Maximum number of tracked ETags
+    public ConditionalResponses(
+        CacheManager cacheManager,
+        JsonMapper jsonMapper,
+        HttpServletRequest request,
+        HttpServletResponse response,
+        MeterRegistry meterRegistry,
+        @Value("${codelist.http-cache.serialized-bodies:true}") boolean serializedBodies,
+        @Value("${spring.cache.redis.time-to-live:PT5M}") Duration entryTimeToLive,
+        @Value("${codelist.http-cache.max-age:PT5M}") Duration maxAge,
+        @Value("${codelist.http-cache.stale-while-revalidate:PT1H}") Duration staleWhileRevalidate,
+        @Value("${codelist.http-cache.max-tracked-etags:10000}") int maxTrackedETags
+    ) {
+        this.cacheManager = cacheManager;
+        this.jsonMapper = jsonMapper;
+        this.request = request;
+        this.response = response;
+        this.serializedBodies = serializedBodies;
+        this.entryTimeToLive = entryTimeToLive;
+        this.maxTrackedETags = maxTrackedETags;
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                                        .staleWhileRevalidate(staleWhileRevalidate)
+                                        .cachePublic();
+
+        Gauge.builder("codelist.http-cache.tracked-etags", trackedETags, Map::size)
+             .description("Number of ETags answered without reading the cache")
+             .register(meterRegistry);
+    }
+
+    /// Responds with cached content, or with `304 Not Modified` if the client already has it.
+    ///
+    /// @param cacheName Name of the cache holding the content
+    /// @param key Cache key of the content
+    /// @param ifNoneMatch Value of the `If-None-Match` header, may be null
+    /// @param loader Loads the (cached) content
+    /// @param toBody Maps the content to the response body
+    /// @param <C> Content type
+    /// @param <B> Response body type
+    /// @return Response with the body or an empty `304 Not Modified` response,
+    ///         null when the cached gzip body was written to the response directly
+    public <C, B> ResponseEntity<B> respond(
+        String cacheName,
+        Object key,
+        String ifNoneMatch,
+        Supplier<ETaggedContent<C>> loader,
+        Function<C, B> toBody
+    ) {
+        String trackingKey = trackingKey(cacheName, key);
+
+        boolean gzip = serializedBodies && acceptsGzip();
+
+        TrackedETag tracked = trackedETags.get(trackingKey);
+        if (tracked != null && tracked.expiresAt().isAfter(Instant.now()) && matches(ifNoneMatch, tracked.etag())) {
+            log.debug("ETag {} of {} still valid, skipping cache lookup", tracked.etag(), trackingKey);
+            return notModified(gzip ? gzipETag(tracked.etag()) : tracked.etag());
+        }
+
+        if (gzip) {
+            return respondSerialized(cacheName, key, trackingKey, ifNoneMatch, loader, toBody);
+        }
+
+        ETaggedContent<C> content = loader.get();
+        track(trackingKey, content.etag(), content.builtAt());
+
+        if (matches(ifNoneMatch, content.etag())) {
+            return notModified(content.etag());
+        }
+
+        return ResponseEntity.ok()
+                             .eTag(content.etag())
+                             .cacheControl(cacheControl)
+                             .varyBy(HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT_ENCODING)
+                             .body(toBody.apply(content.content()));
+    }
+
+    /// Responds with the cached gzip-compressed body, serializing it from the content on a miss.
+    ///
+    /// The generated API interfaces declare the DTO as the body type, so the bytes are written
+    /// to the servlet response directly and no response entity is returned.
+    ///
+    /// @param cacheName Name of the cache holding the content
+    /// @param key Cache key of the content
+    /// @param trackingKey Cache name and key
+    /// @param ifNoneMatch Value of the `If-None-Match` header, may be null
+    /// @param loader Loads the (cached) content
+    /// @param toBody Maps the content to the response body
+    /// @return Empty `304 Not Modified` response, or null when the body was written
+    private <C, B> ResponseEntity<B> respondSerialized(
+        String cacheName,
+        Object key,
+        String trackingKey,
+        String ifNoneMatch,
+        Supplier<ETaggedContent<C>> loader,
+        Function<C, B> toBody
+    ) {
+        Cache bodyCache = cacheManager.getCache(cacheName + BODY_CACHE_SUFFIX);
+        SerializedBody body = bodyCache == null
+            ? serialize(loader.get(), toBody)
+            : bodyCache.get(key, () -> serialize(loader.get(), toBody));
+
+        if (bodyCache != null && isOutdated(trackingKey, body)) {
+            log.debug("Serialized body of {} predates its tracked ETag, serializing it again", trackingKey);
+            body = serialize(loader.get(), toBody);
+            bodyCache.put(key, body);
+        }
+
+        track(trackingKey, body.etag(), body.builtAt());
+
+        String etag = gzipETag(body.etag());
+        if (matches(ifNoneMatch, body.etag())) {
+            return notModified(etag);
+        }
+
+        writeSerialized(body.gzipJson(), etag);
+        return null;
+    }
+
+    /// Replaces the tracked ETag of content reloaded by refresh-ahead and drops its serialized body,
+    /// so clients holding the previous ETag get the reloaded content instead of `304 Not Modified`.
+    ///
+    /// @param cacheName Name of the cache holding the content
+    /// @param key Cache key of the content
+    /// @param content Reloaded content
+    public void refreshed(String cacheName, Object key, ETaggedContent<?> content) {
+        track(trackingKey(cacheName, key), content.etag(), content.builtAt());
+
+        Cache bodyCache = cacheManager.getCache(cacheName + BODY_CACHE_SUFFIX);
+        if (bodyCache != null) {
+            bodyCache.evict(key);
+        }
+    }
+
+    /// Checks whether a serialized body was built from content older than its tracked ETag,
+    /// which happens when a request races the refresh of its entry.
+    ///
+    /// @param trackingKey Cache name and key
+    /// @param body Serialized body
+    /// @return True if the tracked ETag belongs to newer content
+    private boolean isOutdated(String trackingKey, SerializedBody body) {
+        TrackedETag tracked = trackedETags.get(trackingKey);
+        return tracked != null && body.builtAt().plus(entryTimeToLive).isBefore(tracked.expiresAt());
+    }
+
+    /// Writes a gzip-compressed JSON body with the headers of a cacheable response.
+    ///
+    /// @param gzipJson Gzip-compressed JSON body
+    /// @param etag Quoted ETag of the gzip representation
+    private void writeSerialized(byte[] gzipJson, String etag) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE + ", " + HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(gzipJson.length);
+
+        try {
+            response.getOutputStream().write(gzipJson);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write response body", e);
+        }
+    }
+
+    /// Maps content to the response body and serializes it to gzip-compressed JSON.
+    ///
+    /// @param content Content with ETag
+    /// @param toBody Maps the content to the response body
+    /// @return Serialized body
+    private <C, B> SerializedBody serialize(ETaggedContent<C> content, Function<C, B> toBody) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(jsonMapper.writeValueAsBytes(toBody.apply(content.content())));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress response body", e);
+        }
+
+        return new SerializedBody(bytes.toByteArray(), content.etag(), content.builtAt());
+    }
+
+    /// Checks whether the current request accepts gzip content coding.
+    ///
+    /// @return True if `Accept-Encoding` lists gzip without `q=0`
+    private boolean acceptsGzip() {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].strip().equalsIgnoreCase(GZIP)) {
+                return parts.length == 1 || !parts[1].strip().matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    /// Tracks the ETag of loaded content until its cache entry expires, unless newer content is already tracked.
+    ///
+    /// @param trackingKey Cache name and key
+    /// @param etag Quoted ETag
+    /// @param builtAt Time when the content was built
+    private void track(String trackingKey, String etag, Instant builtAt) {
+        Instant expiresAt = builtAt.plus(entryTimeToLive);
+
+        if (trackedETags.size() >= maxTrackedETags) {
+            Instant now = Instant.now();
+            trackedETags.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+
+            if (trackedETags.size() >= maxTrackedETags && !trackedETags.containsKey(trackingKey)) {
+                return;
+            }
+        }
+
+        trackedETags.merge(
+            trackingKey,
+            new TrackedETag(etag, expiresAt),
+            (current, loaded) -> loaded.expiresAt().isBefore(current.expiresAt()) ? current : loaded
+        );
+    }
+
+    /// Builds the key of a tracked ETag.
+    ///
+    /// @param cacheName Name of the cache holding the content
+    /// @param key Cache key of the content
+    /// @return Cache name and key
+    private static String trackingKey(String cacheName, Object key) {
+        return cacheName + "::" + key;
+    }
+
+    /// Builds an empty `304 Not Modified` response.
+    ///
+    /// @param etag Current ETag
+    /// @param <B> Response body type
+    /// @return Not modified response
+    private <B> ResponseEntity<B> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                             .eTag(etag)
+                             .cacheControl(cacheControl)
+                             .varyBy(HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT_ENCODING)
+                             .build();
+    }
+
+    /// Derives the ETag of the gzip representation from the content ETag.
+    ///
+    /// @param etag Quoted content ETag
+    /// @return Quoted ETag with the gzip suffix
+    static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    /// Checks whether an `If-None-Match` header matches an ETag using weak comparison (RFC 9110).
+    ///
+    /// The ETag of the gzip representation matches its content ETag as well.
+    ///
+    /// @param ifNoneMatch Header value, may be null
+    /// @param etag Quoted content ETag
+    /// @return True if any listed ETag (or `*`) matches
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals(gzipETag(etag))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /// ETag tracked until its cache entry expires.
+    ///
+    /// @param etag Quoted ETag
+    /// @param expiresAt Expiration of the cache entry
+    private record TrackedETag(
+        String etag,
+        Instant expiresAt
+    ) {
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.stag.platform.shared.http;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/// **ETagged Content**
+///
+/// Cacheable content together with a strong ETag computed from it when the cache entry is built.
+/// The hash is computed from the canonical JSON form of the content, where elements of sets are sorted,
+/// so all instances building the same content agree on the ETag regardless of set iteration order.
+///
+/// @param content Cached content
+/// @param etag Quoted strong ETag of the content
+/// @param builtAt Time when the content was built
+/// @param <T> Content type
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record ETaggedContent<T>(
+    T content,
+    String etag,
+    Instant builtAt
+) implements Serializable {
+
+    /// JSON mapper producing the canonical form of the hashed content
+    private static final JsonMapper CANONICAL_MAPPER = JsonMapper.builder().build();
+
+    /// Wraps content and computes its ETag.
+    ///
+    /// @param content Content serializable to JSON
+    /// @param <T> Content type
+    /// @return Content with ETag built now
+    public static <T> ETaggedContent<T> of(T content) {
+        return new ETaggedContent<>(content, computeETag(content), Instant.now());
+    }
+
+    /// Computes a quoted strong ETag from the SHA-256 hash of the canonical form of the content.
+    ///
+    /// @param content Content
+    /// @return Quoted ETag
+    private static String computeETag(Object content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                                       .digest(canonicalForm(content).getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /// Serializes content to JSON, sorting the serialized elements of a set.
+    ///
+    /// @param content Content
+    /// @return Canonical JSON form
+    private static String canonicalForm(Object content) {
+        if (content instanceof Set<?> set) {
+            return set.stream()
+                      .map(CANONICAL_MAPPER::writeValueAsString)
+                      .sorted()
+                      .collect(Collectors.joining(",", "[", "]"));
+        }
+        return CANONICAL_MAPPER.writeValueAsString(content);
+    }
+
+}
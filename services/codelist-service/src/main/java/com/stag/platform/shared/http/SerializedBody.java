@@ -0,0 +1,23 @@
+package com.stag.platform.shared.http;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/// **Serialized Body**
+///
+/// Final gzip-compressed JSON response body cached together with the ETag of its content,
+/// so a cache hit is written to the response without mapping or serialization.
+///
+/// @param gzipJson Gzip-compressed JSON body
+/// @param etag Quoted strong ETag of the content
+/// @param builtAt Time when the content was built
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record SerializedBody(
+    byte[] gzipJson,
+    String etag,
+    Instant builtAt
+) implements Serializable {
+
+}
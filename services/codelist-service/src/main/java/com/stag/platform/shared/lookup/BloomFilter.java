@@ -0,0 +1,120 @@
+package com.stag.platform.shared.lookup;
+
+/// **Bloom Filter**
+///
+/// Immutable Bloom filter over 64-bit key hashes. A negative answer is definite, a positive answer
+/// may be wrong with roughly the false positive rate the filter was sized for.
+///
+/// Bit positions are derived from a single hash by double hashing (Kirsch and Mitzenmacher).
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class BloomFilter {
+
+    /// FNV-1a 64-bit offset basis
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    /// FNV-1a 64-bit prime
+    private static final long FNV_PRIME = 0x100000001b3L;
+    /// Upper bound of bit positions per key, only reached by filters of very few keys
+    private static final int MAX_HASH_COUNT = 16;
+
+    /// Filter bits
+    private final long[] bits;
+    /// Number of filter bits
+    private final long bitCount;
+    /// Number of bit positions per key
+    private final int hashCount;
+
+    private BloomFilter(long[] bits, long bitCount, int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /// Builds a filter sized for the given keys and false positive rate.
+    ///
+    /// @param keyHashes Key hashes, see [#hash(CharSequence...)]
+    /// @param falsePositiveRate Target false positive rate, between 0 and 1
+    /// @return Immutable filter
+    public static BloomFilter of(long[] keyHashes, double falsePositiveRate) {
+        int keyCount = Math.max(1, keyHashes.length);
+        long bitCount = Math.max(64, (long) Math.ceil(-keyCount * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.clamp(Math.round((double) bitCount / keyCount * Math.log(2)), 1, MAX_HASH_COUNT);
+
+        BloomFilter filter = new BloomFilter(new long[(int) ((bitCount + 63) >>> 6)], bitCount, hashCount);
+        for (long keyHash : keyHashes) {
+            filter.add(keyHash);
+        }
+        return filter;
+    }
+
+    /// Computes the 64-bit FNV-1a hash of key parts, separated so ("ab", "c") and ("a", "bc") differ.
+    ///
+    /// @param parts Key parts, null parts hash as empty
+    /// @return Key hash
+    public static long hash(CharSequence... parts) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (CharSequence part : parts) {
+            if (part != null) {
+                for (int i = 0; i < part.length(); i++) {
+                    hash = (hash ^ part.charAt(i)) * FNV_PRIME;
+                }
+            }
+            hash = (hash ^ 0xFFFF) * FNV_PRIME;
+        }
+
+        return hash;
+    }
+
+    /// Checks whether a key may be part of the filter.
+    ///
+    /// @param keyHash Key hash
+    /// @return False if the key is definitely not part of the filter
+    public boolean mightContain(long keyHash) {
+        long mixed = mix(keyHash);
+        int first = (int) mixed;
+        int second = (int) (mixed >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long position = Integer.toUnsignedLong(first + i * second) % bitCount;
+            if ((bits[(int) (position >>> 6)] & (1L << position)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /// Returns the number of filter bits.
+    ///
+    /// @return Bit count
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /// Sets the bit positions of a key.
+    ///
+    /// @param keyHash Key hash
+    private void add(long keyHash) {
+        long mixed = mix(keyHash);
+        int first = (int) mixed;
+        int second = (int) (mixed >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long position = Integer.toUnsignedLong(first + i * second) % bitCount;
+            bits[(int) (position >>> 6)] |= 1L << position;
+        }
+    }
+
+    /// Spreads the key hash bits (SplitMix64 finalizer).
+    ///
+    /// @param hash Key hash
+    /// @return Mixed hash
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+}
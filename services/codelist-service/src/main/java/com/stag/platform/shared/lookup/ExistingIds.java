@@ -0,0 +1,102 @@
+package com.stag.platform.shared.lookup;
+
+import java.util.BitSet;
+
+/// **Existing IDs**
+///
+/// Immutable membership filter of numeric IDs used to reject lookups of IDs that definitely do not exist.
+/// Dense IDs up to [#MAX_EXACT_ID] are kept in an exact bitset, larger or negative IDs in a [BloomFilter].
+///
+/// The filter reflects the IDs at build time. Only IDs up to the highest loaded one are ever rejected,
+/// higher IDs may have been created after the build and have to be checked in the database.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class ExistingIds {
+
+    /// Highest ID kept in the exact bitset, bounds its size to 2 MiB
+    static final long MAX_EXACT_ID = (1L << 24) - 1;
+
+    /// False positive rate of the Bloom filter used for sparse IDs
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    /// Filter of unknown IDs, everything may exist
+    private static final ExistingIds UNKNOWN = new ExistingIds(null, null, 0, Long.MIN_VALUE);
+
+    /// Exact bitset of dense IDs, null when the Bloom filter is used
+    private final BitSet exact;
+    /// Bloom filter of sparse IDs, null when the bitset is used
+    private final BloomFilter bloomFilter;
+    /// Number of IDs in the filter
+    private final int size;
+    /// Highest ID in the filter, bounds the IDs that can be rejected
+    private final long maxId;
+
+    private ExistingIds(BitSet exact, BloomFilter bloomFilter, int size, long maxId) {
+        this.exact = exact;
+        this.bloomFilter = bloomFilter;
+        this.size = size;
+        this.maxId = maxId;
+    }
+
+    /// Returns the filter used before the IDs are loaded, every ID may exist.
+    ///
+    /// @return Filter accepting all IDs
+    public static ExistingIds unknown() {
+        return UNKNOWN;
+    }
+
+    /// Builds a filter of existing IDs.
+    ///
+    /// @param ids Existing IDs
+    /// @return Immutable filter
+    public static ExistingIds of(long[] ids) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long id : ids) {
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+        }
+
+        if (ids.length == 0 || (min >= 0 && max <= MAX_EXACT_ID)) {
+            BitSet exact = new BitSet(ids.length == 0 ? 0 : (int) max + 1);
+            for (long id : ids) {
+                exact.set((int) id);
+            }
+            return new ExistingIds(exact, null, ids.length, max);
+        }
+
+        long[] hashes = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            hashes[i] = ids[i];
+        }
+        return new ExistingIds(null, BloomFilter.of(hashes, FALSE_POSITIVE_RATE), ids.length, max);
+    }
+
+    /// Checks whether an ID may exist.
+    ///
+    /// @param id ID
+    /// @return False if the ID definitely does not exist
+    public boolean mightExist(long id) {
+        if (exact != null) {
+            return id >= 0 && id <= MAX_EXACT_ID && exact.get((int) id);
+        }
+        return bloomFilter == null || bloomFilter.mightContain(id);
+    }
+
+    /// Checks whether an ID definitely does not exist.
+    ///
+    /// @param id ID
+    /// @return True if the ID is not above the highest loaded ID and not part of a loaded filter
+    public boolean isDefinitelyMissing(long id) {
+        return id <= maxId && !mightExist(id);
+    }
+
+    /// Returns the number of IDs in the filter.
+    ///
+    /// @return ID count, 0 for the unknown filter
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.stag.platform.shared.text;
+
+import java.text.Normalizer;
+
+/// **Text Folding**
+///
+/// Folds names for diacritics and case insensitive prefix matching used by the in-memory search indexes.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public final class TextFolding {
+
+    private TextFolding() {
+    }
+
+    /// Folds text for matching: removes diacritics, lower-cases and replaces non-alphanumeric characters with spaces.
+    ///
+    /// @param text Text, may be null
+    /// @return Folded text, empty for null
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            folded.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+        }
+
+        return folded.toString().strip();
+    }
+
+    /// Splits folded text into words.
+    ///
+    /// @param folded Folded text
+    /// @return Words, empty for empty text
+    public static String[] words(String folded) {
+        return folded.isEmpty() ? new String[0] : folded.split(" +");
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.stag.platform.shared.warmup;
+
+import com.stag.platform.address.service.CountryService;
+import com.stag.platform.entry.service.DomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/// **Codelist Cache Warmup Step**
+///
+/// Loads countries of every warmup language and domain names through their cached services,
+/// so the Redis entries, the L1 copies and the Hibernate query plans are ready before the first request.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Order(1)
+@Component
+public class CodelistCacheWarmupStep implements WarmupStep {
+
+    /// Country Service
+    private final CountryService countryService;
+    /// Domain Service
+    private final DomainService domainService;
+    /// Languages whose entries are loaded
+    private final List<String> languages;
+
+    /// Creates the step.
+    ///
+    /// @param countryService Country service
+    /// @param domainService Domain service
+    /// @param languages Languages whose entries are loaded
+    public CodelistCacheWarmupStep(
+        CountryService countryService,
+        DomainService domainService,
+        @Value("${warmup.languages:cs,en}") List<String> languages
+    ) {
+        this.countryService = countryService;
+        this.domainService = domainService;
+        this.languages = languages;
+    }
+
+    @Override
+    public String name() {
+        return "codelist-caches";
+    }
+
+    @Override
+    public boolean run(Instant deadline) {
+        domainService.getDomains();
+
+        for (String language : languages) {
+            if (Instant.now().isAfter(deadline)) {
+                return false;
+            }
+            int countries = countryService.getCountries(language).content().size();
+            log.debug("Preloaded {} countries in language {}", countries, language);
+        }
+
+        return true;
+    }
+
+}
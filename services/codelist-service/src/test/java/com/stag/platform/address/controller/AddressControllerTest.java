@@ -0,0 +1,86 @@
+package com.stag.platform.address.controller;
+
+import com.stag.platform.address.index.AddressElementType;
+import com.stag.platform.address.index.AddressSuggestScope;
+import com.stag.platform.address.index.AddressSuggestion;
+import com.stag.platform.address.service.AddressService;
+import com.stag.platform.config.TestCacheConfig;
+import com.stag.platform.shared.config.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(AddressController.class)
+@Import({ TestCacheConfig.class, SecurityConfig.class })
+@ActiveProfiles("test")
+class AddressControllerTest {
+
+    @Autowired
+    private MockMvcTester mvc;
+
+    @MockitoBean
+    private AddressService addressService;
+
+    @Test
+    @DisplayName("should return 200 OK with matching address suggestions")
+    void suggestAddresses_ReturnsMatches() {
+        AddressSuggestScope scope = new AddressSuggestScope(Set.of(AddressElementType.STREET), null, 3405, null);
+        AddressSuggestion street = new AddressSuggestion(
+            AddressElementType.STREET, "10", "náměstí Republiky", 554791L, "Plzeň", 3405, "Plzeň-město", (short) 43
+        );
+        when(addressService.suggest("nam rep", scope, 5)).thenReturn(List.of(street));
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/addresses/suggest?query={query}&type=STREET&districtId=3405&limit=5", "nam rep")
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .bodyJson()
+            .satisfies(json -> {
+                json.assertThat().extractingPath("$.suggestions").asArray().hasSize(1);
+                json.assertThat().extractingPath("$.suggestions[0].type").isEqualTo("STREET");
+                json.assertThat().extractingPath("$.suggestions[0].id").isEqualTo("10");
+                json.assertThat().extractingPath("$.suggestions[0].municipalityName").isEqualTo("Plzeň");
+                json.assertThat().extractingPath("$.suggestions[0].regionId").isEqualTo(43);
+            });
+
+        verify(addressService).suggest("nam rep", scope, 5);
+    }
+
+    @Test
+    @DisplayName("should suggest all types everywhere with the default limit when unrestricted")
+    void suggestAddresses_Unrestricted() {
+        when(addressService.suggest("plz", AddressSuggestScope.unrestricted(), 10)).thenReturn(List.of());
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/addresses/suggest?query={query}", "plz")
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .bodyJson()
+            .satisfies(json -> json.assertThat().extractingPath("$.suggestions").asArray().isEmpty());
+
+        verify(addressService).suggest("plz", AddressSuggestScope.unrestricted(), 10);
+    }
+
+    @Test
+    @DisplayName("should return 400 Bad Request when the query is missing")
+    void suggestAddresses_MissingQuery_Returns400() {
+        assertThat(mvc.get()
+                      .uri("/api/v1/addresses/suggest")
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatus(400);
+    }
+
+}
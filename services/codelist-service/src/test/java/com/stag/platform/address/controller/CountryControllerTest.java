@@ -4,26 +4,35 @@ import com.stag.platform.address.repository.projection.CountryView;
 import com.stag.platform.address.service.CountryService;
 import com.stag.platform.config.TestCacheConfig;
 import com.stag.platform.shared.config.SecurityConfig;
+import com.stag.platform.shared.http.ConditionalResponses;
+import com.stag.platform.shared.http.ETaggedContent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(CountryController.class)
-@Import({ TestCacheConfig.class, SecurityConfig.class })
+@Import({ TestCacheConfig.class, SecurityConfig.class, ConditionalResponses.class })
 @ActiveProfiles("test")
 class CountryControllerTest {
 
@@ -38,13 +47,15 @@ class CountryControllerTest {
     void getCountries_ReturnsOkWithCountries() {
         String language = "cs";
         CountryView country = new CountryView(203, "Česká republika", "Česko", "CZ");
-        when(countryService.getCountries(language)).thenReturn(Set.of(country));
+        when(countryService.getCountries(language)).thenReturn(ETaggedContent.of(Set.of(country)));
 
         assertThat(mvc.get()
                       .uri("/api/v1/countries")
                       .header(HttpHeaders.ACCEPT_LANGUAGE, language)
                       .accept(MediaType.APPLICATION_JSON))
             .hasStatusOk()
+            .containsHeader(HttpHeaders.ETAG)
+            .containsHeader(HttpHeaders.CACHE_CONTROL)
             .bodyJson()
             .satisfies(json -> {
                 json.assertThat().extractingPath("$.countries").asArray().hasSize(1);
@@ -57,11 +68,81 @@ class CountryControllerTest {
         verify(countryService).getCountries(language);
     }
 
+    @Test
+    @DisplayName("should return 304 Not Modified without loading countries when the ETag is already known")
+    void getCountries_KnownETag_ReturnsNotModifiedWithoutLoading() {
+        String language = "en";
+        ETaggedContent<Set<CountryView>> content = ETaggedContent.of(Set.of(new CountryView(703, "Slovak Republic", "Slovakia", "SK")));
+        when(countryService.getCountries(language)).thenReturn(content);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/countries")
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk();
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/countries")
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .header(HttpHeaders.IF_NONE_MATCH, "W/" + content.etag())
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatus(HttpStatus.NOT_MODIFIED)
+            .hasHeader(HttpHeaders.ETAG, content.etag());
+
+        verify(countryService, times(1)).getCountries(language);
+    }
+
+    @Test
+    @DisplayName("should return the gzip-compressed body when the client accepts gzip")
+    void getCountries_AcceptsGzip_ReturnsCompressedBody() throws IOException {
+        String language = "cs";
+        CountryView country = new CountryView(203, "Česká republika", "Česko", "CZ");
+        ETaggedContent<Set<CountryView>> content = ETaggedContent.of(Set.of(country));
+        when(countryService.getCountries(language)).thenReturn(content);
+
+        MvcTestResult result = mvc.get()
+                                  .uri("/api/v1/countries")
+                                  .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                                  .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                                  .accept(MediaType.APPLICATION_JSON)
+                                  .exchange();
+
+        assertThat(result).hasStatusOk()
+                          .hasContentType(MediaType.APPLICATION_JSON)
+                          .hasHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+                          .hasHeader(HttpHeaders.ETAG, content.etag().replaceFirst("\"$", "-gzip\""));
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream json = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(json.readAllBytes(), StandardCharsets.UTF_8))
+                .contains("\"countries\"")
+                .contains("Česká republika");
+        }
+    }
+
+    @Test
+    @DisplayName("should return 304 Not Modified for the ETag of the gzip representation")
+    void getCountries_GzipETag_ReturnsNotModified() {
+        String language = "cs";
+        ETaggedContent<Set<CountryView>> content = ETaggedContent.of(Set.of(new CountryView(203, "Česká republika", "Česko", "CZ")));
+        String gzipETag = content.etag().replaceFirst("\"$", "-gzip\"");
+        when(countryService.getCountries(language)).thenReturn(content);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/countries")
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                      .header(HttpHeaders.IF_NONE_MATCH, gzipETag)
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatus(HttpStatus.NOT_MODIFIED)
+            .hasHeader(HttpHeaders.ETAG, gzipETag);
+    }
+
     @Test
     @DisplayName("should return 200 OK with empty list when no countries found")
     void getCountries_NoCountries_ReturnsOkWithEmptyList() {
         String language = "en";
-        when(countryService.getCountries(language)).thenReturn(Collections.emptySet());
+        when(countryService.getCountries(language)).thenReturn(ETaggedContent.of(Collections.emptySet()));
 
         assertThat(mvc.get()
                       .uri("/api/v1/countries")
@@ -98,7 +179,7 @@ class CountryControllerTest {
     @DisplayName("should use default language 'cs' when Accept-Language header is missing")
     void getCountries_NoLanguageHeader_UsesDefaultLanguage() {
         CountryView country = new CountryView(203, "Czech Republic", "Czechia", "CZ");
-        when(countryService.getCountries("cs")).thenReturn(Set.of(country));
+        when(countryService.getCountries("cs")).thenReturn(ETaggedContent.of(Set.of(country)));
 
         assertThat(mvc.get()
                       .uri("/api/v1/countries")
@@ -0,0 +1,140 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AddressPlaceIndexServiceTest {
+
+    private static final AddressPlaceNameProjection BORY = new AddressPlaceNameProjection(1000L, "Plzeň", "Bory", "Plzeň-město");
+    private static final AddressPlaceNameProjection SLOVANY = new AddressPlaceNameProjection(2000L, "Plzeň", "Slovany", "Plzeň-město");
+
+    @Mock
+    private MunicipalityPartRepository municipalityPartRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path indexFile;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AddressPlaceIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        indexFile = tempDir.resolve("address-places.idx");
+        meterRegistry = new SimpleMeterRegistry();
+        indexService = new AddressPlaceIndexService(municipalityPartRepository, meterRegistry, true, indexFile.toString());
+    }
+
+    @Nested
+    @DisplayName("export")
+    class Export {
+
+        @Test
+        @DisplayName("should write the index file and map it")
+        void writesAndMapsIndex() {
+            when(municipalityPartRepository.findAllAddressNames()).thenReturn(List.of(SLOVANY, BORY));
+
+            AddressPlaceIndex index = indexService.export();
+
+            assertThat(indexFile).exists();
+            assertThat(index.version()).isEqualTo(1);
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(indexService.current()).isSameAs(index);
+            assertThat(index.find(1000L)).isEqualTo(BORY);
+            assertThat(index.find(2000L)).isEqualTo(SLOVANY);
+            assertThat(index.find(1500L)).isNull();
+            assertThat(meterRegistry.get("codelist.address.index.size").gauge().value()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("should increment the version on every export")
+        void incrementsVersion() {
+            when(municipalityPartRepository.findAllAddressNames()).thenReturn(List.of(BORY));
+
+            indexService.export();
+            AddressPlaceIndex index = indexService.export();
+
+            assertThat(index.version()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("reload")
+    class Reload {
+
+        @Test
+        @DisplayName("should map a newer file written by another pod")
+        void mapsNewerFile() throws IOException {
+            AddressPlaceIndexWriter.write(indexFile, 1, Instant.now(), List.of(BORY));
+            indexService.reload();
+
+            AddressPlaceIndexWriter.write(indexFile, 2, Instant.now(), List.of(BORY, SLOVANY));
+            AddressPlaceIndex index = indexService.reload();
+
+            assertThat(index.version()).isEqualTo(2);
+            assertThat(index.find(2000L)).isEqualTo(SLOVANY);
+        }
+
+        @Test
+        @DisplayName("should keep the current index when the file is invalid")
+        void keepsCurrentOnInvalidFile() throws IOException {
+            AddressPlaceIndexWriter.write(indexFile, 1, Instant.now(), List.of(BORY));
+            AddressPlaceIndex first = indexService.reload();
+
+            Files.write(indexFile, new byte[]{ 1, 2, 3 });
+            AddressPlaceIndex second = indexService.reload();
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("should not map the file when the index is disabled")
+        void skipsWhenDisabled() throws IOException {
+            AddressPlaceIndexWriter.write(indexFile, 1, Instant.now(), List.of(BORY));
+            AddressPlaceIndexService disabledService =
+                new AddressPlaceIndexService(municipalityPartRepository, new SimpleMeterRegistry(), false, indexFile.toString());
+
+            AddressPlaceIndex index = disabledService.reload();
+
+            assertThat(index.size()).isZero();
+            assertThat(index.find(1000L)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("should deduplicate names and keep null names")
+    void serializesNullAndDuplicateNames() {
+        AddressPlaceNameProjection withoutDistrict = new AddressPlaceNameProjection(3000L, "Plzeň", "Doubravka", null);
+
+        AddressPlaceIndex index = AddressPlaceIndex.of(
+            AddressPlaceIndexWriter.serialize(1, Instant.now(), List.of(BORY, SLOVANY, withoutDistrict, BORY)),
+            "memory"
+        );
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.find(3000L)).isEqualTo(withoutDistrict);
+        assertThat(index.find(1000L)).isEqualTo(BORY);
+    }
+
+}
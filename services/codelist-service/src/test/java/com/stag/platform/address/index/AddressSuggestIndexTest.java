@@ -0,0 +1,93 @@
+package com.stag.platform.address.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AddressSuggestIndexTest {
+
+    private static final AddressSuggestion PLZEN = new AddressSuggestion(
+        AddressElementType.MUNICIPALITY, "554791", "Plzeň", 554791L, "Plzeň", 3405, "Plzeň-město", (short) 43
+    );
+    private static final AddressSuggestion BORY = new AddressSuggestion(
+        AddressElementType.MUNICIPALITY_PART, "1000", "Bory", 554791L, "Plzeň", 3405, "Plzeň-město", (short) 43
+    );
+    private static final AddressSuggestion REPUBLIKY_PLZEN = new AddressSuggestion(
+        AddressElementType.STREET, "10", "náměstí Republiky", 554791L, "Plzeň", 3405, "Plzeň-město", (short) 43
+    );
+    private static final AddressSuggestion REPUBLIKY_KLATOVY = new AddressSuggestion(
+        AddressElementType.STREET, "20", "náměstí Republiky", 555771L, "Klatovy", 3404, "Klatovy", (short) 43
+    );
+    private static final AddressSuggestion PLZENSKA = new AddressSuggestion(
+        AddressElementType.STREET, "30", "Plzeňská", 555771L, "Klatovy", 3404, "Klatovy", (short) 43
+    );
+    private static final AddressSuggestion ZIP_PLZEN = new AddressSuggestion(
+        AddressElementType.ZIP_CODE, "30100", "Plzeň 1", null, null, null, null, null
+    );
+
+    private static final AddressSuggestIndex INDEX = AddressSuggestIndex.of(
+        1, Instant.now(), List.of(PLZEN, BORY, REPUBLIKY_PLZEN, REPUBLIKY_KLATOVY, PLZENSKA, ZIP_PLZEN)
+    );
+
+    @Nested
+    @DisplayName("suggest")
+    class Suggest {
+
+        @Test
+        @DisplayName("should match any word prefix ignoring diacritics and case")
+        void matchesWordPrefixes() {
+            assertThat(INDEX.suggest("NAM rep", AddressSuggestScope.unrestricted(), 10))
+                .containsExactly(REPUBLIKY_PLZEN, REPUBLIKY_KLATOVY);
+            assertThat(INDEX.suggest("republ", AddressSuggestScope.unrestricted(), 10))
+                .containsExactly(REPUBLIKY_PLZEN, REPUBLIKY_KLATOVY);
+        }
+
+        @Test
+        @DisplayName("should rank names starting with the query first")
+        void ranksNameStartsFirst() {
+            assertThat(INDEX.suggest("plzen", AddressSuggestScope.unrestricted(), 10))
+                .containsExactly(PLZEN, PLZENSKA, ZIP_PLZEN);
+        }
+
+        @Test
+        @DisplayName("should match postal codes ignoring spaces")
+        void matchesZipCodes() {
+            assertThat(INDEX.suggest("301 0", AddressSuggestScope.unrestricted(), 10)).containsExactly(ZIP_PLZEN);
+        }
+
+        @Test
+        @DisplayName("should restrict suggestions to element types and hierarchy")
+        void restrictsScope() {
+            assertThat(INDEX.suggest("plzen", new AddressSuggestScope(Set.of(AddressElementType.STREET), null, null, null), 10))
+                .containsExactly(PLZENSKA);
+            assertThat(INDEX.suggest("nam", new AddressSuggestScope(null, null, 3404, null), 10))
+                .containsExactly(REPUBLIKY_KLATOVY);
+            assertThat(INDEX.suggest("plzen", new AddressSuggestScope(null, 43, null, null), 10))
+                .containsExactly(PLZEN, PLZENSKA);
+        }
+
+        @Test
+        @DisplayName("should only scan keys of the requested municipality")
+        void restrictsMunicipality() {
+            assertThat(INDEX.suggest("b", new AddressSuggestScope(null, null, null, 554791L), 10)).containsExactly(BORY);
+            assertThat(INDEX.suggest("nam", new AddressSuggestScope(null, null, null, 555771L), 10))
+                .containsExactly(REPUBLIKY_KLATOVY);
+            assertThat(INDEX.suggest("nam", new AddressSuggestScope(null, null, null, 1L), 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should stop at the limit and ignore blank queries")
+        void limitsResults() {
+            assertThat(INDEX.suggest("plzen", AddressSuggestScope.unrestricted(), 1)).containsExactly(PLZEN);
+            assertThat(INDEX.suggest(" ", AddressSuggestScope.unrestricted(), 10)).isEmpty();
+            assertThat(AddressSuggestIndex.empty().suggest("plzen", AddressSuggestScope.unrestricted(), 10)).isEmpty();
+        }
+    }
+
+}
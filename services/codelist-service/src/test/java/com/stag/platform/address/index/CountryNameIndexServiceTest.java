@@ -0,0 +1,101 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.CountryRepository;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CountryNameIndexServiceTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CountryNameIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        indexService = new CountryNameIndexService(countryRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should start with an empty index")
+    void emptyBeforeFirstLoad() {
+        assertThat(indexService.current().version()).isZero();
+        assertThat(indexService.current().size()).isZero();
+        assertThat(indexService.current().contains(203)).isFalse();
+        assertThat(indexService.current().isDefinitelyMissing(203)).isFalse();
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should load countries and swap index with incremented version")
+        void swapsIndex() {
+            when(countryRepository.findAllTranslations())
+                .thenReturn(List.of(
+                    new CountryTranslationProjection(203, "Česká republika", "Czech Republic"),
+                    new CountryTranslationProjection(703, "Slovensko", null)
+                ));
+
+            indexService.refresh();
+            CountryNameIndex index = indexService.refresh();
+
+            assertThat(index.version()).isEqualTo(2);
+            assertThat(indexService.current()).isSameAs(index);
+            assertThat(index.name(203, "cs")).isEqualTo("Česká republika");
+            assertThat(index.name(203, "en")).isEqualTo("Czech Republic");
+            assertThat(index.contains(703)).isTrue();
+            assertThat(index.name(703, "en")).isNull();
+            assertThat(index.contains(999)).isFalse();
+            assertThat(index.contains(-1)).isFalse();
+            assertThat(index.isDefinitelyMissing(500)).isTrue();
+            assertThat(index.isDefinitelyMissing(703)).isFalse();
+            assertThat(index.isDefinitelyMissing(999)).isFalse();
+            assertThat(index.isDefinitelyMissing(100_000)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should keep the previous index when loading fails")
+        void keepsPreviousOnFailure() {
+            when(countryRepository.findAllTranslations())
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("DB down"));
+
+            CountryNameIndex first = indexService.refresh();
+            CountryNameIndex second = indexService.refresh();
+
+            assertThat(second).isSameAs(first);
+            assertThat(second.version()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should record size and swap metrics")
+        void recordsMetrics() {
+            when(countryRepository.findAllTranslations())
+                .thenReturn(List.of(new CountryTranslationProjection(203, "Česká republika", "Czech Republic")));
+
+            indexService.refresh();
+
+            assertThat(meterRegistry.get("codelist.country.index.size").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("codelist.country.index.swap").timer().count()).isEqualTo(1);
+        }
+    }
+
+}
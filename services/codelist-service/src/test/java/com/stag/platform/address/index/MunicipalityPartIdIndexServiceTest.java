@@ -0,0 +1,68 @@
+package com.stag.platform.address.index;
+
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.shared.lookup.ExistingIds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MunicipalityPartIdIndexServiceTest {
+
+    @Mock
+    private MunicipalityPartRepository municipalityPartRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MunicipalityPartIdIndexService indexService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        indexService = new MunicipalityPartIdIndexService(municipalityPartRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should accept every ID before the first load")
+    void unknownBeforeFirstLoad() {
+        assertThat(indexService.current().isDefinitelyMissing(999L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should load IDs and report unknown ones as definitely missing")
+    void refresh_LoadsIds() {
+        when(municipalityPartRepository.findAllIds()).thenReturn(List.of(100L, 200L));
+
+        ExistingIds existingIds = indexService.refresh();
+
+        assertThat(indexService.current()).isSameAs(existingIds);
+        assertThat(existingIds.isDefinitelyMissing(100L)).isFalse();
+        assertThat(existingIds.isDefinitelyMissing(150L)).isTrue();
+        assertThat(existingIds.isDefinitelyMissing(999L)).isFalse();
+        assertThat(meterRegistry.get("codelist.municipality-part.id-index.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("should keep the previous filter when loading fails or returns nothing")
+    void refresh_KeepsPrevious() {
+        when(municipalityPartRepository.findAllIds())
+            .thenReturn(List.of(100L))
+            .thenReturn(List.of())
+            .thenThrow(new IllegalStateException("DB down"));
+
+        ExistingIds first = indexService.refresh();
+
+        assertThat(indexService.refresh()).isSameAs(first);
+        assertThat(indexService.refresh()).isSameAs(first);
+    }
+
+}
@@ -4,6 +4,7 @@ import com.stag.platform.address.entity.District;
 import com.stag.platform.address.entity.Municipality;
 import com.stag.platform.address.entity.MunicipalityPart;
 import com.stag.platform.address.entity.Region;
+import com.stag.platform.address.repository.projection.AddressHierarchyProjection;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
 import com.stag.platform.config.TestCacheConfig;
 import com.stag.platform.config.TestOracleContainerConfig;
@@ -15,6 +16,7 @@ import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -105,4 +107,59 @@ class MunicipalityPartRepositoryTest {
 
         assertThat(results).isEmpty();
     }
+
+    @Test
+    @DisplayName("findAllExistingHierarchies should return existing parts with hierarchy IDs")
+    void findAllExistingHierarchies_SkipsDissolved() {
+        Region region = new Region();
+        region.setId((short) 1);
+        region.setName("Plzeňský kraj");
+        region.setNuts3("CZ032");
+        region.setAbbreviation("PK");
+        region.setStatus(true);
+        entityManager.persist(region);
+
+        District district = new District();
+        district.setId(10);
+        district.setName("Plzeň-město");
+        district.setNuts4("CZ0323");
+        district.setAbbreviation("PM");
+        district.setStatus(true);
+        district.setRegionCode(region);
+        entityManager.persist(district);
+
+        Municipality municipality = new Municipality();
+        municipality.setId(100L);
+        municipality.setName("Plzeň");
+        municipality.setNuts5("CZ0323");
+        municipality.setAbbreviation("PL");
+        municipality.setStatus(true);
+        municipality.setDistrict(district);
+        entityManager.persist(municipality);
+
+        MunicipalityPart existing = new MunicipalityPart();
+        existing.setId(1000L);
+        existing.setName("Bory");
+        existing.setMunicipality(municipality);
+        existing.setAbbreviation("BO");
+        existing.setStatus(true);
+        entityManager.persist(existing);
+
+        MunicipalityPart dissolved = new MunicipalityPart();
+        dissolved.setId(2000L);
+        dissolved.setName("Zaniklá");
+        dissolved.setMunicipality(municipality);
+        dissolved.setAbbreviation("ZA");
+        dissolved.setStatus(false);
+        dissolved.setDissolutionDate(LocalDate.of(2000, 1, 1));
+        entityManager.persist(dissolved);
+
+        entityManager.flush();
+
+        List<AddressHierarchyProjection> results = repository.findAllExistingHierarchies();
+
+        assertThat(results).containsExactly(
+            new AddressHierarchyProjection(1000L, "Bory", 100L, "Plzeň", 10, "Plzeň-město", (short) 1)
+        );
+    }
 }
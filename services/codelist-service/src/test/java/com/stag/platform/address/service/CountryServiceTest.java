@@ -2,9 +2,14 @@ package com.stag.platform.address.service;
 
 import com.stag.platform.address.exception.CountriesNotFoundException;
 import com.stag.platform.address.exception.CountryNotFoundException;
+import com.stag.platform.address.index.CountryNameIndex;
+import com.stag.platform.address.index.CountryNameIndexService;
+import com.stag.platform.address.index.CountryNames;
 import com.stag.platform.address.repository.CountryRepository;
 import com.stag.platform.address.repository.projection.CountryNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
 import com.stag.platform.address.repository.projection.CountryView;
+import com.stag.platform.shared.http.ETaggedContent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,15 +17,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +36,9 @@ class CountryServiceTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private CountryNameIndexService countryNameIndexService;
+
     @InjectMocks
     private CountryService countryService;
 
@@ -39,12 +49,28 @@ class CountryServiceTest {
         CountryView country = new CountryView(203, "Česká republika", "Česko", "CZ");
         when(countryRepository.findAllValidCountries(language)).thenReturn(Set.of(country));
 
-        Set<CountryView> result = countryService.getCountries(language);
+        ETaggedContent<Set<CountryView>> result = countryService.getCountries(language);
 
-        assertThat(result).containsExactly(country);
+        assertThat(result.content()).containsExactly(country);
+        assertThat(result.etag()).startsWith("\"").endsWith("\"");
         verify(countryRepository).findAllValidCountries(language);
     }
 
+    @Test
+    @DisplayName("should compute the same ETag regardless of the iteration order of countries")
+    void getCountries_DifferentIterationOrder_SameETag() {
+        CountryView czechia = new CountryView(203, "Česká republika", "Česko", "CZ");
+        CountryView slovakia = new CountryView(703, "Slovenská republika", "Slovensko", "SK");
+        when(countryRepository.findAllValidCountries("cs"))
+            .thenReturn(new LinkedHashSet<>(List.of(czechia, slovakia)))
+            .thenReturn(new LinkedHashSet<>(List.of(slovakia, czechia)));
+
+        ETaggedContent<Set<CountryView>> first = countryService.getCountries("cs");
+        ETaggedContent<Set<CountryView>> second = countryService.getCountries("cs");
+
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
     @Test
     @DisplayName("should return country ID when found by name")
     void findCountryIdByName_CountryExists_ReturnsId() {
@@ -81,50 +107,108 @@ class CountryServiceTest {
     }
 
     @Test
-    @DisplayName("should return map of country names when all IDs found")
-    void findNamesByIds_AllFound_ReturnsMap() {
-        List<Integer> ids = List.of(203, 204);
-        String language = "en";
-        CountryNameProjection cz = new CountryNameProjection(203, "Czech Republic");
-        CountryNameProjection sk = new CountryNameProjection(204, "Slovakia");
-
-        when(countryRepository.findNamesByIds(ids, language)).thenReturn(List.of(cz, sk));
-
-        Map<Integer, String> result = countryService.findNamesByIds(ids, language);
+    @DisplayName("should return country names from index without querying the database")
+    void findNamesByIds_AllIndexed_SkipsDatabase() {
+        CountryNameIndex index = CountryNameIndex.of(1, Instant.now(), List.of(
+            new CountryTranslationProjection(203, "Česká republika", "Czech Republic"),
+            new CountryTranslationProjection(204, "Slovensko", "Slovakia")
+        ));
+        when(countryNameIndexService.current()).thenReturn(index);
+
+        CountryNames result = countryService.findNamesByIds(new int[]{ 203, 204 }, "en");
+
+        assertThat(result.get(203)).isEqualTo("Czech Republic");
+        assertThat(result.get(204)).isEqualTo("Slovakia");
+        verifyNoInteractions(countryRepository);
+    }
 
-        assertThat(result).hasSize(2)
-                          .containsEntry(203, "Czech Republic")
-                          .containsEntry(204, "Slovakia");
-        verify(countryRepository).findNamesByIds(ids, language);
+    @Test
+    @DisplayName("should query the database only for IDs missing from index")
+    void findNamesByIds_IndexMiss_QueriesDatabase() {
+        CountryNameIndex index = CountryNameIndex.of(1, Instant.now(), List.of(
+            new CountryTranslationProjection(203, "Česká republika", "Czech Republic")
+        ));
+        when(countryNameIndexService.current()).thenReturn(index);
+        when(countryRepository.findNamesByIds(List.of(204), "cs"))
+            .thenReturn(List.of(new CountryNameProjection(204, "Slovensko")));
+
+        CountryNames result = countryService.findNamesByIds(new int[]{ 203, 204 }, "cs");
+
+        assertThat(result.get(203)).isEqualTo("Česká republika");
+        assertThat(result.get(204)).isEqualTo("Slovensko");
     }
 
     @Test
     @DisplayName("should throw CountriesNotFoundException when some IDs not found")
     void findNamesByIds_SomeNotFound_ThrowsException() {
-        List<Integer> ids = List.of(203, 999);
-        String language = "en";
-        CountryNameProjection cz = new CountryNameProjection(203, "Czech Republic");
-
-        when(countryRepository.findNamesByIds(ids, language)).thenReturn(List.of(cz));
+        CountryNameIndex index = CountryNameIndex.of(1, Instant.now(), List.of(
+            new CountryTranslationProjection(203, "Česká republika", "Czech Republic")
+        ));
+        when(countryNameIndexService.current()).thenReturn(index);
+        when(countryRepository.findNamesByIds(List.of(999), "en")).thenReturn(Collections.emptyList());
 
-        assertThatThrownBy(() -> countryService.findNamesByIds(ids, language))
+        assertThatThrownBy(() -> countryService.findNamesByIds(new int[]{ 203, 999 }, "en"))
             .isInstanceOf(CountriesNotFoundException.class)
             .hasMessageContaining("Unable to find countries for IDs: [999]")
             .extracting("missingIds").isEqualTo(List.of(999));
 
-        verify(countryRepository).findNamesByIds(ids, language);
+        verify(countryRepository).findNamesByIds(List.of(999), "en");
+    }
+
+    @Test
+    @DisplayName("should throw CountriesNotFoundException without querying the database for IDs absent from the index")
+    void findNamesByIds_DefinitelyMissing_SkipsDatabase() {
+        when(countryNameIndexService.current()).thenReturn(indexOf203And703());
+
+        assertThatThrownBy(() -> countryService.findNamesByIds(new int[]{ 203, 500 }, "en"))
+            .isInstanceOf(CountriesNotFoundException.class)
+            .extracting("missingIds").isEqualTo(List.of(500));
+
+        verify(countryNameIndexService).recordDefinitelyMissing(1);
+        verifyNoInteractions(countryRepository);
+    }
+
+    @Test
+    @DisplayName("should report IDs absent from the index together with IDs missing from the database")
+    void findNamesByIds_DefinitelyMissingAndNotFound_ReportsAllMissing() {
+        when(countryNameIndexService.current()).thenReturn(indexOf203And703());
+        when(countryRepository.findNamesByIds(List.of(999), "en")).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> countryService.findNamesByIds(new int[]{ 203, 500, 999 }, "en"))
+            .isInstanceOf(CountriesNotFoundException.class)
+            .extracting("missingIds").isEqualTo(List.of(500, 999));
+
+        verify(countryRepository).findNamesByIds(List.of(999), "en");
     }
 
     @Test
-    @DisplayName("should return empty map when requested IDs is empty")
-    void findNamesByIds_EmptyIds_ReturnsEmptyMap() {
-        List<Integer> ids = Collections.emptyList();
-        String language = "en";
-        when(countryRepository.findNamesByIds(ids, language)).thenReturn(Collections.emptyList());
+    @DisplayName("should omit IDs absent from the index from lookups without querying the database")
+    void lookupNamesByIds_DefinitelyMissing_SkipsDatabase() {
+        when(countryNameIndexService.current()).thenReturn(indexOf203And703());
 
-        Map<Integer, String> result = countryService.findNamesByIds(ids, language);
+        CountryNames result = countryService.lookupNamesByIds(new int[]{ 203, 500 }, "cs");
 
-        assertThat(result).isEmpty();
-        verify(countryRepository).findNamesByIds(ids, language);
+        assertThat(result.contains(203)).isTrue();
+        assertThat(result.contains(500)).isFalse();
+        verifyNoInteractions(countryRepository);
     }
+
+    @Test
+    @DisplayName("should return empty names when requested IDs is empty")
+    void findNamesByIds_EmptyIds_ReturnsEmptyNames() {
+        when(countryNameIndexService.current()).thenReturn(CountryNameIndex.empty());
+
+        CountryNames result = countryService.findNamesByIds(new int[0], "en");
+
+        assertThat(result.get(203)).isNull();
+        verifyNoInteractions(countryRepository);
+    }
+
+    private static CountryNameIndex indexOf203And703() {
+        return CountryNameIndex.of(1, Instant.now(), List.of(
+            new CountryTranslationProjection(203, "Česká republika", "Czech Republic"),
+            new CountryTranslationProjection(703, "Slovensko", "Slovakia")
+        ));
+    }
+
 }
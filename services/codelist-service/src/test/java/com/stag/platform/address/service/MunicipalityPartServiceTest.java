@@ -1,8 +1,12 @@
 package com.stag.platform.address.service;
 
 import com.stag.platform.address.exception.MunicipalityPartsNotFoundException;
+import com.stag.platform.address.index.AddressPlaceIndex;
+import com.stag.platform.address.index.AddressPlaceIndexService;
+import com.stag.platform.address.index.MunicipalityPartIdIndexService;
 import com.stag.platform.address.repository.MunicipalityPartRepository;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.shared.lookup.ExistingIds;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +20,9 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +32,12 @@ class MunicipalityPartServiceTest {
     @Mock
     private MunicipalityPartRepository municipalityPartRepository;
 
+    @Mock
+    private AddressPlaceIndexService addressPlaceIndexService;
+
+    @Mock
+    private MunicipalityPartIdIndexService municipalityPartIdIndexService;
+
     @InjectMocks
     private MunicipalityPartService municipalityPartService;
 
@@ -35,6 +48,8 @@ class MunicipalityPartServiceTest {
         AddressPlaceNameProjection place1 = new AddressPlaceNameProjection(100L, "Mesto1", "Cast1", "Okres1");
         AddressPlaceNameProjection place2 = new AddressPlaceNameProjection(200L, "Mesto2", "Cast2", "Okres2");
 
+        when(addressPlaceIndexService.current()).thenReturn(AddressPlaceIndex.empty());
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.unknown());
         when(municipalityPartRepository.findAddressNamesByIds(ids)).thenReturn(List.of(place1, place2));
 
         Map<Long, AddressPlaceNameProjection> result = municipalityPartService.findAddressNamesByIds(ids);
@@ -51,6 +66,8 @@ class MunicipalityPartServiceTest {
         List<Long> ids = List.of(100L, 999L);
         AddressPlaceNameProjection place1 = new AddressPlaceNameProjection(100L, "Mesto1", "Cast1", "Okres1");
 
+        when(addressPlaceIndexService.current()).thenReturn(AddressPlaceIndex.empty());
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.unknown());
         when(municipalityPartRepository.findAddressNamesByIds(ids)).thenReturn(List.of(place1));
 
         assertThatThrownBy(() -> municipalityPartService.findAddressNamesByIds(ids))
@@ -65,11 +82,88 @@ class MunicipalityPartServiceTest {
     @DisplayName("should return empty map when requested IDs is empty")
     void findAddressNamesByIds_EmptyIds_ReturnsEmptyMap() {
         List<Long> ids = Collections.emptyList();
-        when(municipalityPartRepository.findAddressNamesByIds(ids)).thenReturn(Collections.emptyList());
+        when(addressPlaceIndexService.current()).thenReturn(AddressPlaceIndex.empty());
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.unknown());
 
         Map<Long, AddressPlaceNameProjection> result = municipalityPartService.findAddressNamesByIds(ids);
 
         assertThat(result).isEmpty();
-        verify(municipalityPartRepository).findAddressNamesByIds(ids);
+        verify(municipalityPartRepository, never()).findAddressNamesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should resolve indexed IDs without querying the database")
+    void findAddressNamesByIds_AllIndexed_SkipsDatabase() {
+        AddressPlaceNameProjection place1 = new AddressPlaceNameProjection(100L, "Mesto1", "Cast1", "Okres1");
+        AddressPlaceIndex index = mock(AddressPlaceIndex.class);
+
+        when(addressPlaceIndexService.current()).thenReturn(index);
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.unknown());
+        when(index.find(100L)).thenReturn(place1);
+
+        Map<Long, AddressPlaceNameProjection> result = municipalityPartService.findAddressNamesByIds(List.of(100L));
+
+        assertThat(result).containsExactly(Map.entry(100L, place1));
+        verify(municipalityPartRepository, never()).findAddressNamesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should query the database only for IDs missing from the index")
+    void findAddressNamesByIds_IndexMiss_QueriesDatabase() {
+        AddressPlaceNameProjection place1 = new AddressPlaceNameProjection(100L, "Mesto1", "Cast1", "Okres1");
+        AddressPlaceNameProjection place2 = new AddressPlaceNameProjection(200L, "Mesto2", "Cast2", "Okres2");
+        AddressPlaceIndex index = mock(AddressPlaceIndex.class);
+
+        when(addressPlaceIndexService.current()).thenReturn(index);
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.unknown());
+        when(index.find(100L)).thenReturn(place1);
+        when(municipalityPartRepository.findAddressNamesByIds(List.of(200L))).thenReturn(List.of(place2));
+
+        Map<Long, AddressPlaceNameProjection> result = municipalityPartService.findAddressNamesByIds(List.of(100L, 200L));
+
+        assertThat(result).hasSize(2)
+                          .containsEntry(100L, place1)
+                          .containsEntry(200L, place2);
+        verify(municipalityPartRepository).findAddressNamesByIds(List.of(200L));
+    }
+
+    @Test
+    @DisplayName("should throw MunicipalityPartsNotFoundException without querying the database for IDs that do not exist")
+    void findAddressNamesByIds_DefinitelyMissing_SkipsDatabase() {
+        when(addressPlaceIndexService.current()).thenReturn(AddressPlaceIndex.empty());
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.of(new long[]{ 100L, 1000L }));
+
+        assertThatThrownBy(() -> municipalityPartService.findAddressNamesByIds(List.of(100L, 999L)))
+            .isInstanceOf(MunicipalityPartsNotFoundException.class)
+            .extracting("missingIds").isEqualTo(List.of(999L));
+
+        verify(municipalityPartIdIndexService).recordDefinitelyMissing(1);
+        verify(municipalityPartRepository, never()).findAddressNamesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should report IDs that do not exist together with IDs missing from the database")
+    void findAddressNamesByIds_DefinitelyMissingAndNotFound_ReportsAllMissing() {
+        when(addressPlaceIndexService.current()).thenReturn(AddressPlaceIndex.empty());
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.of(new long[]{ 100L, 1000L }));
+        when(municipalityPartRepository.findAddressNamesByIds(List.of(100L, 2000L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> municipalityPartService.findAddressNamesByIds(List.of(100L, 999L, 2000L)))
+            .isInstanceOf(MunicipalityPartsNotFoundException.class)
+            .extracting("missingIds").isEqualTo(List.of(999L, 100L, 2000L));
+    }
+
+    @Test
+    @DisplayName("should query the database only for IDs that may exist when looking up")
+    void lookupAddressNamesByIds_DefinitelyMissing_QueriesRemaining() {
+        AddressPlaceNameProjection place1 = new AddressPlaceNameProjection(100L, "Mesto1", "Cast1", "Okres1");
+
+        when(addressPlaceIndexService.current()).thenReturn(AddressPlaceIndex.empty());
+        when(municipalityPartIdIndexService.current()).thenReturn(ExistingIds.of(new long[]{ 100L, 1000L }));
+        when(municipalityPartRepository.findAddressNamesByIds(List.of(100L))).thenReturn(List.of(place1));
+
+        Map<Long, AddressPlaceNameProjection> result = municipalityPartService.lookupAddressNamesByIds(List.of(100L, 999L));
+
+        assertThat(result).containsExactly(Map.entry(100L, place1));
     }
 }
@@ -0,0 +1,101 @@
+package com.stag.platform.education.controller;
+
+import com.stag.platform.config.TestCacheConfig;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
+import com.stag.platform.education.service.HighSchoolFieldOfStudyService;
+import com.stag.platform.education.service.HighSchoolService;
+import com.stag.platform.shared.config.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(HighSchoolController.class)
+@Import({ TestCacheConfig.class, SecurityConfig.class })
+@ActiveProfiles("test")
+class HighSchoolControllerTest {
+
+    @Autowired
+    private MockMvcTester mvc;
+
+    @MockitoBean
+    private HighSchoolService highSchoolService;
+
+    @MockitoBean
+    private HighSchoolFieldOfStudyService fieldOfStudyService;
+
+    @Test
+    @DisplayName("should return 200 OK with matching high schools")
+    void searchHighSchools_ReturnsMatches() {
+        HighSchoolSearchProjection highSchool = new HighSchoolSearchProjection("000507440", "Gymnázium Luďka Pika", "Plzeň", "Plzeň-město");
+        when(highSchoolService.searchHighSchools("gym plz", 5)).thenReturn(List.of(highSchool));
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/high-schools?query={query}&limit={limit}", "gym plz", 5)
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .bodyJson()
+            .satisfies(json -> {
+                json.assertThat().extractingPath("$.highSchools").asArray().hasSize(1);
+                json.assertThat().extractingPath("$.highSchools[0].id").isEqualTo("000507440");
+                json.assertThat().extractingPath("$.highSchools[0].municipality").isEqualTo("Plzeň");
+                json.assertThat().extractingPath("$.highSchools[0].district").isEqualTo("Plzeň-město");
+            });
+
+        verify(highSchoolService).searchHighSchools("gym plz", 5);
+    }
+
+    @Test
+    @DisplayName("should use the default limit when none is given")
+    void searchHighSchools_DefaultLimit() {
+        when(highSchoolService.searchHighSchools("gym", 10)).thenReturn(List.of());
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/high-schools?query={query}", "gym")
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .bodyJson()
+            .satisfies(json -> json.assertThat().extractingPath("$.highSchools").asArray().isEmpty());
+
+        verify(highSchoolService).searchHighSchools("gym", 10);
+    }
+
+    @Test
+    @DisplayName("should return 400 Bad Request when the query is missing")
+    void searchHighSchools_MissingQuery_Returns400() {
+        assertThat(mvc.get()
+                      .uri("/api/v1/high-schools")
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatus(400);
+    }
+
+    @Test
+    @DisplayName("should return 200 OK with matching fields of study")
+    void searchHighSchoolFieldsOfStudy_ReturnsMatches() {
+        HighSchoolFieldOfStudyNameProjection fieldOfStudy = new HighSchoolFieldOfStudyNameProjection("7941K41", "Gymnázium");
+        when(fieldOfStudyService.searchFieldsOfStudy("7941", 10)).thenReturn(List.of(fieldOfStudy));
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/high-schools/fields-of-study?query={query}", "7941")
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .bodyJson()
+            .satisfies(json -> {
+                json.assertThat().extractingPath("$.fieldsOfStudy[0].id").isEqualTo("7941K41");
+                json.assertThat().extractingPath("$.fieldsOfStudy[0].name").isEqualTo("Gymnázium");
+            });
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.stag.platform.education.index;
+
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+    private static final HighSchoolSearchProjection PIKA = new HighSchoolSearchProjection(
+        "000507440", "Gymnázium Luďka Pika, Plzeň", "Plzeň", "Plzeň-město"
+    );
+    private static final HighSchoolSearchProjection MIKULASSKE = new HighSchoolSearchProjection(
+        "000507458", "Gymnázium, Plzeň, Mikulášské nám. 23", "Plzeň", "Plzeň-město"
+    );
+    private static final HighSchoolSearchProjection KLATOVY = new HighSchoolSearchProjection(
+        "000068209", "Gymnázium Jaroslava Vrchlického", "Klatovy", "Klatovy"
+    );
+    private static final HighSchoolSearchProjection SPS = new HighSchoolSearchProjection(
+        "000507521", "Střední průmyslová škola elektrotechnická", "Plzeň", null
+    );
+
+    private static final TypeaheadIndex<HighSchoolSearchProjection> INDEX = TypeaheadIndex.of(
+        1, Instant.now(), List.of(PIKA, MIKULASSKE, KLATOVY, SPS),
+        HighSchoolSearchProjection::name, HighSchoolSearchProjection::location
+    );
+
+    @Nested
+    @DisplayName("search")
+    class Search {
+
+        @Test
+        @DisplayName("should match word prefixes ignoring diacritics and case")
+        void foldsDiacritics() {
+            assertThat(INDEX.search("STREDNI prum", 10)).containsExactly(SPS);
+            assertThat(INDEX.search("mikulas", 10)).containsExactly(MIKULASSKE);
+        }
+
+        @Test
+        @DisplayName("should require all query words to match")
+        void requiresAllWords() {
+            assertThat(INDEX.search("gymn klatovy", 10)).containsExactly(KLATOVY);
+            assertThat(INDEX.search("gymn brno", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should rank name matches above location matches and shorter names first")
+        void ranksNameMatchesFirst() {
+            assertThat(INDEX.search("plzen", 10)).containsExactly(PIKA, MIKULASSKE, SPS);
+        }
+
+        @Test
+        @DisplayName("should limit the number of results")
+        void limitsResults() {
+            assertThat(INDEX.search("gym", 2)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("should return nothing for a blank query or an empty index")
+        void blankQuery() {
+            assertThat(INDEX.search("  ,. ", 10)).isEmpty();
+            assertThat(TypeaheadIndex.<HighSchoolSearchProjection>empty().search("gym", 10)).isEmpty();
+        }
+    }
+
+}
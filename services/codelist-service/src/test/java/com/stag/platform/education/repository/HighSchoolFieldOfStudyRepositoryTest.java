@@ -3,6 +3,7 @@ package com.stag.platform.education.repository;
 import com.stag.platform.config.TestCacheConfig;
 import com.stag.platform.config.TestOracleContainerConfig;
 import com.stag.platform.education.entity.HighSchoolFieldOfStudy;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,4 +49,18 @@ class HighSchoolFieldOfStudyRepositoryTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("findNamesByIds should return names of found fields of study only")
+    void findNamesByIds_ReturnsFoundNames() {
+        HighSchoolFieldOfStudy field = new HighSchoolFieldOfStudy();
+        field.setId("79-41-K/41");
+        field.setName("Gymnázium");
+        entityManager.persist(field);
+        entityManager.flush();
+
+        List<HighSchoolFieldOfStudyNameProjection> result = repository.findNamesByIds(List.of("79-41-K/41", "UNKNOWN"));
+
+        assertThat(result).containsExactly(new HighSchoolFieldOfStudyNameProjection("79-41-K/41", "Gymnázium"));
+    }
 }
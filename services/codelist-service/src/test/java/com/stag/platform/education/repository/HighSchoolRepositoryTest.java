@@ -6,7 +6,10 @@ import com.stag.platform.address.entity.Region;
 import com.stag.platform.config.TestCacheConfig;
 import com.stag.platform.config.TestOracleContainerConfig;
 import com.stag.platform.education.entity.HighSchool;
+import com.stag.platform.education.entity.HighSchoolFieldOfStudy;
+import com.stag.platform.education.repository.projection.EducationLookupRowProjection;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.education.repository.projection.HighSchoolSearchProjection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +19,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,4 +95,51 @@ class HighSchoolRepositoryTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("findAllValidForSearch should return only currently valid high schools")
+    void findAllValidForSearch_ReturnsValidOnly() {
+        entityManager.persist(highSchool("111111111", "Gymnázium Klatovy", null));
+        entityManager.persist(highSchool("222222222", "Zrušená škola", LocalDate.now().minusDays(1)));
+        entityManager.flush();
+
+        List<HighSchoolSearchProjection> result = repository.findAllValidForSearch();
+
+        assertThat(result).extracting(HighSchoolSearchProjection::id).containsExactly("111111111");
+        assertThat(result.getFirst().municipality()).isNull();
+    }
+
+    @Test
+    @DisplayName("findEducationLookupRows should return high school and field of study rows in one query")
+    void findEducationLookupRows_ReturnsBothParts() {
+        entityManager.persist(highSchool("111111111", "Gymnázium Klatovy", null));
+
+        HighSchoolFieldOfStudy fieldOfStudy = new HighSchoolFieldOfStudy();
+        fieldOfStudy.setId("7941K41");
+        fieldOfStudy.setName("Gymnázium");
+        entityManager.persist(fieldOfStudy);
+        entityManager.flush();
+
+        List<EducationLookupRowProjection> result = repository.findEducationLookupRows("111111111", "7941K41");
+
+        assertThat(result).containsExactlyInAnyOrder(
+            new EducationLookupRowProjection(EducationLookupRowProjection.HIGH_SCHOOL, "111111111", "Gymnázium Klatovy", null, null, null, null),
+            new EducationLookupRowProjection(EducationLookupRowProjection.FIELD_OF_STUDY, "7941K41", "Gymnázium", null, null, null, null)
+        );
+        assertThat(repository.findEducationLookupRows(null, "7941K41"))
+            .extracting(EducationLookupRowProjection::part)
+            .containsExactly(EducationLookupRowProjection.FIELD_OF_STUDY);
+    }
+
+    private static HighSchool highSchool(String id, String name, LocalDate validTo) {
+        HighSchool highSchool = new HighSchool();
+        highSchool.setId(id);
+        highSchool.setName(name);
+        highSchool.setValidFrom(LocalDate.of(2000, 1, 1));
+        highSchool.setValidTo(validTo);
+        highSchool.setOwner("TEST");
+        highSchool.setDateOfInsert(LocalDate.now());
+        return highSchool;
+    }
+
 }
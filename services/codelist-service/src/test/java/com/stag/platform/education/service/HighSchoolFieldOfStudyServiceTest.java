@@ -2,6 +2,7 @@ package com.stag.platform.education.service;
 
 import com.stag.platform.education.exception.HighSchoolFieldOfStudyNotFoundException;
 import com.stag.platform.education.repository.HighSchoolFieldOfStudyRepository;
+import com.stag.platform.education.repository.projection.HighSchoolFieldOfStudyNameProjection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,10 +10,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,4 +56,16 @@ class HighSchoolFieldOfStudyServiceTest {
 
         verify(fieldOfStudyRepository).findNameById(fieldOfStudyNumber);
     }
+
+    @Test
+    @DisplayName("should map found field of study names by number and omit unknown numbers")
+    void findFieldOfStudyNames_ReturnsFoundNames() {
+        Set<String> fieldOfStudyNumbers = Set.of("79-41-K/41", "00-00-0/00");
+
+        when(fieldOfStudyRepository.findNamesByIds(fieldOfStudyNumbers))
+            .thenReturn(List.of(new HighSchoolFieldOfStudyNameProjection("79-41-K/41", "Gymnázium")));
+
+        assertThat(fieldOfStudyService.findFieldOfStudyNames(fieldOfStudyNumbers))
+            .containsOnly(entry("79-41-K/41", "Gymnázium"));
+    }
 }
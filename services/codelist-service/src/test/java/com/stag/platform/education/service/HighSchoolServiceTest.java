@@ -1,8 +1,12 @@
 package com.stag.platform.education.service;
 
+import com.stag.platform.education.exception.HighSchoolFieldOfStudyNotFoundException;
 import com.stag.platform.education.exception.HighSchoolNotFoundException;
 import com.stag.platform.education.repository.HighSchoolRepository;
+import com.stag.platform.education.repository.projection.EducationLookupRowProjection;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.education.repository.projection.HighSchoolAddressRowProjection;
+import com.stag.platform.education.service.dto.EducationLookup;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +14,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -59,4 +66,52 @@ class HighSchoolServiceTest {
 
         verify(highSchoolRepository).findHighSchoolAddressById(highSchoolId);
     }
+
+    @Test
+    @DisplayName("should map found high school addresses by ID and omit unknown IDs")
+    void findHighSchoolAddressesByIds_ReturnsFoundAddresses() {
+        Set<String> highSchoolIds = Set.of("12345", "99999");
+        HighSchoolAddressRowProjection row = new HighSchoolAddressRowProjection(
+            "12345",
+            "Gymnazium",
+            "Studentska 1",
+            "12300",
+            "Mesto",
+            "Okres"
+        );
+
+        when(highSchoolRepository.findHighSchoolAddressesByIds(highSchoolIds)).thenReturn(List.of(row));
+
+        Map<String, HighSchoolAddressProjection> result = highSchoolService.findHighSchoolAddressesByIds(highSchoolIds);
+
+        assertThat(result).containsOnlyKeys("12345");
+        assertThat(result.get("12345").name()).isEqualTo("Gymnazium");
+    }
+
+    @Test
+    @DisplayName("should split composite education lookup rows into their parts")
+    void findEducationLookup_ReturnsBothParts() {
+        when(highSchoolRepository.findEducationLookupRows("12345", "7941K41")).thenReturn(List.of(
+            new EducationLookupRowProjection(EducationLookupRowProjection.FIELD_OF_STUDY, "7941K41", "Gymnázium", null, null, null, null),
+            new EducationLookupRowProjection(EducationLookupRowProjection.HIGH_SCHOOL, "12345", "Gymnazium", "Studentska 1", "12300", "Mesto", "Okres")
+        ));
+
+        EducationLookup result = highSchoolService.findEducationLookup("12345", "7941K41");
+
+        assertThat(result.highSchoolAddress())
+            .isEqualTo(new HighSchoolAddressProjection("Gymnazium", "Studentska 1", "12300", "Mesto", "Okres"));
+        assertThat(result.fieldOfStudyName()).isEqualTo("Gymnázium");
+    }
+
+    @Test
+    @DisplayName("should throw when a requested part of the education lookup is missing")
+    void findEducationLookup_MissingPart_ThrowsException() {
+        when(highSchoolRepository.findEducationLookupRows("99999", null)).thenReturn(List.of());
+        when(highSchoolRepository.findEducationLookupRows(null, "UNKNOWN")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> highSchoolService.findEducationLookup("99999", null))
+            .isInstanceOf(HighSchoolNotFoundException.class);
+        assertThatThrownBy(() -> highSchoolService.findEducationLookup(null, "UNKNOWN"))
+            .isInstanceOf(HighSchoolFieldOfStudyNotFoundException.class);
+    }
 }
@@ -7,6 +7,8 @@ import com.stag.platform.entry.exception.CodelistMeaningsNotFoundException;
 import com.stag.platform.entry.repository.projection.DomainValueView;
 import com.stag.platform.entry.service.DomainService;
 import com.stag.platform.shared.config.SecurityConfig;
+import com.stag.platform.shared.http.ConditionalResponses;
+import com.stag.platform.shared.http.ETaggedContent;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ActiveProfiles;
@@ -29,13 +32,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(DomainController.class)
-@Import({ TestCacheConfig.class, SecurityConfig.class })
+@Import({ TestCacheConfig.class, SecurityConfig.class, ConditionalResponses.class })
 @ActiveProfiles("test")
 class DomainControllerTest {
 
     @Autowired
     private MockMvcTester mvc;
 
+    @Autowired
+    private ConditionalResponses conditionalResponses;
+
     @MockitoBean
     private DomainService domainService;
 
@@ -62,7 +68,7 @@ class DomainControllerTest {
         String language = "cs";
         DomainValueView view = new DomainValueView("FAV", "Fakulta aplikovaných věd", "FAV");
         
-        when(domainService.getDomainValues(domain, language)).thenReturn(List.of(view));
+        when(domainService.getDomainValues(domain, language)).thenReturn(ETaggedContent.of(List.of(view)));
 
         assertThat(mvc.get()
                       .uri("/api/v1/domains/{domain}", domain)
@@ -79,6 +85,65 @@ class DomainControllerTest {
         verify(domainService).getDomainValues(domain, language);
     }
 
+    @Test
+    @DisplayName("should return 304 Not Modified when If-None-Match matches the current ETag")
+    void getDomainValues_MatchingETag_ReturnsNotModified() {
+        String domain = "STAV";
+        String language = "cs";
+        ETaggedContent<List<DomainValueView>> content = ETaggedContent.of(List.of(new DomainValueView("S", "Svobodný", null)));
+
+        when(domainService.getDomainValues(domain, language)).thenReturn(content);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/domains/{domain}", domain)
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .header(HttpHeaders.IF_NONE_MATCH, content.etag())
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatus(HttpStatus.NOT_MODIFIED)
+            .hasHeader(HttpHeaders.ETAG, content.etag())
+            .body().isEmpty();
+    }
+
+    @Test
+    @DisplayName("should answer the previous ETag with the values reloaded by refresh-ahead")
+    void getDomainValues_RefreshedEntry_ReturnsOkForPreviousETag() {
+        String domain = "KRAJ";
+        String language = "cs";
+        ETaggedContent<List<DomainValueView>> previous = ETaggedContent.of(List.of(new DomainValueView("PL", "Plzeňský", null)));
+        ETaggedContent<List<DomainValueView>> reloaded = ETaggedContent.of(List.of(new DomainValueView("PL", "Plzeňský kraj", null)));
+        ETaggedContent<List<DomainValueView>> refreshed = new ETaggedContent<>(reloaded.content(), reloaded.etag(), previous.builtAt().plusSeconds(1));
+
+        when(domainService.getDomainValues(domain, language)).thenReturn(previous);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/domains/{domain}", domain)
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .hasHeader(HttpHeaders.ETAG, previous.etag());
+
+        conditionalResponses.refreshed("domain-values", List.of(domain, language), refreshed);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/domains/{domain}", domain)
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .header(HttpHeaders.IF_NONE_MATCH, previous.etag())
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatus(HttpStatus.NOT_MODIFIED);
+
+        when(domainService.getDomainValues(domain, language)).thenReturn(refreshed);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/domains/{domain}", domain)
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .header(HttpHeaders.IF_NONE_MATCH, previous.etag())
+                      .accept(MediaType.APPLICATION_JSON))
+            .hasStatusOk()
+            .hasHeader(HttpHeaders.ETAG, refreshed.etag())
+            .bodyJson()
+            .satisfies(json -> json.assertThat().extractingPath("$.values[0].name").isEqualTo("Plzeňský kraj"));
+    }
+
     @Test
     @DisplayName("should return 500 Internal Server Error when CodelistEntriesNotFoundException is thrown")
     void getDomainValues_CodelistEntriesNotFound_Returns500() {
@@ -5,7 +5,9 @@ import com.stag.platform.config.TestOracleContainerConfig;
 import com.stag.platform.entry.entity.CodelistEntry;
 import com.stag.platform.entry.entity.CodelistEntryId;
 import com.stag.platform.entry.entity.Domain;
+import com.stag.platform.entry.repository.projection.CodelistEntryLookupProjection;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
 import com.stag.platform.entry.repository.projection.DomainValueView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -139,6 +141,46 @@ class CodelistEntryRepositoryTest {
 
     }
 
+    @Nested
+    @DisplayName("findAllValidTranslations")
+    class FindAllValidTranslations {
+
+        @Test
+        @DisplayName("should return only valid entries with both meanings")
+        void shouldReturnOnlyValidEntries() {
+            createEntry("VAL1", "Cz1", "En1", "A1", (short) 1, "A");
+            createEntry("VAL2", "Cz2", null, "A2", (short) 2, "N");
+
+            List<CodelistEntryTranslationProjection> result = repository.findAllValidTranslations();
+
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst().id().getLowValue()).isEqualTo("VAL1");
+            assertThat(result.getFirst().meaningCz()).isEqualTo("Cz1");
+            assertThat(result.getFirst().meaningEn()).isEqualTo("En1");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("findLookupsByDomains")
+    class FindLookupsByDomains {
+
+        @Test
+        @DisplayName("should return entries of requested domains with abbreviation and meanings")
+        void shouldReturnEntriesOfRequestedDomains() {
+            createEntry("VAL1", "Cz1", "En1", "A1", (short) 1, "A");
+            createEntry("VAL2", "Cz2", null, "A2", (short) 2, "N");
+
+            List<CodelistEntryLookupProjection> result = repository.findLookupsByDomains(List.of("TEST_DOMAIN"));
+            List<CodelistEntryLookupProjection> otherDomain = repository.findLookupsByDomains(List.of("OTHER"));
+
+            assertThat(result).extracting(CodelistEntryLookupProjection::abbreviation)
+                              .containsExactlyInAnyOrder("A1", "A2");
+            assertThat(otherDomain).isEmpty();
+        }
+
+    }
+
     private void createEntry(String lowValue, String cz, String en, String abbr, short order, String isValid) {
         CodelistEntry entry = CodelistEntry.builder()
                                            .id(new CodelistEntryId(domain.getDomainId(), lowValue, "STA"))
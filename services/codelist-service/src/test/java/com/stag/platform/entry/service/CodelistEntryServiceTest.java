@@ -5,8 +5,13 @@ import com.stag.platform.entry.entity.CodelistEntryId;
 import com.stag.platform.entry.exception.CodelistEntriesNotFoundException;
 import com.stag.platform.entry.exception.CodelistMeaningsNotFoundException;
 import com.stag.platform.entry.repository.CodelistEntryRepository;
+import com.stag.platform.entry.repository.projection.CodelistEntryLookupProjection;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+import com.stag.platform.entry.service.dto.CodelistMeaningsLookup;
 import com.stag.platform.entry.service.dto.PersonProfileLowValues;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshot;
+import com.stag.platform.entry.snapshot.CodelistEntrySnapshotService;
 import com.stag.platform.shared.grpc.model.CodelistDomain;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,12 +22,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +39,9 @@ class CodelistEntryServiceTest {
     @Mock
     private CodelistEntryRepository codelistEntryRepository;
 
+    @Mock
+    private CodelistEntrySnapshotService snapshotService;
+
     @InjectMocks
     private CodelistEntryService codelistEntryService;
 
@@ -41,6 +52,8 @@ class CodelistEntryServiceTest {
         @Test
         @DisplayName("should return meanings when all entries found")
         void success() {
+            when(snapshotService.current()).thenReturn(CodelistEntrySnapshot.empty());
+
             CodelistEntryId id1 = new CodelistEntryId("D", "V1", "STA");
             List<CodelistEntryId> ids = List.of(id1);
             List<CodelistEntryMeaningProjection> expected = List.of(
@@ -57,6 +70,7 @@ class CodelistEntryServiceTest {
         @Test
         @DisplayName("should throw CodelistEntriesNotFoundException when some entries are missing")
         void missingEntries() {
+            when(snapshotService.current()).thenReturn(CodelistEntrySnapshot.empty());
             CodelistEntryId id1 = new CodelistEntryId("D", "V1", "STA");
             CodelistEntryId id2 = new CodelistEntryId("D", "V2", "STA");
             List<CodelistEntryId> ids = List.of(id1, id2);
@@ -72,6 +86,76 @@ class CodelistEntryServiceTest {
                 .isInstanceOf(CodelistEntriesNotFoundException.class)
                 .hasMessageContaining("D:V2");
         }
+
+        @Test
+        @DisplayName("should answer from snapshot without querying the database")
+        void snapshotHit() {
+            CodelistEntryId id1 = new CodelistEntryId("D", "V1", "STA");
+            CodelistEntryId id2 = new CodelistEntryId("D", "V2", "STA");
+            CodelistEntrySnapshot snapshot = CodelistEntrySnapshot.of(1, Instant.now(), List.of(
+                new CodelistEntryTranslationProjection(id1, "Význam", "Meaning"),
+                new CodelistEntryTranslationProjection(id2, "Jen česky", null)
+            ));
+
+            when(snapshotService.current()).thenReturn(snapshot);
+
+            List<CodelistEntryMeaningProjection> result = codelistEntryService.findMeaningsByIds(List.of(id1, id2), "en");
+
+            assertThat(result).containsExactly(
+                new CodelistEntryMeaningProjection(id1, "Meaning"),
+                new CodelistEntryMeaningProjection(id2, "Jen česky")
+            );
+            verifyNoInteractions(codelistEntryRepository);
+        }
+
+        @Test
+        @DisplayName("should query the database only for IDs missing from snapshot")
+        void snapshotMiss() {
+            CodelistEntryId id1 = new CodelistEntryId("D", "V1", "STA");
+            CodelistEntryId id2 = new CodelistEntryId("D", "V2", "STA");
+            CodelistEntrySnapshot snapshot = CodelistEntrySnapshot.of(1, Instant.now(), List.of(
+                new CodelistEntryTranslationProjection(id1, "Význam", "Meaning")
+            ));
+
+            when(snapshotService.current()).thenReturn(snapshot);
+            when(codelistEntryRepository.findCodelistEntriesByIds(List.of(id2), "cs"))
+                .thenReturn(List.of(new CodelistEntryMeaningProjection(id2, "Neplatný")));
+
+            List<CodelistEntryMeaningProjection> result = codelistEntryService.findMeaningsByIds(List.of(id1, id2), "cs");
+
+            assertThat(result).containsExactlyInAnyOrder(
+                new CodelistEntryMeaningProjection(id1, "Význam"),
+                new CodelistEntryMeaningProjection(id2, "Neplatný")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("lookupMeaningsByIds")
+    class LookupMeaningsByIds {
+
+        @Test
+        @DisplayName("should resolve distinct IDs and report missing ones without throwing")
+        void reportsMissing() {
+            CodelistEntryId id1 = new CodelistEntryId("D", "V1", "STA");
+            CodelistEntryId id2 = new CodelistEntryId("D", "V2", "STA");
+            CodelistEntryId id3 = new CodelistEntryId("D", "V3", "STA");
+            CodelistEntrySnapshot snapshot = CodelistEntrySnapshot.of(1, Instant.now(), List.of(
+                new CodelistEntryTranslationProjection(id1, "Význam", "Meaning")
+            ));
+
+            when(snapshotService.current()).thenReturn(snapshot);
+            when(codelistEntryRepository.findCodelistEntriesByIds(List.of(id2, id3), "cs"))
+                .thenReturn(List.of(new CodelistEntryMeaningProjection(id2, "Neplatný")));
+
+            CodelistMeaningsLookup result = codelistEntryService.lookupMeaningsByIds(List.of(id1, id2, id1, id3), "cs");
+
+            assertThat(result.meanings()).containsExactlyInAnyOrder(
+                new CodelistEntryMeaningProjection(id1, "Význam"),
+                new CodelistEntryMeaningProjection(id2, "Neplatný")
+            );
+            assertThat(result.missingIds()).containsExactly(id3);
+        }
     }
 
     @Nested
@@ -81,6 +165,8 @@ class CodelistEntryServiceTest {
         @Test
         @DisplayName("should return low values when all meanings match by different fields")
         void success() {
+            when(snapshotService.current()).thenReturn(CodelistEntrySnapshot.empty());
+
             CodelistEntry stav = CodelistEntry.builder()
                 .id(new CodelistEntryId(CodelistDomain.STAV.name(), "S", "STA"))
                 .abbreviation("S")
@@ -107,6 +193,8 @@ class CodelistEntryServiceTest {
         @Test
         @DisplayName("should return null for blank inputs without calling repository with those criteria")
         void blankInputs() {
+            when(snapshotService.current()).thenReturn(CodelistEntrySnapshot.empty());
+
             // If all blank, specification returns disjunction, results empty
             when(codelistEntryRepository.findAll(any(Specification.class))).thenReturn(Collections.emptyList());
 
@@ -120,6 +208,8 @@ class CodelistEntryServiceTest {
         @Test
         @DisplayName("should throw CodelistMeaningsNotFoundException when some meanings are not found")
         void missingMeanings() {
+            when(snapshotService.current()).thenReturn(CodelistEntrySnapshot.empty());
+
             CodelistEntry stav = CodelistEntry.builder()
                 .id(new CodelistEntryId(CodelistDomain.STAV.name(), "S", "STA"))
                 .abbreviation("S")
@@ -137,5 +227,84 @@ class CodelistEntryServiceTest {
                     assertThat(e.getMessage()).contains("TITUL_ZA:MissingSuffix");
                 });
         }
+
+        @Test
+        @DisplayName("should resolve meanings from snapshot index without querying the database")
+        void snapshotIndexHit() {
+            when(snapshotService.current()).thenReturn(snapshotWithMeanings());
+
+            PersonProfileLowValues result = codelistEntryService.findPersonProfileLowValues("ženatý", "Ing.", "Ph.D.");
+
+            assertThat(result.maritalStatusLowValue()).isEqualTo("Z");
+            assertThat(result.titlePrefixLowValue()).isEqualTo("10");
+            assertThat(result.titleSuffixLowValue()).isEqualTo("20");
+            verifyNoInteractions(codelistEntryRepository);
+        }
+
+        @Test
+        @DisplayName("should match meanings regardless of case and diacritics")
+        void snapshotIndexNormalizedMatch() {
+            when(snapshotService.current()).thenReturn(snapshotWithMeanings());
+
+            PersonProfileLowValues result = codelistEntryService.findPersonProfileLowValues(" ZENATY ", "ing.", "DOCTOR");
+
+            assertThat(result.maritalStatusLowValue()).isEqualTo("Z");
+            assertThat(result.titlePrefixLowValue()).isEqualTo("10");
+            assertThat(result.titleSuffixLowValue()).isEqualTo("20");
+        }
+
+        @Test
+        @DisplayName("should query the database only for meanings missing from snapshot index")
+        void snapshotIndexMissFallsBackToDatabase() {
+            when(snapshotService.current()).thenReturn(snapshotWithMeanings());
+
+            CodelistEntry addedTitle = CodelistEntry.builder()
+                .id(new CodelistEntryId(CodelistDomain.TITUL_ZA.name(), "30", "STA"))
+                .abbreviation("DiS.")
+                .build();
+
+            when(codelistEntryRepository.findAll(any(Specification.class)))
+                .thenReturn(List.of(addedTitle));
+
+            PersonProfileLowValues result = codelistEntryService.findPersonProfileLowValues("ženatý", "Ing.", "DiS.");
+
+            assertThat(result.maritalStatusLowValue()).isEqualTo("Z");
+            assertThat(result.titlePrefixLowValue()).isEqualTo("10");
+            assertThat(result.titleSuffixLowValue()).isEqualTo("30");
+            verify(codelistEntryRepository).findAll(any(Specification.class));
+        }
+
+        @Test
+        @DisplayName("should report missing and ambiguous meanings from snapshot index")
+        void snapshotIndexMissingMeanings() {
+            when(snapshotService.current()).thenReturn(snapshotWithMeanings());
+            when(codelistEntryRepository.findAll(any(Specification.class))).thenReturn(Collections.emptyList());
+
+            assertThatThrownBy(() -> codelistEntryService.findPersonProfileLowValues("ROZVEDENY", "MissingPrefix", null))
+                .isInstanceOf(CodelistMeaningsNotFoundException.class)
+                .satisfies(ex -> {
+                    CodelistMeaningsNotFoundException e = (CodelistMeaningsNotFoundException) ex;
+                    assertThat(e.getMissingMeanings()).hasSize(2);
+                    assertThat(e.getMessage()).contains("STAV:ROZVEDENY");
+                    assertThat(e.getMessage()).contains("TITUL_PRED:MissingPrefix");
+                });
+        }
+
+        private CodelistEntrySnapshot snapshotWithMeanings() {
+            return CodelistEntrySnapshot.of(1, Instant.now(), List.of(), List.of(
+                lookup(CodelistDomain.STAV, "Z", "Z", "ženatý", "married"),
+                // "rozvedený" and "Rozvedeny" normalize to the same key but belong to different low values
+                lookup(CodelistDomain.STAV, "R1", "R1", "rozvedený", null),
+                lookup(CodelistDomain.STAV, "R2", "R2", "Rozvedeny", null),
+                lookup(CodelistDomain.TITUL_PRED, "10", "Ing.", "inženýr", "Engineer"),
+                lookup(CodelistDomain.TITUL_ZA, "20", "Ph.D.", "doktor", "Doctor")
+            ));
+        }
+
+        private CodelistEntryLookupProjection lookup(CodelistDomain domain, String lowValue, String abbreviation, String meaningCz, String meaningEn) {
+            return new CodelistEntryLookupProjection(
+                new CodelistEntryId(domain.name(), lowValue, "STA"), abbreviation, meaningCz, meaningEn
+            );
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.stag.platform.entry.service;
 import com.stag.platform.entry.repository.CodelistEntryRepository;
 import com.stag.platform.entry.repository.DomainRepository;
 import com.stag.platform.entry.repository.projection.DomainValueView;
+import com.stag.platform.shared.http.ETaggedContent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,9 +40,10 @@ class DomainServiceTest {
 
         when(codelistEntryRepository.findDomainValuesByDomain(domain, language)).thenReturn(expectedValues);
 
-        List<DomainValueView> result = domainService.getDomainValues(domain, language);
+        ETaggedContent<List<DomainValueView>> result = domainService.getDomainValues(domain, language);
 
-        assertThat(result).isEqualTo(expectedValues);
+        assertThat(result.content()).isEqualTo(expectedValues);
+        assertThat(result.etag()).isEqualTo(ETaggedContent.of(expectedValues).etag());
         verify(codelistEntryRepository).findDomainValuesByDomain(domain, language);
     }
 
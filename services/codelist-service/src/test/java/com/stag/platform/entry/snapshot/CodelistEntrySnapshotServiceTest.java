@@ -0,0 +1,96 @@
+package com.stag.platform.entry.snapshot;
+
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.CodelistEntryRepository;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CodelistEntrySnapshotServiceTest {
+
+    @Mock
+    private CodelistEntryRepository codelistEntryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CodelistEntrySnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshotService = new CodelistEntrySnapshotService(codelistEntryRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should start with an empty snapshot")
+    void emptyBeforeFirstLoad() {
+        assertThat(snapshotService.current().version()).isZero();
+        assertThat(snapshotService.current().size()).isZero();
+        assertThat(snapshotService.getAge()).isEqualTo(Duration.ZERO);
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should load entries and swap snapshot with incremented version")
+        void swapsSnapshot() {
+            CodelistEntryId id = new CodelistEntryId("D", "V", "STA");
+
+            when(codelistEntryRepository.findAllValidTranslations())
+                .thenReturn(List.of(new CodelistEntryTranslationProjection(id, "Význam", "Meaning")));
+
+            snapshotService.refresh();
+            CodelistEntrySnapshot snapshot = snapshotService.refresh();
+
+            assertThat(snapshot.version()).isEqualTo(2);
+            assertThat(snapshotService.current()).isSameAs(snapshot);
+            assertThat(snapshot.find(id).resolve("cs")).isEqualTo("Význam");
+            assertThat(snapshot.find(id).resolve("en")).isEqualTo("Meaning");
+        }
+
+        @Test
+        @DisplayName("should keep the previous snapshot when loading fails")
+        void keepsPreviousOnFailure() {
+            when(codelistEntryRepository.findAllValidTranslations())
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("DB down"));
+
+            CodelistEntrySnapshot first = snapshotService.refresh();
+            CodelistEntrySnapshot second = snapshotService.refresh();
+
+            assertThat(second).isSameAs(first);
+            assertThat(second.version()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should record size and swap metrics")
+        void recordsMetrics() {
+            CodelistEntryId id = new CodelistEntryId("D", "V", "STA");
+
+            when(codelistEntryRepository.findAllValidTranslations())
+                .thenReturn(List.of(new CodelistEntryTranslationProjection(id, "Význam", null)));
+
+            snapshotService.refresh();
+
+            assertThat(meterRegistry.get("codelist.snapshot.size").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("codelist.snapshot.swap").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.find("codelist.snapshot.age").timeGauge()).isNotNull();
+        }
+    }
+
+}
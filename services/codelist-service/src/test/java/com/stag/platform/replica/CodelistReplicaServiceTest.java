@@ -0,0 +1,176 @@
+package com.stag.platform.replica;
+
+import com.stag.platform.address.repository.CountryRepository;
+import com.stag.platform.address.repository.MunicipalityPartRepository;
+import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.CodelistEntryRepository;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CodelistReplicaServiceTest {
+
+    private static final CodelistEntryId MALE_ID = new CodelistEntryId("POHLAVI", "M", "STA");
+    private static final CodelistEntryId FEMALE_ID = new CodelistEntryId("POHLAVI", "Z", "STA");
+    private static final CountryTranslationProjection CZECHIA = new CountryTranslationProjection(203, "Česko", "Czechia");
+    private static final AddressPlaceNameProjection BORY = new AddressPlaceNameProjection(1000L, "Plzeň", "Bory", "Plzeň-město");
+
+    @Mock
+    private CodelistEntryRepository codelistEntryRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private MunicipalityPartRepository municipalityPartRepository;
+
+    private CodelistReplicaService replicaService;
+
+    @BeforeEach
+    void setUp() {
+        replicaService = new CodelistReplicaService(
+            codelistEntryRepository, countryRepository, municipalityPartRepository, new SimpleMeterRegistry(), 2
+        );
+    }
+
+    @Nested
+    @DisplayName("refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should publish the first load as version 1 and ask watchers to reset")
+        void firstLoad() {
+            List<CodelistReplicaChange> received = new ArrayList<>();
+            replicaService.subscribe("unknown", 0, received::add);
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "male")));
+
+            CodelistReplicaState state = replicaService.refresh();
+
+            assertThat(state.version()).isEqualTo(1);
+            assertThat(state.size()).isEqualTo(3);
+            assertThat(received).extracting(CodelistReplicaChange::resetRequired).containsExactly(true, true);
+            assertThat(received.getLast().version()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should keep the version when nothing changed")
+        void unchanged() {
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "male")));
+
+            replicaService.refresh();
+            CodelistReplicaState state = replicaService.refresh();
+
+            assertThat(state.version()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should publish only changed and removed entries")
+        void delta() {
+            stubRows(List.of(
+                new CodelistEntryTranslationProjection(MALE_ID, "muž", "male"),
+                new CodelistEntryTranslationProjection(FEMALE_ID, "žena", null)
+            ));
+            replicaService.refresh();
+
+            List<CodelistReplicaChange> received = new ArrayList<>();
+            replicaService.subscribe(replicaService.getReplicaId(), 1, received::add);
+
+            stubRows(List.of(new CodelistEntryTranslationProjection(FEMALE_ID, "žena", "female")));
+            replicaService.refresh();
+
+            assertThat(received).hasSize(1);
+            CodelistReplicaChange change = received.getFirst();
+            assertThat(change.version()).isEqualTo(2);
+            assertThat(change.resetRequired()).isFalse();
+            assertThat(change.upsertedEntries()).containsOnlyKeys(FEMALE_ID);
+            assertThat(change.removedEntries()).containsExactly(MALE_ID);
+            assertThat(change.upsertedCountries()).isEmpty();
+            assertThat(change.upsertedAddressPlaces()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe")
+    class Subscribe {
+
+        @Test
+        @DisplayName("should replay deltas from the change log")
+        void replaysChangeLog() {
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "male")));
+            replicaService.refresh();
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "man")));
+            replicaService.refresh();
+
+            List<CodelistReplicaChange> received = new ArrayList<>();
+            replicaService.subscribe(replicaService.getReplicaId(), 1, received::add);
+
+            assertThat(received).extracting(CodelistReplicaChange::version).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("should ask for a reset when the version left the change log")
+        void resetsEvictedVersion() {
+            for (String meaning : List.of("a", "b", "c", "d")) {
+                stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, meaning, null)));
+                replicaService.refresh();
+            }
+
+            List<CodelistReplicaChange> received = new ArrayList<>();
+            replicaService.subscribe(replicaService.getReplicaId(), 1, received::add);
+
+            assertThat(received).singleElement().satisfies(change -> {
+                assertThat(change.resetRequired()).isTrue();
+                assertThat(change.version()).isEqualTo(4);
+            });
+        }
+
+        @Test
+        @DisplayName("should ask for a reset when the version belongs to another instance")
+        void resetsForeignReplica() {
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "male")));
+            replicaService.refresh();
+
+            List<CodelistReplicaChange> received = new ArrayList<>();
+            replicaService.subscribe("another-instance", 1, received::add);
+
+            assertThat(received).singleElement().extracting(CodelistReplicaChange::resetRequired).isEqualTo(true);
+        }
+
+        @Test
+        @DisplayName("should stop delivering after unsubscribing")
+        void unsubscribes() {
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "male")));
+            replicaService.refresh();
+
+            List<CodelistReplicaChange> received = new ArrayList<>();
+            replicaService.subscribe(replicaService.getReplicaId(), 1, received::add).run();
+
+            stubRows(List.of(new CodelistEntryTranslationProjection(MALE_ID, "muž", "man")));
+            replicaService.refresh();
+
+            assertThat(received).isEmpty();
+        }
+    }
+
+    private void stubRows(List<CodelistEntryTranslationProjection> entryRows) {
+        when(codelistEntryRepository.findAllValidTranslations()).thenReturn(entryRows);
+        when(countryRepository.findAllTranslations()).thenReturn(List.of(CZECHIA));
+        when(municipalityPartRepository.findAllAddressNames()).thenReturn(List.of(BORY));
+    }
+
+}
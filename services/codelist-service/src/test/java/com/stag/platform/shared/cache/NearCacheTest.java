@@ -0,0 +1,334 @@
+package com.stag.platform.shared.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheTest {
+
+    private static final List<Object> KEY = List.of("POHLAVI", "cs");
+
+    @Mock
+    private RedisCache redisCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NearCacheInvalidations invalidations;
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisCache.getName()).thenReturn("domain-values");
+        meterRegistry = new SimpleMeterRegistry();
+        invalidations = new NearCacheInvalidations(redisTemplate, "near-cache:invalidations");
+        nearCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, null, null, null, meterRegistry);
+        invalidations.bind(name -> name.equals("domain-values") ? nearCache : null);
+    }
+
+    @Nested
+    @DisplayName("get")
+    class Get {
+
+        @Test
+        @DisplayName("should read Redis once and serve repeated reads from L1")
+        void fillsL1() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("muž"));
+
+            assertThat(nearCache.get(KEY).get()).isEqualTo("muž");
+            assertThat(nearCache.get(KEY).get()).isEqualTo("muž");
+
+            verify(redisCache, times(1)).get(KEY);
+            assertThat(requests("l1", "hit")).isEqualTo(1);
+            assertThat(requests("l1", "miss")).isEqualTo(1);
+            assertThat(requests("l2", "hit")).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.near.latency").tags("tier", "l2").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should report a miss of both tiers")
+        void missesBothTiers() {
+            assertThat(nearCache.get(KEY)).isNull();
+            assertThat(requests("l2", "miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not fill L1 with a value read before a concurrent eviction")
+        void skipsStaleFill() throws Exception {
+            CountDownLatch reading = new CountDownLatch(1);
+            CountDownLatch evicted = new CountDownLatch(1);
+            when(redisCache.get(KEY))
+                .thenAnswer(_ -> {
+                    reading.countDown();
+                    evicted.await();
+                    return new SimpleValueWrapper("muž");
+                })
+                .thenReturn(new SimpleValueWrapper("žena"));
+
+            CompletableFuture<Object> reader = CompletableFuture.supplyAsync(() -> nearCache.get(KEY).get());
+            reading.await();
+            nearCache.evict(KEY);
+            evicted.countDown();
+
+            assertThat(reader.get()).isEqualTo("muž");
+            assertThat(nearCache.get(KEY).get()).isEqualTo("žena");
+            verify(redisCache, times(2)).get(KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("get with value loader")
+    class GetWithValueLoader {
+
+        @Test
+        @DisplayName("should run a single loader for concurrent misses of a key")
+        void coalescesLoads() throws Exception {
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> nearCache.get(KEY, () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "muž";
+            }));
+            await().until(() -> nearCache.inFlightLoads() == 1);
+
+            CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> nearCache.get(KEY, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            await().until(() -> coalesced("local") == 1);
+            release.countDown();
+
+            assertThat(leader.get()).isEqualTo("muž");
+            assertThat(waiter.get()).isEqualTo("muž");
+            assertThat(loads).hasValue(1);
+            assertThat(nearCache.inFlightLoads()).isZero();
+            verify(redisCache).put(KEY, "muž");
+        }
+
+        @Test
+        @DisplayName("should propagate loader failures without caching")
+        void propagatesFailure() {
+            assertThatThrownBy(() -> nearCache.get(KEY, () -> {
+                throw new IllegalStateException("DB down");
+            }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+            verify(redisCache, never()).put(eq(KEY), any());
+            assertThat(nearCache.inFlightLoads()).isZero();
+        }
+
+        @Test
+        @DisplayName("should wait for the instance holding the distributed lock")
+        void waitsForDistributedLoad() {
+            NearCacheLoadLock loadLock = mock(NearCacheLoadLock.class);
+            when(loadLock.getLease()).thenReturn(Duration.ofSeconds(5));
+            when(loadLock.getPollInterval()).thenReturn(Duration.ofMillis(1));
+            when(loadLock.tryAcquire(anyString(), anyString())).thenReturn(null);
+            when(redisCache.get(KEY)).thenReturn(null, new SimpleValueWrapper("muž"));
+            NearCache lockedCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, loadLock, null, null, meterRegistry);
+
+            String value = lockedCache.get(KEY, () -> "other");
+
+            assertThat(value).isEqualTo("muž");
+            assertThat(coalesced("distributed")).isEqualTo(1);
+            verify(redisCache, never()).put(eq(KEY), any());
+        }
+
+        @Test
+        @DisplayName("should load and release the distributed lock when acquired")
+        void loadsUnderDistributedLock() {
+            NearCacheLoadLock loadLock = mock(NearCacheLoadLock.class);
+            when(loadLock.getLease()).thenReturn(Duration.ofSeconds(5));
+            when(loadLock.tryAcquire(anyString(), anyString())).thenReturn("token");
+            NearCache lockedCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, loadLock, null, null, meterRegistry);
+
+            String value = lockedCache.get(KEY, () -> "muž");
+
+            assertThat(value).isEqualTo("muž");
+            verify(redisCache).put(KEY, "muž");
+            verify(loadLock).release(anyString(), anyString(), eq("token"));
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh ahead")
+    class RefreshAhead {
+
+        private final List<Object> refreshedKeys = new CopyOnWriteArrayList<>();
+
+        private NearCache refreshingCache;
+
+        @BeforeEach
+        void setUp() {
+            RefreshAheadPolicy policy = new RefreshAheadPolicy(Duration.ofMinutes(1), 0.999, 2);
+            refreshingCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, null, policy, key -> {
+                refreshedKeys.add(key);
+                return "žena";
+            }, meterRegistry);
+            invalidations.bind(name -> name.equals("domain-values") ? refreshingCache : null);
+        }
+
+        @Test
+        @DisplayName("should recompute a hot entry from its key in the background while serving the current value")
+        void refreshesHotEntry() throws Exception {
+            refreshingCache.put(KEY, "muž");
+            Thread.sleep(100);
+
+            assertThat(refreshingCache.get(KEY).get()).isEqualTo("muž");
+            assertThat(refreshingCache.get(KEY, () -> "dítě")).isEqualTo("muž");
+
+            await().until(() -> refreshes("success") == 1);
+            assertThat(refreshedKeys).containsExactly(KEY);
+            assertThat(refreshingCache.get(KEY).get()).isEqualTo("žena");
+            verify(redisCache).put(KEY, "žena");
+        }
+
+        @Test
+        @DisplayName("should not recompute entries read less often than the minimum hits")
+        void skipsColdEntry() throws Exception {
+            refreshingCache.get(KEY, () -> "muž");
+            Thread.sleep(100);
+
+            refreshingCache.get(KEY);
+
+            assertThat(refreshes("success")).isZero();
+            assertThat(refreshingCache.refreshTrackedKeys()).isEqualTo(1);
+            assertThat(refreshedKeys).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should stop tracking entries changed by another instance")
+        void dropsRemotelyChangedEntry() {
+            refreshingCache.get(KEY, () -> "muž");
+
+            invalidations.handle("other-instance|domain-values|[POHLAVI, cs]");
+
+            assertThat(refreshingCache.refreshTrackedKeys()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("weight")
+    class Weight {
+
+        @Test
+        @DisplayName("should weigh L1 entries without serializing them for Redis")
+        void skipsSerializer() {
+            nearCache.put(KEY, "muž");
+
+            assertThat(nearCache.get(KEY).get()).isEqualTo("muž");
+            verify(redisCache, never()).getCacheConfiguration();
+        }
+
+        @Test
+        @DisplayName("should estimate records, collections and strings from their contents")
+        void estimatesSize() {
+            record Item(String name, int order) {
+            }
+            List<Item> items = IntStream.range(0, 100).mapToObj(i -> new Item("x".repeat(99), i)).toList();
+
+            assertThat(NearCacheWeigher.weigh("x".repeat(99))).isEqualTo(100);
+            assertThat(NearCacheWeigher.weigh(items)).isEqualTo(100 * (100 + 8));
+            assertThat(NearCacheWeigher.weigh(new Object())).isEqualTo(NearCacheWeigher.UNKNOWN_WEIGHT);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("should publish evictions and skip its own messages")
+        void publishesEvict() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("muž"));
+            nearCache.get(KEY);
+
+            nearCache.evict(KEY);
+
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq("near-cache:invalidations"), payload.capture());
+            assertThat(payload.getValue()).endsWith("|domain-values|[POHLAVI, cs]");
+
+            nearCache.put(KEY, "žena");
+            invalidations.handle(payload.getValue());
+            assertThat(nearCache.get(KEY).get()).isEqualTo("žena");
+            verify(redisCache).evict(KEY);
+        }
+
+        @Test
+        @DisplayName("should drop L1 entries changed by another instance")
+        void appliesRemoteEvict() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("muž"));
+            nearCache.get(KEY);
+
+            invalidations.handle("other-instance|domain-values|[POHLAVI, cs]");
+            nearCache.get(KEY);
+
+            verify(redisCache, times(2)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("should drop all L1 entries when another instance clears the cache")
+        void appliesRemoteClear() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("muž"));
+            nearCache.get(KEY);
+
+            invalidations.handle("other-instance|domain-values");
+            invalidations.handle("other-instance|countries");
+            nearCache.get(KEY);
+
+            verify(redisCache, times(2)).get(KEY);
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+
+    private double refreshes(String result) {
+        return meterRegistry.get("cache.near.refreshes").tags("result", result).counter().count();
+    }
+
+    private double coalesced(String scope) {
+        return meterRegistry.get("cache.near.coalesced").tags("scope", scope).counter().count();
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.get("cache.near.requests").tags("tier", tier, "result", result).counter().count();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.stag.platform.shared.grpc.service;
 
+import com.stag.platform.address.index.CountryNames;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
 import com.stag.platform.address.service.CountryService;
 import com.stag.platform.address.service.MunicipalityPartService;
@@ -15,6 +16,7 @@ import com.stag.platform.education.service.HighSchoolService;
 import com.stag.platform.entry.entity.CodelistEntryId;
 import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
 import com.stag.platform.entry.service.CodelistEntryService;
+import com.stag.platform.entry.service.dto.CodelistMeaningsLookup;
 import com.stag.platform.entry.service.dto.PersonProfileLowValues;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -74,18 +77,38 @@ class CodelistDataServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("lookupCodelistMeanings")
+    class LookupCodelistMeanings {
+
+        @Test
+        @DisplayName("should convert keys and delegate to lenient lookup")
+        void success() {
+            List<CodelistKey> keys = List.of(
+                CodelistKey.newBuilder().setDomain("D").setLowValue("V").build()
+            );
+            CodelistMeaningsLookup expected = new CodelistMeaningsLookup(List.of(), List.of(new CodelistEntryId("D", "V", "STA")));
+
+            when(codelistEntryService.lookupMeaningsByIds(any(), eq("cs"))).thenReturn(expected);
+
+            CodelistMeaningsLookup result = dataService.lookupCodelistMeanings(keys, "cs");
+
+            assertThat(result).isSameAs(expected);
+        }
+    }
+
     @Nested
     @DisplayName("fetchCountryNames")
     class FetchCountryNames {
 
         @Test
-        @DisplayName("should return empty map when no IDs present")
+        @DisplayName("should return empty names when no IDs present")
         void noIds() {
             GetPersonProfileDataRequest request = GetPersonProfileDataRequest.newBuilder().build();
 
-            Map<Integer, String> result = dataService.fetchCountryNames(request, "en");
+            CountryNames result = dataService.fetchCountryNames(request, "en");
 
-            assertThat(result).isEmpty();
+            assertThat(result).isSameAs(CountryNames.empty());
             verifyNoInteractions(countryService);
         }
 
@@ -97,12 +120,13 @@ class CodelistDataServiceTest {
                 .setCitizenshipCountryId(2)
                 .build();
 
-            when(countryService.findNamesByIds(argThat(ids -> ids.containsAll(Set.of(1, 2))), eq("en")))
-                .thenReturn(Map.of(1, "C1", 2, "C2"));
+            when(countryService.findNamesByIds(aryEq(new int[]{ 1, 2 }), eq("en")))
+                .thenReturn(CountryNames.of(Map.of(1, "C1", 2, "C2")));
 
-            Map<Integer, String> result = dataService.fetchCountryNames(request, "en");
+            CountryNames result = dataService.fetchCountryNames(request, "en");
 
-            assertThat(result).hasSize(2).containsEntry(1, "C1").containsEntry(2, "C2");
+            assertThat(result.get(1)).isEqualTo("C1");
+            assertThat(result.get(2)).isEqualTo("C2");
         }
 
         @Test
@@ -113,12 +137,13 @@ class CodelistDataServiceTest {
                 .setTemporaryCountryId(4)
                 .build();
 
-            when(countryService.findNamesByIds(argThat(ids -> ids.containsAll(Set.of(3, 4))), eq("en")))
-                .thenReturn(Map.of(3, "C3", 4, "C4"));
+            when(countryService.findNamesByIds(aryEq(new int[]{ 3, 4 }), eq("en")))
+                .thenReturn(CountryNames.of(Map.of(3, "C3", 4, "C4")));
 
-            Map<Integer, String> result = dataService.fetchCountryNames(request, "en");
+            CountryNames result = dataService.fetchCountryNames(request, "en");
 
-            assertThat(result).hasSize(2).containsEntry(3, "C3").containsEntry(4, "C4");
+            assertThat(result.get(3)).isEqualTo("C3");
+            assertThat(result.get(4)).isEqualTo("C4");
         }
 
         @Test
@@ -128,12 +153,12 @@ class CodelistDataServiceTest {
                 .setEuroAccountCountryId(5)
                 .build();
 
-            when(countryService.findNamesByIds(argThat(ids -> ids.contains(5)), eq("en")))
-                .thenReturn(Map.of(5, "C5"));
+            when(countryService.findNamesByIds(aryEq(new int[]{ 5 }), eq("en")))
+                .thenReturn(CountryNames.of(Map.of(5, "C5")));
 
-            Map<Integer, String> result = dataService.fetchCountryNames(request, "en");
+            CountryNames result = dataService.fetchCountryNames(request, "en");
 
-            assertThat(result).hasSize(1).containsEntry(5, "C5");
+            assertThat(result.get(5)).isEqualTo("C5");
         }
 
         @Test
@@ -143,12 +168,28 @@ class CodelistDataServiceTest {
                 .setHighSchoolCountryId(6)
                 .build();
 
-            when(countryService.findNamesByIds(argThat(ids -> ids.contains(6)), eq("en")))
-                .thenReturn(Map.of(6, "C6"));
+            when(countryService.findNamesByIds(aryEq(new int[]{ 6 }), eq("en")))
+                .thenReturn(CountryNames.of(Map.of(6, "C6")));
+
+            CountryNames result = dataService.fetchCountryNames(request, "en");
+
+            assertThat(result.get(6)).isEqualTo("C6");
+        }
+
+        @Test
+        @DisplayName("should request a duplicated country ID only once")
+        void duplicateIds() {
+            GetPersonProfileDataRequest request = GetPersonProfileDataRequest.newBuilder()
+                .setBirthCountryId(7)
+                .setCitizenshipCountryId(7)
+                .build();
+
+            when(countryService.findNamesByIds(aryEq(new int[]{ 7 }), eq("en")))
+                .thenReturn(CountryNames.of(Map.of(7, "C7")));
 
-            Map<Integer, String> result = dataService.fetchCountryNames(request, "en");
+            CountryNames result = dataService.fetchCountryNames(request, "en");
 
-            assertThat(result).hasSize(1).containsEntry(6, "C6");
+            assertThat(result.get(7)).isEqualTo("C7");
         }
     }
 
@@ -266,4 +307,78 @@ class CodelistDataServiceTest {
             assertThat(result).isEqualTo("Field Name");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("batch fetches")
+    class BatchFetches {
+
+        @Test
+        @DisplayName("should look up codelist keys of all persons at once")
+        void codelistMeanings() {
+            CodelistKey key = CodelistKey.newBuilder().setDomain("D").setLowValue("V").build();
+            CodelistEntryId id = new CodelistEntryId("D", "V", "STA");
+            List<GetPersonProfileDataRequest> requests = List.of(
+                GetPersonProfileDataRequest.newBuilder().addCodelistKeys(key).build(),
+                GetPersonProfileDataRequest.newBuilder().addCodelistKeys(key).build()
+            );
+
+            when(codelistEntryService.lookupMeaningsByIds(argThat(ids -> ids.size() == 2), eq("en")))
+                .thenReturn(new CodelistMeaningsLookup(List.of(new CodelistEntryMeaningProjection(id, "Meaning")), List.of()));
+
+            Map<CodelistEntryId, CodelistMeaning> result = dataService.fetchBatchCodelistMeanings(requests, "en");
+
+            assertThat(result.get(id).getMeaning()).isEqualTo("Meaning");
+            verify(codelistEntryService, times(1)).lookupMeaningsByIds(any(), eq("en"));
+        }
+
+        @Test
+        @DisplayName("should look up distinct country IDs of all persons at once")
+        void countryNames() {
+            List<GetPersonAddressDataRequest> requests = List.of(
+                GetPersonAddressDataRequest.newBuilder().setPermanentCountryId(1).setTemporaryCountryId(2).build(),
+                GetPersonAddressDataRequest.newBuilder().setPermanentCountryId(2).build()
+            );
+            CountryNames countryNames = CountryNames.of(Map.of(1, "One", 2, "Two"));
+
+            when(countryService.lookupNamesByIds(aryEq(new int[]{ 1, 2 }), eq("en"))).thenReturn(countryNames);
+
+            assertThat(dataService.fetchBatchCountryNames(requests, "en")).isSameAs(countryNames);
+            verify(countryService, never()).findNamesByIds(any(), any());
+        }
+
+        @Test
+        @DisplayName("should skip lookups when no IDs are present")
+        void emptyBatch() {
+            List<GetPersonEducationDataRequest> requests = List.of(GetPersonEducationDataRequest.newBuilder().build());
+
+            assertThat(dataService.fetchBatchCodelistMeanings(requests, "en")).isEmpty();
+            assertThat(dataService.fetchBatchCountryNames(requests, "en").contains(1)).isFalse();
+            assertThat(dataService.fetchBatchHighSchoolAddresses(requests)).isEmpty();
+            assertThat(dataService.fetchBatchFieldsOfStudy(requests)).isEmpty();
+            verifyNoInteractions(codelistEntryService, countryService, highSchoolService, highSchoolFieldOfStudyService);
+        }
+
+        @Test
+        @DisplayName("should look up municipality parts and education IDs of all persons at once")
+        void addressAndEducation() {
+            List<GetPersonAddressDataRequest> addressRequests = List.of(
+                GetPersonAddressDataRequest.newBuilder().setPermanentMunicipalityPartId(10L).build(),
+                GetPersonAddressDataRequest.newBuilder().setPermanentMunicipalityPartId(10L).setTemporaryMunicipalityPartId(20L).build()
+            );
+            List<GetPersonEducationDataRequest> educationRequests = List.of(
+                GetPersonEducationDataRequest.newBuilder().setHighSchoolId("HS").setHighSchoolFieldOfStudyNumber("F").build(),
+                GetPersonEducationDataRequest.newBuilder().setHighSchoolId("HS").build()
+            );
+            HighSchoolAddressProjection address = new HighSchoolAddressProjection("School", "Street", "123", "City", "Dist");
+
+            when(municipalityPartService.lookupAddressNamesByIds(Set.of(10L, 20L))).thenReturn(Map.of());
+            when(highSchoolService.findHighSchoolAddressesByIds(Set.of("HS"))).thenReturn(Map.of("HS", address));
+            when(highSchoolFieldOfStudyService.findFieldOfStudyNames(Set.of("F"))).thenReturn(Map.of("F", "Field"));
+
+            assertThat(dataService.fetchBatchAddressNames(addressRequests)).isEmpty();
+            assertThat(dataService.fetchBatchHighSchoolAddresses(educationRequests)).containsEntry("HS", address);
+            assertThat(dataService.fetchBatchFieldsOfStudy(educationRequests)).containsEntry("F", "Field");
+        }
+    }
+
+}
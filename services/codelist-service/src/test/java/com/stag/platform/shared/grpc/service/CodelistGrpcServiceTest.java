@@ -1,21 +1,48 @@
 package com.stag.platform.shared.grpc.service;
 
+import com.stag.platform.address.exception.CountriesNotFoundException;
+import com.stag.platform.address.index.CountryNames;
 import com.stag.platform.address.repository.projection.AddressPlaceNameProjection;
+import com.stag.platform.address.repository.projection.CountryTranslationProjection;
+import com.stag.platform.codelist.v1.BatchGetPersonAddressDataRequest;
+import com.stag.platform.codelist.v1.BatchGetPersonAddressDataResponse;
+import com.stag.platform.codelist.v1.BatchGetPersonProfileDataRequest;
+import com.stag.platform.codelist.v1.BatchGetPersonProfileDataResponse;
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
+import com.stag.platform.codelist.v1.CodelistKey;
 import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotRequest;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotResponse;
 import com.stag.platform.codelist.v1.GetCodelistValuesRequest;
 import com.stag.platform.codelist.v1.GetCodelistValuesResponse;
 import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
 import com.stag.platform.codelist.v1.GetPersonAddressDataResponse;
 import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
 import com.stag.platform.codelist.v1.GetPersonBankingDataResponse;
+import com.stag.platform.codelist.v1.GetPersonDossierDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataResponse;
 import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
 import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataResponse;
+import com.stag.platform.codelist.v1.PersonAddressDataResult;
+import com.stag.platform.codelist.v1.PersonProfileDataResult;
+import com.stag.platform.codelist.v1.StreamCodelistValuesRequest;
+import com.stag.platform.codelist.v1.StreamCodelistValuesResponse;
+import com.stag.platform.codelist.v1.WatchCodelistChangesRequest;
 import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.entry.entity.CodelistEntryId;
+import com.stag.platform.entry.repository.projection.CodelistEntryMeaningProjection;
+import com.stag.platform.entry.repository.projection.CodelistEntryTranslationProjection;
+import com.stag.platform.entry.service.dto.CodelistMeaningsLookup;
 import com.stag.platform.entry.service.dto.PersonProfileLowValues;
+import com.stag.platform.replica.CodelistReplicaChange;
+import com.stag.platform.replica.CodelistReplicaService;
+import com.stag.platform.replica.CodelistReplicaState;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,17 +53,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +79,12 @@ class CodelistGrpcServiceTest {
     @Mock
     private CodelistDataService dataService;
 
+    @Mock
+    private CodelistReplicaService replicaService;
+
+    @Mock
+    private SingleConnectionPersonDataService singleConnectionService;
+
     @InjectMocks
     private CodelistGrpcService grpcService;
 
@@ -73,6 +112,99 @@ class CodelistGrpcServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("streamCodelistValues")
+    class StreamCodelistValues {
+
+        @Mock
+        private ServerCallStreamObserver<StreamCodelistValuesResponse> responseObserver;
+
+        @Test
+        @DisplayName("should answer each batch and pull the next one when ready")
+        void success() {
+            CodelistEntryId found = new CodelistEntryId("D", "V1", "STA");
+            CodelistEntryId missing = new CodelistEntryId("D", "V2", "STA");
+            StreamCodelistValuesRequest request = StreamCodelistValuesRequest.newBuilder()
+                .setBatchId(7)
+                .setLanguage("en")
+                .addCodelistKeys(CodelistKey.newBuilder().setDomain("D").setLowValue("V1").build())
+                .addCodelistKeys(CodelistKey.newBuilder().setDomain("D").setLowValue("V2").build())
+                .build();
+
+            when(responseObserver.isReady()).thenReturn(true);
+            when(dataService.lookupCodelistMeanings(any(), eq("en"))).thenReturn(new CodelistMeaningsLookup(
+                List.of(new CodelistEntryMeaningProjection(found, "Meaning")), List.of(missing)
+            ));
+
+            StreamObserver<StreamCodelistValuesRequest> requestObserver = grpcService.streamCodelistValues(responseObserver);
+
+            ArgumentCaptor<Runnable> onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+            verify(responseObserver).disableAutoRequest();
+            verify(responseObserver).setOnReadyHandler(onReadyHandler.capture());
+
+            onReadyHandler.getValue().run();
+            requestObserver.onNext(request);
+            requestObserver.onCompleted();
+
+            ArgumentCaptor<StreamCodelistValuesResponse> captor = ArgumentCaptor.forClass(StreamCodelistValuesResponse.class);
+            verify(responseObserver).onNext(captor.capture());
+            verify(responseObserver, times(2)).request(1);
+            verify(responseObserver).onCompleted();
+
+            StreamCodelistValuesResponse response = captor.getValue();
+            assertThat(response.getBatchId()).isEqualTo(7);
+            assertThat(response.getCodelistMeaningsList()).extracting(CodelistMeaning::getMeaning).containsExactly("Meaning");
+            assertThat(response.getMissingCodelistKeysList()).extracting(CodelistKey::getLowValue).containsExactly("V2");
+        }
+
+        @Test
+        @DisplayName("should not pull the next batch until the transport is ready again")
+        void backpressure() {
+            StreamCodelistValuesRequest request = StreamCodelistValuesRequest.newBuilder().setLanguage("cs").build();
+
+            when(responseObserver.isReady()).thenReturn(false);
+            when(dataService.lookupCodelistMeanings(any(), eq("cs"))).thenReturn(new CodelistMeaningsLookup(List.of(), List.of()));
+
+            StreamObserver<StreamCodelistValuesRequest> requestObserver = grpcService.streamCodelistValues(responseObserver);
+            requestObserver.onNext(request);
+
+            verify(responseObserver).onNext(any(StreamCodelistValuesResponse.class));
+            verify(responseObserver, never()).request(anyInt());
+        }
+
+        @Test
+        @DisplayName("should report error and stop when a batch fails")
+        void batchFailure() {
+            StreamCodelistValuesRequest request = StreamCodelistValuesRequest.newBuilder().setLanguage("cs").build();
+            RuntimeException exception = new RuntimeException("Lookup failed");
+
+            when(dataService.lookupCodelistMeanings(any(), any())).thenThrow(exception);
+
+            grpcService.streamCodelistValues(responseObserver).onNext(request);
+
+            ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+            verify(responseObserver).onError(error.capture());
+            assertThat(Status.fromThrowable(error.getValue()).getCode()).isEqualTo(Status.Code.INTERNAL);
+            assertThat(Status.fromThrowable(error.getValue()).getDescription()).isEqualTo("Lookup failed");
+            verify(responseObserver, never()).onNext(any());
+            verify(responseObserver, never()).request(anyInt());
+        }
+
+        @Test
+        @DisplayName("should report an invalid batch as INVALID_ARGUMENT")
+        void invalidBatch() {
+            StreamCodelistValuesRequest request = StreamCodelistValuesRequest.newBuilder().setLanguage("xx").build();
+
+            when(dataService.lookupCodelistMeanings(any(), any())).thenThrow(new IllegalArgumentException("Unsupported language"));
+
+            grpcService.streamCodelistValues(responseObserver).onNext(request);
+
+            ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+            verify(responseObserver).onError(error.capture());
+            assertThat(Status.fromThrowable(error.getValue()).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        }
+    }
+
     @Nested
     @DisplayName("getPersonProfileData")
     class GetPersonProfileData {
@@ -90,7 +222,7 @@ class CodelistGrpcServiceTest {
                 .build();
 
             List<CodelistMeaning> meanings = List.of(CodelistMeaning.newBuilder().setMeaning("Meaning").build());
-            Map<Integer, String> countryNames = Map.of(1, "BirthCountry", 2, "CitizenshipCountry");
+            CountryNames countryNames = CountryNames.of(Map.of(1, "BirthCountry", 2, "CitizenshipCountry"));
 
             when(dataService.fetchCodelistMeanings(any(), eq("en"))).thenReturn(meanings);
             when(dataService.fetchCountryNames(any(), eq("en"))).thenReturn(countryNames);
@@ -237,7 +369,7 @@ class CodelistGrpcServiceTest {
             AddressPlaceNameProjection permAddress = new AddressPlaceNameProjection(10L, "PermMuni", "PermPart", "PermDist");
             AddressPlaceNameProjection tempAddress = new AddressPlaceNameProjection(20L, "TempMuni", "TempPart", "TempDist");
             Map<Long, AddressPlaceNameProjection> addresses = Map.of(10L, permAddress, 20L, tempAddress);
-            Map<Integer, String> countryNames = Map.of(1, "PermCountry", 2, "TempCountry");
+            CountryNames countryNames = CountryNames.of(Map.of(1, "PermCountry", 2, "TempCountry"));
 
             when(dataService.fetchAddressNames(any())).thenReturn(addresses);
             when(dataService.fetchCountryNames(any(), eq("en"))).thenReturn(countryNames);
@@ -315,7 +447,7 @@ class CodelistGrpcServiceTest {
                 .build();
 
             List<CodelistMeaning> meanings = List.of(CodelistMeaning.newBuilder().setMeaning("Meaning").build());
-            Map<Integer, String> countryNames = Map.of(5, "EuroCountry");
+            CountryNames countryNames = CountryNames.of(Map.of(5, "EuroCountry"));
 
             when(dataService.fetchCodelistMeanings(any(), eq("en"))).thenReturn(meanings);
             when(dataService.fetchCountryNames(any(), eq("en"))).thenReturn(countryNames);
@@ -385,7 +517,7 @@ class CodelistGrpcServiceTest {
                 .build();
 
             HighSchoolAddressProjection address = new HighSchoolAddressProjection("SchoolName", "Street", "123", "City", "Dist");
-            Map<Integer, String> countryNames = Map.of(10, "HighSchoolCountry");
+            CountryNames countryNames = CountryNames.of(Map.of(10, "HighSchoolCountry"));
 
             when(dataService.fetchHighSchoolAddress(anyBoolean(), any())).thenReturn(address);
             when(dataService.fetchHighSchoolFieldOfStudy(anyBoolean(), any())).thenReturn("Field");
@@ -419,6 +551,37 @@ class CodelistGrpcServiceTest {
             verify(responseObserver, never()).onCompleted();
         }
 
+        @Test
+        @DisplayName("should run on a single connection when enabled")
+        void singleConnection() {
+            GetPersonEducationDataRequest request = GetPersonEducationDataRequest.newBuilder().setHighSchoolId("1").build();
+            GetPersonEducationDataResponse response = GetPersonEducationDataResponse.newBuilder().setHighSchoolName("SchoolName").build();
+
+            when(singleConnectionService.isEnabled()).thenReturn(true);
+            when(singleConnectionService.getPersonEducationData(request)).thenReturn(response);
+
+            grpcService.getPersonEducationData(request, responseObserver);
+
+            verify(responseObserver).onNext(response);
+            verify(responseObserver).onCompleted();
+            verify(dataService, never()).fetchHighSchoolAddress(anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("should propagate a failing single connection execution to the gRPC exception handler")
+        void singleConnectionFailure() {
+            GetPersonEducationDataRequest request = GetPersonEducationDataRequest.newBuilder().build();
+
+            RuntimeException exception = new RuntimeException("Lookup failed");
+            when(singleConnectionService.isEnabled()).thenReturn(true);
+            when(singleConnectionService.getPersonEducationData(request)).thenThrow(exception);
+
+            assertThatThrownBy(() -> grpcService.getPersonEducationData(request, responseObserver)).isSameAs(exception);
+
+            verify(responseObserver, never()).onError(any());
+            verify(responseObserver, never()).onCompleted();
+        }
+
         @Test
         @DisplayName("should handle InterruptedException")
         void interrupted() {
@@ -441,4 +604,311 @@ class CodelistGrpcServiceTest {
             verify(responseObserver).onError(any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("getPersonDossierData")
+    class GetPersonDossierData {
+
+        @Mock
+        private StreamObserver<GetPersonDossierDataResponse> responseObserver;
+
+        @Test
+        @DisplayName("should resolve all parts with one shared lookup per entity type")
+        void success() {
+            CodelistKey bank = CodelistKey.newBuilder().setDomain("CIS_BANK").setLowValue("0100").build();
+            GetPersonDossierDataRequest request = GetPersonDossierDataRequest.newBuilder()
+                .setProfile(GetPersonProfileDataRequest.newBuilder().setLanguage("en").setBirthCountryId(1))
+                .setAddress(GetPersonAddressDataRequest.newBuilder().setLanguage("en").setPermanentMunicipalityPartId(10L).setPermanentCountryId(1))
+                .setBanking(GetPersonBankingDataRequest.newBuilder().setLanguage("en").addCodelistKeys(bank))
+                .build();
+
+            CodelistMeaning meaning = CodelistMeaning.newBuilder().setDomain("CIS_BANK").setLowValue("0100").setMeaning("KB").build();
+            when(dataService.fetchBatchCodelistMeanings(any(), eq("en")))
+                .thenReturn(Map.of(new CodelistEntryId("CIS_BANK", "0100", "STA"), meaning));
+            when(dataService.fetchBatchCountryNames(any(), eq("en"))).thenReturn(CountryNames.of(Map.of(1, "Country")));
+            when(dataService.fetchBatchAddressNames(any()))
+                .thenReturn(Map.of(10L, new AddressPlaceNameProjection(10L, "Muni", "Part", "Dist")));
+
+            grpcService.getPersonDossierData(request, responseObserver);
+
+            ArgumentCaptor<GetPersonDossierDataResponse> captor = ArgumentCaptor.forClass(GetPersonDossierDataResponse.class);
+            verify(responseObserver).onNext(captor.capture());
+            verify(responseObserver).onCompleted();
+            verify(dataService, times(1)).fetchBatchCountryNames(any(), eq("en"));
+
+            GetPersonDossierDataResponse response = captor.getValue();
+            assertThat(response.getProfile().getBirthCountryName()).isEqualTo("Country");
+            assertThat(response.getAddress().getPermanentMunicipalityName()).isEqualTo("Muni");
+            assertThat(response.getAddress().getPermanentCountryName()).isEqualTo("Country");
+            assertThat(response.getBanking().getCodelistMeaningsList()).containsExactly(meaning);
+            assertThat(response.hasEducation()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should fail the whole call with the mapped status when any part has an unknown ID")
+        void unknownId() {
+            GetPersonDossierDataRequest request = GetPersonDossierDataRequest.newBuilder()
+                .setProfile(GetPersonProfileDataRequest.newBuilder().setLanguage("cs").setBirthCountryId(1))
+                .setAddress(GetPersonAddressDataRequest.newBuilder().setLanguage("cs").setPermanentCountryId(99))
+                .build();
+
+            when(dataService.fetchBatchCountryNames(any(), eq("cs"))).thenReturn(CountryNames.of(Map.of(1, "Země")));
+
+            assertThatThrownBy(() -> grpcService.getPersonDossierData(request, responseObserver))
+                .isInstanceOf(CountriesNotFoundException.class);
+
+            verify(responseObserver, never()).onNext(any());
+            verify(responseObserver, never()).onError(any());
+        }
+
+        @Test
+        @DisplayName("should run on a single connection when enabled")
+        void singleConnection() {
+            GetPersonDossierDataRequest request = GetPersonDossierDataRequest.newBuilder()
+                .setProfile(GetPersonProfileDataRequest.newBuilder().setLanguage("en"))
+                .build();
+            GetPersonDossierDataResponse response = GetPersonDossierDataResponse.newBuilder()
+                .setProfile(GetPersonProfileDataResponse.newBuilder().setBirthCountryName("Country"))
+                .build();
+
+            when(singleConnectionService.isEnabled()).thenReturn(true);
+            when(singleConnectionService.getPersonDossierData(request)).thenReturn(response);
+
+            grpcService.getPersonDossierData(request, responseObserver);
+
+            verify(responseObserver).onNext(response);
+            verify(responseObserver).onCompleted();
+            verify(dataService, never()).fetchBatchCountryNames(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("batchGetPersonProfileData")
+    class BatchGetPersonProfileData {
+
+        @Mock
+        private StreamObserver<BatchGetPersonProfileDataResponse> responseObserver;
+
+        @Test
+        @DisplayName("should share lookups across the batch and fail only persons with unknown keys")
+        void perItemErrors() {
+            CodelistKey known = CodelistKey.newBuilder().setDomain("D").setLowValue("V1").build();
+            CodelistKey unknown = CodelistKey.newBuilder().setDomain("D").setLowValue("V2").build();
+            BatchGetPersonProfileDataRequest request = BatchGetPersonProfileDataRequest.newBuilder()
+                .addRequests(GetPersonProfileDataRequest.newBuilder().setLanguage("en").addCodelistKeys(known).setBirthCountryId(1))
+                .addRequests(GetPersonProfileDataRequest.newBuilder().setLanguage("en").addCodelistKeys(known).addCodelistKeys(unknown))
+                .build();
+
+            CodelistMeaning meaning = CodelistMeaning.newBuilder().setDomain("D").setLowValue("V1").setMeaning("Meaning").build();
+            when(dataService.fetchBatchCodelistMeanings(any(), eq("en")))
+                .thenReturn(Map.of(new CodelistEntryId("D", "V1", "STA"), meaning));
+            when(dataService.fetchBatchCountryNames(any(), eq("en"))).thenReturn(CountryNames.of(Map.of(1, "Country")));
+
+            grpcService.batchGetPersonProfileData(request, responseObserver);
+
+            ArgumentCaptor<BatchGetPersonProfileDataResponse> captor = ArgumentCaptor.forClass(BatchGetPersonProfileDataResponse.class);
+            verify(responseObserver).onNext(captor.capture());
+            verify(responseObserver).onCompleted();
+            verify(dataService, times(1)).fetchBatchCodelistMeanings(any(), eq("en"));
+
+            List<PersonProfileDataResult> results = captor.getValue().getResultsList();
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).getData().getBirthCountryName()).isEqualTo("Country");
+            assertThat(results.get(0).getData().getCodelistMeaningsList()).containsExactly(meaning);
+            assertThat(results.get(1).hasError()).isTrue();
+            assertThat(results.get(1).getError().getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+        }
+
+        @Test
+        @DisplayName("should report error when a shared lookup fails")
+        void taskFailure() {
+            BatchGetPersonProfileDataRequest request = BatchGetPersonProfileDataRequest.newBuilder()
+                .addRequests(GetPersonProfileDataRequest.newBuilder().setLanguage("en"))
+                .build();
+
+            RuntimeException exception = new RuntimeException("Fetch failed");
+            when(dataService.fetchBatchCodelistMeanings(any(), any())).thenThrow(exception);
+
+            grpcService.batchGetPersonProfileData(request, responseObserver);
+
+            verify(responseObserver).onError(exception);
+            verify(responseObserver, never()).onNext(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("batchGetPersonAddressData")
+    class BatchGetPersonAddressData {
+
+        @Mock
+        private StreamObserver<BatchGetPersonAddressDataResponse> responseObserver;
+
+        @Test
+        @DisplayName("should return results in request order with errors for unknown municipality parts")
+        void keepsOrder() {
+            BatchGetPersonAddressDataRequest request = BatchGetPersonAddressDataRequest.newBuilder()
+                .addRequests(GetPersonAddressDataRequest.newBuilder().setLanguage("en").setPermanentMunicipalityPartId(99L))
+                .addRequests(GetPersonAddressDataRequest.newBuilder().setLanguage("en").setPermanentMunicipalityPartId(10L).setPermanentCountryId(1))
+                .addRequests(GetPersonAddressDataRequest.newBuilder().setLanguage("cs").setPermanentCountryId(7))
+                .build();
+
+            AddressPlaceNameProjection address = new AddressPlaceNameProjection(10L, "Muni", "Part", "Dist");
+            when(dataService.fetchBatchAddressNames(any())).thenReturn(Map.of(10L, address));
+            when(dataService.fetchBatchCountryNames(any(), eq("en"))).thenReturn(CountryNames.of(Map.of(1, "Country")));
+            when(dataService.fetchBatchCountryNames(any(), eq("cs"))).thenReturn(CountryNames.empty());
+
+            grpcService.batchGetPersonAddressData(request, responseObserver);
+
+            ArgumentCaptor<BatchGetPersonAddressDataResponse> captor = ArgumentCaptor.forClass(BatchGetPersonAddressDataResponse.class);
+            verify(responseObserver).onNext(captor.capture());
+            verify(responseObserver).onCompleted();
+            verify(dataService, times(1)).fetchBatchAddressNames(any());
+
+            List<PersonAddressDataResult> results = captor.getValue().getResultsList();
+            assertThat(results).extracting(PersonAddressDataResult::getResultCase).containsExactly(
+                PersonAddressDataResult.ResultCase.ERROR,
+                PersonAddressDataResult.ResultCase.DATA,
+                PersonAddressDataResult.ResultCase.ERROR
+            );
+            assertThat(results.get(0).getError().getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+            assertThat(results.get(1).getData().getPermanentMunicipalityName()).isEqualTo("Muni");
+            assertThat(results.get(1).getData().getPermanentCountryName()).isEqualTo("Country");
+            assertThat(results.get(2).getError().getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("getCodelistSnapshot")
+    class GetCodelistSnapshot {
+
+        @Mock
+        private ServerCallStreamObserver<GetCodelistSnapshotResponse> responseObserver;
+
+        @Test
+        @DisplayName("should stream the current replica state compressed")
+        void success() {
+            CodelistReplicaState state = CodelistReplicaState.of(
+                3,
+                Instant.now(),
+                List.of(new CodelistEntryTranslationProjection(new CodelistEntryId("POHLAVI", "M", "STA"), "muž", null)),
+                List.of(new CountryTranslationProjection(203, "Česko", "Czechia")),
+                List.of(new AddressPlaceNameProjection(1000L, "Plzeň", "Bory", null))
+            );
+
+            when(replicaService.current()).thenReturn(state);
+            when(replicaService.getReplicaId()).thenReturn("replica");
+
+            grpcService.getCodelistSnapshot(GetCodelistSnapshotRequest.getDefaultInstance(), responseObserver);
+
+            ArgumentCaptor<GetCodelistSnapshotResponse> captor = ArgumentCaptor.forClass(GetCodelistSnapshotResponse.class);
+            verify(responseObserver).setCompression("gzip");
+            verify(responseObserver).onNext(captor.capture());
+            verify(responseObserver).onCompleted();
+
+            GetCodelistSnapshotResponse response = captor.getValue();
+            assertThat(response.getReplicaId()).isEqualTo("replica");
+            assertThat(response.getVersion()).isEqualTo(3);
+            assertThat(response.getCodelistEntriesList()).singleElement().satisfies(entry -> {
+                assertThat(entry.getMeaningCz()).isEqualTo("muž");
+                assertThat(entry.hasMeaningEn()).isFalse();
+            });
+            assertThat(response.getCountries(0).getNameEn()).isEqualTo("Czechia");
+            assertThat(response.getAddressPlaces(0).getMunicipalityPartName()).isEqualTo("Bory");
+            assertThat(response.getAddressPlaces(0).hasDistrictName()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("watchCodelistChanges")
+    class WatchCodelistChanges {
+
+        @Mock
+        private ServerCallStreamObserver<CodelistChangeEvent> responseObserver;
+
+        @Test
+        @DisplayName("should push published changes and unsubscribe on cancel")
+        @SuppressWarnings("unchecked")
+        void success() {
+            Runnable unsubscribe = mock(Runnable.class);
+            ArgumentCaptor<Consumer<CodelistReplicaChange>> listener = ArgumentCaptor.forClass(Consumer.class);
+
+            when(replicaService.getReplicaId()).thenReturn("replica");
+            when(replicaService.subscribe(eq("replica"), eq(4L), listener.capture())).thenReturn(unsubscribe);
+            when(responseObserver.isReady()).thenReturn(true);
+
+            grpcService.watchCodelistChanges(
+                WatchCodelistChangesRequest.newBuilder().setReplicaId("replica").setFromVersion(4).build(),
+                responseObserver
+            );
+
+            listener.getValue().accept(CodelistReplicaChange.reset(5));
+
+            ArgumentCaptor<CodelistChangeEvent> captor = ArgumentCaptor.forClass(CodelistChangeEvent.class);
+            verify(responseObserver).onNext(captor.capture());
+            assertThat(captor.getValue().getVersion()).isEqualTo(5);
+            assertThat(captor.getValue().getResetRequired()).isTrue();
+            assertThat(captor.getValue().getReplicaId()).isEqualTo("replica");
+
+            ArgumentCaptor<Runnable> onCancel = ArgumentCaptor.forClass(Runnable.class);
+            verify(responseObserver).setOnCancelHandler(onCancel.capture());
+            onCancel.getValue().run();
+            verify(unsubscribe).run();
+        }
+
+        @Test
+        @DisplayName("should hold changes until the transport is ready")
+        @SuppressWarnings("unchecked")
+        void waitsForReadiness() {
+            ArgumentCaptor<Consumer<CodelistReplicaChange>> listener = ArgumentCaptor.forClass(Consumer.class);
+
+            when(replicaService.getReplicaId()).thenReturn("replica");
+            when(replicaService.subscribe(eq("replica"), eq(4L), listener.capture())).thenReturn(mock(Runnable.class));
+            when(responseObserver.isReady()).thenReturn(false);
+
+            grpcService.watchCodelistChanges(
+                WatchCodelistChangesRequest.newBuilder().setReplicaId("replica").setFromVersion(4).build(),
+                responseObserver
+            );
+
+            listener.getValue().accept(CodelistReplicaChange.reset(5));
+            verify(responseObserver, never()).onNext(any());
+
+            ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+            verify(responseObserver).setOnReadyHandler(onReady.capture());
+            when(responseObserver.isReady()).thenReturn(true);
+            onReady.getValue().run();
+
+            ArgumentCaptor<CodelistChangeEvent> captor = ArgumentCaptor.forClass(CodelistChangeEvent.class);
+            verify(responseObserver).onNext(captor.capture());
+            assertThat(captor.getValue().getVersion()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should fail the stream and unsubscribe when a slow client overflows its queue")
+        @SuppressWarnings("unchecked")
+        void overflow() {
+            Runnable unsubscribe = mock(Runnable.class);
+            ArgumentCaptor<Consumer<CodelistReplicaChange>> listener = ArgumentCaptor.forClass(Consumer.class);
+
+            when(replicaService.getReplicaId()).thenReturn("replica");
+            when(replicaService.subscribe(eq("replica"), eq(4L), listener.capture())).thenReturn(unsubscribe);
+            when(responseObserver.isReady()).thenReturn(false);
+
+            grpcService.watchCodelistChanges(
+                WatchCodelistChangesRequest.newBuilder().setReplicaId("replica").setFromVersion(4).build(),
+                responseObserver
+            );
+
+            for (int version = 5; version < 5 + 300; version++) {
+                listener.getValue().accept(CodelistReplicaChange.reset(version));
+            }
+
+            ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+            verify(responseObserver).onError(error.capture());
+            assertThat(Status.fromThrowable(error.getValue()).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+            verify(unsubscribe).run();
+            verify(responseObserver, never()).onNext(any());
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.stag.platform.shared.grpc.service;
+
+import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
+import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
+import com.stag.platform.config.TestCacheConfig;
+import com.stag.platform.config.TestOracleContainerConfig;
+import com.stag.platform.education.entity.HighSchool;
+import com.stag.platform.education.entity.HighSchoolFieldOfStudy;
+import com.stag.platform.education.repository.HighSchoolFieldOfStudyRepository;
+import com.stag.platform.education.repository.HighSchoolRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Compares pooled connections held and latency of the concurrent and the single connection execution
+/// of `GetPersonEducationData`. Run with `mvn test -Dtest=PersonDataExecutionBenchmarkTest -Dbenchmark=true`.
+@Slf4j
+@SpringBootTest
+@Import({ TestOracleContainerConfig.class, TestCacheConfig.class })
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PersonDataExecutionBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int REQUESTS = 2_000;
+    private static final int CONCURRENCY = 64;
+
+    private static final GetPersonEducationDataRequest REQUEST = GetPersonEducationDataRequest.newBuilder()
+        .setLanguage("cs")
+        .setHighSchoolId("111111111")
+        .setHighSchoolFieldOfStudyNumber("7941K41")
+        .build();
+
+    @Autowired
+    private CodelistGrpcService grpcService;
+
+    @Autowired
+    private SingleConnectionPersonDataService singleConnectionService;
+
+    @Autowired
+    private HighSchoolRepository highSchoolRepository;
+
+    @Autowired
+    private HighSchoolFieldOfStudyRepository fieldOfStudyRepository;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        HighSchool highSchool = new HighSchool();
+        highSchool.setId("111111111");
+        highSchool.setName("Gymnázium Klatovy");
+        highSchool.setValidFrom(LocalDate.of(2000, 1, 1));
+        highSchool.setOwner("TEST");
+        highSchool.setDateOfInsert(LocalDate.now());
+        highSchoolRepository.save(highSchool);
+
+        HighSchoolFieldOfStudy fieldOfStudy = new HighSchoolFieldOfStudy();
+        fieldOfStudy.setId("7941K41");
+        fieldOfStudy.setName("Gymnázium");
+        fieldOfStudyRepository.save(fieldOfStudy);
+    }
+
+    @Test
+    @DisplayName("single connection execution should hold at most one connection per RPC")
+    void compareExecutions() throws Exception {
+        Consumer<GetPersonEducationDataRequest> concurrent = request -> grpcService.getPersonEducationData(request, new BlockingObserver());
+        Consumer<GetPersonEducationDataRequest> singleConnection = singleConnectionService::getPersonEducationData;
+
+        run(concurrent, WARMUP_REQUESTS, CONCURRENCY);
+        run(singleConnection, WARMUP_REQUESTS, CONCURRENCY);
+
+        Result concurrentSequential = run(concurrent, REQUESTS, 1);
+        Result singleConnectionSequential = run(singleConnection, REQUESTS, 1);
+        Result concurrentLoaded = run(concurrent, REQUESTS, CONCURRENCY);
+        Result singleConnectionLoaded = run(singleConnection, REQUESTS, CONCURRENCY);
+
+        log.info("Execution         | callers | peak connections | peak waiting | p50 us | p99 us");
+        log.info("concurrent        | {}", concurrentSequential.format(1));
+        log.info("single connection | {}", singleConnectionSequential.format(1));
+        log.info("concurrent        | {}", concurrentLoaded.format(CONCURRENCY));
+        log.info("single connection | {}", singleConnectionLoaded.format(CONCURRENCY));
+
+        assertThat(singleConnectionSequential.peakConnections()).isLessThanOrEqualTo(1);
+        assertThat(singleConnectionLoaded.peakConnections()).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    private Result run(Consumer<GetPersonEducationDataRequest> execution, int requests, int callers) throws Exception {
+        var pool = dataSource.getHikariPoolMXBean();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        AtomicInteger peakConnections = new AtomicInteger();
+        AtomicInteger peakWaiting = new AtomicInteger();
+
+        Thread sampler = Thread.ofPlatform().start(() -> {
+            while (sampling.get()) {
+                peakConnections.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                peakWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<?>[] workers = new CompletableFuture<?>[callers];
+            for (int i = 0; i < callers; i++) {
+                workers[i] = CompletableFuture.runAsync(() -> {
+                    for (int request = next.getAndIncrement(); request < requests; request = next.getAndIncrement()) {
+                        long start = System.nanoTime();
+                        execution.accept(REQUEST);
+                        latencies[request] = System.nanoTime() - start;
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(workers).join();
+        } finally {
+            sampling.set(false);
+            sampler.join();
+        }
+
+        Arrays.sort(latencies);
+        return new Result(peakConnections.get(), peakWaiting.get(), percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1] / 1_000;
+    }
+
+    private record Result(int peakConnections, int peakWaiting, long p50Micros, long p99Micros) {
+
+        String format(int callers) {
+            return "%7d | %16d | %12d | %6d | %6d".formatted(callers, peakConnections, peakWaiting, p50Micros, p99Micros);
+        }
+
+    }
+
+    private static final class BlockingObserver implements StreamObserver<GetPersonEducationDataResponse> {
+
+        @Override
+        public void onNext(GetPersonEducationDataResponse value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new IllegalStateException("Education data request failed", t);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+
+    }
+
+}
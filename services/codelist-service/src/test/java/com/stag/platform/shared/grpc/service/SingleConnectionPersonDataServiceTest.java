@@ -0,0 +1,133 @@
+package com.stag.platform.shared.grpc.service;
+
+import com.stag.platform.address.index.CountryNames;
+import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataResponse;
+import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
+import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
+import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
+import com.stag.platform.codelist.v1.GetPersonProfileDataResponse;
+import com.stag.platform.education.repository.projection.HighSchoolAddressProjection;
+import com.stag.platform.education.service.dto.EducationLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleConnectionPersonDataServiceTest {
+
+    @Mock
+    private CodelistDataService dataService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SingleConnectionPersonDataService singleConnectionService;
+
+    @BeforeEach
+    void setUp() {
+        singleConnectionService = new SingleConnectionPersonDataService(dataService, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("should resolve education data with the composite lookup in one read-only transaction")
+    void educationData() {
+        GetPersonEducationDataRequest request = GetPersonEducationDataRequest.newBuilder()
+            .setLanguage("en")
+            .setHighSchoolId("1")
+            .setHighSchoolFieldOfStudyNumber("7941K41")
+            .setHighSchoolCountryId(10)
+            .build();
+
+        HighSchoolAddressProjection address = new HighSchoolAddressProjection("SchoolName", "Street", "123", "City", "Dist");
+        when(dataService.fetchEducationLookup(request)).thenReturn(new EducationLookup(address, "Field"));
+        when(dataService.fetchCountryNames(request, "en")).thenReturn(CountryNames.of(Map.of(10, "HighSchoolCountry")));
+
+        GetPersonEducationDataResponse response = singleConnectionService.getPersonEducationData(request);
+
+        assertThat(singleConnectionService.isEnabled()).isTrue();
+        assertThat(response.getHighSchoolName()).isEqualTo("SchoolName");
+        assertThat(response.getHighSchoolFieldOfStudy()).isEqualTo("Field");
+        assertThat(response.getHighSchoolCountryName()).isEqualTo("HighSchoolCountry");
+
+        verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+        verify(dataService, never()).fetchHighSchoolAddress(anyBoolean(), any());
+        verify(dataService, never()).fetchHighSchoolFieldOfStudy(anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("should roll back and propagate a failing lookup")
+    void failure() {
+        GetPersonProfileDataRequest request = GetPersonProfileDataRequest.newBuilder().setLanguage("cs").build();
+
+        RuntimeException exception = new RuntimeException("Lookup failed");
+        when(dataService.fetchCodelistMeanings(List.of(), "cs")).thenThrow(exception);
+
+        assertThatThrownBy(() -> singleConnectionService.getPersonProfileData(request)).isSameAs(exception);
+
+        verify(transactionManager).rollback(any());
+        verify(dataService, never()).fetchCountryNames(any(), eq("cs"));
+    }
+
+    @Test
+    @DisplayName("should build the profile response from sequential lookups")
+    void profileData() {
+        GetPersonProfileDataRequest request = GetPersonProfileDataRequest.newBuilder().setLanguage("cs").build();
+
+        when(dataService.fetchCodelistMeanings(List.of(), "cs")).thenReturn(List.of());
+        when(dataService.fetchCountryNames(request, "cs")).thenReturn(CountryNames.empty());
+
+        GetPersonProfileDataResponse response = singleConnectionService.getPersonProfileData(request);
+
+        assertThat(response).isNotNull();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("should build only the requested dossier parts in a read-only transaction")
+    void dossierData() {
+        GetPersonProfileDataRequest profile = GetPersonProfileDataRequest.newBuilder().setLanguage("cs").setBirthCountryId(1).build();
+        GetPersonBankingDataRequest banking = GetPersonBankingDataRequest.newBuilder().setLanguage("cs").build();
+        GetPersonDossierDataRequest request = GetPersonDossierDataRequest.newBuilder()
+            .setProfile(profile)
+            .setBanking(banking)
+            .build();
+
+        when(dataService.fetchCodelistMeanings(List.of(), "cs")).thenReturn(List.of());
+        when(dataService.fetchCountryNames(profile, "cs")).thenReturn(CountryNames.of(Map.of(1, "Země")));
+        when(dataService.fetchCountryNames(banking, "cs")).thenReturn(CountryNames.empty());
+
+        GetPersonDossierDataResponse response = singleConnectionService.getPersonDossierData(request);
+
+        assertThat(response.getProfile().getBirthCountryName()).isEqualTo("Země");
+        assertThat(response.hasBanking()).isTrue();
+        assertThat(response.hasAddress()).isFalse();
+        assertThat(response.hasEducation()).isFalse();
+        verify(transactionManager, times(3)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(dataService, never()).fetchEducationLookup(any());
+    }
+
+}
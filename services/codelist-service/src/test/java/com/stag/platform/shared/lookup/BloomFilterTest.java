@@ -0,0 +1,42 @@
+package com.stag.platform.shared.lookup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("should contain every added key")
+    void mightContain_AddedKeys() {
+        long[] keys = LongStream.range(0, 10_000).map(i -> BloomFilter.hash("DOMAIN", "V" + i, "STA")).toArray();
+
+        BloomFilter filter = BloomFilter.of(keys, 0.001);
+
+        assertThat(keys).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("should keep the false positive rate close to the target")
+    void mightContain_FalsePositiveRate() {
+        long[] keys = LongStream.range(0, 10_000).map(i -> BloomFilter.hash("DOMAIN", "V" + i, "STA")).toArray();
+        BloomFilter filter = BloomFilter.of(keys, 0.001);
+
+        long falsePositives = LongStream.range(0, 100_000)
+                                        .filter(i -> filter.mightContain(BloomFilter.hash("OTHER", "V" + i, "STA")))
+                                        .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("hash should separate key parts")
+    void hash_SeparatesParts() {
+        assertThat(BloomFilter.hash("ab", "c")).isNotEqualTo(BloomFilter.hash("a", "bc"));
+        assertThat(BloomFilter.hash("a", null)).isEqualTo(BloomFilter.hash("a", ""));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.stag.platform.shared.lookup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExistingIdsTest {
+
+    @Test
+    @DisplayName("unknown filter should accept every ID")
+    void unknown_AcceptsEverything() {
+        assertThat(ExistingIds.unknown().mightExist(42L)).isTrue();
+        assertThat(ExistingIds.unknown().isDefinitelyMissing(-1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should answer exactly for dense IDs")
+    void of_DenseIds_Exact() {
+        ExistingIds existingIds = ExistingIds.of(new long[]{ 1L, 5L, 400_000L });
+
+        assertThat(existingIds.mightExist(5L)).isTrue();
+        assertThat(existingIds.isDefinitelyMissing(4L)).isTrue();
+        assertThat(existingIds.isDefinitelyMissing(-5L)).isTrue();
+        assertThat(existingIds.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should not reject IDs above the highest loaded one")
+    void isDefinitelyMissing_AboveHighestId_MayExist() {
+        ExistingIds existingIds = ExistingIds.of(new long[]{ 1L, 5L, 400_000L });
+
+        assertThat(existingIds.isDefinitelyMissing(400_001L)).isFalse();
+        assertThat(existingIds.isDefinitelyMissing(ExistingIds.MAX_EXACT_ID + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep every sparse ID")
+    void of_SparseIds_BloomFilter() {
+        long[] ids = { 1L, 1L << 40, -7L };
+
+        ExistingIds existingIds = ExistingIds.of(ids);
+
+        assertThat(ids).allMatch(existingIds::mightExist);
+        assertThat(existingIds.size()).isEqualTo(3);
+    }
+
+}
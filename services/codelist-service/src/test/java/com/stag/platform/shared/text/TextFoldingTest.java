@@ -0,0 +1,24 @@
+package com.stag.platform.shared.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextFoldingTest {
+
+    @Test
+    @DisplayName("fold should remove diacritics, case and punctuation")
+    void fold_RemovesDiacritics() {
+        assertThat(TextFolding.fold("Žluťoučký kůň, Ústí n/L.")).isEqualTo("zlutoucky kun  usti n l");
+        assertThat(TextFolding.fold(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("words should split folded text on spaces")
+    void words_SplitsOnSpaces() {
+        assertThat(TextFolding.words("usti  nad labem")).containsExactly("usti", "nad", "labem");
+        assertThat(TextFolding.words("")).isEmpty();
+    }
+
+}
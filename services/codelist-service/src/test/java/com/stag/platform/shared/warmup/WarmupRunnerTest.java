@@ -0,0 +1,118 @@
+package com.stag.platform.shared.warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private ObjectProvider<WarmupStep> steps;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmupRunner = new WarmupRunner(steps, eventPublisher, meterRegistry, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("should keep refusing traffic and run all steps in order")
+    void runsStepsInOrder() {
+        List<String> executed = new ArrayList<>();
+        when(steps.orderedStream()).thenReturn(Stream.of(step("caches", executed, true), step("requests", executed, true)));
+
+        warmupRunner.run(null);
+
+        ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isInstanceOfSatisfying(
+            AvailabilityChangeEvent.class, change -> assertThat(change.getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC)
+        );
+        assertThat(executed).containsExactly("caches", "requests");
+        assertThat(warmupCount("completed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should continue after a failing step and report the failure")
+    void continuesAfterFailure() {
+        List<String> executed = new ArrayList<>();
+        WarmupStep failing = new WarmupStep() {
+            @Override
+            public String name() {
+                return "grpc-channels";
+            }
+
+            @Override
+            public boolean run(Instant deadline) {
+                throw new IllegalStateException("Downstream not reachable");
+            }
+        };
+        when(steps.orderedStream()).thenReturn(Stream.of(failing, step("requests", executed, true)));
+
+        warmupRunner.run(null);
+
+        assertThat(executed).containsExactly("requests");
+        assertThat(warmupCount("failed")).isEqualTo(1);
+        assertThat(meterRegistry.get("application.warmup.step.duration").tags("step", "grpc-channels", "outcome", "failed").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should report a step stopped at the deadline as timed out")
+    void reportsTimeout() {
+        List<String> executed = new ArrayList<>();
+        when(steps.orderedStream()).thenReturn(Stream.of(step("requests", executed, false)));
+
+        warmupRunner.run(null);
+
+        assertThat(warmupCount("timed-out")).isEqualTo(1);
+    }
+
+    private long warmupCount(String outcome) {
+        return meterRegistry.get("application.warmup.duration").tags("outcome", outcome).timer().count();
+    }
+
+    private static WarmupStep step(String name, List<String> executed, boolean finished) {
+        return new WarmupStep() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public boolean run(Instant deadline) {
+                executed.add(name);
+                return finished;
+            }
+        };
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /// **Student Service Application**
 ///
@@ -17,6 +18,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 /// @version 1.0.0
 @EnableAsync
 @EnableCaching
+@EnableScheduling
 @EnableGrpcClients(
     clients = {
         StudyPlanServiceGrpc.StudyPlanServiceBlockingStub.class,
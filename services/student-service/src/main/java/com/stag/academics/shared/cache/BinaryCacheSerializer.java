@@ -0,0 +1,237 @@
+package com.stag.academics.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/// **Binary Cache Serializer**
+///
+/// Redis value serializer storing cached records in the compact [RecordCodec] format and other values
+/// with JDK serialization. Payloads of at least `compressionThreshold` bytes are deflated when it makes
+/// them smaller.
+///
+/// Every value starts with a header byte holding the format version, the payload kind and the compression flag.
+/// Values without the header, written by the JDK serializer before this serializer was deployed,
+/// are still readable, so instances can be rolled out without flushing the caches.
+///
+/// A record whose schema changed since it was cached is read as null, which the cache treats as a miss.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    /// Format version stored in the upper bits of the header
+    private static final int VERSION = 1;
+    /// Payload encoded by the record codec
+    private static final int KIND_RECORD = 0x01;
+    /// Payload encoded by JDK serialization
+    private static final int KIND_JDK = 0x02;
+    /// Mask of the payload kind
+    private static final int KIND_MASK = 0x0F;
+    /// Flag of deflated payloads, followed by the varint length of the inflated payload
+    private static final int COMPRESSED = 0x10;
+    /// First two bytes of the JDK serialization stream magic
+    private static final byte JDK_MAGIC_0 = (byte) 0xAC;
+    private static final byte JDK_MAGIC_1 = (byte) 0xED;
+    /// Prefix of record classes encoded by the record codec
+    private static final String RECORD_PACKAGE_PREFIX = "com.stag.";
+
+    /// Record codec
+    private final RecordCodec recordCodec;
+    /// Serializer of values not supported by the record codec and of legacy entries
+    private final JdkSerializationRedisSerializer jdkSerializer;
+    /// Minimum payload size compressed before storing
+    private final int compressionThreshold;
+
+    /// Creates the serializer.
+    ///
+    /// @param classLoader Class loader of cached classes
+    /// @param compressionThreshold Minimum payload size in bytes compressed before storing
+    public BinaryCacheSerializer(ClassLoader classLoader, int compressionThreshold) {
+        this.recordCodec = new RecordCodec(RECORD_PACKAGE_PREFIX, classLoader);
+        this.jdkSerializer = new JdkSerializationRedisSerializer(classLoader);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /// Serializes a value, records of the application with the record codec.
+    ///
+    /// @param value Value, may be null
+    /// @return Header followed by the (compressed) payload
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        RecordCodec.Output out = new RecordCodec.Output(256);
+        out.writeBoolean(false);
+
+        int kind = KIND_RECORD;
+        if (recordCodec.supports(value)) {
+            try {
+                recordCodec.encode(value, out);
+            } catch (RuntimeException e) {
+                log.debug("Falling back to JDK serialization of {}", value.getClass().getName(), e);
+                out = new RecordCodec.Output(256);
+                out.writeBoolean(false);
+                kind = KIND_JDK;
+            }
+        } else {
+            kind = KIND_JDK;
+        }
+        if (kind == KIND_JDK) {
+            byte[] serialized = jdkSerializer.serialize(value);
+            out.writeBytes(serialized, 0, serialized.length);
+        }
+
+        byte[] bytes = out.buffer();
+        int payloadLength = out.size() - 1;
+        if (payloadLength >= compressionThreshold) {
+            byte[] compressed = compress(bytes, 1, payloadLength, kind);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+
+        bytes[0] = header(kind, false);
+        return Arrays.copyOf(bytes, out.size());
+    }
+
+    /// Deserializes a value written by this serializer or by the JDK serializer.
+    ///
+    /// @param bytes Stored bytes, may be null
+    /// @return Value, null for missing bytes or a record whose schema changed
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length > 1 && bytes[0] == JDK_MAGIC_0 && bytes[1] == JDK_MAGIC_1) {
+            return jdkSerializer.deserialize(bytes);
+        }
+
+        int header = bytes[0] & 0xFF;
+        if (header >>> 5 != VERSION) {
+            throw new SerializationException("Unsupported cache value format " + header);
+        }
+
+        byte[] payload = bytes;
+        int offset = 1;
+        if ((header & COMPRESSED) != 0) {
+            payload = decompress(bytes);
+            offset = 0;
+        }
+
+        return switch (header & KIND_MASK) {
+            case KIND_RECORD -> decodeRecord(payload, offset);
+            case KIND_JDK -> jdkSerializer.deserialize(offset == 0 ? payload : Arrays.copyOfRange(payload, offset, payload.length));
+            default -> throw new SerializationException("Unsupported cache value kind " + header);
+        };
+    }
+
+    /// Decodes a record payload.
+    ///
+    /// @param payload Payload bytes
+    /// @param offset Offset of the record
+    /// @return Record, null if its schema changed
+    private Object decodeRecord(byte[] payload, int offset) {
+        try {
+            Object value = recordCodec.decode(new RecordCodec.Input(payload, offset));
+            if (value == null) {
+                log.debug("Cached record has an outdated schema, treating it as a miss");
+            }
+            return value;
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to decode cached record", e);
+        }
+    }
+
+    /// Deflates a payload.
+    ///
+    /// @param bytes Buffer holding the payload
+    /// @param offset Payload offset
+    /// @param length Payload length
+    /// @param kind Payload kind
+    /// @return Header, inflated length and deflated payload, null if compression does not save space
+    private static byte[] compress(byte[] bytes, int offset, int length, int kind) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(bytes, offset, length);
+            deflater.finish();
+
+            RecordCodec.Output out = new RecordCodec.Output(length / 2 + 16);
+            out.writeBoolean(false);
+            out.writeVarInt(length);
+
+            byte[] chunk = new byte[Math.min(length, 8192)];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.writeBytes(chunk, 0, written);
+                if (out.size() >= length) {
+                    return null;
+                }
+            }
+
+            byte[] compressed = out.toByteArray();
+            compressed[0] = header(kind, true);
+            return compressed;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /// Inflates a compressed value.
+    ///
+    /// @param bytes Header, inflated length and deflated payload
+    /// @return Inflated payload
+    private static byte[] decompress(byte[] bytes) {
+        RecordCodec.Input lengthInput = new RecordCodec.Input(bytes, 1);
+        int length = lengthInput.readVarInt();
+        int offset = 1 + varIntSize(length);
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] payload = new byte[length];
+            int inflated = 0;
+            while (inflated < length && !inflater.finished()) {
+                int read = inflater.inflate(payload, inflated, length - inflated);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += read;
+            }
+            if (inflated != length) {
+                throw new SerializationException("Truncated compressed cache value");
+            }
+            return payload;
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /// Builds the header byte, never equal to the first byte of the JDK serialization magic.
+    private static byte header(int kind, boolean compressed) {
+        return (byte) ((VERSION << 5) | (compressed ? COMPRESSED : 0) | kind);
+    }
+
+    /// Returns the number of bytes of an unsigned varint.
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+}
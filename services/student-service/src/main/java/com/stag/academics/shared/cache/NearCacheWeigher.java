@@ -0,0 +1,106 @@
+package com.stag.academics.shared.cache;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/// **Near Cache Weigher**
+///
+/// Estimates the size of cached values for the L1 weigher without serializing them.
+///
+/// Strings, byte arrays and scalars count their approximate encoded size, records, collections and maps
+/// the sum of their parts. Large collections are weighed by a sample of their elements, and values of other
+/// types or nested too deep count a fixed weight, so an insert never walks or copies a whole value.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+final class NearCacheWeigher {
+
+    /// Weight of values of unknown types, in bytes
+    static final int UNKNOWN_WEIGHT = 1024;
+    /// Weight of scalar values, in bytes
+    private static final int SCALAR_WEIGHT = 8;
+    /// Maximum nesting depth walked
+    private static final int MAX_DEPTH = 8;
+    /// Number of elements weighed before a collection is extrapolated
+    private static final int SAMPLE_SIZE = 32;
+    /// Accessors of record components by record class
+    private static final ClassValue<Method[]> RECORD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            Method[] accessors = Arrays.stream(type.getRecordComponents())
+                                       .map(RecordComponent::getAccessor)
+                                       .toArray(Method[]::new);
+            for (Method accessor : accessors) {
+                accessor.trySetAccessible();
+            }
+            return accessors;
+        }
+    };
+
+    private NearCacheWeigher() {
+    }
+
+    /// Estimates the size of a cached value.
+    ///
+    /// @param value Cached value
+    /// @return Approximate size in bytes
+    static int weigh(Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(value, 0));
+    }
+
+    /// Estimates the size of a value nested at the given depth.
+    private static long estimate(Object value, int depth) {
+        return switch (value) {
+            case null -> 1;
+            case CharSequence text -> text.length() + 1L;
+            case byte[] bytes -> bytes.length;
+            case Number _, Boolean _, Character _, Enum<?> _, Temporal _ -> SCALAR_WEIGHT;
+            default -> depth < MAX_DEPTH ? estimateComposite(value, depth + 1) : UNKNOWN_WEIGHT;
+        };
+    }
+
+    /// Estimates the size of a record, collection, map or array.
+    private static long estimateComposite(Object value, int depth) {
+        return switch (value) {
+            case Record record -> estimateRecord(record, depth);
+            case Collection<?> collection -> estimateElements(collection.iterator(), collection.size(), depth);
+            case Map<?, ?> map -> estimateElements(map.entrySet().iterator(), map.size(), depth);
+            case Object[] array -> estimateElements(Arrays.asList(array).iterator(), array.length, depth);
+            default -> UNKNOWN_WEIGHT;
+        };
+    }
+
+    /// Sums the sizes of the record components.
+    private static long estimateRecord(Record record, int depth) {
+        long size = 0;
+        for (Method accessor : RECORD_ACCESSORS.get(record.getClass())) {
+            try {
+                size += estimate(accessor.invoke(record), depth);
+            } catch (IllegalAccessException | InvocationTargetException _) {
+                size += UNKNOWN_WEIGHT;
+            }
+        }
+        return size;
+    }
+
+    /// Sums the sizes of the first elements and extrapolates them to the whole collection.
+    private static long estimateElements(Iterator<?> elements, int count, int depth) {
+        long sampled = 0;
+        int weighed = 0;
+        while (weighed < SAMPLE_SIZE && elements.hasNext()) {
+            Object element = elements.next();
+            sampled += element instanceof Map.Entry<?, ?> entry
+                ? estimate(entry.getKey(), depth) + estimate(entry.getValue(), depth)
+                : estimate(element, depth);
+            weighed++;
+        }
+        return weighed == 0 ? 1 : sampled * count / weighed;
+    }
+
+}
@@ -0,0 +1,826 @@
+package com.stag.academics.shared.cache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/// **Record Codec**
+///
+/// Schema-aware binary encoding of records, derived from their components at runtime.
+///
+/// An encoded record starts with its class name and a fingerprint of its schema (component names and types,
+/// recursively), followed by the component values without any field names or type tags. Strings are UTF-8 with
+/// a varint length, numbers are zigzag varints, dates are epoch based varints.
+///
+/// A value written by a different version of the record (changed fingerprint) decodes as null, so it is
+/// treated as a cache miss and replaced by a freshly loaded one.
+///
+/// Supported component types are strings, primitives and their wrappers, [BigDecimal], [LocalDate],
+/// [LocalDateTime], [Instant], enums, lists, sets, maps and nested records. Records with other components
+/// are not supported, see [#supports(Object)].
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+final class RecordCodec {
+
+    /// Prefix of record classes the codec is allowed to instantiate
+    private final String allowedPackagePrefix;
+    /// Class loader resolving encoded class names
+    private final ClassLoader classLoader;
+    /// Record schemas by class, empty for unsupported records
+    private final Map<Class<?>, Optional<RecordSchema>> schemas = new ConcurrentHashMap<>();
+    /// Classes of the allowed packages resolved from encoded class names
+    private final Map<String, Class<?>> resolvedTypes = new ConcurrentHashMap<>();
+
+    /// Creates a record codec.
+    ///
+    /// @param allowedPackagePrefix Prefix of record classes the codec is allowed to instantiate
+    /// @param classLoader Class loader resolving encoded class names
+    RecordCodec(String allowedPackagePrefix, ClassLoader classLoader) {
+        this.allowedPackagePrefix = allowedPackagePrefix;
+        this.classLoader = classLoader;
+    }
+
+    /// Checks whether a value can be encoded by the codec.
+    ///
+    /// @param value Value
+    /// @return True for records of the allowed packages with supported components only
+    boolean supports(Object value) {
+        return value instanceof Record && schema(value.getClass()).isPresent();
+    }
+
+    /// Encodes a supported record.
+    ///
+    /// @param value Record
+    /// @param out Output
+    void encode(Object value, Output out) {
+        RecordSchema schema = schema(value.getClass()).orElseThrow();
+        out.writeString(schema.type().getName());
+        out.writeInt(schema.fingerprint());
+        schema.write(value, out);
+    }
+
+    /// Returns the schema signature of a record class, nested records included.
+    ///
+    /// @param type Record class
+    /// @return Signature, null if the record is not supported
+    String signature(Class<?> type) {
+        return schema(type).map(RecordSchema::signature).orElse(null);
+    }
+
+    /// Decodes a record.
+    ///
+    /// @param in Input
+    /// @return Record, null if its class is unknown or its schema changed since it was encoded
+    Object decode(Input in) {
+        String className = in.readString();
+        int fingerprint = in.readInt();
+
+        Class<?> type = resolve(className);
+        if (type == null) {
+            return null;
+        }
+
+        Optional<RecordSchema> schema = type.isRecord() ? schema(type) : Optional.empty();
+        if (schema.isEmpty() || schema.get().fingerprint() != fingerprint) {
+            return null;
+        }
+
+        return schema.get().read(in);
+    }
+
+    /// Resolves an encoded class name. Names outside the allowed packages are rejected before any class is loaded,
+    /// the others are loaded without initialization once and remembered.
+    ///
+    /// @param className Encoded class name
+    /// @return Class, null if the name is outside the allowed packages or unknown
+    private Class<?> resolve(String className) {
+        if (className == null || !className.startsWith(allowedPackagePrefix)) {
+            return null;
+        }
+
+        Class<?> type = resolvedTypes.get(className);
+        if (type != null) {
+            return type;
+        }
+
+        try {
+            type = Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        resolvedTypes.putIfAbsent(className, type);
+        return type;
+    }
+
+    /// Returns the schema of a record class, building it on first use.
+    ///
+    /// @param type Record class
+    /// @return Schema, empty if the record is not supported
+    private Optional<RecordSchema> schema(Class<?> type) {
+        Optional<RecordSchema> schema = schemas.get(type);
+        if (schema == null) {
+            schema = Optional.ofNullable(buildSchema(type));
+            schemas.putIfAbsent(type, schema);
+        }
+        return schema;
+    }
+
+    /// Builds the schema of a record class.
+    ///
+    /// @param type Record class
+    /// @return Schema, null if the record is not supported
+    private RecordSchema buildSchema(Class<?> type) {
+        if (!type.isRecord() || !type.getName().startsWith(allowedPackagePrefix)) {
+            return null;
+        }
+
+        try {
+            return RecordSchema.of(type, this);
+        } catch (IllegalArgumentException | ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /// Creates the codec of a declared component type.
+    ///
+    /// @param type Declared type
+    /// @return Value codec
+    /// @throws IllegalArgumentException if the type is not supported
+    private ValueCodec codec(Type type) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (List.class.equals(raw) || Collection.class.equals(raw)) {
+                return new CollectionCodec(codec(arguments[0]), false);
+            }
+            if (Set.class.equals(raw)) {
+                return new CollectionCodec(codec(arguments[0]), true);
+            }
+            if (Map.class.equals(raw)) {
+                return new MapCodec(codec(arguments[0]), codec(arguments[1]));
+            }
+        }
+
+        if (type instanceof Class<?> raw) {
+            if (raw.isEnum()) {
+                return new EnumCodec(raw);
+            }
+            if (raw.isRecord()) {
+                return new NestedRecordCodec(raw, this);
+            }
+            ScalarCodec scalar = ScalarCodec.of(raw);
+            if (scalar != null) {
+                return scalar;
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported cached record component type " + type);
+    }
+
+    /// **Value Codec**
+    ///
+    /// Writes and reads values of a single declared type, including null.
+    private interface ValueCodec {
+
+        /// Writes a value.
+        void write(Object value, Output out);
+
+        /// Reads a value.
+        Object read(Input in);
+
+        /// Returns the type signature contributing to the schema fingerprint.
+        ///
+        /// @param visiting Records whose signature is being built, referenced by name only to end recursion
+        String signature(Set<Class<?>> visiting);
+
+    }
+
+    /// **Record Schema**
+    ///
+    /// Components, accessors and the canonical constructor of a record.
+    ///
+    /// @param type Record class
+    /// @param accessors Component accessors
+    /// @param codecs Component value codecs
+    /// @param constructor Canonical constructor taking an argument array
+    /// @param signature Schema signature
+    /// @param fingerprint CRC32 of the signature
+    private record RecordSchema(
+        Class<?> type,
+        MethodHandle[] accessors,
+        ValueCodec[] codecs,
+        MethodHandle constructor,
+        String signature,
+        int fingerprint
+    ) {
+
+        /// Builds the schema of a record class.
+        static RecordSchema of(Class<?> type, RecordCodec codec) throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            RecordComponent[] components = type.getRecordComponents();
+
+            MethodHandle[] accessors = new MethodHandle[components.length];
+            ValueCodec[] codecs = new ValueCodec[components.length];
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+
+            for (int i = 0; i < components.length; i++) {
+                RecordComponent component = components[i];
+                accessors[i] = lookup.unreflect(component.getAccessor())
+                                     .asType(MethodType.methodType(Object.class, Object.class));
+                codecs[i] = codec.codec(component.getGenericType());
+                parameterTypes[i] = component.getType();
+            }
+
+            MethodHandle constructor = lookup.unreflectConstructor(type.getDeclaredConstructor(parameterTypes))
+                                             .asSpreader(Object[].class, components.length)
+                                             .asType(MethodType.methodType(Object.class, Object[].class));
+
+            String schemaSignature = signature(type, codecs, new HashSet<>(Set.of(type)));
+            CRC32 crc = new CRC32();
+            crc.update(schemaSignature.getBytes(StandardCharsets.UTF_8));
+
+            return new RecordSchema(type, accessors, codecs, constructor, schemaSignature, (int) crc.getValue());
+        }
+
+        /// Builds the signature of a record from the signatures of its components, nested records included.
+        ///
+        /// @param type Record class
+        /// @param codecs Component value codecs
+        /// @param visiting Records whose signature is being built
+        /// @return Signature
+        static String signature(Class<?> type, ValueCodec[] codecs, Set<Class<?>> visiting) {
+            RecordComponent[] components = type.getRecordComponents();
+            StringBuilder signature = new StringBuilder(type.getName()).append('(');
+            for (int i = 0; i < components.length; i++) {
+                signature.append(i == 0 ? "" : ",").append(components[i].getName()).append(':').append(codecs[i].signature(visiting));
+            }
+            return signature.append(')').toString();
+        }
+
+        /// Writes the component values of a record.
+        void write(Object value, Output out) {
+            try {
+                for (int i = 0; i < accessors.length; i++) {
+                    codecs[i].write((Object) accessors[i].invokeExact(value), out);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read components of " + type.getName(), e);
+            }
+        }
+
+        /// Reads the component values and creates the record.
+        Object read(Input in) {
+            Object[] values = new Object[codecs.length];
+            for (int i = 0; i < codecs.length; i++) {
+                values[i] = codecs[i].read(in);
+            }
+
+            try {
+                return (Object) constructor.invokeExact(values);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to create " + type.getName(), e);
+            }
+        }
+
+    }
+
+    /// **Nested Record Codec**
+    ///
+    /// Codec of a record component, the schema is resolved lazily so recursive records are supported.
+    /// Its signature lists the nested components, so a change of a nested record changes the outer fingerprint.
+    ///
+    /// @param type Record class
+    /// @param owner Codec resolving schemas
+    private record NestedRecordCodec(Class<?> type, RecordCodec owner) implements ValueCodec {
+
+        NestedRecordCodec {
+            if (!type.getName().startsWith(owner.allowedPackagePrefix)) {
+                throw new IllegalArgumentException("Record " + type.getName() + " is outside the allowed packages");
+            }
+        }
+
+        @Override
+        public void write(Object value, Output out) {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                schema().write(value, out);
+            }
+        }
+
+        @Override
+        public Object read(Input in) {
+            return in.readBoolean() ? schema().read(in) : null;
+        }
+
+        @Override
+        public String signature(Set<Class<?>> visiting) {
+            if (!visiting.add(type)) {
+                return type.getName();
+            }
+
+            try {
+                ValueCodec[] codecs = Arrays.stream(type.getRecordComponents())
+                                            .map(component -> owner.codec(component.getGenericType()))
+                                            .toArray(ValueCodec[]::new);
+                return RecordSchema.signature(type, codecs, visiting);
+            } finally {
+                visiting.remove(type);
+            }
+        }
+
+        private RecordSchema schema() {
+            return owner.schema(type).orElseThrow(() -> new IllegalStateException("Unsupported record " + type.getName()));
+        }
+
+    }
+
+    /// **Collection Codec**
+    ///
+    /// Codec of lists and sets, decoded as mutable [ArrayList] or [HashSet].
+    ///
+    /// @param elementCodec Element codec
+    /// @param set Whether the collection is a set
+    private record CollectionCodec(ValueCodec elementCodec, boolean set) implements ValueCodec {
+
+        @Override
+        public void write(Object value, Output out) {
+            if (value == null) {
+                out.writeVarInt(0);
+                return;
+            }
+            Collection<?> collection = (Collection<?>) value;
+            out.writeVarInt(collection.size() + 1);
+            for (Object element : collection) {
+                elementCodec.write(element, out);
+            }
+        }
+
+        @Override
+        public Object read(Input in) {
+            int size = in.readVarInt() - 1;
+            if (size < 0) {
+                return null;
+            }
+            Collection<Object> collection = set ? HashSet.newHashSet(size) : new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                collection.add(elementCodec.read(in));
+            }
+            return collection;
+        }
+
+        @Override
+        public String signature(Set<Class<?>> visiting) {
+            return (set ? "Set<" : "List<") + elementCodec.signature(visiting) + ">";
+        }
+
+    }
+
+    /// **Map Codec**
+    ///
+    /// Codec of maps, decoded as mutable [HashMap].
+    ///
+    /// @param keyCodec Key codec
+    /// @param valueCodec Value codec
+    private record MapCodec(ValueCodec keyCodec, ValueCodec valueCodec) implements ValueCodec {
+
+        @Override
+        public void write(Object value, Output out) {
+            if (value == null) {
+                out.writeVarInt(0);
+                return;
+            }
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeVarInt(map.size() + 1);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                keyCodec.write(entry.getKey(), out);
+                valueCodec.write(entry.getValue(), out);
+            }
+        }
+
+        @Override
+        public Object read(Input in) {
+            int size = in.readVarInt() - 1;
+            if (size < 0) {
+                return null;
+            }
+            Map<Object, Object> map = HashMap.newHashMap(size);
+            for (int i = 0; i < size; i++) {
+                map.put(keyCodec.read(in), valueCodec.read(in));
+            }
+            return map;
+        }
+
+        @Override
+        public String signature(Set<Class<?>> visiting) {
+            return "Map<" + keyCodec.signature(visiting) + "," + valueCodec.signature(visiting) + ">";
+        }
+
+    }
+
+    /// **Enum Codec**
+    ///
+    /// Codec of enum constants by ordinal, the constant names are part of the signature.
+    ///
+    /// @param constants Enum constants
+    /// @param signature Signature listing the constants
+    private record EnumCodec(Object[] constants, String signature) implements ValueCodec {
+
+        EnumCodec(Class<?> type) {
+            this(type.getEnumConstants(), type.getName() + Arrays.toString(type.getEnumConstants()));
+        }
+
+        @Override
+        public void write(Object value, Output out) {
+            out.writeVarInt(value == null ? 0 : ((Enum<?>) value).ordinal() + 1);
+        }
+
+        @Override
+        public Object read(Input in) {
+            int ordinal = in.readVarInt() - 1;
+            return ordinal < 0 ? null : constants[ordinal];
+        }
+
+        @Override
+        public String signature(Set<Class<?>> visiting) {
+            return signature;
+        }
+
+    }
+
+    /// **Scalar Codec**
+    ///
+    /// Codecs of strings, numbers, booleans and dates. Wrapper types are preceded by a presence flag,
+    /// strings encode null in their length.
+    private enum ScalarCodec implements ValueCodec {
+
+        STRING(String.class) {
+            @Override
+            public void write(Object value, Output out) {
+                writeValue(value, out);
+            }
+
+            @Override
+            public Object read(Input in) {
+                return readValue(in);
+            }
+
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeString((String) value);
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return in.readString();
+            }
+        },
+        INTEGER(Integer.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeVarLong((Integer) value);
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return (int) in.readVarLong();
+            }
+        },
+        LONG(Long.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeVarLong((Long) value);
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return in.readVarLong();
+            }
+        },
+        SHORT(Short.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeVarLong((Short) value);
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return (short) in.readVarLong();
+            }
+        },
+        BYTE(Byte.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeVarLong((Byte) value);
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return (byte) in.readVarLong();
+            }
+        },
+        BOOLEAN(Boolean.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeBoolean((Boolean) value);
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return in.readBoolean();
+            }
+        },
+        DOUBLE(Double.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeLong(Double.doubleToLongBits((Double) value));
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return Double.longBitsToDouble(in.readLong());
+            }
+        },
+        FLOAT(Float.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeInt(Float.floatToIntBits((Float) value));
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return Float.intBitsToFloat(in.readInt());
+            }
+        },
+        BIG_DECIMAL(BigDecimal.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeString(((BigDecimal) value).toString());
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return new BigDecimal(in.readString());
+            }
+        },
+        LOCAL_DATE(LocalDate.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                out.writeVarLong(((LocalDate) value).toEpochDay());
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return LocalDate.ofEpochDay(in.readVarLong());
+            }
+        },
+        LOCAL_DATE_TIME(LocalDateTime.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeVarLong(dateTime.toLocalDate().toEpochDay());
+                out.writeVarLong(dateTime.toLocalTime().toNanoOfDay());
+            }
+
+            @Override
+            Object readValue(Input in) {
+                LocalDate date = LocalDate.ofEpochDay(in.readVarLong());
+                return date.atTime(LocalTime.ofNanoOfDay(in.readVarLong()));
+            }
+        },
+        INSTANT(Instant.class) {
+            @Override
+            void writeValue(Object value, Output out) {
+                Instant instant = (Instant) value;
+                out.writeVarLong(instant.getEpochSecond());
+                out.writeVarLong(instant.getNano());
+            }
+
+            @Override
+            Object readValue(Input in) {
+                return Instant.ofEpochSecond(in.readVarLong(), in.readVarLong());
+            }
+        };
+
+        /// Boxed type handled by the codec
+        private final Class<?> type;
+
+        ScalarCodec(Class<?> type) {
+            this.type = type;
+        }
+
+        /// Finds the codec of a declared type, primitives use the codec of their wrapper.
+        static ScalarCodec of(Class<?> declaredType) {
+            Class<?> boxed = MethodType.methodType(declaredType).wrap().returnType();
+            for (ScalarCodec codec : values()) {
+                if (codec.type.equals(boxed)) {
+                    return codec;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void write(Object value, Output out) {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                writeValue(value, out);
+            }
+        }
+
+        @Override
+        public Object read(Input in) {
+            return in.readBoolean() ? readValue(in) : null;
+        }
+
+        @Override
+        public String signature(Set<Class<?>> visiting) {
+            return name();
+        }
+
+        /// Writes a value, non-null unless the codec encodes null itself.
+        abstract void writeValue(Object value, Output out);
+
+        /// Reads a value written by [#writeValue(Object, Output)].
+        abstract Object readValue(Input in);
+
+    }
+
+    /// **Output**
+    ///
+    /// Growable byte buffer with varint and string encoding.
+    static final class Output {
+
+        /// Buffer
+        private byte[] buffer;
+        /// Number of written bytes
+        private int size;
+
+        /// Creates an output with an initial capacity.
+        Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void writeBoolean(boolean value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) (value ? 1 : 0);
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeVarInt(int value) {
+            writeUnsignedVarLong(Integer.toUnsignedLong(value));
+        }
+
+        /// Writes a zigzag-encoded varint, small negative values stay short.
+        void writeVarLong(long value) {
+            writeUnsignedVarLong((value << 1) ^ (value >> 63));
+        }
+
+        /// Writes a UTF-8 string prefixed with its length plus one, zero encodes null.
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        /// Returns the written bytes.
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /// Returns the internal buffer, valid up to [#size()].
+        byte[] buffer() {
+            return buffer;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void writeUnsignedVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+
+    }
+
+    /// **Input**
+    ///
+    /// Reader of bytes written by [Output].
+    static final class Input {
+
+        /// Source bytes
+        private final byte[] bytes;
+        /// Read position
+        private int position;
+
+        /// Creates an input reading from an offset.
+        Input(byte[] bytes, int offset) {
+            this.bytes = bytes;
+            this.position = offset;
+        }
+
+        boolean readBoolean() {
+            return bytes[position++] != 0;
+        }
+
+        int readInt() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readLong() {
+            return ((long) readInt() << 32) | Integer.toUnsignedLong(readInt());
+        }
+
+        int readVarInt() {
+            return (int) readUnsignedVarLong();
+        }
+
+        long readVarLong() {
+            long value = readUnsignedVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private long readUnsignedVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+    }
+
+}
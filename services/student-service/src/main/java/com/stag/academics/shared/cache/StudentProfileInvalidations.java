@@ -0,0 +1,198 @@
+package com.stag.academics.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/// **Student Profile Invalidations**
+///
+/// Consumes the Redis stream of updated persons published by user-service and evicts the `student-profile`
+/// entries of their students in both languages, instead of clearing the whole cache on every profile update.
+///
+/// Records have the field `personId`, the students of the person are resolved locally. The stream is read
+/// by a consumer group, so every record is handled by a single instance, the near caches of the others are
+/// invalidated through pub/sub. A record is acknowledged once its entries are evicted.
+///
+/// Each instance reads as a stable consumer (the pod name). Records left pending by a failed or stopped
+/// consumer are periodically claimed and handled by a running one, consumers without pending records
+/// that stayed idle are removed from the group.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class StudentProfileInvalidations implements StreamListener<String, MapRecord<String, String, String>> {
+
+    /// Name of the invalidated cache
+    static final String CACHE_NAME = "student-profile";
+    /// Languages of the cached profiles
+    private static final List<String> LANGUAGES = List.of("cs", "en");
+    /// Maximum number of pending records claimed at once
+    private static final long CLAIM_BATCH_SIZE = 100;
+
+    /// Cache Manager
+    private final CacheManager cacheManager;
+    /// Redis template used for acknowledging and claiming
+    private final StringRedisTemplate redisTemplate;
+    /// Resolves the student IDs of a person
+    private final Function<Integer, List<String>> studentIdsResolver;
+    /// Invalidation stream
+    private final String stream;
+    /// Consumer group shared by all instances
+    private final String group;
+    /// Consumer name of this instance
+    private final String consumer;
+    /// Idle time after which a pending record is claimed from its consumer
+    private final Duration claimIdleTime;
+
+    /// Creates the invalidation consumer.
+    ///
+    /// @param cacheManager Cache manager
+    /// @param redisTemplate Redis template used for acknowledging and claiming
+    /// @param studentIdsResolver Resolves the student IDs of a person
+    /// @param stream Invalidation stream
+    /// @param group Consumer group shared by all instances
+    /// @param consumer Consumer name of this instance
+    /// @param claimIdleTime Idle time after which a pending record is claimed from its consumer
+    public StudentProfileInvalidations(
+        CacheManager cacheManager,
+        StringRedisTemplate redisTemplate,
+        Function<Integer, List<String>> studentIdsResolver,
+        String stream,
+        String group,
+        String consumer,
+        Duration claimIdleTime
+    ) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.studentIdsResolver = studentIdsResolver;
+        this.stream = stream;
+        this.group = group;
+        this.consumer = consumer;
+        this.claimIdleTime = claimIdleTime;
+    }
+
+    /// Returns the invalidation stream.
+    ///
+    /// @return Stream key
+    public String getStream() {
+        return stream;
+    }
+
+    /// Returns the consumer of this instance.
+    ///
+    /// @return Consumer in the group
+    public Consumer getConsumer() {
+        return Consumer.from(group, consumer);
+    }
+
+    /// Creates the consumer group (and the stream) unless it already exists.
+    /// A new group starts with records published after its creation.
+    public void createGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(stream, ReadOffset.latest(), group);
+        } catch (RedisSystemException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+
+            log.debug("Consumer group {} of stream {} already exists", group, stream);
+        }
+    }
+
+    /// Evicts the profiles of the students of an updated person and acknowledges the record.
+    /// A failure leaves the record pending, so it is claimed and handled again later.
+    ///
+    /// @param message Invalidation record
+    @Override
+    public void onMessage(MapRecord<String, String, String> message) {
+        String personId = message.getValue().get("personId");
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null && personId != null) {
+            List<String> studentIds = studentIdsResolver.apply(Integer.valueOf(personId));
+            log.debug("Evicting student profiles {} of updated personId: {}", studentIds, personId);
+
+            for (String studentId : studentIds) {
+                for (String language : LANGUAGES) {
+                    cache.evict(List.of(studentId, language));
+                }
+            }
+        }
+
+        redisTemplate.opsForStream().acknowledge(group, message);
+    }
+
+    /// Claims records that stayed pending longer than the claim idle time and handles them,
+    /// then removes idle consumers of stopped instances that have no pending records left.
+    ///
+    /// Runs with a fixed delay configured by `student-profile-invalidation.claim-interval`.
+    @Scheduled(
+        initialDelayString = "${student-profile-invalidation.claim-interval:PT1M}",
+        fixedDelayString = "${student-profile-invalidation.claim-interval:PT1M}"
+    )
+    public void claimStale() {
+        try {
+            StreamOperations<String, Object, Object> streamOperations = redisTemplate.opsForStream();
+
+            PendingMessages pending = streamOperations.pending(stream, group, Range.unbounded(), CLAIM_BATCH_SIZE);
+            RecordId[] staleIds = pending.stream()
+                                         .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdleTime) >= 0)
+                                         .map(PendingMessage::getId)
+                                         .toArray(RecordId[]::new);
+
+            if (staleIds.length > 0) {
+                List<MapRecord<String, Object, Object>> claimed = streamOperations.claim(stream, group, consumer, claimIdleTime, staleIds);
+                log.info("Claimed {} stale student profile invalidations", claimed.size());
+                claimed.forEach(record -> onMessage(toStringRecord(record)));
+            }
+
+            streamOperations.consumers(stream, group)
+                            .stream()
+                            .filter(info -> !consumer.equals(info.consumerName()))
+                            .filter(info -> info.pendingCount() == 0 && info.idleTime().compareTo(claimIdleTime) >= 0)
+                            .map(XInfoConsumer::consumerName)
+                            .forEach(idleConsumer -> {
+                                log.debug("Removing idle consumer {} of stream {}", idleConsumer, stream);
+                                streamOperations.deleteConsumer(stream, Consumer.from(group, idleConsumer));
+                            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim stale student profile invalidations of stream {}", stream, e);
+        }
+    }
+
+    /// Converts a claimed record to the string record delivered by the listener container.
+    ///
+    /// @param record Claimed record
+    /// @return String record with the same stream and ID
+    private MapRecord<String, String, String> toStringRecord(MapRecord<String, Object, Object> record) {
+        Map<String, String> fields = HashMap.newHashMap(record.getValue().size());
+        record.getValue().forEach((field, value) -> fields.put(String.valueOf(field), String.valueOf(value)));
+
+        return StreamRecords.newRecord()
+                            .in(stream)
+                            .withId(record.getId())
+                            .ofMap(fields);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.stag.academics.shared.config;
+
+import com.stag.academics.shared.cache.RefreshAheadLoader;
+import com.stag.academics.shared.grpc.client.StudyPlanClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/// **Refresh-Ahead Configuration**
+///
+/// Registers the loaders recomputing entries of the caches refreshed ahead of expiration.
+/// Each loader maps the cache key of the `@Cacheable` method back to its arguments and calls
+/// the uncached load method of the client.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Configuration
+public class RefreshAheadConfig {
+
+    /// Creates the refresh-ahead loader of the `study-program-and-field` cache,
+    /// keyed by study program, study plan and language.
+    ///
+    /// @param studyPlanClient Study plan client
+    /// @return Refresh-ahead loader
+    @Bean
+    public RefreshAheadLoader studyProgramAndFieldRefreshAheadLoader(StudyPlanClient studyPlanClient) {
+        return new RefreshAheadLoader("study-program-and-field", key -> {
+            List<?> arguments = (List<?>) key;
+            return studyPlanClient.loadStudyProgramAndField(
+                (Long) arguments.get(0), (Long) arguments.get(1), (String) arguments.get(2)
+            );
+        });
+    }
+
+}
@@ -37,6 +37,29 @@ public class StudyPlanClient {
     @CircuitBreaker(name = "study-plan-service")
     @Retry(name = "study-plan-service")
     public StudyProgramAndFieldLookupData getStudyProgramAndField(Long studyProgramId, Long studyPlanId, String language) {
+        return fetchStudyProgramAndField(studyProgramId, studyPlanId, language);
+    }
+
+    /// Fetches study program and field of study data via gRPC without going through the cache,
+    /// used to refresh hot entries of the `study-program-and-field` cache ahead of expiration.
+    ///
+    /// @param studyProgramId the study program identifier
+    /// @param studyPlanId the study plan identifier
+    /// @param language the language code for localized data
+    /// @return study program and field lookup data
+    @CircuitBreaker(name = "study-plan-service")
+    @Retry(name = "study-plan-service")
+    public StudyProgramAndFieldLookupData loadStudyProgramAndField(Long studyProgramId, Long studyPlanId, String language) {
+        return fetchStudyProgramAndField(studyProgramId, studyPlanId, language);
+    }
+
+    /// Calls the study plan service.
+    ///
+    /// @param studyProgramId the study program identifier
+    /// @param studyPlanId the study plan identifier
+    /// @param language the language code for localized data
+    /// @return study program and field lookup data
+    private StudyProgramAndFieldLookupData fetchStudyProgramAndField(Long studyProgramId, Long studyPlanId, String language) {
         log.info("Fetching study program: {} and field of study with plan: {}", studyProgramId, studyPlanId);
 
         var request = StudyPlanMapper.INSTANCE.toStudyProgramAndFieldDataRequest(studyProgramId, studyPlanId, language);
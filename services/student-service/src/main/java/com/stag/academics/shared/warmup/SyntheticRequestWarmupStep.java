@@ -0,0 +1,164 @@
+package com.stag.academics.shared.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.OutputStream;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/// **Synthetic Request Warmup Step**
+///
+/// Replays the requests configured in `warmup.requests` against the local HTTP server, through the whole
+/// filter chain and the real controllers, until JIT compilation settles.
+///
+/// Compilation is settled when `warmup.jit.settled-rounds` consecutive rounds over all requests added less than
+/// `warmup.jit.settle-threshold` of JIT compilation time. The replay also stops after `warmup.jit.max-rounds`.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Order(3)
+@Component
+public class SyntheticRequestWarmupStep implements WarmupStep {
+
+    /// Environment holding the local server port and the configured requests
+    private final Environment environment;
+    /// Maximum number of rounds over all requests
+    private final int maxRounds;
+    /// Consecutive settled rounds ending the replay
+    private final int settledRounds;
+    /// JIT compilation time of a round considered settled
+    private final Duration settleThreshold;
+    /// Timeout of a single request
+    private final Duration requestTimeout;
+
+    /// Creates the step.
+    ///
+    /// @param environment Environment holding the local server port and the configured requests
+    /// @param maxRounds Maximum number of rounds over all requests
+    /// @param settledRounds Consecutive settled rounds ending the replay
+    /// @param settleThreshold JIT compilation time of a round considered settled
+    /// @param requestTimeout Timeout of a single request
+    public SyntheticRequestWarmupStep(
+        Environment environment,
+        @Value("${warmup.jit.max-rounds:500}") int maxRounds,
+        @Value("${warmup.jit.settled-rounds:3}") int settledRounds,
+        @Value("${warmup.jit.settle-threshold:PT0.005S}") Duration settleThreshold,
+        @Value("${warmup.request-timeout:PT5S}") Duration requestTimeout
+    ) {
+        this.environment = environment;
+        this.maxRounds = maxRounds;
+        this.settledRounds = settledRounds;
+        this.settleThreshold = settleThreshold;
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public String name() {
+        return "synthetic-requests";
+    }
+
+    @Override
+    public boolean run(Instant deadline) {
+        List<SyntheticRequest> requests = Binder.get(environment)
+                                                .bind("warmup.requests", Bindable.listOf(SyntheticRequest.class))
+                                                .orElse(List.of());
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+
+        if (requests.isEmpty() || port == null) {
+            log.info("No synthetic requests to replay");
+            return true;
+        }
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+        requestFactory.setReadTimeout(requestTimeout);
+        RestClient restClient = RestClient.builder()
+                                          .requestFactory(requestFactory)
+                                          .baseUrl("http://localhost:" + port)
+                                          .build();
+
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean measurable = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+
+        int settled = 0;
+        int failures = 0;
+        for (int round = 1; round <= maxRounds; round++) {
+            if (Instant.now().isAfter(deadline)) {
+                log.info("Stopped replaying synthetic requests after {} rounds with {} failed requests", round - 1, failures);
+                return false;
+            }
+
+            long compilationStart = measurable ? compilation.getTotalCompilationTime() : 0;
+            for (SyntheticRequest request : requests) {
+                if (!send(restClient, request)) {
+                    failures++;
+                }
+            }
+            long compilationMillis = measurable ? compilation.getTotalCompilationTime() - compilationStart : 0;
+
+            settled = compilationMillis < settleThreshold.toMillis() ? settled + 1 : 0;
+            if (settled >= settledRounds) {
+                log.info("JIT compilation settled after {} rounds with {} failed requests", round, failures);
+                return true;
+            }
+        }
+
+        log.info("JIT compilation did not settle within {} rounds, {} requests failed", maxRounds, failures);
+        return true;
+    }
+
+    /// Sends a synthetic request and reads the whole response body.
+    ///
+    /// @param restClient REST client of the local server
+    /// @param request Synthetic request
+    /// @return True if the response status is not an error
+    private static boolean send(RestClient restClient, SyntheticRequest request) {
+        try {
+            HttpStatusCode status = restClient.method(HttpMethod.valueOf(request.method()))
+                                              .uri(request.path())
+                                              .headers(headers -> request.headers().forEach(headers::set))
+                                              .exchange((_, response) -> {
+                                                  response.getBody().transferTo(OutputStream.nullOutputStream());
+                                                  return response.getStatusCode();
+                                              });
+            return !status.isError();
+        } catch (RestClientException e) {
+            log.debug("Synthetic request {} {} failed", request.method(), request.path(), e);
+            return false;
+        }
+    }
+
+    /// Synthetic request replayed during the warmup.
+    ///
+    /// @param method HTTP method, GET if not set
+    /// @param path Request path with query
+    /// @param headers Request headers, e.g. gateway authentication headers or `Accept-Language`
+    public record SyntheticRequest(
+        String method,
+        String path,
+        Map<String, String> headers
+    ) {
+
+        public SyntheticRequest {
+            method = method == null ? "GET" : method;
+            headers = headers == null ? Map.of() : headers;
+        }
+
+    }
+
+}
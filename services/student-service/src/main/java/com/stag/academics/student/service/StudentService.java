@@ -66,14 +66,14 @@ public class StudentService {
 
     /// Retrieves complete student profile with enriched data from external services.
     /// Fetches profile data from User and Study Plan services, then combines the results.
-    /// Cached by student ID and language.
+    /// Cached by student ID and language, concurrent misses of the same key are coalesced into a single load.
     /// Access is restricted to authorized roles or the students themselves.
     ///
     /// @param studentId the student identifier
     /// @param language the language code for localized data
     /// @return complete student profile
     /// @throws StudentNotFoundException if a student not found
-    @Cacheable(value = "student-profile", key = "{#studentId, #language}")
+    @Cacheable(value = "student-profile", key = "{#studentId, #language}", sync = true)
     @PreAuthorize("""
         hasAnyRole('AD', 'DE', 'PR', 'SR', 'SP', 'VY', 'VK')
         || #studentId.equalsIgnoreCase(principal.studentId)
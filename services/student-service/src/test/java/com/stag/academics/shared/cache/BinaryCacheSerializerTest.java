@@ -0,0 +1,50 @@
+package com.stag.academics.shared.cache;
+
+import com.stag.academics.student.model.Profile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryCacheSerializerTest {
+
+    private static final Profile PROFILE = Profile.builder()
+                                                  .studentId("A21B0001P")
+                                                  .personId(42)
+                                                  .firstName("Jan")
+                                                  .lastName("Novák")
+                                                  .titles(new Profile.Titles("Bc.", null))
+                                                  .studyStatus("S")
+                                                  .studyProgram(new Profile.StudyProgram(1234, "Informatika", "FAV", "B0613A140015", "P", "B"))
+                                                  .build();
+
+    private final BinaryCacheSerializer serializer = new BinaryCacheSerializer(getClass().getClassLoader(), 1024);
+
+    @Test
+    @DisplayName("should round trip a student profile in fewer bytes than JDK serialization")
+    void roundTrip() {
+        byte[] bytes = serializer.serialize(PROFILE);
+
+        assertThat(serializer.deserialize(bytes)).isEqualTo(PROFILE);
+        assertThat(bytes.length).isLessThan(new JdkSerializationRedisSerializer().serialize(PROFILE).length / 4);
+    }
+
+    @Test
+    @DisplayName("should read student profiles cached by the JDK serializer")
+    void legacyEntries() {
+        byte[] legacyBytes = new JdkSerializationRedisSerializer().serialize(PROFILE);
+
+        assertThat(serializer.deserialize(legacyBytes)).isEqualTo(PROFILE);
+    }
+
+    @Test
+    @DisplayName("should fingerprint the components of nested records, so changing them invalidates the profile")
+    void nestedComponents() {
+        RecordCodec codec = new RecordCodec("com.stag.", getClass().getClassLoader());
+
+        assertThat(codec.signature(Profile.class))
+            .contains("titles:" + Profile.Titles.class.getName() + "(prefix:STRING,suffix:STRING)");
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.stag.academics.shared.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheTest {
+
+    private static final List<Object> KEY = List.of(1L, 2L, "cs");
+
+    @Mock
+    private RedisCache redisCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NearCacheInvalidations invalidations;
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisCache.getName()).thenReturn("study-program-and-field");
+        meterRegistry = new SimpleMeterRegistry();
+        invalidations = new NearCacheInvalidations(redisTemplate, "near-cache:invalidations");
+        nearCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, null, null, null, meterRegistry);
+        invalidations.bind(name -> name.equals("study-program-and-field") ? nearCache : null);
+    }
+
+    @Test
+    @DisplayName("should read Redis once and drop the L1 copy changed by another instance")
+    void fillsAndInvalidatesL1() {
+        when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Informatika"));
+
+        assertThat(nearCache.get(KEY).get()).isEqualTo("Informatika");
+        assertThat(nearCache.get(KEY).get()).isEqualTo("Informatika");
+        verify(redisCache, times(1)).get(KEY);
+
+        invalidations.handle("other-instance|study-program-and-field|[1, 2, cs]");
+        nearCache.get(KEY);
+
+        verify(redisCache, times(2)).get(KEY);
+    }
+
+    @Test
+    @DisplayName("should not fill L1 with a value read before a concurrent eviction")
+    void skipsStaleFill() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(redisCache.get(KEY))
+            .thenAnswer(_ -> {
+                reading.countDown();
+                evicted.await();
+                return new SimpleValueWrapper("Informatika");
+            })
+            .thenReturn(new SimpleValueWrapper("Matematika"));
+
+        CompletableFuture<Object> reader = CompletableFuture.supplyAsync(() -> nearCache.get(KEY).get());
+        reading.await();
+        nearCache.evict(KEY);
+        evicted.countDown();
+
+        assertThat(reader.get()).isEqualTo("Informatika");
+        assertThat(nearCache.get(KEY).get()).isEqualTo("Matematika");
+    }
+
+    @Test
+    @DisplayName("should recompute a hot entry from its key in the background while serving the current value")
+    void refreshesHotEntry() throws Exception {
+        List<Object> refreshedKeys = new CopyOnWriteArrayList<>();
+        RefreshAheadPolicy policy = new RefreshAheadPolicy(Duration.ofMinutes(1), 0.999, 2);
+        NearCache refreshingCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, null, policy, key -> {
+            refreshedKeys.add(key);
+            return "Matematika";
+        }, meterRegistry);
+
+        refreshingCache.put(KEY, "Informatika");
+        Thread.sleep(100);
+
+        assertThat(refreshingCache.get(KEY).get()).isEqualTo("Informatika");
+        assertThat(refreshingCache.get(KEY, () -> "Fyzika")).isEqualTo("Informatika");
+
+        await().until(() -> meterRegistry.get("cache.near.refreshes").tags("result", "success").counter().count() == 1);
+        assertThat(refreshedKeys).containsExactly(KEY);
+        assertThat(refreshingCache.get(KEY).get()).isEqualTo("Matematika");
+    }
+
+}
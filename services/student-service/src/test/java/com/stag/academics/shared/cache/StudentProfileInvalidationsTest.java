@@ -0,0 +1,147 @@
+package com.stag.academics.shared.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StudentProfileInvalidationsTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private Function<Integer, List<String>> studentIdsResolver;
+
+    private StudentProfileInvalidations invalidations;
+
+    @BeforeEach
+    void setUp() {
+        invalidations = new StudentProfileInvalidations(
+            cacheManager,
+            redisTemplate,
+            studentIdsResolver,
+            "invalidations",
+            "student-service",
+            "student-service-0",
+            Duration.ofMinutes(1)
+        );
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    }
+
+    @Test
+    @DisplayName("Should evict profiles of all students in both languages and acknowledge the record")
+    void onMessage_StudentIds_EvictsOnlyTheirProfiles() {
+        MapRecord<String, String, String> record = record(Map.of("personId", "123"));
+        when(cacheManager.getCache(StudentProfileInvalidations.CACHE_NAME)).thenReturn(cache);
+        when(studentIdsResolver.apply(123)).thenReturn(List.of("A21B0001", "A21B0002"));
+
+        invalidations.onMessage(record);
+
+        verify(cache).evict(List.of("A21B0001", "cs"));
+        verify(cache).evict(List.of("A21B0001", "en"));
+        verify(cache).evict(List.of("A21B0002", "cs"));
+        verify(cache).evict(List.of("A21B0002", "en"));
+        verifyNoMoreInteractions(cache);
+        verify(streamOperations).acknowledge("student-service", record);
+    }
+
+    @Test
+    @DisplayName("Should acknowledge a record of a person without students without evicting")
+    void onMessage_NoStudentIds_OnlyAcknowledges() {
+        MapRecord<String, String, String> record = record(Map.of("personId", "123"));
+        when(cacheManager.getCache(StudentProfileInvalidations.CACHE_NAME)).thenReturn(cache);
+        when(studentIdsResolver.apply(123)).thenReturn(List.of());
+
+        invalidations.onMessage(record);
+
+        verify(cache, never()).evict(any());
+        verify(streamOperations).acknowledge("student-service", record);
+    }
+
+    @Test
+    @DisplayName("Should leave the record pending when the students cannot be resolved")
+    void onMessage_ResolverFails_DoesNotAcknowledge() {
+        MapRecord<String, String, String> record = record(Map.of("personId", "123"));
+        when(cacheManager.getCache(StudentProfileInvalidations.CACHE_NAME)).thenReturn(cache);
+        when(studentIdsResolver.apply(123)).thenThrow(new IllegalStateException("DB down"));
+
+        assertThatThrownBy(() -> invalidations.onMessage(record)).isInstanceOf(IllegalStateException.class);
+
+        verify(streamOperations, never()).acknowledge(any(String.class), any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should claim stale pending records and handle them as this consumer")
+    void claimStale_StaleRecords_ClaimsAndHandles() {
+        RecordId staleId = RecordId.of("1-0");
+        PendingMessage stale = new PendingMessage(staleId, Consumer.from("student-service", "student-service-1"), Duration.ofMinutes(5), 1);
+        PendingMessage fresh = new PendingMessage(RecordId.of("2-0"), Consumer.from("student-service", "student-service-1"), Duration.ofSeconds(1), 1);
+        MapRecord<String, Object, Object> claimed = StreamRecords.newRecord()
+                                                                 .in("invalidations")
+                                                                 .withId(staleId)
+                                                                 .ofMap(Map.<Object, Object>of("personId", "123"));
+
+        when(streamOperations.pending(eq("invalidations"), eq("student-service"), eq(Range.unbounded()), anyLong()))
+            .thenReturn(new PendingMessages("student-service", List.of(stale, fresh)));
+        when(streamOperations.claim("invalidations", "student-service", "student-service-0", Duration.ofMinutes(1), staleId))
+            .thenReturn(List.of(claimed));
+        XInfoConsumers consumers = mock(XInfoConsumers.class);
+        when(consumers.stream()).thenReturn(Stream.empty());
+        when(streamOperations.consumers("invalidations", "student-service")).thenReturn(consumers);
+        when(cacheManager.getCache(StudentProfileInvalidations.CACHE_NAME)).thenReturn(cache);
+        when(studentIdsResolver.apply(123)).thenReturn(List.of("A21B0001"));
+
+        invalidations.claimStale();
+
+        verify(cache).evict(List.of("A21B0001", "cs"));
+        verify(cache).evict(List.of("A21B0001", "en"));
+        verify(streamOperations).acknowledge(eq("student-service"), any(MapRecord.class));
+    }
+
+    private static MapRecord<String, String, String> record(Map<String, String> fields) {
+        return StreamRecords.string(fields)
+                            .withStreamKey("invalidations");
+    }
+
+}
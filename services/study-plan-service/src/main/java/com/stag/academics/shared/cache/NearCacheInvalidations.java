@@ -0,0 +1,115 @@
+package com.stag.academics.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+/// **Near Cache Invalidations**
+///
+/// Publishes and receives L1 invalidations through a Redis pub/sub channel shared by all services,
+/// so a cache changed by one instance (or service) is dropped from the L1 of every other one.
+///
+/// Messages have the form `<instance ID>|<cache name>|<key>`, a clear omits the key.
+/// Messages published by this instance are ignored, its L1 is updated directly.
+///
+/// Pub/sub delivery is at most once, lost messages are bounded by the L1 time to live.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class NearCacheInvalidations implements MessageListener {
+
+    /// Separator of message parts
+    private static final char SEPARATOR = '|';
+
+    /// Redis template used for publishing
+    private final StringRedisTemplate redisTemplate;
+    /// Invalidation channel
+    private final String channel;
+    /// ID of this instance, used to skip its own messages
+    private final String instanceId = UUID.randomUUID().toString();
+    /// Resolves the near caches of this instance by name, null if the cache is not used here
+    private Function<String, NearCache> localCaches = _ -> null;
+
+    /// Creates the invalidation publisher.
+    ///
+    /// @param redisTemplate Redis template used for publishing
+    /// @param channel Invalidation channel
+    public NearCacheInvalidations(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    /// Sets the resolver of local near caches receiving invalidations.
+    ///
+    /// @param localCaches Near cache by name, null if the cache is not used by this instance
+    void bind(Function<String, NearCache> localCaches) {
+        this.localCaches = localCaches;
+    }
+
+    /// Returns the invalidation channel.
+    ///
+    /// @return Channel name
+    public String getChannel() {
+        return channel;
+    }
+
+    /// Publishes the eviction of a single key.
+    ///
+    /// @param cacheName Cache name
+    /// @param key String form of the cache key
+    public void publishEvict(String cacheName, String key) {
+        publish(instanceId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    /// Publishes the clear of a whole cache.
+    ///
+    /// @param cacheName Cache name
+    public void publishClear(String cacheName) {
+        publish(instanceId + SEPARATOR + cacheName);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handle(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /// Applies an invalidation message to the local near caches.
+    ///
+    /// @param payload Message payload
+    void handle(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length < 2 || parts[0].equals(instanceId)) {
+            return;
+        }
+
+        NearCache cache = localCaches.apply(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts.length == 2) {
+            log.debug("Clearing near cache {} on remote invalidation", parts[1]);
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    /// Publishes a message, failures only leave remote L1 entries until they expire.
+    ///
+    /// @param payload Message payload
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish near cache invalidation {}", payload, e);
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.stag.academics.shared.config;
+
+import com.stag.academics.shared.cache.NearCacheInvalidations;
+import com.stag.academics.shared.cache.NearCacheLoadLock;
+import com.stag.academics.shared.cache.NearCacheManager;
+import com.stag.academics.shared.cache.RefreshAheadLoader;
+import com.stag.academics.shared.cache.RefreshAheadPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/// **Cache Configuration**
+///
+/// Configures the Redis cache manager used with `spring.cache.type=redis`. When `near-cache.enabled` is set,
+/// every Redis cache gets a bounded in-process L1 invalidated across instances through Redis pub/sub,
+/// and concurrent loads of a key are coalesced, across instances when `near-cache.distributed-lock.enabled` is set.
+/// Caches listed in `near-cache.refresh-ahead.caches` refresh their hot entries ahead of expiration
+/// with the [RefreshAheadLoader] bean registered for them.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+public class CacheConfig {
+
+    /// Creates the cache manager, a near cache manager over Redis when enabled.
+    ///
+    /// @param connectionFactory Redis connection factory
+    /// @param invalidations Near cache invalidations, absent when the near cache is disabled
+    /// @param loadLock Distributed load lock, absent when loads are coalesced only within an instance
+    /// @param refreshAheadLoaders Refresh-ahead loaders of the caches listed in `near-cache.refresh-ahead.caches`
+    /// @param meterRegistry Meter registry
+    /// @param environment Environment holding the refresh-ahead thresholds by cache name
+    /// @param timeToLive Lifetime of Redis entries
+    /// @param cacheNullValues Whether null values are cached
+    /// @param maxWeight Maximum L1 size of a single cache
+    /// @param nearTimeToLive Lifetime of L1 entries
+    /// @param refreshAheadMinHits Number of reads since the last load that make an entry hot
+    /// @return Cache manager
+    @Bean
+    public CacheManager cacheManager(
+        RedisConnectionFactory connectionFactory,
+        ObjectProvider<NearCacheInvalidations> invalidations,
+        ObjectProvider<NearCacheLoadLock> loadLock,
+        ObjectProvider<RefreshAheadLoader> refreshAheadLoaders,
+        MeterRegistry meterRegistry,
+        Environment environment,
+        @Value("${spring.cache.redis.time-to-live:PT5M}") Duration timeToLive,
+        @Value("${spring.cache.redis.cache-null-values:false}") boolean cacheNullValues,
+        @Value("${near-cache.max-weight:32MB}") DataSize maxWeight,
+        @Value("${near-cache.time-to-live:PT1M}") Duration nearTimeToLive,
+        @Value("${near-cache.refresh-ahead.min-hits:3}") int refreshAheadMinHits
+    ) {
+        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig(getClass().getClassLoader())
+                                                                            .entryTtl(timeToLive);
+        if (!cacheNullValues) {
+            cacheConfiguration = cacheConfiguration.disableCachingNullValues();
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                                                               .cacheDefaults(cacheConfiguration)
+                                                               .build();
+        redisCacheManager.initializeCaches();
+
+        NearCacheInvalidations nearCacheInvalidations = invalidations.getIfAvailable();
+        if (nearCacheInvalidations == null) {
+            return redisCacheManager;
+        }
+
+        return new NearCacheManager(
+            redisCacheManager,
+            nearCacheInvalidations,
+            loadLock.getIfAvailable(),
+            refreshAheadPolicies(environment, timeToLive, refreshAheadMinHits),
+            () -> refreshAheadLoaders.orderedStream().toList(),
+            meterRegistry,
+            maxWeight.toBytes(),
+            nearTimeToLive
+        );
+    }
+
+    /// Creates the refresh-ahead policies of the caches listed in `near-cache.refresh-ahead.caches`.
+    ///
+    /// @param environment Environment
+    /// @param timeToLive Lifetime of Redis entries
+    /// @param minHits Number of reads since the last load that make an entry hot
+    /// @return Refresh-ahead policies by cache name
+    private static Map<String, RefreshAheadPolicy> refreshAheadPolicies(Environment environment, Duration timeToLive, int minHits) {
+        Map<String, Double> thresholds = Binder.get(environment)
+                                               .bind("near-cache.refresh-ahead.caches", Bindable.mapOf(String.class, Double.class))
+                                               .orElse(Map.of());
+
+        Map<String, RefreshAheadPolicy> policies = new HashMap<>();
+        thresholds.forEach((name, threshold) -> policies.put(name, new RefreshAheadPolicy(timeToLive, threshold, minHits)));
+        return policies;
+    }
+
+    /// Creates the publisher and listener of near cache invalidations.
+    ///
+    /// @param redisTemplate Redis template used for publishing
+    /// @param channel Invalidation channel shared by all services
+    /// @return Near cache invalidations
+    @Bean
+    @ConditionalOnProperty(name = "near-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public NearCacheInvalidations nearCacheInvalidations(
+        StringRedisTemplate redisTemplate,
+        @Value("${near-cache.channel:near-cache:invalidations}") String channel
+    ) {
+        return new NearCacheInvalidations(redisTemplate, channel);
+    }
+
+    /// Creates the distributed lock letting a single instance load a missing entry.
+    ///
+    /// @param redisTemplate Redis template
+    /// @param lease Lock lease, also the longest time an instance waits for another one
+    /// @param pollInterval Interval of checking Redis while another instance loads the entry
+    /// @return Load lock
+    @Bean
+    @ConditionalOnProperty(name = "near-cache.distributed-lock.enabled", havingValue = "true")
+    public NearCacheLoadLock nearCacheLoadLock(
+        StringRedisTemplate redisTemplate,
+        @Value("${near-cache.distributed-lock.lease:PT10S}") Duration lease,
+        @Value("${near-cache.distributed-lock.poll-interval:PT0.05S}") Duration pollInterval
+    ) {
+        return new NearCacheLoadLock(redisTemplate, lease, pollInterval);
+    }
+
+    /// Subscribes the near cache invalidations to their channel.
+    ///
+    /// @param connectionFactory Redis connection factory
+    /// @param invalidations Near cache invalidations
+    /// @return Listener container
+    @Bean
+    @ConditionalOnProperty(name = "near-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer nearCacheListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        NearCacheInvalidations invalidations
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidations, new ChannelTopic(invalidations.getChannel()));
+        return container;
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /// **User Service Application**
 ///
@@ -17,11 +18,13 @@ import org.springframework.scheduling.annotation.EnableAsync;
 /// @author Jakub Pavlíček
 /// @version 1.0.0
 @EnableAsync
+@EnableScheduling
 @EnableCaching
 @EnableGrpcClients(
     clients = {
         StudentServiceGrpc.StudentServiceBlockingStub.class,
-        CodelistServiceGrpc.CodelistServiceBlockingStub.class
+        CodelistServiceGrpc.CodelistServiceBlockingStub.class,
+        CodelistServiceGrpc.CodelistServiceStub.class
     }
 )
 @SpringBootApplication
@@ -4,15 +4,18 @@ import com.stag.identity.api.PersonsApi;
 import com.stag.identity.api.dto.AddressesResponse;
 import com.stag.identity.api.dto.BankAccountsResponse;
 import com.stag.identity.api.dto.EducationResponse;
+import com.stag.identity.api.dto.PersonDossierResponse;
 import com.stag.identity.api.dto.PersonResponse;
 import com.stag.identity.api.dto.UpdatePersonRequest;
 import com.stag.identity.person.mapper.PersonApiMapper;
 import com.stag.identity.person.model.Addresses;
 import com.stag.identity.person.model.Banking;
+import com.stag.identity.person.model.Dossier;
 import com.stag.identity.person.model.Education;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.service.AddressService;
 import com.stag.identity.person.service.BankingService;
+import com.stag.identity.person.service.DossierService;
 import com.stag.identity.person.service.EducationService;
 import com.stag.identity.person.service.ProfileService;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
@@ -25,7 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 /// **Person REST Controller**
 ///
 /// REST API endpoints for person profile operations.
-/// Provides operations for profiles, addresses, banking, and education information with localization support.
+/// Provides operations for profiles, addresses, banking, and education information with localization support,
+/// separately or combined into a single dossier.
 /// Implements OpenAPI-generated PersonsApi interface.
 ///
 /// @author Jakub Pavlíček
@@ -44,6 +48,8 @@ public class PersonController implements PersonsApi {
     private final BankingService bankingService;
     /// Education Service
     private final EducationService educationService;
+    /// Dossier Service
+    private final DossierService dossierService;
 
     /// Retrieves a complete person profile with localized codelist data.
     ///
@@ -120,4 +126,19 @@ public class PersonController implements PersonsApi {
         return ResponseEntity.ok(educationResponse);
     }
 
+    /// Retrieves the complete person dossier (profile, addresses, banking and education) in one response.
+    ///
+    /// @param personId the person identifier
+    /// @param language the language code for localization (cs/en)
+    /// @return dossier response with HTTP 200
+    @Override
+    public ResponseEntity<PersonDossierResponse> getPersonDossier(Integer personId, String language) {
+        log.info("Person dossier requested for personId: {} with language: {}", personId, language);
+
+        Dossier dossier = dossierService.getPersonDossier(personId, language);
+        PersonDossierResponse dossierResponse = PersonApiMapper.INSTANCE.toPersonDossierResponse(dossier);
+
+        return ResponseEntity.ok(dossierResponse);
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.stag.identity.person.event;
+
+/// **Person Profile Updated Event**
+///
+/// Published when a person profile is updated, so data derived from the profile in other services is invalidated.
+///
+/// @param personId the person identifier
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record PersonProfileUpdatedEvent(
+    Integer personId
+) {
+
+}
@@ -7,10 +7,12 @@ import com.stag.identity.api.dto.EducationResponse;
 import com.stag.identity.api.dto.EuroBankAccount;
 import com.stag.identity.api.dto.ForeignHighSchool;
 import com.stag.identity.api.dto.HighSchool;
+import com.stag.identity.api.dto.PersonDossierResponse;
 import com.stag.identity.api.dto.PersonResponse;
 import com.stag.identity.api.dto.UpdatePersonRequest;
 import com.stag.identity.person.model.Addresses;
 import com.stag.identity.person.model.Banking;
+import com.stag.identity.person.model.Dossier;
 import com.stag.identity.person.model.Education;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
@@ -43,6 +45,9 @@ public interface PersonApiMapper {
     /// Maps education model to API response DTO.
     EducationResponse toEducationResponse(Education education);
 
+    /// Maps dossier model to API response DTO.
+    PersonDossierResponse toPersonDossierResponse(Dossier dossier);
+
     /// Maps a bank account model to API DTO with field name transformations.
     @Mapping(target = "holderName", source = "owner")
     @Mapping(target = "holderAddress", source = "address")
@@ -0,0 +1,27 @@
+package com.stag.identity.person.model;
+
+import lombok.Builder;
+
+import java.io.Serializable;
+
+/// **Dossier Model**
+///
+/// Complete person data shown on a person page: profile, addresses, banking and education.
+/// Cached as a single entry, so a page load costs one cache lookup instead of four.
+///
+/// @param profile the person profile
+/// @param addresses the person addresses
+/// @param banking the person banking information
+/// @param education the person education
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Builder
+public record Dossier(
+    Profile profile,
+    Addresses addresses,
+    Banking banking,
+    Education education
+) implements Serializable {
+
+}
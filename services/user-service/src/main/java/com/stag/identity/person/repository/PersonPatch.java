@@ -0,0 +1,77 @@
+package com.stag.identity.person.repository;
+
+import lombok.Getter;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/// **Person Patch**
+///
+/// Column changes of a single person, written by one UPDATE touching only the set columns
+/// without loading the entity.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public class PersonPatch {
+
+    /// Values of the changed columns, null clears the column
+    private final Map<Column, Object> values = new EnumMap<>(Column.class);
+
+    /// Sets the new value of a column.
+    ///
+    /// @param column the changed column
+    /// @param value the new value, null clears the column
+    /// @return this patch
+    public PersonPatch set(Column column, Object value) {
+        values.put(column, value);
+        return this;
+    }
+
+    /// Returns the values of the changed columns.
+    ///
+    /// @return unmodifiable map of changed columns to their new values
+    public Map<Column, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /// Checks whether no column is changed.
+    ///
+    /// @return true if the patch is empty
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /// Columns of `OSOBY` changed by a profile update.
+    @Getter
+    public enum Column {
+        BIRTH_SURNAME("RODNE_PRIJMENI", Types.VARCHAR),
+        EMAIL("EMAIL", Types.VARCHAR),
+        PHONE("TELEFON", Types.VARCHAR),
+        MOBILE("MOBIL", Types.VARCHAR),
+        DATA_BOX("ADRESA_DATOVE_SCHRANKY", Types.VARCHAR),
+        BIRTH_PLACE("MISTO_NAR", Types.VARCHAR),
+        BIRTH_COUNTRY_ID("STATIDNO_NARO", Types.INTEGER),
+        MARITAL_STATUS("STAV", Types.VARCHAR),
+        TITLE_PREFIX("TITUL_PRED", Types.VARCHAR),
+        TITLE_SUFFIX("TITUL_ZA", Types.VARCHAR),
+        ACCOUNT_HOLDER("UCET_MAJITEL", Types.VARCHAR),
+        ACCOUNT_ADDRESS("UCET_ADRESA", Types.VARCHAR),
+        ACCOUNT_PREFIX("UCET_PRED", Types.VARCHAR),
+        ACCOUNT_SUFFIX("UCET_ZA", Types.VARCHAR),
+        BANK_CODE("UCET_BANKA", Types.VARCHAR),
+        ACCOUNT_IBAN("UCET_IBAN", Types.VARCHAR);
+
+        /// Column name
+        private final String columnName;
+        /// JDBC type, used to bind null values
+        private final int sqlType;
+
+        Column(String columnName, int sqlType) {
+            this.columnName = columnName;
+            this.sqlType = sqlType;
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.stag.identity.person.repository;
+
+import com.stag.identity.person.repository.projection.AccountNumbersView;
+
+import java.util.Optional;
+
+/// **Person Patch Repository**
+///
+/// Column-targeted access to person data for profile updates, neither reads nor writes hydrate the `Person` entity.
+/// Implemented by [PersonPatchRepositoryImpl] and exposed through [PersonRepository].
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public interface PersonPatchRepository {
+
+    /// Finds the account numbers of a person and locks the row until the current transaction ends,
+    /// so values derived from them are written without a concurrent change in between.
+    ///
+    /// @param personId the person identifier
+    /// @return optional account numbers of the person
+    Optional<AccountNumbersView> findAccountNumbersByPersonId(Integer personId);
+
+    /// Applies a patch with a single UPDATE of the changed columns.
+    ///
+    /// @param personId the person identifier
+    /// @param patch the column changes
+    /// @return number of updated rows, 0 if the person does not exist
+    int patch(Integer personId, PersonPatch patch);
+
+}
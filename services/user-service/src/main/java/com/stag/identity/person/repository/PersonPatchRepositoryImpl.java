@@ -0,0 +1,77 @@
+package com.stag.identity.person.repository;
+
+import com.stag.identity.person.repository.projection.AccountNumbersView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/// **Person Patch Repository Implementation**
+///
+/// Native SQL implementation of [PersonPatchRepository]. Statements run on the connection
+/// of the current JPA transaction.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class PersonPatchRepositoryImpl implements PersonPatchRepository {
+
+    /// Reads the account numbers of a person and locks the row until the transaction ends
+    private static final String ACCOUNT_NUMBERS_QUERY = """
+        SELECT UCET_PRED, UCET_ZA, UCET_BANKA
+        FROM INSTALL2.OSOBY
+        WHERE OSOBIDNO = :personId
+        FOR UPDATE
+        """;
+
+    /// JDBC client
+    private final JdbcClient jdbcClient;
+
+    /// Creates the repository.
+    ///
+    /// @param dataSource the data source shared with JPA
+    public PersonPatchRepositoryImpl(DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+    }
+
+    @Override
+    public Optional<AccountNumbersView> findAccountNumbersByPersonId(Integer personId) {
+        return jdbcClient.sql(ACCOUNT_NUMBERS_QUERY)
+                         .param("personId", personId)
+                         .query((rs, _) -> new AccountNumbersView(
+                             rs.getString("UCET_PRED"),
+                             rs.getString("UCET_ZA"),
+                             rs.getString("UCET_BANKA")
+                         ))
+                         .optional();
+    }
+
+    @Override
+    public int patch(Integer personId, PersonPatch patch) {
+        if (patch.isEmpty()) {
+            return 0;
+        }
+
+        StringJoiner assignments = new StringJoiner(", ");
+        patch.getValues().keySet().forEach(column ->
+            assignments.add(column.getColumnName() + " = :" + column.name())
+        );
+
+        String sql = "UPDATE INSTALL2.OSOBY SET " + assignments + " WHERE OSOBIDNO = :personId";
+
+        var statement = jdbcClient.sql(sql)
+                                  .param("personId", personId);
+
+        for (var change : patch.getValues().entrySet()) {
+            statement = statement.param(change.getKey().name(), change.getValue(), change.getKey().getSqlType());
+        }
+
+        int updated = statement.update();
+
+        log.debug("Patched {} columns of personId: {}, updated rows: {}", patch.getValues().size(), personId, updated);
+        return updated;
+    }
+
+}
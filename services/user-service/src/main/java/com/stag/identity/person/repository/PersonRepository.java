@@ -3,20 +3,24 @@ package com.stag.identity.person.repository;
 import com.stag.identity.person.entity.Person;
 import com.stag.identity.person.repository.projection.AddressView;
 import com.stag.identity.person.repository.projection.BankView;
+import com.stag.identity.person.repository.projection.DossierView;
 import com.stag.identity.person.repository.projection.EducationView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /// **Person Repository**
 ///
 /// Data access layer for person entities.
-/// Provides methods to retrieve person data with dynamic projection support and specialized queries for addresses, banking, and education information.
+/// Provides methods to retrieve person data with dynamic projection support and specialized queries for addresses, banking, education and the combined dossier.
+/// Profile updates are written column by column through [PersonPatchRepository].
 ///
 /// @author Jakub Pavlíček
 /// @version 1.0.0
-public interface PersonRepository extends JpaRepository<Person, Integer> {
+public interface PersonRepository extends JpaRepository<Person, Integer>, PersonPatchRepository {
 
     /// Finds person by ID with dynamic projection.
     ///
@@ -26,6 +30,15 @@ public interface PersonRepository extends JpaRepository<Person, Integer> {
     /// @return optional person data projected to a specified type
     <T> Optional<T> findById(Integer id, Class<T> clazz);
 
+    /// Finds persons by IDs with dynamic projection, using a single IN query.
+    /// Missing persons are omitted, the order of the results is not defined.
+    ///
+    /// @param ids the person identifiers
+    /// @param clazz the projection class type
+    /// @param <T> the projection type
+    /// @return persons data projected to a specified type
+    <T> List<T> findByIdIn(Collection<Integer> ids, Class<T> clazz);
+
     /// Finds comprehensive address data for a person including domicile, temporary, and foreign addresses.
     ///
     /// @param personId the person identifier
@@ -120,4 +133,88 @@ public interface PersonRepository extends JpaRepository<Person, Integer> {
     )
     Optional<EducationView> findEducationByPersonId(Integer personId);
 
+    /// Finds all dossier data of a person (profile, addresses, banking and education) with a single query.
+    ///
+    /// @param personId the person identifier
+    /// @return optional dossier view with all person data parts
+    @Query(
+        """
+        SELECT new com.stag.identity.person.repository.projection.DossierView(
+            p.id,
+            p.firstName,
+            p.lastName,
+            p.birthSurname,
+            p.email,
+            p.phone,
+            p.mobile,
+            p.dataBox,
+            p.titlePrefix,
+            p.titleSuffix,
+            p.birthNumber,
+            p.birthDate,
+            CAST(p.birthCountryId AS Integer),
+            p.birthPlace,
+            CAST(p.citizenshipCountryId AS Integer),
+            p.citizenshipQualification,
+            p.passportNumber,
+            p.gender,
+            p.maritalStatus,
+
+            p.street,
+            p.streetNumber,
+            p.domicileZipCode,
+            CAST(p.domicileMunicipalityPartId AS Long),
+            CAST(p.domicileCountryId AS Integer),
+
+            p.temporaryStreet,
+            p.temporaryStreetNumber,
+            p.temporaryZipCode,
+            CAST(p.temporaryMunicipalityPartId AS Long),
+            CAST(p.temporaryCountryId AS Integer),
+
+            p.zipCodeForeign,
+            p.municipalityForeign,
+            p.districtForeign,
+            p.postOfficeForeign,
+
+            p.temporaryZipCodeForeign,
+            p.temporaryMunicipalityForeign,
+            p.temporaryDistrictForeign,
+            p.temporaryPostOfficeForeign,
+
+            p.accountHolder,
+            p.accountAddress,
+            p.accountPrefix,
+            p.accountSuffix,
+            p.bankCode,
+            p.accountIban,
+            p.accountCurrency,
+
+            p.euroAccountHolder,
+            p.euroAccountAddress,
+            p.euroAccountPrefix,
+            p.euroAccountSuffix,
+            p.euroBankCode,
+            p.euroAccountIban,
+            p.euroAccountCurrency,
+            CAST(p.euroAccountCountryId AS Integer),
+            p.euroAccountSwiftCode,
+
+            p.highSchoolId,
+            p.highSchoolFieldOfStudyNumber,
+            CAST(p.highSchoolCountryId AS Integer),
+            p.graduationDate,
+
+            p.highSchoolForeign,
+            p.highSchoolForeignPlace,
+            p.highSchoolForeignFieldOfStudy
+        )
+        FROM
+            Person p
+        WHERE
+            p.id = :personId
+        """
+    )
+    Optional<DossierView> findDossierByPersonId(Integer personId);
+
 }
@@ -0,0 +1,19 @@
+package com.stag.identity.person.repository.projection;
+
+/// **Account Numbers View Projection**
+///
+/// Czech bank account numbers of a person, the columns the IBAN is derived from.
+///
+/// @param accountPrefix the account prefix
+/// @param accountSuffix the account suffix
+/// @param bankCode the bank code
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record AccountNumbersView(
+    String accountPrefix,
+    String accountSuffix,
+    String bankCode
+) {
+
+}
@@ -0,0 +1,193 @@
+package com.stag.identity.person.repository.projection;
+
+import java.time.LocalDate;
+
+/// **Dossier View Projection**
+///
+/// Combined view of a person's profile, addresses, banking and education read with a single query.
+/// Used for dossier retrieval, the parts are split into the views of the single-part endpoints,
+/// so they are enriched and mapped the same way.
+///
+/// @param id the person ID
+/// @param firstName the first name
+/// @param lastName the last name
+/// @param birthSurname the birth surname
+/// @param email the email address
+/// @param phone the phone number
+/// @param mobile the mobile phone number
+/// @param dataBox the data box ID
+/// @param titlePrefix the title prefix
+/// @param titleSuffix the title suffix
+/// @param birthNumber the birth number
+/// @param birthDate the birthdate
+/// @param birthCountryId the birth country ID
+/// @param birthPlace the birthplace
+/// @param citizenshipCountryId the citizenship country ID
+/// @param citizenshipQualification the citizenship qualification
+/// @param passportNumber the passport number
+/// @param gender the gender
+/// @param maritalStatus the marital status
+/// @param permanentStreet the permanent street address
+/// @param permanentStreetNumber the permanent street number
+/// @param permanentZipCode the permanent ZIP code
+/// @param permanentMunicipalityPartId the permanent municipality part ID
+/// @param permanentCountryId the permanent country ID
+/// @param temporaryStreet the temporary street address
+/// @param temporaryStreetNumber the temporary street number
+/// @param temporaryZipCode the temporary ZIP code
+/// @param temporaryMunicipalityPartId the temporary municipality part ID
+/// @param temporaryCountryId the temporary country ID
+/// @param foreignPermanentZipCode the foreign permanent ZIP code
+/// @param foreignPermanentMunicipality the foreign permanent municipality
+/// @param foreignPermanentDistrict the foreign permanent district
+/// @param foreignPermanentPostOffice the foreign permanent post office
+/// @param foreignTemporaryZipCode the foreign temporary ZIP code
+/// @param foreignTemporaryMunicipality the foreign temporary municipality
+/// @param foreignTemporaryDistrict the foreign temporary district
+/// @param foreignTemporaryPostOffice the foreign temporary post office
+/// @param accountOwner the account owner name
+/// @param accountAddress the account address
+/// @param accountPrefix the account prefix
+/// @param accountSuffix the account suffix
+/// @param accountBank the account bank code
+/// @param accountIban the account IBAN
+/// @param accountCurrency the account currency code
+/// @param euroAccountOwner the euro account owner name
+/// @param euroAccountAddress the euro account address
+/// @param euroAccountPrefix the euro account prefix
+/// @param euroAccountSuffix the euro account suffix
+/// @param euroAccountBank the euro account bank code
+/// @param euroAccountIban the euro account IBAN
+/// @param euroAccountCurrency the euro account currency code
+/// @param euroAccountCountryId the euro account country ID
+/// @param euroAccountSwiftCode the euro account SWIFT code
+/// @param highSchoolId the high school ID
+/// @param highSchoolFieldOfStudyNumber the high school field of study number
+/// @param highSchoolCountryId the high school country ID
+/// @param graduationDate the high school graduation date
+/// @param highSchoolForeign the foreign high school name
+/// @param highSchoolForeignPlace the foreign high school location
+/// @param highSchoolForeignFieldOfStudy the foreign high school field of study
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record DossierView(
+    // Profile Information
+    Integer id,
+    String firstName,
+    String lastName,
+    String birthSurname,
+    String email,
+    String phone,
+    String mobile,
+    String dataBox,
+    String titlePrefix,
+    String titleSuffix,
+    String birthNumber,
+    LocalDate birthDate,
+    Integer birthCountryId,
+    String birthPlace,
+    Integer citizenshipCountryId,
+    String citizenshipQualification,
+    String passportNumber,
+    String gender,
+    String maritalStatus,
+
+    // Address Information
+    String permanentStreet,
+    String permanentStreetNumber,
+    String permanentZipCode,
+    Long permanentMunicipalityPartId,
+    Integer permanentCountryId,
+
+    String temporaryStreet,
+    String temporaryStreetNumber,
+    String temporaryZipCode,
+    Long temporaryMunicipalityPartId,
+    Integer temporaryCountryId,
+
+    String foreignPermanentZipCode,
+    String foreignPermanentMunicipality,
+    String foreignPermanentDistrict,
+    String foreignPermanentPostOffice,
+
+    String foreignTemporaryZipCode,
+    String foreignTemporaryMunicipality,
+    String foreignTemporaryDistrict,
+    String foreignTemporaryPostOffice,
+
+    // Banking Information
+    String accountOwner,
+    String accountAddress,
+    String accountPrefix,
+    String accountSuffix,
+    String accountBank,
+    String accountIban,
+    String accountCurrency,
+
+    String euroAccountOwner,
+    String euroAccountAddress,
+    String euroAccountPrefix,
+    String euroAccountSuffix,
+    String euroAccountBank,
+    String euroAccountIban,
+    String euroAccountCurrency,
+    Integer euroAccountCountryId,
+    String euroAccountSwiftCode,
+
+    // High School Information
+    String highSchoolId,
+    String highSchoolFieldOfStudyNumber,
+    Integer highSchoolCountryId,
+    LocalDate graduationDate,
+
+    String highSchoolForeign,
+    String highSchoolForeignPlace,
+    String highSchoolForeignFieldOfStudy
+) {
+
+    /// Returns the profile part of the dossier.
+    ///
+    /// @return profile view
+    public ProfileView toProfileView() {
+        return new ProfileView(
+            id, firstName, lastName, birthSurname, email, phone, mobile, dataBox,
+            titlePrefix, titleSuffix, birthNumber, birthDate, birthCountryId, birthPlace,
+            citizenshipCountryId, citizenshipQualification, passportNumber, gender, maritalStatus
+        );
+    }
+
+    /// Returns the address part of the dossier.
+    ///
+    /// @return address view
+    public AddressView toAddressView() {
+        return new AddressView(
+            permanentStreet, permanentStreetNumber, permanentZipCode, permanentMunicipalityPartId, permanentCountryId,
+            temporaryStreet, temporaryStreetNumber, temporaryZipCode, temporaryMunicipalityPartId, temporaryCountryId,
+            foreignPermanentZipCode, foreignPermanentMunicipality, foreignPermanentDistrict, foreignPermanentPostOffice,
+            foreignTemporaryZipCode, foreignTemporaryMunicipality, foreignTemporaryDistrict, foreignTemporaryPostOffice
+        );
+    }
+
+    /// Returns the banking part of the dossier.
+    ///
+    /// @return bank view
+    public BankView toBankView() {
+        return new BankView(
+            accountOwner, accountAddress, accountPrefix, accountSuffix, accountBank, accountIban, accountCurrency,
+            euroAccountOwner, euroAccountAddress, euroAccountPrefix, euroAccountSuffix, euroAccountBank,
+            euroAccountIban, euroAccountCurrency, euroAccountCountryId, euroAccountSwiftCode
+        );
+    }
+
+    /// Returns the education part of the dossier.
+    ///
+    /// @return education view
+    public EducationView toEducationView() {
+        return new EducationView(
+            highSchoolId, highSchoolFieldOfStudyNumber, highSchoolCountryId, graduationDate,
+            highSchoolForeign, highSchoolForeignPlace, highSchoolForeignFieldOfStudy
+        );
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.stag.identity.person.repository.projection;
+
+/// **Identified Simple Profile View Projection**
+///
+/// Simple profile view together with the person ID.
+/// Used for batch retrieval, where the rows of a single query have to be matched to the requested persons.
+///
+/// @param id the person ID
+/// @param firstName the first name
+/// @param lastName the last name
+/// @param titlePrefix the title prefix
+/// @param titleSuffix the title suffix
+/// @param gender the gender
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record IdentifiedSimpleProfileView(
+    Integer id,
+    String firstName,
+    String lastName,
+    String titlePrefix,
+    String titleSuffix,
+    String gender
+) {
+
+    /// Returns the simple profile view without the person ID.
+    ///
+    /// @return simple profile view
+    public SimpleProfileView toSimpleProfileView() {
+        return new SimpleProfileView(firstName, lastName, titlePrefix, titleSuffix, gender);
+    }
+
+}
@@ -46,7 +46,7 @@ public class AddressService {
     @Cacheable(value = "person-addresses", key = "{#personId, #language}")
     @PreAuthorize("""
         hasAnyRole('AD', 'DE', 'PR', 'SR', 'SP', 'VY', 'VK')
-        || (principal.isStudent() && @authorizationService.isStudentOwner(principal.studentId, #personId))
+        || (principal.isStudent() && @authorizationService.isStudentOwner(principal, #personId))
     """)
     public Addresses getPersonAddresses(Integer personId, String language) {
         log.info("Fetching person addresses for personId: {} with language: {}", personId, language);
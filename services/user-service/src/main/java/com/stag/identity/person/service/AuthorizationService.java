@@ -1,5 +1,6 @@
 package com.stag.identity.person.service;
 
+import com.stag.identity.shared.config.GatewayAuthenticatedUser;
 import com.stag.identity.shared.grpc.client.StudentClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Service;
 ///
 /// Security authorization logic for person data access control.
 /// Validates that students can only access their own profile data by comparing student ID to person ID ownership.
+/// The person ID forwarded by the gateway is compared locally, the student service is only asked
+/// for tokens issued before the `personId` claim existed.
 ///
 /// @author Jakub Pavlíček
 /// @version 1.0.0
@@ -23,11 +26,16 @@ public class AuthorizationService {
     /// Checks if the student owns the requested person profile.
     /// Used in @PreAuthorize expressions to enforce data access restrictions.
     ///
-    /// @param studentId the student identifier from JWT claims
+    /// @param principal the authenticated student
     /// @param personId the requested person identifier
     /// @return true if a student owns the person profile, false otherwise
-    public boolean isStudentOwner(String studentId, Integer personId) {
-        Integer studentPersonId = studentClient.getStudentPersonId(studentId);
+    public boolean isStudentOwner(GatewayAuthenticatedUser principal, Integer personId) {
+        if (principal.personId() != null) {
+            return principal.personId().equals(personId);
+        }
+
+        log.debug("No person ID forwarded for student {}, resolving it via student service", principal.studentId());
+        Integer studentPersonId = studentClient.getStudentPersonId(principal.studentId());
         return studentPersonId.equals(personId);
     }
 
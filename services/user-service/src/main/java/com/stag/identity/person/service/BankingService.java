@@ -1,11 +1,13 @@
 package com.stag.identity.person.service;
 
-import com.stag.identity.person.entity.Person;
 import com.stag.identity.person.exception.InvalidBankAccountException;
 import com.stag.identity.person.exception.PersonNotFoundException;
 import com.stag.identity.person.mapper.BankingMapper;
 import com.stag.identity.person.model.Banking;
+import com.stag.identity.person.repository.PersonPatch;
+import com.stag.identity.person.repository.PersonPatch.Column;
 import com.stag.identity.person.repository.PersonRepository;
+import com.stag.identity.person.repository.projection.AccountNumbersView;
 import com.stag.identity.person.repository.projection.BankView;
 import com.stag.identity.person.service.data.BankingLookupData;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
@@ -52,7 +54,7 @@ public class BankingService {
     @Cacheable(value = "person-banking", key = "{#personId, #language}")
     @PreAuthorize("""
         hasAnyRole('AD', 'DE', 'PR', 'SR', 'SP', 'VY', 'VK')
-        || (principal.isStudent() && @authorizationService.isStudentOwner(principal.studentId, #personId))
+        || (principal.isStudent() && @authorizationService.isStudentOwner(principal, #personId))
     """)
     public Banking getPersonBanking(Integer personId, String language) {
         log.info("Fetching person banking information for personId: {} with language: {}", personId, language);
@@ -73,49 +75,57 @@ public class BankingService {
     /// Updates person bank account information with validation and IBAN generation.
     /// Validates Czech account number checksums, enforces required field combinations, and automatically generates IBAN for Czech accounts.
     /// Allows clearing an account by providing all null values.
+    /// Changes are added to the patch, only the three account number columns are read to derive the IBAN,
+    /// and the row stays locked until the patch is written in the same transaction.
     ///
-    /// @param person the person entity to update
+    /// @param personId the person identifier
+    /// @param patch the patch collecting the column changes
     /// @param bankAccount the new bank account data
     /// @throws InvalidBankAccountException if an account combination is invalid
-    public void updatePersonBankAccount(Person person, PersonUpdateCommand.BankAccount bankAccount) {
+    /// @throws PersonNotFoundException if person not found
+    public void updatePersonBankAccount(Integer personId, PersonPatch patch, PersonUpdateCommand.BankAccount bankAccount) {
         if (bankAccount == null) {
-            log.debug("Bank account is null, no updates to perform for personId: {}", person.getId());
+            log.debug("Bank account is null, no updates to perform for personId: {}", personId);
             return;
         }
 
-        log.info("Updating bank account for personId: {}", person.getId());
+        log.info("Updating bank account for personId: {}", personId);
 
         // Update account holder and address
-        person.setAccountHolder(bankAccount.holderName());
-        person.setAccountAddress(bankAccount.holderAddress());
+        patch.set(Column.ACCOUNT_HOLDER, bankAccount.holderName())
+             .set(Column.ACCOUNT_ADDRESS, bankAccount.holderAddress());
 
         // User wants to remove his bank account (all fields explicitly null)
         if (bankAccount.bankCode() == null && bankAccount.prefix() == null && bankAccount.suffix() == null) {
-            clearBankAccount(person);
+            clearBankAccount(personId, patch);
             return;
         }
 
         // Validate the bank account numbers combination
         validateBankAccountCombination(bankAccount.prefix(), bankAccount.suffix(), bankAccount.bankCode());
 
+        AccountNumbersView currentAccountNumbers = personRepository.findAccountNumbersByPersonId(personId)
+                                                                   .orElseThrow(() -> new PersonNotFoundException(personId));
+
         // Update account numbers with checksum validation
-        updateAccountNumbers(person, bankAccount);
+        AccountNumbersView accountNumbers = updateAccountNumbers(patch, bankAccount, currentAccountNumbers);
 
         // Update IBAN using current or new values
-        updateIban(person, bankAccount);
+        updateIban(personId, patch, bankAccount, accountNumbers);
 
-        log.info("Successfully updated bank account for personId: {}", person.getId());
+        log.info("Successfully updated bank account for personId: {}", personId);
     }
 
     /// Clears all bank account fields for the person.
     ///
-    /// @param person the person entity to update
-    private void clearBankAccount(Person person) {
-        log.info("Clearing bank account for personId: {}", person.getId());
-        person.setBankCode(null);
-        person.setAccountPrefix(null);
-        person.setAccountSuffix(null);
-        person.setAccountIban(null);
+    /// @param personId the person identifier
+    /// @param patch the patch collecting the column changes
+    private void clearBankAccount(Integer personId, PersonPatch patch) {
+        log.info("Clearing bank account for personId: {}", personId);
+        patch.set(Column.BANK_CODE, null)
+             .set(Column.ACCOUNT_PREFIX, null)
+             .set(Column.ACCOUNT_SUFFIX, null)
+             .set(Column.ACCOUNT_IBAN, null);
     }
 
     /// Validates required field combinations for Czech bank account numbers.
@@ -148,49 +158,70 @@ public class BankingService {
     /// Validates prefix and suffix using Czech bank account checksum algorithm.
     /// Prefix can be cleared by providing a null value.
     ///
-    /// @param person the person entity to update
+    /// @param patch the patch collecting the column changes
     /// @param bankAccount the new bank account data
+    /// @param current the current account numbers
+    /// @return account numbers after the update
     /// @throws InvalidBankAccountException if checksum validation fails
-    private void updateAccountNumbers(Person person, PersonUpdateCommand.BankAccount bankAccount) {
+    private AccountNumbersView updateAccountNumbers(
+        PersonPatch patch,
+        PersonUpdateCommand.BankAccount bankAccount,
+        AccountNumbersView current
+    ) {
         log.info("Updating account numbers with checksum validation");
 
-        person.setBankCode(bankAccount.bankCode());
+        patch.set(Column.BANK_CODE, bankAccount.bankCode());
+
+        String prefix = current.accountPrefix();
+        String suffix = current.accountSuffix();
 
         // User can remove the prefix
         if (bankAccount.prefix() == null) {
-            person.setAccountPrefix(null);
+            patch.set(Column.ACCOUNT_PREFIX, null);
+            prefix = null;
         }
 
         // Validate and update prefix
         if (BankAccountValidator.isValidChecksum(bankAccount.prefix())) {
             log.debug("Prefix checksum validation passed");
-            person.setAccountPrefix(bankAccount.prefix());
+            patch.set(Column.ACCOUNT_PREFIX, bankAccount.prefix());
+            prefix = bankAccount.prefix();
         }
+
         // Validate and update suffix
         if (BankAccountValidator.isValidChecksum(bankAccount.suffix())) {
             log.debug("Suffix checksum validation passed");
-            person.setAccountSuffix(bankAccount.suffix());
+            patch.set(Column.ACCOUNT_SUFFIX, bankAccount.suffix());
+            suffix = bankAccount.suffix();
         }
+
+        return new AccountNumbersView(prefix, suffix, bankAccount.bankCode());
     }
 
     /// Updates IBAN using current or new account values.
     /// Generates Czech IBAN (CZ) from prefix, suffix, and bank code with proper padding.
-    /// Clears IBAN if bank code is not present.
     ///
-    /// @param person the person entity to update
+    /// @param personId the person identifier
+    /// @param patch the patch collecting the column changes
     /// @param bankAccount the new bank account data
-    private void updateIban(Person person, PersonUpdateCommand.BankAccount bankAccount) {
-        log.info("Updating IBAN for personId: {}", person.getId());
-
-        String prefix = bankAccount.prefix() != null ? bankAccount.prefix() : person.getAccountPrefix();
-        String suffix = bankAccount.suffix() != null ? bankAccount.suffix() : person.getAccountSuffix();
-        String bankCode = bankAccount.bankCode() != null ? bankAccount.bankCode() : person.getBankCode();
+    /// @param accountNumbers the account numbers after the update
+    private void updateIban(
+        Integer personId,
+        PersonPatch patch,
+        PersonUpdateCommand.BankAccount bankAccount,
+        AccountNumbersView accountNumbers
+    ) {
+        log.info("Updating IBAN for personId: {}", personId);
+
+        String prefix = bankAccount.prefix() != null ? bankAccount.prefix() : accountNumbers.accountPrefix();
+        String suffix = bankAccount.suffix() != null ? bankAccount.suffix() : accountNumbers.accountSuffix();
+        String bankCode = bankAccount.bankCode() != null ? bankAccount.bankCode() : accountNumbers.bankCode();
 
         Iban iban = generateIban(prefix, suffix, bankCode);
 
-        log.debug("IBAN generated successfully for personId: {}", person.getId());
+        log.debug("IBAN generated successfully for personId: {}", personId);
 
-        person.setAccountIban(iban.toString());
+        patch.set(Column.ACCOUNT_IBAN, iban.toString());
     }
 
     /// Generates Czech IBAN from account components.
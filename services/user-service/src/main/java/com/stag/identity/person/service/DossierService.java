@@ -0,0 +1,115 @@
+package com.stag.identity.person.service;
+
+import com.stag.identity.person.exception.PersonNotFoundException;
+import com.stag.identity.person.exception.PersonProfileFetchException;
+import com.stag.identity.person.mapper.AddressMapper;
+import com.stag.identity.person.mapper.BankingMapper;
+import com.stag.identity.person.mapper.EducationMapper;
+import com.stag.identity.person.mapper.ProfileMapper;
+import com.stag.identity.person.model.Dossier;
+import com.stag.identity.person.repository.PersonRepository;
+import com.stag.identity.person.repository.projection.DossierView;
+import com.stag.identity.person.service.data.DossierLookupData;
+import com.stag.identity.shared.grpc.client.CodelistClient;
+import com.stag.identity.shared.grpc.client.StudentClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.StructuredTaskScope;
+
+import static java.util.concurrent.StructuredTaskScope.Joiner.allSuccessfulOrThrow;
+
+/// **Dossier Service**
+///
+/// Business logic for the person dossier, the profile, addresses, banking and education of a person in one response.
+/// Replaces four separate requests of a person page with one database read, one codelist enrichment call,
+/// one authorization check and one cache entry.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DossierService {
+
+    /// Person Repository
+    private final PersonRepository personRepository;
+
+    /// gRPC Student Client
+    private final StudentClient studentClient;
+    /// gRPC Codelist Client
+    private final CodelistClient codelistClient;
+
+    /// Transaction Template for transaction management
+    private final TransactionTemplate transactionTemplate;
+
+    /// Retrieves the complete person dossier with enriched codelist data and student IDs.
+    /// Fetches the combined dossier projection, then loads student IDs and localized codelist data of all parts concurrently.
+    /// Result is cached per person ID and language, concurrent misses of the same key are coalesced into a single load.
+    ///
+    /// @param personId the person identifier
+    /// @param language the language code for codelist localization
+    /// @return complete dossier with localized data
+    /// @throws PersonNotFoundException if person not found
+    @Cacheable(value = "person-dossier", key = "{#personId, #language}", sync = true)
+    @PreAuthorize("""
+        hasAnyRole('AD', 'DE', 'PR', 'SR', 'SP', 'VY', 'VK')
+        || (principal.isStudent() && @authorizationService.isStudentOwner(principal, #personId))
+    """)
+    public Dossier getPersonDossier(Integer personId, String language) {
+        log.info("Fetching person dossier for personId: {} with language: {}", personId, language);
+
+        DossierView dossierView = transactionTemplate.execute(_ ->
+            personRepository.findDossierByPersonId(personId)
+                            .orElseThrow(() -> new PersonNotFoundException(personId))
+        );
+
+        try (var scope = StructuredTaskScope.open(allSuccessfulOrThrow())) {
+            var studentIdsTask = scope.fork(
+                () -> studentClient.getStudentIds(personId)
+            );
+
+            var dossierDataTask = scope.fork(
+                () -> codelistClient.getPersonDossierData(dossierView, language)
+            );
+
+            scope.join();
+
+            DossierLookupData dossierData = dossierDataTask.get();
+
+            Dossier dossier = Dossier.builder()
+                                     .profile(ProfileMapper.INSTANCE.toPersonProfile(
+                                         dossierView.toProfileView(), studentIdsTask.get(), dossierData.profile()
+                                     ))
+                                     .addresses(AddressMapper.INSTANCE.toPersonAddresses(
+                                         dossierView.toAddressView(), dossierData.addresses()
+                                     ))
+                                     .banking(BankingMapper.INSTANCE.toPersonBanking(
+                                         dossierView.toBankView(), dossierData.banking()
+                                     ))
+                                     .education(EducationMapper.INSTANCE.toPersonEducation(
+                                         dossierView.toEducationView(), dossierData.education()
+                                     ))
+                                     .build();
+
+            log.info("Successfully fetched person dossier for personId: {}", personId);
+            return dossier;
+        } catch (StructuredTaskScope.FailedException e) {
+            // Re-throw known exceptions untouched
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            // Wrap unknown checked exceptions
+            throw new PersonProfileFetchException(personId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersonProfileFetchException(personId, e);
+        }
+    }
+
+}
@@ -1,30 +1,44 @@
 package com.stag.identity.person.service;
 
-import com.stag.identity.person.entity.Person;
+import com.stag.identity.person.event.PersonProfileUpdatedEvent;
 import com.stag.identity.person.exception.PersonNotFoundException;
 import com.stag.identity.person.exception.PersonProfileFetchException;
 import com.stag.identity.person.mapper.ProfileMapper;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.model.SimpleProfile;
+import com.stag.identity.person.repository.PersonPatch;
+import com.stag.identity.person.repository.PersonPatch.Column;
 import com.stag.identity.person.repository.PersonRepository;
+import com.stag.identity.person.repository.projection.IdentifiedSimpleProfileView;
 import com.stag.identity.person.repository.projection.ProfileView;
 import com.stag.identity.person.repository.projection.SimpleProfileView;
 import com.stag.identity.person.service.data.CodelistMeaningsLookupData;
 import com.stag.identity.person.service.data.ProfileUpdateLookupData;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
 import com.stag.identity.person.util.DataBoxValidator;
+import com.stag.identity.shared.cache.CacheBatches;
 import com.stag.identity.shared.grpc.client.CodelistClient;
 import com.stag.identity.shared.grpc.client.StudentClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.StructuredTaskScope;
 
 import static java.util.concurrent.StructuredTaskScope.Joiner.allSuccessfulOrThrow;
@@ -41,6 +55,9 @@ import static java.util.concurrent.StructuredTaskScope.Joiner.allSuccessfulOrThr
 @Service
 public class ProfileService {
 
+    /// Cache of simple profiles
+    private static final String SIMPLE_PROFILE_CACHE = "person-simple-profile";
+
     /// Person Repository
     private final PersonRepository personRepository;
 
@@ -55,18 +72,27 @@ public class ProfileService {
     /// Transaction Template for transaction management
     private final TransactionTemplate transactionTemplate;
 
+    /// Application Event Publisher
+    private final ApplicationEventPublisher eventPublisher;
+
+    /// Meter Registry
+    private final MeterRegistry meterRegistry;
+
+    /// Cache Manager
+    private final CacheManager cacheManager;
+
     /// Retrieves a full person profile with enriched codelist data and student IDs.
     /// Fetches profile projection, then loads student IDs and localized codelist meanings.
-    /// Result is cached per person ID and language.
+    /// Result is cached per person ID and language, concurrent misses of the same key are coalesced into a single load.
     ///
     /// @param personId the person identifier
     /// @param language the language code for codelist localization
     /// @return complete profile with localized data
     /// @throws PersonNotFoundException if person not found
-    @Cacheable(value = "person-profile", key = "{#personId, #language}")
+    @Cacheable(value = "person-profile", key = "{#personId, #language}", sync = true)
     @PreAuthorize("""
         hasAnyRole('AD', 'DE', 'PR', 'SR', 'SP', 'VY', 'VK')
-        || (principal.isStudent() && @authorizationService.isStudentOwner(principal.studentId, #personId))
+        || (principal.isStudent() && @authorizationService.isStudentOwner(principal, #personId))
     """)
     public Profile getPersonProfile(Integer personId, String language) {
         log.info("Fetching person profile for personId: {} with language: {}", personId, language);
@@ -115,7 +141,7 @@ public class ProfileService {
     /// @param language the language code for codelist localization
     /// @return simple profile with localized data
     /// @throws PersonNotFoundException if person not found
-    @Cacheable(value = "person-simple-profile", key = "{#personId, #language}")
+    @Cacheable(value = SIMPLE_PROFILE_CACHE, key = "{#personId, #language}")
     public SimpleProfile getPersonSimpleProfile(Integer personId, String language) {
         log.info("Fetching person simple profile for personId: {} with language: {}", personId, language);
 
@@ -135,14 +161,62 @@ public class ProfileService {
         return simpleProfile;
     }
 
+    /// Retrieves simplified profiles of several persons with basic localized codelist data.
+    /// Cached profiles of all persons are read at once, the missing ones are loaded with a single query
+    /// and a single codelist lookup of their merged codelist keys.
+    /// Loaded profiles are cached in the entries shared with [#getPersonSimpleProfile(Integer, String)].
+    ///
+    /// @param personIds the person identifiers
+    /// @param language the language code for codelist localization
+    /// @return simple profiles by person ID in the order of the identifiers, persons not found are omitted
+    public Map<Integer, SimpleProfile> getPersonSimpleProfiles(List<Integer> personIds, String language) {
+        log.info("Fetching person simple profiles for {} persons with language: {}", personIds.size(), language);
+
+        Set<Integer> distinctIds = new LinkedHashSet<>(personIds);
+        Cache cache = cacheManager.getCache(SIMPLE_PROFILE_CACHE);
+
+        Map<List<Object>, SimpleProfile> cached = cache == null
+            ? Map.of()
+            : CacheBatches.getAll(cache, distinctIds.stream().map(id -> simpleProfileKey(id, language)).toList(), SimpleProfile.class);
+
+        List<Integer> missingIds = distinctIds.stream()
+                                              .filter(id -> !cached.containsKey(simpleProfileKey(id, language)))
+                                              .toList();
+
+        Map<Integer, SimpleProfile> loaded = missingIds.isEmpty()
+            ? Map.of()
+            : loadPersonSimpleProfiles(missingIds, language);
+
+        if (cache != null && !loaded.isEmpty()) {
+            Map<List<Object>, SimpleProfile> entries = new HashMap<>();
+            loaded.forEach((id, simpleProfile) -> entries.put(simpleProfileKey(id, language), simpleProfile));
+            CacheBatches.putAll(cache, entries);
+        }
+
+        Map<Integer, SimpleProfile> simpleProfiles = new LinkedHashMap<>();
+        for (Integer id : distinctIds) {
+            SimpleProfile simpleProfile = cached.getOrDefault(simpleProfileKey(id, language), loaded.get(id));
+            if (simpleProfile != null) {
+                simpleProfiles.put(id, simpleProfile);
+            }
+        }
+
+        log.info("Successfully fetched {} person simple profiles, {} from cache", simpleProfiles.size(), cached.size());
+        return simpleProfiles;
+    }
+
     /// Updates person profile information including contact details, banking, and personal data.
-    /// Validates codelist values (marital status, birth country, titles) via codelist service.
-    /// Evicts all related caches (profiles, banking, student) after a successful update.
+    /// Validates codelist values (marital status, birth country, titles) via codelist service before the transaction
+    /// is opened, so no database connection is held during the remote call and its retries.
+    /// Changes are then applied in a short transaction whose duration is recorded as the connection hold time,
+    /// as a single UPDATE of the changed columns.
+    /// Evicts all related caches (profiles, banking, dossier) after a successful update.
+    /// Publishes a [PersonProfileUpdatedEvent], the student profiles of the person are evicted by student-service
+    /// once the update commits.
     ///
     /// @param personId the person identifier
     /// @param command the update command containing new profile data
     /// @throws PersonNotFoundException if person not found
-    @Transactional
     @Caching(evict = {
         @CacheEvict(value = "person-profile", key = "{#personId, 'cs'}"),
         @CacheEvict(value = "person-profile", key = "{#personId, 'en'}"),
@@ -150,26 +224,17 @@ public class ProfileService {
         @CacheEvict(value = "person-simple-profile", key = "{#personId, 'en'}"),
         @CacheEvict(value = "person-banking", key = "{#personId, 'cs'}"),
         @CacheEvict(value = "person-banking", key = "{#personId, 'en'}"),
-        @CacheEvict(value = "student-profile", allEntries = true)
+        @CacheEvict(value = "person-dossier", key = "{#personId, 'cs'}"),
+        @CacheEvict(value = "person-dossier", key = "{#personId, 'en'}")
     })
     @PreAuthorize("""
         hasRole('AD')
-        || (principal.isStudent() && @authorizationService.isStudentOwner(principal.studentId, #personId))
+        || (principal.isStudent() && @authorizationService.isStudentOwner(principal, #personId))
     """)
     public void updatePersonProfile(Integer personId, PersonUpdateCommand command) {
         log.info("Updating person profile for personId: {}", personId);
 
-        Person person = personRepository.findById(personId)
-                                        .orElseThrow(() -> new PersonNotFoundException(personId));
-
-        person.setBirthSurname(command.birthSurname());
-        updateContact(person, command.contact());
-        bankingService.updatePersonBankAccount(person, command.bankAccount());
-
         Profile.BirthPlace birthPlace = command.birthPlace();
-        if (birthPlace != null) {
-            person.setBirthPlace(birthPlace.city());
-        }
 
         // Check if provided data are valid by calling the codelist-service and get the birthCountryId
         ProfileUpdateLookupData profileUpdateLookupData = codelistClient.getPersonProfileUpdateData(
@@ -178,40 +243,123 @@ public class ProfileService {
             command.titles()
         );
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+
+        try {
+            transactionTemplate.execute(_ -> {
+                applyProfileUpdate(personId, command, profileUpdateLookupData);
+                return null;
+            });
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("person.profile.update.transaction")
+                             .description("Time a profile update holds a database connection")
+                             .tag("outcome", outcome)
+                             .register(meterRegistry));
+        }
+
+        log.info("Successfully updated person profile for personId: {}", personId);
+    }
+
+    /// Loads simple profiles of persons with one query and one codelist lookup shared by all of them.
+    ///
+    /// @param personIds the person identifiers
+    /// @param language the language code for codelist localization
+    /// @return simple profiles by person ID, persons not found are omitted
+    private Map<Integer, SimpleProfile> loadPersonSimpleProfiles(List<Integer> personIds, String language) {
+        List<IdentifiedSimpleProfileView> views = transactionTemplate.execute(_ ->
+            personRepository.findByIdIn(personIds, IdentifiedSimpleProfileView.class)
+        );
+
+        if (views == null || views.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, SimpleProfileView> simpleProfileViews = new HashMap<>();
+        views.forEach(view -> simpleProfileViews.put(view.id(), view.toSimpleProfileView()));
+
+        CodelistMeaningsLookupData codelistMeaningsLookupData =
+            codelistClient.getSimpleProfilesData(simpleProfileViews.values(), language);
+
+        Map<Integer, SimpleProfile> simpleProfiles = new HashMap<>();
+        simpleProfileViews.forEach((id, view) -> simpleProfiles.put(
+            id, ProfileMapper.INSTANCE.toSimplePersonProfile(view, codelistMeaningsLookupData)
+        ));
+        return simpleProfiles;
+    }
+
+    /// Builds the key of a `person-simple-profile` entry, equal to the key of the `@Cacheable` method.
+    ///
+    /// @param personId the person identifier
+    /// @param language the language code
+    /// @return cache key
+    private static List<Object> simpleProfileKey(Integer personId, String language) {
+        return List.of(personId, language);
+    }
+
+    /// Applies a profile update with already resolved codelist values.
+    /// Changes are written by a single UPDATE of the changed columns without loading the person.
+    /// Must be called within a transaction.
+    ///
+    /// @param personId the person identifier
+    /// @param command the update command containing new profile data
+    /// @param profileUpdateLookupData the codelist values resolved for the command, may be null
+    /// @throws PersonNotFoundException if person not found
+    private void applyProfileUpdate(
+        Integer personId,
+        PersonUpdateCommand command,
+        ProfileUpdateLookupData profileUpdateLookupData
+    ) {
+        PersonPatch patch = new PersonPatch().set(Column.BIRTH_SURNAME, command.birthSurname());
+
+        updateContact(personId, patch, command.contact());
+        bankingService.updatePersonBankAccount(personId, patch, command.bankAccount());
+
+        Profile.BirthPlace birthPlace = command.birthPlace();
+        if (birthPlace != null) {
+            patch.set(Column.BIRTH_PLACE, birthPlace.city());
+        }
+
         // Update the values that were validated by codelist-service
         if (profileUpdateLookupData != null) {
-            person.setMaritalStatus(profileUpdateLookupData.maritalStatusLowValue());
-            person.setTitlePrefix(profileUpdateLookupData.titlePrefixLowValue());
-            person.setTitleSuffix(profileUpdateLookupData.titleSuffixLowValue());
-            person.setBirthCountryId(profileUpdateLookupData.birthCountryId());
+            patch.set(Column.MARITAL_STATUS, profileUpdateLookupData.maritalStatusLowValue())
+                 .set(Column.TITLE_PREFIX, profileUpdateLookupData.titlePrefixLowValue())
+                 .set(Column.TITLE_SUFFIX, profileUpdateLookupData.titleSuffixLowValue())
+                 .set(Column.BIRTH_COUNTRY_ID, profileUpdateLookupData.birthCountryId());
         }
 
-        log.info("Successfully updated person profile for personId: {}", personId);
+        if (personRepository.patch(personId, patch) == 0) {
+            throw new PersonNotFoundException(personId);
+        }
+
+        eventPublisher.publishEvent(new PersonProfileUpdatedEvent(personId));
     }
 
     /// Updates person contact information including email, phone, mobile, and data box.
     /// Validates a data box ID format if provided.
     /// Skips update if contact is null.
     ///
-    /// @param person the person entity to update
+    /// @param personId the person identifier
+    /// @param patch the patch collecting the column changes
     /// @param contact the new contact information
-    private void updateContact(Person person, Profile.Contact contact) {
+    private void updateContact(Integer personId, PersonPatch patch, Profile.Contact contact) {
         if (contact == null) {
-            log.debug("Contact is null, no updates to perform for personId: {}", person.getId());
+            log.debug("Contact is null, no updates to perform for personId: {}", personId);
             return;
         }
 
-        person.setEmail(contact.email());
-        person.setPhone(contact.phone());
-        person.setMobile(contact.mobile());
+        patch.set(Column.EMAIL, contact.email())
+             .set(Column.PHONE, contact.phone())
+             .set(Column.MOBILE, contact.mobile());
 
         if (contact.dataBox() == null) {
-            person.setDataBox(null);
+            patch.set(Column.DATA_BOX, null);
             return;
         }
 
         if (DataBoxValidator.isValidDataBoxId(contact.dataBox())) {
-            person.setDataBox(contact.dataBox());
+            patch.set(Column.DATA_BOX, contact.dataBox());
         }
     }
 
@@ -0,0 +1,25 @@
+package com.stag.identity.person.service.data;
+
+import lombok.Builder;
+
+/// **Dossier Lookup Data**
+///
+/// Enriched dossier data from codelist service resolved with a single call.
+/// Each part is null when the person has nothing to enrich in it, as with the single-part lookups.
+///
+/// @param profile the profile lookup data
+/// @param addresses the address lookup data
+/// @param banking the banking lookup data
+/// @param education the education lookup data
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Builder
+public record DossierLookupData(
+    ProfileLookupData profile,
+    AddressLookupData addresses,
+    BankingLookupData banking,
+    EducationLookupData education
+) {
+
+}
@@ -0,0 +1,103 @@
+package com.stag.identity.shared.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/// **Cache Batches**
+///
+/// Utility class for reading and filling many entries of a Spring cache at once.
+///
+/// Lookups are started together through [Cache#retrieve(Object)], so a [NearCache] or Redis cache sends all
+/// its Redis reads back to back on the shared connection instead of waiting for each round trip.
+/// Caches without asynchronous lookups are read one key at a time. A failed lookup counts as a miss,
+/// the entry is loaded again like with an unavailable cache.
+///
+/// Loaded entries are stored in a [NearCache] by [NearCache#putAll(Map)], which pipelines the Redis writes
+/// and publishes no invalidations for them, in other caches through [Cache#put(Object, Object)].
+/// Either way they keep the keys of the `@Cacheable` methods filling the same cache.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class CacheBatches {
+
+    /// Private constructor to prevent instantiation
+    private CacheBatches() {
+    }
+
+    /// Reads the entries of the given keys.
+    ///
+    /// @param cache Cache to read
+    /// @param keys Cache keys
+    /// @param type Value type
+    /// @param <K> Key type
+    /// @param <V> Value type
+    /// @return Cached values by key, missing entries are omitted
+    public static <K, V> Map<K, V> getAll(Cache cache, Collection<K> keys, Class<V> type) {
+        Map<K, CompletableFuture<?>> lookups = new LinkedHashMap<>();
+        keys.forEach(key -> lookups.put(key, retrieve(cache, key)));
+
+        Map<K, V> values = new HashMap<>();
+        lookups.forEach((key, lookup) -> {
+            Object value = await(cache, key, lookup);
+            if (type.isInstance(value)) {
+                values.put(key, type.cast(value));
+            }
+        });
+
+        log.debug("Read {} of {} entries of cache {}", values.size(), keys.size(), cache.getName());
+        return values;
+    }
+
+    /// Stores freshly loaded entries.
+    ///
+    /// @param cache Cache to fill
+    /// @param entries Values by cache key
+    public static void putAll(Cache cache, Map<?, ?> entries) {
+        if (cache instanceof NearCache nearCache) {
+            nearCache.putAll(entries);
+        } else {
+            entries.forEach(cache::put);
+        }
+    }
+
+    /// Starts the lookup of a key.
+    ///
+    /// @param cache Cache to read
+    /// @param key Cache key
+    /// @return Future of the value, completed with null on a miss
+    private static CompletableFuture<?> retrieve(Cache cache, Object key) {
+        try {
+            CompletableFuture<?> lookup = cache.retrieve(key);
+            return lookup != null ? lookup : CompletableFuture.completedFuture(null);
+        } catch (UnsupportedOperationException _) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            return CompletableFuture.completedFuture(wrapper != null ? wrapper.get() : null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /// Waits for the lookup of a key.
+    ///
+    /// @param cache Cache being read
+    /// @param key Cache key
+    /// @param lookup Lookup in progress
+    /// @return Cached value, or null on a miss or failure
+    private static Object await(Cache cache, Object key, CompletableFuture<?> lookup) {
+        try {
+            Object value = lookup.join();
+            return value instanceof Cache.ValueWrapper wrapper ? wrapper.get() : value;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read entry {} of cache {}, loading it instead", key, cache.getName(), e);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.stag.identity.shared.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/// **Near Cache Manager**
+///
+/// Cache manager wrapping every Redis cache into a [NearCache] with its own bounded L1
+/// and the [RefreshAheadPolicy] configured for its name, if any. A policy only applies to a cache
+/// with a [RefreshAheadLoader] registered for it.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class NearCacheManager implements CacheManager {
+
+    /// Redis L2 cache manager
+    private final RedisCacheManager redisCacheManager;
+    /// Invalidation publisher and listener
+    private final NearCacheInvalidations invalidations;
+    /// Distributed load lock, null when loads are coalesced only within an instance
+    private final NearCacheLoadLock loadLock;
+    /// Refresh-ahead policies by cache name
+    private final Map<String, RefreshAheadPolicy> refreshAheadPolicies;
+    /// Refresh-ahead loaders, resolved when a cache with a refresh-ahead policy is first used
+    private final Supplier<List<RefreshAheadLoader>> refreshAheadLoaders;
+    /// Meter registry
+    private final MeterRegistry meterRegistry;
+    /// Maximum L1 weight of a single cache in bytes
+    private final long maxWeight;
+    /// Lifetime of L1 entries
+    private final Duration timeToLive;
+    /// Near caches by name
+    private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+
+    /// Creates the cache manager and subscribes its caches to invalidations.
+    ///
+    /// @param redisCacheManager Redis L2 cache manager
+    /// @param invalidations Invalidation publisher and listener
+    /// @param loadLock Distributed load lock, null to coalesce loads only within an instance
+    /// @param refreshAheadPolicies Refresh-ahead policies by cache name
+    /// @param refreshAheadLoaders Refresh-ahead loaders, resolved when a cache with a refresh-ahead policy is first used
+    /// @param meterRegistry Meter registry
+    /// @param maxWeight Maximum L1 weight of a single cache in bytes
+    /// @param timeToLive Lifetime of L1 entries
+    public NearCacheManager(
+        RedisCacheManager redisCacheManager,
+        NearCacheInvalidations invalidations,
+        NearCacheLoadLock loadLock,
+        Map<String, RefreshAheadPolicy> refreshAheadPolicies,
+        Supplier<List<RefreshAheadLoader>> refreshAheadLoaders,
+        MeterRegistry meterRegistry,
+        long maxWeight,
+        Duration timeToLive
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidations = invalidations;
+        this.loadLock = loadLock;
+        this.refreshAheadPolicies = Map.copyOf(refreshAheadPolicies);
+        this.refreshAheadLoaders = refreshAheadLoaders;
+        this.meterRegistry = meterRegistry;
+        this.maxWeight = maxWeight;
+        this.timeToLive = timeToLive;
+
+        invalidations.bind(caches::get);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        NearCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache l2 = redisCacheManager.getCache(name);
+        if (!(l2 instanceof RedisCache redisCache)) {
+            return l2;
+        }
+
+        return caches.computeIfAbsent(name, _ -> createCache(name, redisCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /// Creates the near cache of a Redis cache, refreshing ahead only when a loader is registered for it.
+    ///
+    /// @param name Cache name
+    /// @param redisCache Redis L2 cache
+    /// @return Near cache
+    private NearCache createCache(String name, RedisCache redisCache) {
+        RefreshAheadPolicy refreshAhead = refreshAheadPolicies.get(name);
+        Function<Object, ?> refreshLoader = null;
+
+        if (refreshAhead != null) {
+            refreshLoader = refreshAheadLoaders.get()
+                                               .stream()
+                                               .filter(loader -> loader.cacheName().equals(name))
+                                               .findFirst()
+                                               .map(RefreshAheadLoader::loader)
+                                               .orElse(null);
+
+            if (refreshLoader == null) {
+                log.warn("No refresh-ahead loader registered for cache {}, its entries are loaded only on a miss", name);
+                refreshAhead = null;
+            }
+        }
+
+        return new NearCache(
+            redisCache, maxWeight, timeToLive, invalidations, loadLock, refreshAhead, refreshLoader, meterRegistry
+        );
+    }
+
+}
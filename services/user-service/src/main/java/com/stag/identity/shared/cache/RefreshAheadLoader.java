@@ -0,0 +1,21 @@
+package com.stag.identity.shared.cache;
+
+import java.util.function.Function;
+
+/// **Refresh-Ahead Loader**
+///
+/// Recomputes the value of a cache key for refresh-ahead of a single near cache. The loader runs on a background
+/// thread outside of any request, so it must compute the value from the key alone, bypassing the cache,
+/// without relying on the security context or a transaction of the caller.
+///
+/// @param cacheName Name of the refreshed cache
+/// @param loader Computes the current value of a cache key
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record RefreshAheadLoader(
+    String cacheName,
+    Function<Object, ?> loader
+) {
+
+}
@@ -0,0 +1,41 @@
+package com.stag.identity.shared.cache;
+
+import java.time.Duration;
+
+/// **Refresh-Ahead Policy**
+///
+/// Refresh-ahead settings of a single near cache. A hot entry loaded by this instance is recomputed in the background
+/// once it enters the last `threshold` fraction of its Redis lifetime, so readers never wait for it to be reloaded.
+///
+/// @param timeToLive Lifetime of Redis entries
+/// @param threshold Fraction of the lifetime before expiration in which hot entries are refreshed
+/// @param minHits Number of reads since the last load that make an entry hot
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record RefreshAheadPolicy(
+    Duration timeToLive,
+    double threshold,
+    int minHits
+) {
+
+    /// Validates the policy.
+    ///
+    /// @throws IllegalArgumentException if the threshold is not within (0, 1) or the minimum hits are not positive
+    public RefreshAheadPolicy {
+        if (threshold <= 0 || threshold >= 1) {
+            throw new IllegalArgumentException("Refresh-ahead threshold must be between 0 and 1, got " + threshold);
+        }
+        if (minHits < 1) {
+            throw new IllegalArgumentException("Refresh-ahead minimum hits must be positive, got " + minHits);
+        }
+    }
+
+    /// Returns the age at which a hot entry is refreshed.
+    ///
+    /// @return Entry age triggering the refresh
+    public Duration refreshAfter() {
+        return Duration.ofNanos((long) (timeToLive.toNanos() * (1 - threshold)));
+    }
+
+}
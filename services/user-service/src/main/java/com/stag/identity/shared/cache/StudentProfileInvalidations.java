@@ -0,0 +1,68 @@
+package com.stag.identity.shared.cache;
+
+import com.stag.identity.person.event.PersonProfileUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/// **Student Profile Invalidations**
+///
+/// Publishes updated persons to a Redis stream consumed by student-service, which resolves their students
+/// and evicts only their `student-profile` entries instead of the whole cache.
+///
+/// Records have the field `personId`, the stream is trimmed to approximately the configured length.
+/// Records are published asynchronously after the update commits, so student-service never reloads
+/// a profile before the change is visible and the update request does not wait for Redis.
+/// Events published outside a transaction are published right away.
+///
+/// Failures are only logged, the affected entries are then bounded by the cache time to live.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class StudentProfileInvalidations {
+
+    /// Redis template used for publishing
+    private final StringRedisTemplate redisTemplate;
+    /// Invalidation stream
+    private final String stream;
+    /// Approximate maximum length of the stream
+    private final long maxLength;
+
+    /// Creates the invalidation publisher.
+    ///
+    /// @param redisTemplate Redis template used for publishing
+    /// @param stream Invalidation stream
+    /// @param maxLength Approximate maximum length of the stream
+    public StudentProfileInvalidations(
+        StringRedisTemplate redisTemplate,
+        String stream,
+        long maxLength
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.stream = stream;
+        this.maxLength = maxLength;
+    }
+
+    /// Publishes an updated person once the update is committed.
+    ///
+    /// @param event Person profile updated event
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPersonProfileUpdated(PersonProfileUpdatedEvent event) {
+        try {
+            var record = StreamRecords.string(Map.of("personId", String.valueOf(event.personId())))
+                                      .withStreamKey(stream);
+
+            redisTemplate.opsForStream().add(record, XAddOptions.maxlen(maxLength).approximateTrimming(true));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish student profile invalidation for personId: {}", event.personId(), e);
+        }
+    }
+
+}
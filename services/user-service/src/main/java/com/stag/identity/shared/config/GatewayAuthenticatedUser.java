@@ -16,11 +16,13 @@ import java.util.Collection;
 /// This principal is created by `HeaderAuthenticationFilter` from the following headers:
 /// - `X-Student-Id` - Student identifier (if user is a student)
 /// - `X-Teacher-Id` - Teacher identifier (if user is a teacher)
+/// - `X-Person-Id` - Person identifier (if present in the token)
 /// - `X-Email` - User email address
 /// - `X-Roles` - Comma-separated list of user roles
 ///
 /// @param studentId the student identifier, or null if user is not a student
 /// @param teacherId the teacher identifier, or null if user is not a teacher
+/// @param personId the person identifier, or null if the token was issued without it
 /// @param email the user email address
 /// @param authorities the granted authorities derived from roles
 ///
@@ -29,6 +31,7 @@ import java.util.Collection;
 public record GatewayAuthenticatedUser(
     String studentId,
     String teacherId,
+    Integer personId,
     String email,
     Collection<? extends GrantedAuthority> authorities
 ) implements Principal {
@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 /// |--------|-------------|
 /// | `X-Student-Id` | Student identifier (if user is a student) |
 /// | `X-Teacher-Id` | Teacher identifier (if user is a teacher) |
+/// | `X-Person-Id` | Person identifier (if present in the token) |
 /// | `X-Email` | User email address |
 /// | `X-Roles` | Comma-separated list of user roles |
 ///
@@ -49,6 +50,9 @@ public class HeaderAuthenticationFilter extends OncePerRequestFilter {
     /// Header name for teacher identifier
     public static final String HEADER_TEACHER_ID = "X-Teacher-Id";
 
+    /// Header name for person identifier
+    public static final String HEADER_PERSON_ID = "X-Person-Id";
+
     /// Header name for user roles
     public static final String HEADER_ROLES = "X-Roles";
 
@@ -70,6 +74,7 @@ public class HeaderAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String studentId = request.getHeader(HEADER_STUDENT_ID);
         String teacherId = request.getHeader(HEADER_TEACHER_ID);
+        Integer personId = parsePersonId(request.getHeader(HEADER_PERSON_ID));
         String email = request.getHeader(HEADER_EMAIL);
         String roles = request.getHeader(HEADER_ROLES);
 
@@ -80,6 +85,7 @@ public class HeaderAuthenticationFilter extends OncePerRequestFilter {
             GatewayAuthenticatedUser user = new GatewayAuthenticatedUser(
                 studentId,
                 teacherId,
+                personId,
                 email,
                 authorities
             );
@@ -87,13 +93,30 @@ public class HeaderAuthenticationFilter extends OncePerRequestFilter {
             GatewayAuthenticationToken authentication = new GatewayAuthenticationToken(user, authorities);
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.debug("Authenticated user from gateway headers: studentId={}, teacherId={}, roles={}",
-                studentId, teacherId, roles);
+            log.debug("Authenticated user from gateway headers: studentId={}, teacherId={}, personId={}, roles={}",
+                studentId, teacherId, personId, roles);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /// Parses the person identifier header.
+    ///
+    /// @param personId person identifier header value
+    /// @return person identifier, or null if the header is missing or not a number
+    private Integer parsePersonId(String personId) {
+        if (personId == null || personId.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(personId.trim());
+        } catch (NumberFormatException _) {
+            log.warn("Ignoring invalid {} header: {}", HEADER_PERSON_ID, personId);
+            return null;
+        }
+    }
+
     /// Parses the comma-separated roles string into granted authorities.
     ///
     /// @param roles comma-separated list of roles
@@ -1,5 +1,7 @@
 package com.stag.identity.shared.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import oracle.jdbc.OracleConnection;
 import org.jspecify.annotations.NonNull;
@@ -9,6 +11,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /// **Oracle Proxy DataSource**
 ///
@@ -16,6 +19,8 @@ import java.util.Properties;
 /// It extends Spring's DelegatingDataSource for robustness and compatibility.
 /// Each connection obtained from this DataSource will have an active proxy session
 /// for the configured target user.
+/// Opening and closing the session costs two round trips per borrow, see [OracleProxySessionDataSource]
+/// for pooling connections with an open session instead.
 ///
 /// @author Jakub Pavlíček
 /// @version 1.0.0
@@ -24,14 +29,21 @@ public class OracleProxyDataSource extends DelegatingDataSource {
 
     /// Target User that will be proxied
     private final String targetUser;
+    /// Timer of opening proxy sessions
+    private final Timer openTimer;
+    /// Timer of closing proxy sessions
+    private final Timer closeTimer;
 
     /// Constructs a new OracleProxyDataSource.
     ///
     /// @param targetDataSource the underlying DataSource to delegate to
     /// @param targetUser the Oracle user to proxy as
-    public OracleProxyDataSource(DataSource targetDataSource, String targetUser) {
+    /// @param meterRegistry the meter registry
+    public OracleProxyDataSource(DataSource targetDataSource, String targetUser, MeterRegistry meterRegistry) {
         super(targetDataSource);
         this.targetUser = targetUser;
+        this.openTimer = ProxySessionMetrics.openTimer(meterRegistry, ProxySessionMetrics.PER_BORROW);
+        this.closeTimer = ProxySessionMetrics.closeTimer(meterRegistry, ProxySessionMetrics.PER_BORROW);
     }
 
     /// Gets a connection with an active Oracle proxy session.
@@ -58,12 +70,14 @@ public class OracleProxyDataSource extends DelegatingDataSource {
             props.put(OracleConnection.PROXY_USER_NAME, targetUser);
 
             log.debug("Opening Oracle proxy session for target user: {}", targetUser);
+            long start = System.nanoTime();
             oracleConnection.openProxySession(OracleConnection.PROXYTYPE_USER_NAME, props);
+            openTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
             log.debug("Creating connection with auto-commit: {}", physicalConnection.getAutoCommit());
 
             // Return our custom wrapper that intercepts the close() call.
-            return new ProxyOracleConnection(physicalConnection);
+            return new ProxyOracleConnection(physicalConnection, closeTimer);
         } catch (SQLException e) {
             // If we fail to open the proxy, close the physical connection to prevent leaks.
             try {
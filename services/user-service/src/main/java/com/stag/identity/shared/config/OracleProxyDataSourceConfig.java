@@ -1,6 +1,8 @@
 package com.stag.identity.shared.config;
 
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.util.DriverDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -17,6 +19,8 @@ import javax.sql.DataSource;
 /// Configures HikariCP connection pool with Oracle proxy session support.
 /// Creates a proxy user configuration allowing the application to connect through a proxy account,
 /// then switch to target user context for proper audit trails and permissions.
+/// With `spring.datasource.proxy.pooled-sessions` the pool keeps connections with an open proxy session,
+/// otherwise the session is opened and closed around every borrow.
 ///
 /// @author Jakub Pavlíček
 /// @version 1.0.0
@@ -40,16 +44,35 @@ public class OracleProxyDataSourceConfig {
                          .build();
     }
 
-    /// Creates the primary [DataSource] by wrapping the HikariCP pool with Oracle proxy session support.
+    /// Creates the primary [DataSource] with Oracle proxy session support.
+    /// With pooled sessions, HikariCP creates its connections through an [OracleProxySessionDataSource],
+    /// so every pooled connection already runs as the target user. Otherwise, the pool is wrapped
+    /// in an [OracleProxyDataSource] switching to the target user per borrow.
     ///
     /// @param hikariDataSource the underlying HikariCP data source
-    /// @return a proxy-aware data source that switches to the target user context per connection
+    /// @param meterRegistry the meter registry for proxy session timers
+    /// @param pooledSessions whether pooled connections keep their proxy session open
+    /// @return a proxy-aware data source running connections as the target user
     @Bean
     @Primary
     public DataSource dataSource(
-        @Qualifier("hikariDataSource") HikariDataSource hikariDataSource
+        @Qualifier("hikariDataSource") HikariDataSource hikariDataSource,
+        MeterRegistry meterRegistry,
+        @Value("${spring.datasource.proxy.pooled-sessions:false}") boolean pooledSessions
     ) {
-        return new OracleProxyDataSource(hikariDataSource, targetUser);
+        if (pooledSessions) {
+            DataSource physicalDataSource = new DriverDataSource(
+                hikariDataSource.getJdbcUrl(),
+                hikariDataSource.getDriverClassName(),
+                hikariDataSource.getDataSourceProperties(),
+                hikariDataSource.getUsername(),
+                hikariDataSource.getPassword()
+            );
+            hikariDataSource.setDataSource(new OracleProxySessionDataSource(physicalDataSource, targetUser, meterRegistry));
+            return hikariDataSource;
+        }
+
+        return new OracleProxyDataSource(hikariDataSource, targetUser, meterRegistry);
     }
 
 }
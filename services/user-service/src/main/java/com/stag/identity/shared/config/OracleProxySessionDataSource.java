@@ -0,0 +1,112 @@
+package com.stag.identity.shared.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import oracle.jdbc.OracleConnection;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/// **Oracle Proxy Session DataSource**
+///
+/// An unpooled DataSource used by HikariCP to create physical connections, which opens the Oracle proxy session
+/// for the configured target user once, right after the connection is created. Hikari then pools connections
+/// that already run as the target user, so borrowing and returning a connection costs no extra round trips.
+/// The connection is a [PooledProxyOracleConnection], which ends the proxy session before the physical connection
+/// when Hikari retires it.
+///
+/// Hikari validates a new connection before adding it to the pool. On return, it rolls back uncommitted work
+/// and resets auto-commit, isolation, read-only, catalog, schema and network timeout if a borrower changed them,
+/// so no transaction state leaks to the next borrower. Nothing resets other session state (NLS settings, roles,
+/// package state, client identifiers), so borrowers must not set any. [PooledProxyOracleConnection] rejects
+/// the statements that would.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+public class OracleProxySessionDataSource extends DelegatingDataSource {
+
+    /// Target User that will be proxied
+    private final String targetUser;
+    /// Timer of opening proxy sessions
+    private final Timer openTimer;
+    /// Timer of closing proxy sessions
+    private final Timer closeTimer;
+
+    /// Constructs a new OracleProxySessionDataSource.
+    ///
+    /// @param targetDataSource the unpooled DataSource creating physical connections as the proxy user
+    /// @param targetUser the Oracle user to proxy as
+    /// @param meterRegistry the meter registry
+    public OracleProxySessionDataSource(DataSource targetDataSource, String targetUser, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.targetUser = targetUser;
+        this.openTimer = ProxySessionMetrics.openTimer(meterRegistry, ProxySessionMetrics.POOLED);
+        this.closeTimer = ProxySessionMetrics.closeTimer(meterRegistry, ProxySessionMetrics.POOLED);
+    }
+
+    /// Creates a physical connection with an open Oracle proxy session.
+    ///
+    /// @return a physical connection running as the target user
+    /// @throws SQLException if the connection or the proxy session cannot be opened
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return openProxySession(super.getConnection());
+    }
+
+    /// Creates a physical connection as the given proxy user with an open Oracle proxy session.
+    /// Used by HikariCP when the pool credentials are configured.
+    ///
+    /// @param username the proxy user
+    /// @param password the proxy user password
+    /// @return a physical connection running as the target user
+    /// @throws SQLException if the connection or the proxy session cannot be opened
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return openProxySession(super.getConnection(username, password));
+    }
+
+    /// Opens the proxy session on a new physical connection and verifies it is active.
+    ///
+    /// @param physicalConnection the new physical connection
+    /// @return the connection with an open proxy session, wrapped to close the session when Hikari retires it
+    /// @throws SQLException if the proxy session cannot be opened
+    private Connection openProxySession(Connection physicalConnection) throws SQLException {
+        try {
+            OracleConnection oracleConnection = physicalConnection.unwrap(OracleConnection.class);
+
+            Properties props = new Properties();
+            props.put(OracleConnection.PROXY_USER_NAME, targetUser);
+
+            log.debug("Opening pooled Oracle proxy session for target user: {}", targetUser);
+
+            long start = System.nanoTime();
+            oracleConnection.openProxySession(OracleConnection.PROXYTYPE_USER_NAME, props);
+            openTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (!oracleConnection.isProxySession()) {
+                throw new SQLException("Proxy session is not active after opening it");
+            }
+
+            return new PooledProxyOracleConnection(physicalConnection, closeTimer);
+        } catch (SQLException e) {
+            // If we fail to open the proxy, close the physical connection to prevent leaks.
+            try {
+                physicalConnection.close();
+            } catch (SQLException closeEx) {
+                log.warn("Failed to close physical connection after proxy session error", closeEx);
+            }
+            log.error("Failed to open Oracle proxy session for user: {}", targetUser, e);
+            throw new SQLException("Failed to open Oracle proxy session for user: " + targetUser, e);
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.stag.identity.shared.config;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/// **Pooled Proxy Oracle Connection**
+///
+/// A physical Oracle connection with a proxy session kept open while HikariCP pools it.
+/// Closing it ends the proxy session before the physical connection, which happens when Hikari retires it.
+///
+/// The proxy session outlives every borrow, and Hikari resets only transaction and JDBC properties on return,
+/// so any other session state would leak to the next borrower. Statements changing it (`ALTER SESSION`, `SET ROLE`,
+/// `DBMS_SESSION` and `DBMS_APPLICATION_INFO` calls, also inside PL/SQL blocks and `EXECUTE IMMEDIATE` strings)
+/// and client info are therefore rejected.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public class PooledProxyOracleConnection extends ProxyOracleConnection {
+
+    /// Statements changing session state that would carry over to the next borrower, anywhere in the SQL
+    private static final Pattern SESSION_STATE_SQL = Pattern.compile(
+        "\\b(ALTER\\s+SESSION|SET\\s+ROLE)\\b|\\bDBMS_(SESSION|APPLICATION_INFO)\\s*\\.",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /// Statement methods executing the SQL passed as their first argument
+    private static final Set<String> EXECUTING_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch"
+    );
+
+    /// Constructs a new PooledProxyOracleConnection wrapper.
+    ///
+    /// @param physicalConnection the physical Oracle connection with an active proxy session
+    /// @param closeTimer the timer of closing proxy sessions
+    /// @throws SQLException if the connection cannot be unwrapped
+    public PooledProxyOracleConnection(Connection physicalConnection, Timer closeTimer) throws SQLException {
+        super(physicalConnection, closeTimer);
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return guarded(super.createStatement());
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return guarded(super.createStatement(resultSetType, resultSetConcurrency));
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return guarded(super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return super.prepareStatement(checked(sql));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return super.prepareStatement(checked(sql), resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return super.prepareStatement(checked(sql), resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return super.prepareStatement(checked(sql), autoGeneratedKeys);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return super.prepareStatement(checked(sql), columnIndexes);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return super.prepareStatement(checked(sql), columnNames);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return super.prepareCall(checked(sql));
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return super.prepareCall(checked(sql), resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return super.prepareCall(checked(sql), resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        throw clientInfoRejected();
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        throw clientInfoRejected();
+    }
+
+    /// Creates the exception rejecting client info, which is kept by the session like any other session state.
+    ///
+    /// @return the exception
+    private static SQLClientInfoException clientInfoRejected() {
+        return new SQLClientInfoException("Client info must not be set on a pooled proxy session, it would leak to the next borrower", Map.of());
+    }
+
+    /// Rejects SQL changing the session state.
+    ///
+    /// @param sql the SQL to run
+    /// @return the same SQL
+    /// @throws SQLException if the SQL changes the session state
+    static String checked(String sql) throws SQLException {
+        if (sql != null && SESSION_STATE_SQL.matcher(sql).find()) {
+            throw new SQLException("Session state must not be changed on a pooled proxy session, it would leak to the next borrower: " + sql);
+        }
+        return sql;
+    }
+
+    /// Wraps a statement so the SQL passed to its execute methods is checked as well.
+    ///
+    /// @param statement the statement of the physical connection
+    /// @return the checked statement
+    private static Statement guarded(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(
+            Statement.class.getClassLoader(),
+            new Class<?>[] { Statement.class },
+            (_, method, args) -> {
+                if (EXECUTING_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                    checked(sql);
+                }
+
+                try {
+                    return method.invoke(statement, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        );
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.stag.identity.shared.config;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import oracle.jdbc.OracleConnection;
 
@@ -21,6 +22,7 @@ import java.sql.Struct;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /// **Proxy Oracle Connection Wrapper**
 ///
@@ -38,16 +40,20 @@ public class ProxyOracleConnection implements Connection {
     private final Connection physicalConnection;
     /// Oracle Connection
     private final OracleConnection oracleConnection;
+    /// Timer of closing proxy sessions
+    private final Timer closeTimer;
     /// Marks if the connection is closed or not
     private boolean isClosed = false;
 
     /// Constructs a new ProxyOracleConnection wrapper.
     ///
     /// @param physicalConnection the physical Oracle connection with an active proxy session
+    /// @param closeTimer the timer of closing proxy sessions
     /// @throws SQLException if the connection cannot be unwrapped
-    public ProxyOracleConnection(Connection physicalConnection) throws SQLException {
+    public ProxyOracleConnection(Connection physicalConnection, Timer closeTimer) throws SQLException {
         this.physicalConnection = physicalConnection;
         this.oracleConnection = physicalConnection.unwrap(OracleConnection.class);
+        this.closeTimer = closeTimer;
     }
 
     /// Intercepts the close() call to manage the proxy session lifecycle.
@@ -64,7 +70,9 @@ public class ProxyOracleConnection implements Connection {
             // Close the Oracle proxy session first.
             if (oracleConnection.isProxySession()) {
                 log.debug("Closing Oracle proxy session.");
+                long start = System.nanoTime();
                 oracleConnection.close(OracleConnection.PROXY_SESSION);
+                closeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             }
 
             // Now, close the physical connection (which returns it to the pool).
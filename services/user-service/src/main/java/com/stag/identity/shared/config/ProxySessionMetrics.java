@@ -0,0 +1,47 @@
+package com.stag.identity.shared.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/// **Proxy Session Metrics**
+///
+/// Timers of Oracle proxy session round trips, tagged with the session mode
+/// (`per-borrow` or `pooled`), so both modes can be compared on the JVM dashboard.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+final class ProxySessionMetrics {
+
+    /// Proxy session opened and closed around every borrow of a pooled connection
+    static final String PER_BORROW = "per-borrow";
+    /// Proxy session opened once when the physical connection is created
+    static final String POOLED = "pooled";
+
+    private ProxySessionMetrics() {
+    }
+
+    /// Registers the timer of opening proxy sessions.
+    ///
+    /// @param meterRegistry Meter registry
+    /// @param mode Session mode
+    /// @return Open timer
+    static Timer openTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("oracle.proxy.session.open")
+                    .description("Time taken to open an Oracle proxy session")
+                    .tag("mode", mode)
+                    .register(meterRegistry);
+    }
+
+    /// Registers the timer of closing proxy sessions.
+    ///
+    /// @param meterRegistry Meter registry
+    /// @param mode Session mode
+    /// @return Close timer
+    static Timer closeTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("oracle.proxy.session.close")
+                    .description("Time taken to close an Oracle proxy session")
+                    .tag("mode", mode)
+                    .register(meterRegistry);
+    }
+
+}
@@ -21,7 +21,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 /// **Authentication Flow**
 ///
 /// 1. API Gateway validates JWT token from Keycloak
-/// 2. Gateway extracts claims and sets `X-Student-Id`, `X-Teacher-Id`, `X-Roles`, `X-Email` headers
+/// 2. Gateway extracts claims and sets `X-Student-Id`, `X-Teacher-Id`, `X-Person-Id`, `X-Roles`, `X-Email` headers
 /// 3. Gateway strips the `Authorization` header before forwarding
 /// 4. This service reads headers via `HeaderAuthenticationFilter` and populates `SecurityContext`
 ///
@@ -3,19 +3,26 @@ package com.stag.identity.shared.grpc.client;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.repository.projection.AddressView;
 import com.stag.identity.person.repository.projection.BankView;
+import com.stag.identity.person.repository.projection.DossierView;
 import com.stag.identity.person.repository.projection.EducationView;
 import com.stag.identity.person.repository.projection.ProfileView;
 import com.stag.identity.person.repository.projection.SimpleProfileView;
 import com.stag.identity.person.service.data.AddressLookupData;
 import com.stag.identity.person.service.data.BankingLookupData;
 import com.stag.identity.person.service.data.CodelistMeaningsLookupData;
+import com.stag.identity.person.service.data.DossierLookupData;
 import com.stag.identity.person.service.data.EducationLookupData;
 import com.stag.identity.person.service.data.ProfileLookupData;
 import com.stag.identity.person.service.data.ProfileUpdateLookupData;
 import com.stag.identity.shared.grpc.mapper.CodelistMapper;
+import com.stag.identity.shared.grpc.replica.CodelistReplica;
 import com.stag.platform.codelist.v1.CodelistServiceGrpc;
+import com.stag.platform.codelist.v1.GetCodelistValuesRequest;
+import com.stag.platform.codelist.v1.GetCodelistValuesResponse;
 import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
 import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataResponse;
 import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
 import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataRequest;
@@ -25,11 +32,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+
 /// **Codelist gRPC Client**
 ///
 /// gRPC client for codelist-service communication.
 /// Fetches localized codelist meanings for person data enrichment with circuit breaker and retry patterns for resilience.
-/// Optimizes calls by skipping requests with no meaningful data.
+/// Optimizes calls by skipping requests with no meaningful data and by resolving
+/// from the local [CodelistReplica] when it can answer the whole request.
 ///
 /// @author Jakub Pavlíček
 /// @version 1.0.0
@@ -38,8 +49,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CodelistClient {
 
+    /// Maximum number of codelist keys in a single codelist values request
+    private static final int MAX_CODELIST_VALUES_KEYS = 10;
+
     /// Codelist Service stub
     private final CodelistServiceGrpc.CodelistServiceBlockingStub codelistServiceStub;
+    /// Local codelist replica
+    private final CodelistReplica codelistReplica;
 
     /// Fetches codelist meanings for simple profile enrichment.
     ///
@@ -52,13 +68,43 @@ public class CodelistClient {
         log.info("Fetching person simple profile data");
 
         var request = CodelistMapper.INSTANCE.toCodelistValuesRequest(simpleProfile, language);
-        var response = codelistServiceStub.getCodelistValues(request);
+        var response = codelistReplica.findCodelistValues(request)
+                                      .orElseGet(() -> codelistServiceStub.getCodelistValues(request));
 
         log.debug("Completed fetching person simple profile data");
 
         return CodelistMapper.INSTANCE.toCodelistMeaningsData(response);
     }
 
+    /// Fetches codelist meanings for the simple profiles of several persons with a single lookup.
+    /// The codelist keys of all profiles are merged, so each title and gender is resolved once per batch.
+    /// The replica answers the whole batch locally when it can, otherwise the keys are sent to codelist-service
+    /// in requests of at most [#MAX_CODELIST_VALUES_KEYS] keys, a single request for typical batches.
+    ///
+    /// @param simpleProfiles the simple profile projections
+    /// @param language the language code for localization
+    /// @return enriched codelist meanings data shared by all profiles
+    @CircuitBreaker(name = "codelist-service")
+    @Retry(name = "codelist-service")
+    public CodelistMeaningsLookupData getSimpleProfilesData(Collection<SimpleProfileView> simpleProfiles, String language) {
+        log.info("Fetching simple profile data of {} persons", simpleProfiles.size());
+
+        var request = CodelistMapper.INSTANCE.toSimpleProfilesCodelistValuesRequest(simpleProfiles, language);
+
+        // Skip call if no meaningful data to fetch
+        if (request.getCodelistKeysCount() == 0) {
+            log.debug("Skipping codelist-service call for simple profiles data - no meaningful data to fetch");
+            return new CodelistMeaningsLookupData(Map.of());
+        }
+
+        var response = codelistReplica.findCodelistValues(request)
+                                      .orElseGet(() -> fetchCodelistValues(request));
+
+        log.debug("Completed fetching simple profile data of {} persons", simpleProfiles.size());
+
+        return CodelistMapper.INSTANCE.toCodelistMeaningsData(response);
+    }
+
     /// Fetches codelist data for full person profile enrichment.
     /// Skips call if no meaningful data to fetch for optimization.
     ///
@@ -78,7 +124,8 @@ public class CodelistClient {
             return null;
         }
 
-        var response = codelistServiceStub.getPersonProfileData(request);
+        var response = codelistReplica.findPersonProfileData(request)
+                                      .orElseGet(() -> codelistServiceStub.getPersonProfileData(request));
 
         log.debug("Completed fetching person profile data");
 
@@ -131,7 +178,8 @@ public class CodelistClient {
             return null;
         }
 
-        var response = codelistServiceStub.getPersonAddressData(request);
+        var response = codelistReplica.findPersonAddressData(request)
+                                      .orElseGet(() -> codelistServiceStub.getPersonAddressData(request));
 
         log.debug("Completed fetching person address data");
 
@@ -157,7 +205,8 @@ public class CodelistClient {
             return null;
         }
 
-        var response = codelistServiceStub.getPersonBankingData(request);
+        var response = codelistReplica.findPersonBankingData(request)
+                                      .orElseGet(() -> codelistServiceStub.getPersonBankingData(request));
 
         log.debug("Completed fetching person banking data");
 
@@ -190,6 +239,88 @@ public class CodelistClient {
         return CodelistMapper.INSTANCE.toPersonEducationData(response);
     }
 
+    /// Fetches codelist data for all parts of a person dossier with a single call.
+    /// Parts with no meaningful data are skipped, parts the local replica can answer are resolved locally,
+    /// and only the remaining parts are sent to codelist-service in one composite request.
+    ///
+    /// @param dossierView the dossier projection
+    /// @param language the language code for localization
+    /// @return enriched dossier lookup data, with a null part for each skipped part
+    @CircuitBreaker(name = "codelist-service")
+    @Retry(name = "codelist-service")
+    public DossierLookupData getPersonDossierData(DossierView dossierView, String language) {
+        log.info("Fetching person dossier data");
+
+        AddressView addressView = dossierView.toAddressView();
+
+        var profileRequest = CodelistMapper.INSTANCE.toPersonProfileDataRequest(dossierView.toProfileView(), language);
+        var addressRequest = CodelistMapper.INSTANCE.toPersonAddressDataRequest(addressView, language);
+        var bankingRequest = CodelistMapper.INSTANCE.toPersonBankingDataRequest(dossierView.toBankView(), language);
+        var educationRequest = CodelistMapper.INSTANCE.toPersonEducationDataRequest(dossierView.toEducationView(), language);
+
+        var request = GetPersonDossierDataRequest.newBuilder();
+        var response = GetPersonDossierDataResponse.newBuilder();
+
+        if (!shouldSkipRequest(profileRequest)) {
+            codelistReplica.findPersonProfileData(profileRequest)
+                           .ifPresentOrElse(response::setProfile, () -> request.setProfile(profileRequest));
+        }
+        if (!shouldSkipRequest(addressRequest)) {
+            codelistReplica.findPersonAddressData(addressRequest)
+                           .ifPresentOrElse(response::setAddress, () -> request.setAddress(addressRequest));
+        }
+        if (!shouldSkipRequest(bankingRequest)) {
+            codelistReplica.findPersonBankingData(bankingRequest)
+                           .ifPresentOrElse(response::setBanking, () -> request.setBanking(bankingRequest));
+        }
+        if (!shouldSkipRequest(educationRequest)) {
+            request.setEducation(educationRequest);
+        }
+
+        // Skip call if the replica answered everything or there is no meaningful data to fetch
+        if (request.hasProfile() || request.hasAddress() || request.hasBanking() || request.hasEducation()) {
+            response.mergeFrom(codelistServiceStub.getPersonDossierData(request.build()));
+        } else {
+            log.debug("Skipping codelist-service call for person dossier data - nothing left to fetch");
+        }
+
+        log.debug("Completed fetching person dossier data");
+
+        return DossierLookupData.builder()
+                                .profile(response.hasProfile()
+                                    ? CodelistMapper.INSTANCE.toPersonProfileData(response.getProfile()) : null)
+                                .addresses(response.hasAddress()
+                                    ? CodelistMapper.INSTANCE.toPersonAddressData(response.getAddress(), addressView) : null)
+                                .banking(response.hasBanking()
+                                    ? CodelistMapper.INSTANCE.toPersonBankingData(response.getBanking()) : null)
+                                .education(response.hasEducation()
+                                    ? CodelistMapper.INSTANCE.toPersonEducationData(response.getEducation()) : null)
+                                .build();
+    }
+
+    /// Fetches codelist values from codelist-service, split into requests within its key limit.
+    ///
+    /// @param request the codelist values request, possibly over the key limit
+    /// @return merged codelist values response
+    private GetCodelistValuesResponse fetchCodelistValues(GetCodelistValuesRequest request) {
+        if (request.getCodelistKeysCount() <= MAX_CODELIST_VALUES_KEYS) {
+            return codelistServiceStub.getCodelistValues(request);
+        }
+
+        var keys = request.getCodelistKeysList();
+        var response = GetCodelistValuesResponse.newBuilder();
+
+        for (int from = 0; from < keys.size(); from += MAX_CODELIST_VALUES_KEYS) {
+            var chunk = request.toBuilder()
+                               .clearCodelistKeys()
+                               .addAllCodelistKeys(keys.subList(from, Math.min(from + MAX_CODELIST_VALUES_KEYS, keys.size())))
+                               .build();
+            response.addAllCodelistMeanings(codelistServiceStub.getCodelistValues(chunk).getCodelistMeaningsList());
+        }
+
+        return response.build();
+    }
+
     /// Checks if a profile data request should be skipped based on empty fields.
     private boolean shouldSkipRequest(GetPersonProfileDataRequest request) {
         return !request.hasBirthCountryId()
@@ -37,8 +37,11 @@ import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.factory.Mappers;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /// **Codelist gRPC Mapper**
@@ -64,6 +67,22 @@ public interface CodelistMapper {
     @Mapping(target = "codelistKeys", ignore = true)
     GetCodelistValuesRequest toCodelistValuesRequest(SimpleProfileView simpleProfile, String language);
 
+    /// Maps simple profile views of several persons to a single codelist values request.
+    /// The request holds the union of their codelist keys, each key only once.
+    ///
+    /// @param simpleProfiles the simple profile projections
+    /// @param language the language code for localized values
+    /// @return gRPC request for codelist values
+    default GetCodelistValuesRequest toSimpleProfilesCodelistValuesRequest(Collection<SimpleProfileView> simpleProfiles, String language) {
+        Set<CodelistKey> keys = new LinkedHashSet<>();
+        simpleProfiles.forEach(simpleProfile -> keys.addAll(buildSimpleProfileCodelistKeys(simpleProfile)));
+
+        return GetCodelistValuesRequest.newBuilder()
+                                       .addAllCodelistKeys(keys)
+                                       .setLanguage(language)
+                                       .build();
+    }
+
     /// Maps profile view to person profile data request (codelist keys added in @AfterMapping).
     ///
     /// @param personProfile the profile projection
@@ -1,12 +1,20 @@
 package com.stag.identity.shared.grpc.mapper;
 
+import com.stag.identity.person.exception.PersonNotFoundException;
 import com.stag.identity.person.model.SimpleProfile;
+import com.stag.identity.user.v1.BatchItemError;
 import com.stag.identity.user.v1.GetPersonSimpleProfileResponse;
+import com.stag.identity.user.v1.GetPersonSimpleProfilesResponse;
+import com.stag.identity.user.v1.PersonSimpleProfileResult;
+import io.grpc.Status;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+import java.util.Map;
+
 /// **Person gRPC Mapper**
 ///
 /// MapStruct mapper for transforming person domain models to gRPC response messages.
@@ -28,4 +36,34 @@ public interface PersonMapper {
     @Mapping(target = "titleSuffix", source = "simpleProfile.titles.suffix")
     GetPersonSimpleProfileResponse buildPersonSimpleProfileResponse(SimpleProfile simpleProfile);
 
+    /// Maps simple profiles of several persons to gRPC response message in the order of the requested IDs.
+    /// A person without a profile gets the `NOT_FOUND` error the single-person RPC would have returned.
+    ///
+    /// @param personIds the requested person identifiers
+    /// @param simpleProfiles the simple profiles by person ID
+    /// @return gRPC response message with a result for every requested person
+    default GetPersonSimpleProfilesResponse buildPersonSimpleProfilesResponse(
+        List<Integer> personIds,
+        Map<Integer, SimpleProfile> simpleProfiles
+    ) {
+        var response = GetPersonSimpleProfilesResponse.newBuilder();
+
+        for (Integer personId : personIds) {
+            SimpleProfile simpleProfile = simpleProfiles.get(personId);
+            var result = PersonSimpleProfileResult.newBuilder();
+
+            if (simpleProfile != null) {
+                result.setProfile(buildPersonSimpleProfileResponse(simpleProfile));
+            } else {
+                result.setError(BatchItemError.newBuilder()
+                                              .setCode(Status.Code.NOT_FOUND.value())
+                                              .setMessage(new PersonNotFoundException(personId).getMessage()));
+            }
+
+            response.addResults(result);
+        }
+
+        return response.build();
+    }
+
 }
@@ -0,0 +1,386 @@
+package com.stag.identity.shared.grpc.replica;
+
+import com.stag.platform.codelist.v1.AddressPlaceRecord;
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
+import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.CodelistServiceGrpc;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotRequest;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotResponse;
+import com.stag.platform.codelist.v1.GetCodelistValuesRequest;
+import com.stag.platform.codelist.v1.GetCodelistValuesResponse;
+import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
+import com.stag.platform.codelist.v1.GetPersonAddressDataResponse;
+import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
+import com.stag.platform.codelist.v1.GetPersonBankingDataResponse;
+import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
+import com.stag.platform.codelist.v1.GetPersonProfileDataResponse;
+import com.stag.platform.codelist.v1.WatchCodelistChangesRequest;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/// **Codelist Replica**
+///
+/// Local replica of codelist entries, countries and address names served by codelist-service.
+/// Enabled by `codelist.replica.enabled`. The replica loads a versioned snapshot, then keeps a
+/// `WatchCodelistChanges` stream open and applies the pushed deltas, so person data can be enriched
+/// without a synchronous call to codelist-service.
+///
+/// Lookups return an empty result whenever the replica cannot answer on its own (not loaded yet,
+/// disconnected for longer than `codelist.replica.max-staleness`, or an unknown ID), and the caller
+/// falls back to the remote RPC, which keeps its not-found semantics.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Service
+public class CodelistReplica {
+
+    /// Codelist Service async stub
+    private final CodelistServiceGrpc.CodelistServiceStub codelistServiceStub;
+    /// Whether lookups are served from the replica
+    private final boolean enabled;
+    /// Maximum time to wait for the snapshot
+    private final Duration snapshotTimeout;
+    /// How long a disconnected replica keeps serving lookups
+    private final Duration maxStaleness;
+    /// Current replica data, null until the first snapshot is loaded
+    private final AtomicReference<CodelistReplicaData> current = new AtomicReference<>();
+    /// Open change stream, null when disconnected
+    private final AtomicReference<ClientCallStreamObserver<WatchCodelistChangesRequest>> watch = new AtomicReference<>();
+    /// Time when the replica was last known to be up to date
+    private volatile Instant confirmedAt = Instant.EPOCH;
+    /// Guards against concurrent synchronizations
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    /// Creates the replica and registers its metrics.
+    ///
+    /// @param codelistServiceStub Codelist service async stub
+    /// @param meterRegistry Meter registry
+    /// @param enabled Whether lookups are served from the replica
+    /// @param snapshotTimeout Maximum time to wait for the snapshot
+    /// @param maxStaleness How long a disconnected replica keeps serving lookups
+    public CodelistReplica(
+        CodelistServiceGrpc.CodelistServiceStub codelistServiceStub,
+        MeterRegistry meterRegistry,
+        @Value("${codelist.replica.enabled:false}") boolean enabled,
+        @Value("${codelist.replica.snapshot-timeout:PT30S}") Duration snapshotTimeout,
+        @Value("${codelist.replica.max-staleness:PT5M}") Duration maxStaleness
+    ) {
+        this.codelistServiceStub = codelistServiceStub;
+        this.enabled = enabled;
+        this.snapshotTimeout = snapshotTimeout;
+        this.maxStaleness = maxStaleness;
+
+        Gauge.builder("codelist.replica.version", current, ref -> ref.get() == null ? 0 : ref.get().version())
+             .description("Version of the local codelist replica")
+             .register(meterRegistry);
+    }
+
+    /// Checks whether lookups can be served from the replica.
+    ///
+    /// @return True if the replica is loaded and connected, or disconnected for less than the maximum staleness
+    public boolean isReady() {
+        if (!enabled || current.get() == null) {
+            return false;
+        }
+        return watch.get() != null || Duration.between(confirmedAt, Instant.now()).compareTo(maxStaleness) < 0;
+    }
+
+    /// Resolves codelist values locally.
+    ///
+    /// @param request Codelist values request
+    /// @return Response or empty if the replica cannot answer
+    public Optional<GetCodelistValuesResponse> findCodelistValues(GetCodelistValuesRequest request) {
+        return currentData().map(data -> {
+            List<CodelistMeaning> meanings = data.findMeanings(request.getCodelistKeysList(), request.getLanguage());
+            if (meanings == null) {
+                return null;
+            }
+            return GetCodelistValuesResponse.newBuilder().addAllCodelistMeanings(meanings).build();
+        });
+    }
+
+    /// Resolves person profile data locally.
+    ///
+    /// @param request Person profile data request
+    /// @return Response or empty if the replica cannot answer
+    public Optional<GetPersonProfileDataResponse> findPersonProfileData(GetPersonProfileDataRequest request) {
+        return currentData().map(data -> {
+            List<CodelistMeaning> meanings = data.findMeanings(request.getCodelistKeysList(), request.getLanguage());
+            if (meanings == null
+                || !containsCountry(data, request.hasBirthCountryId(), request.getBirthCountryId())
+                || !containsCountry(data, request.hasCitizenshipCountryId(), request.getCitizenshipCountryId())) {
+                return null;
+            }
+
+            var response = GetPersonProfileDataResponse.newBuilder().addAllCodelistMeanings(meanings);
+            setCountryName(data, request.hasBirthCountryId(), request.getBirthCountryId(), request.getLanguage(), response::setBirthCountryName);
+            setCountryName(data, request.hasCitizenshipCountryId(), request.getCitizenshipCountryId(), request.getLanguage(), response::setCitizenshipCountryName);
+            return response.build();
+        });
+    }
+
+    /// Resolves person address data locally.
+    ///
+    /// @param request Person address data request
+    /// @return Response or empty if the replica cannot answer
+    public Optional<GetPersonAddressDataResponse> findPersonAddressData(GetPersonAddressDataRequest request) {
+        return currentData().map(data -> {
+            AddressPlaceRecord permanent = request.hasPermanentMunicipalityPartId()
+                ? data.findAddressPlace(request.getPermanentMunicipalityPartId())
+                : null;
+            AddressPlaceRecord temporary = request.hasTemporaryMunicipalityPartId()
+                ? data.findAddressPlace(request.getTemporaryMunicipalityPartId())
+                : null;
+
+            if ((request.hasPermanentMunicipalityPartId() && permanent == null)
+                || (request.hasTemporaryMunicipalityPartId() && temporary == null)
+                || !containsCountry(data, request.hasPermanentCountryId(), request.getPermanentCountryId())
+                || !containsCountry(data, request.hasTemporaryCountryId(), request.getTemporaryCountryId())) {
+                return null;
+            }
+
+            var response = GetPersonAddressDataResponse.newBuilder();
+
+            if (permanent != null) {
+                Optional.of(permanent).filter(AddressPlaceRecord::hasMunicipalityName).ifPresent(p -> response.setPermanentMunicipalityName(p.getMunicipalityName()));
+                Optional.of(permanent).filter(AddressPlaceRecord::hasMunicipalityPartName).ifPresent(p -> response.setPermanentMunicipalityPartName(p.getMunicipalityPartName()));
+                Optional.of(permanent).filter(AddressPlaceRecord::hasDistrictName).ifPresent(p -> response.setPermanentDistrictName(p.getDistrictName()));
+            }
+            if (temporary != null) {
+                Optional.of(temporary).filter(AddressPlaceRecord::hasMunicipalityName).ifPresent(p -> response.setTemporaryMunicipalityName(p.getMunicipalityName()));
+                Optional.of(temporary).filter(AddressPlaceRecord::hasMunicipalityPartName).ifPresent(p -> response.setTemporaryMunicipalityPartName(p.getMunicipalityPartName()));
+                Optional.of(temporary).filter(AddressPlaceRecord::hasDistrictName).ifPresent(p -> response.setTemporaryDistrictName(p.getDistrictName()));
+            }
+
+            setCountryName(data, request.hasPermanentCountryId(), request.getPermanentCountryId(), request.getLanguage(), response::setPermanentCountryName);
+            setCountryName(data, request.hasTemporaryCountryId(), request.getTemporaryCountryId(), request.getLanguage(), response::setTemporaryCountryName);
+            return response.build();
+        });
+    }
+
+    /// Resolves person banking data locally.
+    ///
+    /// @param request Person banking data request
+    /// @return Response or empty if the replica cannot answer
+    public Optional<GetPersonBankingDataResponse> findPersonBankingData(GetPersonBankingDataRequest request) {
+        return currentData().map(data -> {
+            List<CodelistMeaning> meanings = data.findMeanings(request.getCodelistKeysList(), request.getLanguage());
+            if (meanings == null || !containsCountry(data, request.hasEuroAccountCountryId(), request.getEuroAccountCountryId())) {
+                return null;
+            }
+
+            var response = GetPersonBankingDataResponse.newBuilder().addAllCodelistMeanings(meanings);
+            setCountryName(data, request.hasEuroAccountCountryId(), request.getEuroAccountCountryId(), request.getLanguage(), response::setEuroAccountCountryName);
+            return response.build();
+        });
+    }
+
+    /// Loads the snapshot if needed and (re)opens the change stream.
+    ///
+    /// Runs on startup and then with a fixed delay configured by `codelist.replica.sync-interval`.
+    /// It is also triggered when codelist-service asks for a snapshot reload.
+    @Scheduled(fixedDelayString = "${codelist.replica.sync-interval:PT30S}")
+    public void sync() {
+        if (!enabled || watch.get() != null || !syncLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (current.get() == null) {
+                loadSnapshot();
+            }
+            openWatch();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            log.warn("Failed to synchronize codelist replica, retrying later: {}", e.getMessage());
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /// Returns the current data if the replica is ready.
+    ///
+    /// @return Current data or empty
+    private Optional<CodelistReplicaData> currentData() {
+        return isReady() ? Optional.of(current.get()) : Optional.empty();
+    }
+
+    /// Streams the snapshot and replaces the current data with it.
+    ///
+    /// @throws InterruptedException if interrupted while waiting for the snapshot
+    /// @throws ExecutionException if the snapshot stream failed
+    /// @throws TimeoutException if the snapshot did not arrive in time
+    private void loadSnapshot() throws InterruptedException, ExecutionException, TimeoutException {
+        List<GetCodelistSnapshotResponse> chunks = new ArrayList<>();
+        CompletableFuture<List<GetCodelistSnapshotResponse>> snapshot = new CompletableFuture<>();
+
+        codelistServiceStub.getCodelistSnapshot(GetCodelistSnapshotRequest.getDefaultInstance(), new StreamObserver<>() {
+
+            @Override
+            public void onNext(GetCodelistSnapshotResponse chunk) {
+                chunks.add(chunk);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                snapshot.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                snapshot.complete(chunks);
+            }
+
+        });
+
+        List<GetCodelistSnapshotResponse> received = snapshot.get(snapshotTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        if (received.isEmpty() || received.getFirst().getVersion() == 0) {
+            log.info("Codelist snapshot not available yet, retrying later");
+            return;
+        }
+
+        CodelistReplicaData data = CodelistReplicaData.of(received);
+        current.set(data);
+        confirmedAt = Instant.now();
+
+        log.info("Codelist replica version {} of {} loaded with {} records", data.version(), data.replicaId(), data.size());
+    }
+
+    /// Opens the change stream continuing the current version.
+    private void openWatch() {
+        CodelistReplicaData data = current.get();
+        if (data == null) {
+            return;
+        }
+
+        var request = WatchCodelistChangesRequest.newBuilder()
+                                                 .setReplicaId(data.replicaId())
+                                                 .setFromVersion(data.version())
+                                                 .build();
+
+        codelistServiceStub.watchCodelistChanges(request, new ClientResponseObserver<WatchCodelistChangesRequest, CodelistChangeEvent>() {
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<WatchCodelistChangesRequest> requestStream) {
+                watch.set(requestStream);
+            }
+
+            @Override
+            public void onNext(CodelistChangeEvent event) {
+                applyChange(event);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Codelist change stream failed: {}", t.getMessage());
+                disconnect();
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("Codelist change stream completed by server");
+                disconnect();
+            }
+
+        });
+
+        confirmedAt = Instant.now();
+        log.info("Watching codelist changes from version {}", data.version());
+    }
+
+    /// Applies a change event, or schedules a snapshot reload when the event cannot be applied.
+    ///
+    /// @param event Change event
+    private void applyChange(CodelistChangeEvent event) {
+        CodelistReplicaData data = current.get();
+
+        if (event.getResetRequired() || data == null || event.getVersion() != data.version() + 1) {
+            log.info("Codelist replica version {} cannot be continued with {}, reloading snapshot",
+                data == null ? 0 : data.version(), event.getVersion());
+            reload();
+            return;
+        }
+
+        current.set(data.apply(event));
+        confirmedAt = Instant.now();
+        log.info("Codelist replica updated to version {}", event.getVersion());
+    }
+
+    /// Drops the change stream and reloads the snapshot in the background.
+    ///
+    /// The current data keeps serving lookups until the new snapshot replaces it.
+    private void reload() {
+        ClientCallStreamObserver<WatchCodelistChangesRequest> stream = watch.getAndSet(null);
+        if (stream != null) {
+            stream.cancel("Reloading codelist snapshot", null);
+        }
+
+        Thread.ofVirtual().name("codelist-replica-reload").start(() -> {
+            syncLock.lock();
+            try {
+                loadSnapshot();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException | RuntimeException e) {
+                log.warn("Failed to reload codelist snapshot, retrying later: {}", e.getMessage());
+            } finally {
+                syncLock.unlock();
+            }
+            sync();
+        });
+    }
+
+    /// Marks the change stream as closed, the next synchronization reopens it.
+    private void disconnect() {
+        if (watch.getAndSet(null) != null) {
+            confirmedAt = Instant.now();
+        }
+    }
+
+    /// Checks that an optional country ID is replicated.
+    private static boolean containsCountry(CodelistReplicaData data, boolean hasCountryId, int countryId) {
+        return !hasCountryId || data.containsCountry(countryId);
+    }
+
+    /// Sets a country name on a response if the country ID is present and the name is translated.
+    private static void setCountryName(
+        CodelistReplicaData data,
+        boolean hasCountryId,
+        int countryId,
+        String language,
+        Consumer<String> setter
+    ) {
+        if (!hasCountryId) {
+            return;
+        }
+
+        String name = data.findCountryName(countryId, language);
+        if (name != null) {
+            setter.accept(name);
+        }
+    }
+
+}
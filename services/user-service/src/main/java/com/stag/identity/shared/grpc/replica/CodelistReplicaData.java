@@ -0,0 +1,162 @@
+package com.stag.identity.shared.grpc.replica;
+
+import com.stag.identity.shared.grpc.model.CodelistEntryId;
+import com.stag.platform.codelist.v1.AddressPlaceRecord;
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
+import com.stag.platform.codelist.v1.CodelistEntryRecord;
+import com.stag.platform.codelist.v1.CodelistKey;
+import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.CountryRecord;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/// **Codelist Replica Data**
+///
+/// Immutable local copy of the codelist-service replica state. Lookups mirror the codelist-service
+/// semantics: English meanings fall back to Czech, English country names do not.
+///
+/// @param replicaId Replica ID of the codelist-service instance the version belongs to
+/// @param version Replica version
+/// @param entries Codelist entry ID to record map
+/// @param countries Country ID to record map
+/// @param addressPlaces Municipality part ID to record map
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public record CodelistReplicaData(
+    String replicaId,
+    long version,
+    Map<CodelistEntryId, CodelistEntryRecord> entries,
+    Map<Integer, CountryRecord> countries,
+    Map<Long, AddressPlaceRecord> addressPlaces
+) {
+
+    /// Builds replica data from snapshot chunks.
+    ///
+    /// @param chunks Snapshot chunks of a single version
+    /// @return Immutable replica data
+    public static CodelistReplicaData of(List<GetCodelistSnapshotResponse> chunks) {
+        Map<CodelistEntryId, CodelistEntryRecord> entries = new HashMap<>();
+        Map<Integer, CountryRecord> countries = new HashMap<>();
+        Map<Long, AddressPlaceRecord> addressPlaces = new HashMap<>();
+
+        for (GetCodelistSnapshotResponse chunk : chunks) {
+            chunk.getCodelistEntriesList().forEach(entry -> entries.put(toEntryId(entry), entry));
+            chunk.getCountriesList().forEach(country -> countries.put(country.getId(), country));
+            chunk.getAddressPlacesList().forEach(place -> addressPlaces.put(place.getMunicipalityPartId(), place));
+        }
+
+        GetCodelistSnapshotResponse first = chunks.getFirst();
+        return new CodelistReplicaData(
+            first.getReplicaId(), first.getVersion(), Map.copyOf(entries), Map.copyOf(countries), Map.copyOf(addressPlaces)
+        );
+    }
+
+    /// Applies a change event and returns the resulting data.
+    ///
+    /// @param event Change event directly following this version
+    /// @return New replica data with the version of the event
+    public CodelistReplicaData apply(CodelistChangeEvent event) {
+        Map<CodelistEntryId, CodelistEntryRecord> newEntries = new HashMap<>(entries);
+        event.getRemovedCodelistKeysList().forEach(key -> newEntries.remove(toEntryId(key)));
+        event.getUpsertedCodelistEntriesList().forEach(entry -> newEntries.put(toEntryId(entry), entry));
+
+        Map<Integer, CountryRecord> newCountries = new HashMap<>(countries);
+        event.getRemovedCountryIdsList().forEach(newCountries::remove);
+        event.getUpsertedCountriesList().forEach(country -> newCountries.put(country.getId(), country));
+
+        Map<Long, AddressPlaceRecord> newAddressPlaces = new HashMap<>(addressPlaces);
+        event.getRemovedMunicipalityPartIdsList().forEach(newAddressPlaces::remove);
+        event.getUpsertedAddressPlacesList().forEach(place -> newAddressPlaces.put(place.getMunicipalityPartId(), place));
+
+        return new CodelistReplicaData(
+            replicaId, event.getVersion(), Map.copyOf(newEntries), Map.copyOf(newCountries), Map.copyOf(newAddressPlaces)
+        );
+    }
+
+    /// Resolves localized meanings of codelist keys.
+    ///
+    /// @param codelistKeys Codelist keys
+    /// @param language Language code
+    /// @return Codelist meanings or null if any key is missing
+    public List<CodelistMeaning> findMeanings(List<CodelistKey> codelistKeys, String language) {
+        List<CodelistMeaning> meanings = new ArrayList<>(codelistKeys.size());
+
+        for (CodelistKey key : new LinkedHashSet<>(codelistKeys)) {
+            CodelistEntryRecord entry = entries.get(toEntryId(key));
+            if (entry == null) {
+                return null;
+            }
+
+            var meaning = CodelistMeaning.newBuilder()
+                                         .setDomain(key.getDomain())
+                                         .setLowValue(key.getLowValue());
+
+            if ("en".equals(language) && entry.hasMeaningEn()) {
+                meaning.setMeaning(entry.getMeaningEn());
+            } else if (entry.hasMeaningCz()) {
+                meaning.setMeaning(entry.getMeaningCz());
+            }
+
+            meanings.add(meaning.build());
+        }
+
+        return meanings;
+    }
+
+    /// Checks whether a country is replicated.
+    ///
+    /// @param countryId Country ID
+    /// @return True if the country is known
+    public boolean containsCountry(int countryId) {
+        return countries.containsKey(countryId);
+    }
+
+    /// Returns the country name in the given language.
+    ///
+    /// @param countryId Country ID
+    /// @param language Language code
+    /// @return Country name or null if unknown or not translated
+    public String findCountryName(int countryId, String language) {
+        CountryRecord country = countries.get(countryId);
+
+        if (country == null) {
+            return null;
+        }
+        if ("en".equals(language)) {
+            return country.hasNameEn() ? country.getNameEn() : null;
+        }
+        return country.hasNameCz() ? country.getNameCz() : null;
+    }
+
+    /// Returns the address names of a municipality part.
+    ///
+    /// @param municipalityPartId Municipality part ID
+    /// @return Address place record or null if unknown
+    public AddressPlaceRecord findAddressPlace(long municipalityPartId) {
+        return addressPlaces.get(municipalityPartId);
+    }
+
+    /// Returns the number of replicated records.
+    ///
+    /// @return Entry, country and address place count
+    public int size() {
+        return entries.size() + countries.size() + addressPlaces.size();
+    }
+
+    /// Creates a codelist entry ID of a replicated entry.
+    private static CodelistEntryId toEntryId(CodelistEntryRecord entry) {
+        return new CodelistEntryId(entry.getDomain(), entry.getLowValue());
+    }
+
+    /// Creates a codelist entry ID of a codelist key.
+    private static CodelistEntryId toEntryId(CodelistKey key) {
+        return new CodelistEntryId(key.getDomain(), key.getLowValue());
+    }
+
+}
@@ -4,6 +4,8 @@ import com.stag.identity.person.model.SimpleProfile;
 import com.stag.identity.person.service.ProfileService;
 import com.stag.identity.user.v1.GetPersonSimpleProfileRequest;
 import com.stag.identity.user.v1.GetPersonSimpleProfileResponse;
+import com.stag.identity.user.v1.GetPersonSimpleProfilesRequest;
+import com.stag.identity.user.v1.GetPersonSimpleProfilesResponse;
 import com.stag.identity.user.v1.UserServiceGrpc;
 import com.stag.identity.shared.grpc.mapper.PersonMapper;
 import grpcstarter.server.GrpcService;
@@ -11,6 +13,8 @@ import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Map;
+
 /// **User gRPC Service**
 ///
 /// gRPC service implementation for user-related operations.
@@ -47,6 +51,28 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
         completeResponse(responseObserver, response);
     }
 
+    /// Retrieves simple profiles of several persons via gRPC with localized codelist values.
+    /// Results are returned in the order of the requested person IDs,
+    /// a person that does not exist gets the `NOT_FOUND` error of the single-person RPC.
+    ///
+    /// @param request the gRPC request with person IDs and language
+    /// @param responseObserver the response stream observer
+    @Override
+    public void getPersonSimpleProfiles(
+        GetPersonSimpleProfilesRequest request,
+        StreamObserver<GetPersonSimpleProfilesResponse> responseObserver
+    ) {
+        log.info("Fetching person simple profiles of {} persons", request.getPersonIdsCount());
+
+        Map<Integer, SimpleProfile> simpleProfiles = profileService.getPersonSimpleProfiles(
+            request.getPersonIdsList(), request.getLanguage()
+        );
+
+        var response = PersonMapper.INSTANCE.buildPersonSimpleProfilesResponse(request.getPersonIdsList(), simpleProfiles);
+
+        completeResponse(responseObserver, response);
+    }
+
     /// Completes a gRPC response stream with the given response object.
     ///
     /// @param responseObserver the response stream observer
@@ -0,0 +1,115 @@
+package com.stag.identity.shared.warmup;
+
+import io.grpc.Channel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.stub.AbstractStub;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/// **gRPC Channel Warmup Step**
+///
+/// Connects the channels of all gRPC client stubs to the downstream services and exercises them with
+/// `warmup.grpc.calls-per-channel` health checks, so the first real call does not pay for name resolution,
+/// the HTTP/2 handshake and cold client code.
+///
+/// A downstream service without the health service answers `UNIMPLEMENTED`, which still completes a round trip.
+/// Unreachable services are reported as a failed step, they do not block the warmup of the other channels.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Order(2)
+@Component
+public class GrpcChannelWarmupStep implements WarmupStep {
+
+    /// gRPC client stubs
+    private final ObjectProvider<AbstractStub<?>> stubs;
+    /// Number of health checks per channel
+    private final int callsPerChannel;
+    /// Deadline of a single health check
+    private final Duration callTimeout;
+
+    /// Creates the step.
+    ///
+    /// @param stubs gRPC client stubs
+    /// @param callsPerChannel Number of health checks per channel
+    /// @param callTimeout Deadline of a single health check
+    public GrpcChannelWarmupStep(
+        ObjectProvider<AbstractStub<?>> stubs,
+        @Value("${warmup.grpc.calls-per-channel:20}") int callsPerChannel,
+        @Value("${warmup.grpc.call-timeout:PT2S}") Duration callTimeout
+    ) {
+        this.stubs = stubs;
+        this.callsPerChannel = callsPerChannel;
+        this.callTimeout = callTimeout;
+    }
+
+    @Override
+    public String name() {
+        return "grpc-channels";
+    }
+
+    @Override
+    public boolean run(Instant deadline) {
+        Set<Channel> channels = Collections.newSetFromMap(new IdentityHashMap<>());
+        stubs.orderedStream().forEach(stub -> channels.add(stub.getChannel()));
+
+        List<String> unreachable = new ArrayList<>();
+        for (Channel channel : channels) {
+            if (Instant.now().isAfter(deadline)) {
+                return false;
+            }
+            if (!exercise(channel, deadline)) {
+                unreachable.add(channel.authority());
+            }
+        }
+
+        if (!unreachable.isEmpty()) {
+            throw new IllegalStateException("gRPC services not reachable during warmup: " + unreachable);
+        }
+        return true;
+    }
+
+    /// Sends health checks through a channel.
+    ///
+    /// @param channel Client channel
+    /// @param deadline Time by which the whole warmup has to finish
+    /// @return False if the downstream service is not reachable
+    private boolean exercise(Channel channel, Instant deadline) {
+        HealthGrpc.HealthBlockingStub health = HealthGrpc.newBlockingStub(channel);
+
+        for (int call = 0; call < callsPerChannel && Instant.now().isBefore(deadline); call++) {
+            long timeoutMillis = Math.min(callTimeout.toMillis(), Duration.between(Instant.now(), deadline).toMillis());
+
+            try {
+                health.withDeadlineAfter(Math.max(timeoutMillis, 1), TimeUnit.MILLISECONDS)
+                      .check(HealthCheckRequest.getDefaultInstance());
+            } catch (StatusRuntimeException e) {
+                Status.Code code = e.getStatus().getCode();
+                if (code == Status.Code.UNAVAILABLE || code == Status.Code.DEADLINE_EXCEEDED) {
+                    log.warn("gRPC channel to {} is not reachable: {}", channel.authority(), e.getStatus());
+                    return false;
+                }
+            }
+        }
+
+        log.debug("Exercised gRPC channel to {}", channel.authority());
+        return true;
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.stag.identity.shared.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/// **Warmup Runner**
+///
+/// Warms the service up before it takes traffic: runs all [WarmupStep] beans once the web and gRPC servers are up.
+///
+/// Application runners run before Spring Boot switches the readiness state to `ACCEPTING_TRAFFIC`,
+/// so `/actuator/health/readiness` stays down until the warmup finishes or `warmup.timeout` elapses.
+/// Liveness is not affected. A failing step never prevents the service from starting.
+///
+/// Reports `application.warmup.duration` and `application.warmup.step.duration` timers tagged with the outcome
+/// (`completed`, `failed` or `timed-out`).
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    /// Outcome of a finished warmup or step
+    private static final String COMPLETED = "completed";
+    /// Outcome of a warmup or step that threw
+    private static final String FAILED = "failed";
+    /// Outcome of a warmup or step stopped at the deadline
+    private static final String TIMED_OUT = "timed-out";
+
+    /// Warmup steps
+    private final ObjectProvider<WarmupStep> steps;
+    /// Event publisher
+    private final ApplicationEventPublisher eventPublisher;
+    /// Meter registry
+    private final MeterRegistry meterRegistry;
+    /// Longest warmup duration
+    private final Duration timeout;
+
+    /// Creates the warmup runner.
+    ///
+    /// @param steps Warmup steps
+    /// @param eventPublisher Event publisher
+    /// @param meterRegistry Meter registry
+    /// @param timeout Longest warmup duration, the service turns ready afterwards regardless
+    public WarmupRunner(
+        ObjectProvider<WarmupStep> steps,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry,
+        @Value("${warmup.timeout:PT2M}") Duration timeout
+    ) {
+        this.steps = steps;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+    }
+
+    /// Runs the warmup steps in order.
+    ///
+    /// @param args Application arguments
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        List<WarmupStep> orderedSteps = steps.orderedStream().toList();
+        log.info("Warming up with steps {}", orderedSteps.stream().map(WarmupStep::name).toList());
+
+        long start = System.nanoTime();
+        Instant deadline = Instant.now().plus(timeout);
+        String outcome = COMPLETED;
+
+        for (WarmupStep step : orderedSteps) {
+            if (Instant.now().isAfter(deadline)) {
+                outcome = TIMED_OUT;
+                break;
+            }
+
+            String stepOutcome = runStep(step, deadline);
+            if (!stepOutcome.equals(COMPLETED) && !outcome.equals(TIMED_OUT)) {
+                outcome = stepOutcome;
+            }
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        timer("application.warmup.duration", "Time taken by the startup warmup", "outcome", outcome).record(duration);
+        log.info("Warmup {} in {} ms", outcome, duration.toMillis());
+    }
+
+    /// Runs a single step and records its duration.
+    ///
+    /// @param step Warmup step
+    /// @param deadline Time by which the whole warmup has to finish
+    /// @return Step outcome
+    private String runStep(WarmupStep step, Instant deadline) {
+        long start = System.nanoTime();
+        String outcome;
+
+        try {
+            outcome = step.run(deadline) ? COMPLETED : TIMED_OUT;
+        } catch (Exception e) {
+            log.warn("Warmup step {} failed", step.name(), e);
+            outcome = FAILED;
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        timer("application.warmup.step.duration", "Time taken by a startup warmup step", "outcome", outcome, "step", step.name())
+            .record(duration);
+        log.info("Warmup step {} {} in {} ms", step.name(), outcome, duration.toMillis());
+
+        return outcome;
+    }
+
+    /// Registers a warmup timer.
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .register(meterRegistry);
+    }
+
+}
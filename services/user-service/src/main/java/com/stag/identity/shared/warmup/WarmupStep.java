@@ -0,0 +1,26 @@
+package com.stag.identity.shared.warmup;
+
+import java.time.Instant;
+
+/// **Warmup Step**
+///
+/// Part of the startup warmup run by [WarmupRunner] before the service reports readiness.
+/// Steps run in their `@Order`, a failing step is reported and the warmup continues with the next one.
+///
+/// @author Jakub Pavlíček
+/// @version 1.0.0
+public interface WarmupStep {
+
+    /// Returns the step name used in logs and metrics.
+    ///
+    /// @return Step name
+    String name();
+
+    /// Runs the step.
+    ///
+    /// @param deadline Time by which the whole warmup has to finish, the step stops early when reached
+    /// @return True if the step finished, false if it stopped at the deadline
+    /// @throws Exception if the step fails
+    boolean run(Instant deadline) throws Exception;
+
+}
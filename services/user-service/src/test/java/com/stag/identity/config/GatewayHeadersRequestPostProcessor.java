@@ -30,6 +30,7 @@ public class GatewayHeadersRequestPostProcessor implements RequestPostProcessor
 
     private String studentId;
     private String teacherId;
+    private Integer personId;
     private String email;
     private String roles;
 
@@ -67,6 +68,15 @@ public class GatewayHeadersRequestPostProcessor implements RequestPostProcessor
         return this;
     }
 
+    /// Sets the person ID header.
+    ///
+    /// @param personId the person ID
+    /// @return this instance for method chaining
+    public GatewayHeadersRequestPostProcessor personId(Integer personId) {
+        this.personId = personId;
+        return this;
+    }
+
     /// Sets the email header.
     ///
     /// @param email the email address
@@ -93,6 +103,9 @@ public class GatewayHeadersRequestPostProcessor implements RequestPostProcessor
         if (teacherId != null) {
             request.addHeader("X-Teacher-Id", teacherId);
         }
+        if (personId != null) {
+            request.addHeader("X-Person-Id", personId);
+        }
         if (email != null) {
             request.addHeader("X-Email", email);
         }
@@ -8,10 +8,12 @@ import com.stag.identity.person.exception.PersonNotFoundException;
 import com.stag.identity.person.exception.PersonProfileFetchException;
 import com.stag.identity.person.model.Addresses;
 import com.stag.identity.person.model.Banking;
+import com.stag.identity.person.model.Dossier;
 import com.stag.identity.person.model.Education;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.service.AddressService;
 import com.stag.identity.person.service.BankingService;
+import com.stag.identity.person.service.DossierService;
 import com.stag.identity.person.service.EducationService;
 import com.stag.identity.person.service.ProfileService;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
@@ -70,6 +72,9 @@ class PersonControllerTest {
     @MockitoBean
     private EducationService educationService;
 
+    @MockitoBean
+    private DossierService dossierService;
+
     @Test
     @DisplayName("should return 200 OK with person profile when valid personId and English language provided")
     void getPersonProfile_ValidPersonIdAndEnglishLanguage_ReturnsOkWithPersonProfile() {
@@ -693,12 +698,63 @@ class PersonControllerTest {
         verify(educationService).getPersonEducation(personId, language);
     }
 
+    @Test
+    @DisplayName("should return 200 OK with all dossier parts when valid personId and language provided")
+    void getPersonDossier_ValidRequest_ReturnsDossier() {
+        Integer personId = 12345;
+        String language = "en";
+
+        Dossier dossier = Dossier.builder()
+                                 .profile(Profile.builder()
+                                                 .personId(personId)
+                                                 .firstName("John")
+                                                 .lastName("Doe")
+                                                 .build())
+                                 .addresses(Addresses.builder()
+                                                     .permanentAddress(Addresses.Address.builder()
+                                                                                        .street("Main Street")
+                                                                                        .build())
+                                                     .build())
+                                 .banking(Banking.builder()
+                                                 .account(Banking.BankAccount.builder()
+                                                                             .bankCode("0100")
+                                                                             .bankName("Komerční banka")
+                                                                             .build())
+                                                 .build())
+                                 .education(Education.builder()
+                                                     .highSchool(Education.HighSchool.builder()
+                                                                                     .name("Gymnázium Plzeň")
+                                                                                     .build())
+                                                     .build())
+                                 .build();
+
+        when(dossierService.getPersonDossier(personId, language)).thenReturn(dossier);
+
+        assertThat(mvc.get()
+                      .uri("/api/v1/persons/{personId}/dossier", personId)
+                      .header(HttpHeaders.ACCEPT_LANGUAGE, language)
+                      .accept(MediaType.APPLICATION_JSON)
+                      .with(gatewayHeaders()))
+            .hasStatusOk()
+            .bodyJson()
+            .satisfies(json -> {
+                json.assertThat().extractingPath("$.profile.personId").isEqualTo(personId);
+                json.assertThat().extractingPath("$.profile.firstName").isEqualTo("John");
+                json.assertThat().extractingPath("$.addresses.permanentAddress.street").isEqualTo("Main Street");
+                json.assertThat().extractingPath("$.banking.account.bankName").isEqualTo("Komerční banka");
+                json.assertThat().extractingPath("$.education.highSchool.schoolName").isEqualTo("Gymnázium Plzeň");
+            });
+
+        verify(dossierService).getPersonDossier(personId, language);
+    }
+
     @ParameterizedTest
     @CsvSource({
         "/api/v1/persons/{personId}, profile",
         "/api/v1/persons/{personId}/addresses, addresses",
         "/api/v1/persons/{personId}/banking, banking",
-        "/api/v1/persons/{personId}/education, education"
+        "/api/v1/persons/{personId}/education, education",
+        "/api/v1/persons/{personId}/dossier, dossier"
     })
     @DisplayName("should return 404 Not Found when person does not exist for GET endpoints")
     void getEndpoints_PersonNotFound_Returns404(String uriTemplate, String serviceType) {
@@ -715,6 +771,8 @@ class PersonControllerTest {
                 .thenThrow(new PersonNotFoundException(personId));
             case "education" -> when(educationService.getPersonEducation(personId, language))
                 .thenThrow(new PersonNotFoundException(personId));
+            case "dossier" -> when(dossierService.getPersonDossier(personId, language))
+                .thenThrow(new PersonNotFoundException(personId));
             default -> { /* empty */ }
         }
 
@@ -737,6 +795,7 @@ class PersonControllerTest {
             case "addresses" -> verify(addressService).getPersonAddresses(personId, language);
             case "banking" -> verify(bankingService).getPersonBanking(personId, language);
             case "education" -> verify(educationService).getPersonEducation(personId, language);
+            case "dossier" -> verify(dossierService).getPersonDossier(personId, language);
             default -> { /* empty */ }
         }
     }
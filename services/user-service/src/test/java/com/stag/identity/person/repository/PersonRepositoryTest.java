@@ -3,9 +3,12 @@ package com.stag.identity.person.repository;
 import com.stag.identity.config.TestCacheConfig;
 import com.stag.identity.config.TestOracleContainerConfig;
 import com.stag.identity.person.entity.Person;
+import com.stag.identity.person.repository.projection.AccountNumbersView;
 import com.stag.identity.person.repository.projection.AddressView;
 import com.stag.identity.person.repository.projection.BankView;
+import com.stag.identity.person.repository.projection.DossierView;
 import com.stag.identity.person.repository.projection.EducationView;
+import com.stag.identity.person.repository.projection.IdentifiedSimpleProfileView;
 import com.stag.identity.person.repository.projection.ProfileView;
 import com.stag.identity.person.repository.projection.SimpleProfileView;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +21,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -109,6 +113,29 @@ class PersonRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findByIdIn with projection")
+    class FindByIdInWithProjection {
+
+        @Test
+        @DisplayName("should return IdentifiedSimpleProfileView of existing persons only")
+        void shouldReturnIdentifiedSimpleProfileViewsOfExistingPersons() {
+            personRepository.saveAndFlush(createTestPerson(1));
+            personRepository.saveAndFlush(createTestPerson(2));
+
+            List<IdentifiedSimpleProfileView> result =
+                personRepository.findByIdIn(List.of(1, 2, 999), IdentifiedSimpleProfileView.class);
+
+            assertThat(result).extracting(IdentifiedSimpleProfileView::id)
+                              .containsExactlyInAnyOrder(1, 2);
+            assertThat(result).allSatisfy(profile -> {
+                assertThat(profile.firstName()).isEqualTo("Jan");
+                assertThat(profile.titlePrefix()).isEqualTo("Ing");
+                assertThat(profile.gender()).isEqualTo("M");
+            });
+        }
+    }
+
     @Nested
     @DisplayName("findAddressesByPersonId")
     class FindAddressesByPersonId {
@@ -324,6 +351,108 @@ class PersonRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findDossierByPersonId")
+    class FindDossierByPersonId {
+
+        @Test
+        @DisplayName("should return all dossier parts with a single query")
+        void shouldReturnAllDossierParts() {
+            Person person = createTestPerson(1);
+            person.setStreet("Hlavní");
+            person.setDomicileMunicipalityPartId(1000L);
+            person.setBankCode("0100");
+            person.setAccountSuffix("1234567890");
+            person.setEuroAccountCountryId(276);
+            person.setHighSchoolId("600012345");
+            person.setGraduationDate(LocalDate.of(2008, 6, 15));
+            personRepository.saveAndFlush(person);
+
+            Optional<DossierView> result = personRepository.findDossierByPersonId(1);
+
+            assertThat(result).isPresent();
+            DossierView dossier = result.get();
+            assertThat(dossier.toProfileView()).isEqualTo(personRepository.findById(1, ProfileView.class).orElseThrow());
+            assertThat(dossier.toAddressView()).isEqualTo(personRepository.findAddressesByPersonId(1).orElseThrow());
+            assertThat(dossier.toBankView()).isEqualTo(personRepository.findBankingByPersonId(1).orElseThrow());
+            assertThat(dossier.toEducationView()).isEqualTo(personRepository.findEducationByPersonId(1).orElseThrow());
+            assertThat(dossier.permanentStreet()).isEqualTo("Hlavní");
+            assertThat(dossier.accountBank()).isEqualTo("0100");
+            assertThat(dossier.highSchoolId()).isEqualTo("600012345");
+        }
+
+        @Test
+        @DisplayName("should return empty when person does not exist")
+        void shouldReturnEmptyWhenPersonDoesNotExist() {
+            Optional<DossierView> result = personRepository.findDossierByPersonId(999);
+
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAccountNumbersByPersonId")
+    class FindAccountNumbersByPersonId {
+
+        @Test
+        @DisplayName("should return account numbers when person exists")
+        void shouldReturnAccountNumbersWhenPersonExists() {
+            Person person = createTestPerson(1);
+            person.setAccountPrefix("123456");
+            person.setAccountSuffix("1234567890");
+            person.setBankCode("0100");
+            personRepository.saveAndFlush(person);
+
+            Optional<AccountNumbersView> result = personRepository.findAccountNumbersByPersonId(1);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().accountPrefix()).isEqualTo("123456");
+            assertThat(result.get().accountSuffix()).isEqualTo("1234567890");
+            assertThat(result.get().bankCode()).isEqualTo("0100");
+        }
+
+        @Test
+        @DisplayName("should return empty when person does not exist")
+        void shouldReturnEmptyWhenPersonDoesNotExist() {
+            assertThat(personRepository.findAccountNumbersByPersonId(999)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("patch")
+    class Patch {
+
+        @Test
+        @DisplayName("should update only the patched columns")
+        void shouldUpdateOnlyThePatchedColumns() {
+            Person person = createTestPerson(1);
+            person.setAccountHolder("Jan Novák");
+            person.setBankCode("0100");
+            personRepository.saveAndFlush(person);
+
+            PersonPatch patch = new PersonPatch().set(PersonPatch.Column.EMAIL, "novy@example.com")
+                                                 .set(PersonPatch.Column.BANK_CODE, null);
+
+            int updated = personRepository.patch(1, patch);
+
+            assertThat(updated).isEqualTo(1);
+            ProfileView profile = personRepository.findById(1, ProfileView.class).orElseThrow();
+            assertThat(profile.email()).isEqualTo("novy@example.com");
+            assertThat(profile.phone()).isEqualTo("+420123456789");
+            BankView banking = personRepository.findBankingByPersonId(1).orElseThrow();
+            assertThat(banking.accountBank()).isNull();
+            assertThat(banking.accountOwner()).isEqualTo("Jan Novák");
+        }
+
+        @Test
+        @DisplayName("should not update when person does not exist")
+        void shouldNotUpdateWhenPersonDoesNotExist() {
+            PersonPatch patch = new PersonPatch().set(PersonPatch.Column.EMAIL, "novy@example.com");
+
+            assertThat(personRepository.patch(999, patch)).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("save")
     class Save {
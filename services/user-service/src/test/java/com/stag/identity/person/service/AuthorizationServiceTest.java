@@ -1,5 +1,6 @@
 package com.stag.identity.person.service;
 
+import com.stag.identity.shared.config.GatewayAuthenticatedUser;
 import com.stag.identity.shared.grpc.client.StudentClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,9 +11,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +28,23 @@ class AuthorizationServiceTest {
     @InjectMocks
     private AuthorizationService authorizationService;
 
+    @ParameterizedTest(name = "Should return {2} when forwarded personId={0} and requested personId={1}")
+    @CsvSource(
+        {
+            "456, 456, true",
+            "456, 789, false"
+        }
+    )
+    @DisplayName("Should compare forwarded person ID without calling student client")
+    void isStudentOwner_PersonIdForwarded_ComparesLocally(
+        Integer forwardedPersonId, Integer requestedPersonId, boolean expectedResult
+    ) {
+        boolean result = authorizationService.isStudentOwner(student("ST123", forwardedPersonId), requestedPersonId);
+
+        assertThat(result).isEqualTo(expectedResult);
+        verifyNoInteractions(studentClient);
+    }
+
     @ParameterizedTest(name = "Should return {3} when studentPersonId={1} and requested personId={2}")
     @CsvSource(
         {
@@ -31,13 +52,13 @@ class AuthorizationServiceTest {
             "ST123, 456, 789, false"
         }
     )
-    @DisplayName("Should return correct ownership status for student")
+    @DisplayName("Should fall back to student client when person ID is not forwarded")
     void isStudentAndOwner_Student_ReturnsOwnershipStatus(
         String studentId, Integer studentPersonId, Integer requestedPersonId, boolean expectedResult
     ) {
         when(studentClient.getStudentPersonId(studentId)).thenReturn(studentPersonId);
 
-        boolean result = authorizationService.isStudentOwner(studentId, requestedPersonId);
+        boolean result = authorizationService.isStudentOwner(student(studentId, null), requestedPersonId);
 
         assertThat(result).isEqualTo(expectedResult);
         verify(studentClient).getStudentPersonId(studentId);
@@ -51,11 +72,15 @@ class AuthorizationServiceTest {
 
         when(studentClient.getStudentPersonId(studentId)).thenThrow(new RuntimeException("gRPC error"));
 
-        assertThatThrownBy(() -> authorizationService.isStudentOwner(studentId, personId))
+        assertThatThrownBy(() -> authorizationService.isStudentOwner(student(studentId, null), personId))
             .isInstanceOf(RuntimeException.class)
             .hasMessage("gRPC error");
 
         verify(studentClient).getStudentPersonId(studentId);
     }
 
+    private static GatewayAuthenticatedUser student(String studentId, Integer personId) {
+        return new GatewayAuthenticatedUser(studentId, null, personId, "student@example.com", List.of());
+    }
+
 }
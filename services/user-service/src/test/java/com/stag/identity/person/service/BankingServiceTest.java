@@ -1,10 +1,12 @@
 package com.stag.identity.person.service;
 
-import com.stag.identity.person.entity.Person;
 import com.stag.identity.person.exception.InvalidBankAccountException;
 import com.stag.identity.person.exception.PersonNotFoundException;
 import com.stag.identity.person.model.Banking;
+import com.stag.identity.person.repository.PersonPatch;
+import com.stag.identity.person.repository.PersonPatch.Column;
 import com.stag.identity.person.repository.PersonRepository;
+import com.stag.identity.person.repository.projection.AccountNumbersView;
 import com.stag.identity.person.repository.projection.BankView;
 import com.stag.identity.person.service.data.BankingLookupData;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
@@ -89,48 +91,43 @@ class BankingServiceTest {
     @Test
     @DisplayName("Should do nothing when bank account input is null")
     void updatePersonBankAccount_NullInput_DoesNothing() {
-        Person person = new Person();
-        person.setId(1);
+        PersonPatch patch = new PersonPatch();
 
-        bankingService.updatePersonBankAccount(person, null);
+        bankingService.updatePersonBankAccount(1, patch, null);
 
-        assertThat(person.getAccountHolder()).isNull();
+        assertThat(patch.isEmpty()).isTrue();
+        verifyNoInteractions(personRepository);
     }
 
     @Test
     @DisplayName("Should clear bank account when all fields are null")
     void updatePersonBankAccount_AllNulls_ClearsAccount() {
-        Person person = new Person();
-        person.setId(1);
-        person.setBankCode("0100");
-        person.setAccountPrefix("123");
-        person.setAccountSuffix("456");
-        person.setAccountIban("CZ...");
+        PersonPatch patch = new PersonPatch();
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             null, null, null, "Holder", "Address"
         );
 
-        bankingService.updatePersonBankAccount(person, input);
+        bankingService.updatePersonBankAccount(1, patch, input);
 
-        assertThat(person.getBankCode()).isNull();
-        assertThat(person.getAccountPrefix()).isNull();
-        assertThat(person.getAccountSuffix()).isNull();
-        assertThat(person.getAccountIban()).isNull();
-        assertThat(person.getAccountHolder()).isEqualTo("Holder");
-        assertThat(person.getAccountAddress()).isEqualTo("Address");
+        assertThat(patch.getValues())
+            .containsEntry(Column.BANK_CODE, null)
+            .containsEntry(Column.ACCOUNT_PREFIX, null)
+            .containsEntry(Column.ACCOUNT_SUFFIX, null)
+            .containsEntry(Column.ACCOUNT_IBAN, null)
+            .containsEntry(Column.ACCOUNT_HOLDER, "Holder")
+            .containsEntry(Column.ACCOUNT_ADDRESS, "Address");
+        verifyNoInteractions(personRepository);
     }
 
     @Test
     @DisplayName("Should throw exception when suffix is present but bank code is missing")
     void updatePersonBankAccount_SuffixWithoutBankCode_ThrowsException() {
-        Person person = new Person();
-
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             null, "123456", null, null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, new PersonPatch(), input))
             .isInstanceOf(InvalidBankAccountException.class)
             .hasMessageContaining("Bank code is mandatory");
     }
@@ -138,13 +135,11 @@ class BankingServiceTest {
     @Test
     @DisplayName("Should throw exception when bank code is present but suffix is missing")
     void updatePersonBankAccount_BankCodeWithoutSuffix_ThrowsException() {
-        Person person = new Person();
-
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             null, null, "0100", null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, new PersonPatch(), input))
             .isInstanceOf(InvalidBankAccountException.class)
             .hasMessageContaining("Account number (suffix) is mandatory");
     }
@@ -152,13 +147,11 @@ class BankingServiceTest {
     @Test
     @DisplayName("Should throw exception when prefix is present but suffix is missing")
     void updatePersonBankAccount_PrefixWithoutSuffix_ThrowsException() {
-        Person person = new Person();
-
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "123", null, "0100", null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, new PersonPatch(), input))
             .isInstanceOf(InvalidBankAccountException.class)
             .hasMessageContaining("Account number (suffix) is mandatory");
     }
@@ -166,124 +159,135 @@ class BankingServiceTest {
     @Test
     @DisplayName("Should update account and generate IBAN when valid data is provided")
     void updatePersonBankAccount_ValidData_UpdatesAndGeneratesIban() {
-        Person person = new Person();
-        person.setId(1);
+        PersonPatch patch = new PersonPatch();
+        stubAccountNumbers(1, new AccountNumbersView(null, null, null));
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "0", "0", "0100", "New Holder", "New Address"
         );
 
-        bankingService.updatePersonBankAccount(person, input);
-
-        assertThat(person.getAccountHolder()).isEqualTo("New Holder");
-        assertThat(person.getAccountAddress()).isEqualTo("New Address");
-        assertThat(person.getBankCode()).isEqualTo("0100");
-        assertThat(person.getAccountPrefix()).isEqualTo("0");
-        assertThat(person.getAccountSuffix()).isEqualTo("0");
+        bankingService.updatePersonBankAccount(1, patch, input);
 
         Iban expectedIban = new Iban.Builder()
             .countryCode(CountryCode.CZ)
             .bankCode("0100")
             .accountNumber("0000000000000000")
             .build();
-        assertThat(person.getAccountIban()).isEqualTo(expectedIban.toString());
+
+        assertThat(patch.getValues())
+            .containsEntry(Column.ACCOUNT_HOLDER, "New Holder")
+            .containsEntry(Column.ACCOUNT_ADDRESS, "New Address")
+            .containsEntry(Column.BANK_CODE, "0100")
+            .containsEntry(Column.ACCOUNT_PREFIX, "0")
+            .containsEntry(Column.ACCOUNT_SUFFIX, "0")
+            .containsEntry(Column.ACCOUNT_IBAN, expectedIban.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw PersonNotFoundException when account numbers of a missing person are read")
+    void updatePersonBankAccount_PersonNotFound_ThrowsException() {
+        when(personRepository.findAccountNumbersByPersonId(999)).thenReturn(Optional.empty());
+
+        PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
+            "0", "0", "0100", null, null
+        );
+
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(999, new PersonPatch(), input))
+            .isInstanceOf(PersonNotFoundException.class)
+            .hasMessageContaining("999");
     }
 
     @Test
     @DisplayName("Should remove prefix when input prefix is null but other fields present")
     void updatePersonBankAccount_NullPrefix_RemovesPrefix() {
-        Person person = new Person();
-        person.setAccountPrefix("0");
-        person.setAccountSuffix("0");
-        person.setBankCode("0100");
+        PersonPatch patch = new PersonPatch();
+        stubAccountNumbers(1, new AccountNumbersView("0", "0", "0100"));
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             null, "0", "0800", "Holder", "Address"
         );
 
-        bankingService.updatePersonBankAccount(person, input);
+        bankingService.updatePersonBankAccount(1, patch, input);
 
-        assertThat(person.getAccountPrefix()).isNull();
-        assertThat(person.getAccountSuffix()).isEqualTo("0");
-        assertThat(person.getBankCode()).isEqualTo("0800");
+        assertThat(patch.getValues())
+            .containsEntry(Column.ACCOUNT_PREFIX, null)
+            .containsEntry(Column.ACCOUNT_SUFFIX, "0")
+            .containsEntry(Column.BANK_CODE, "0800");
     }
 
     @Test
     @DisplayName("Should not clear bank account if prefix is provided but others are null")
     void updatePersonBankAccount_OnlyPrefixProvided_DoesNotHitClearBranch() {
-        Person person = new Person();
-        person.setBankCode("0100");
+        PersonPatch patch = new PersonPatch();
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "0", null, null, null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, patch, input))
             .isInstanceOf(InvalidBankAccountException.class)
             .hasMessageContaining("Account number (suffix) is mandatory");
 
-        assertThat(person.getBankCode()).isEqualTo("0100");
+        assertThat(patch.getValues()).doesNotContainKey(Column.BANK_CODE);
     }
 
     @Test
     @DisplayName("Should use existing person values for IBAN generation when input fields are null")
     void updatePersonBankAccount_UsesExistingValuesForIban() {
-        Person person = new Person();
-        person.setBankCode("0100");
-        person.setAccountPrefix("123");
-        person.setAccountSuffix("123");
+        PersonPatch patch = new PersonPatch();
+        stubAccountNumbers(1, new AccountNumbersView("123", "123", "0100"));
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "123", "123", "0800", null, null
         );
 
-        bankingService.updatePersonBankAccount(person, input);
+        bankingService.updatePersonBankAccount(1, patch, input);
 
-        assertThat(person.getAccountIban()).contains("0001230000000123");
+        assertThat((String) patch.getValues().get(Column.ACCOUNT_IBAN)).contains("0001230000000123");
     }
 
     @Test
     @DisplayName("Should clear IBAN if bank code becomes null during update")
     void updatePersonBankAccount_NoBankCode_ClearsIban() {
-        Person person = new Person();
-        person.setAccountIban("CZ123...");
+        PersonPatch patch = new PersonPatch();
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             null, null, null, null, null
         );
 
-        bankingService.updatePersonBankAccount(person, input);
+        bankingService.updatePersonBankAccount(1, patch, input);
 
-        assertThat(person.getAccountIban()).isNull();
+        assertThat(patch.getValues()).containsEntry(Column.ACCOUNT_IBAN, null);
     }
 
     @Test
     @DisplayName("Should update prefix even if suffix validation fails later (in-memory state)")
     void updatePersonBankAccount_ValidPrefixInvalidSuffix_UpdatesPrefixThenThrows() {
-        Person person = new Person();
-        person.setAccountPrefix("999");
+        PersonPatch patch = new PersonPatch();
+        stubAccountNumbers(1, new AccountNumbersView("999", null, null));
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "0", "1", "0100", null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, patch, input))
             .isInstanceOf(RuntimeException.class);
 
-        assertThat(person.getAccountPrefix()).isEqualTo("0");
-        assertThat(person.getAccountSuffix()).isNull();
+        assertThat(patch.getValues())
+            .containsEntry(Column.ACCOUNT_PREFIX, "0")
+            .doesNotContainKey(Column.ACCOUNT_SUFFIX);
     }
 
     @Test
     @DisplayName("Should throw exception when suffix checksum is invalid")
     void updatePersonBankAccount_InvalidSuffixChecksum_ThrowsException() {
-        Person person = new Person();
+        stubAccountNumbers(1, new AccountNumbersView(null, null, null));
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "0", "1", "0100", null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, new PersonPatch(), input))
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("1");
     }
@@ -291,15 +295,19 @@ class BankingServiceTest {
     @Test
     @DisplayName("Should throw exception when prefix checksum is invalid")
     void updatePersonBankAccount_InvalidPrefixChecksum_ThrowsException() {
-        Person person = new Person();
+        stubAccountNumbers(1, new AccountNumbersView(null, null, null));
 
         PersonUpdateCommand.BankAccount input = new PersonUpdateCommand.BankAccount(
             "1", "0", "0100", null, null
         );
 
-        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(person, input))
+        assertThatThrownBy(() -> bankingService.updatePersonBankAccount(1, new PersonPatch(), input))
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("1");
     }
 
+    private void stubAccountNumbers(Integer personId, AccountNumbersView accountNumbers) {
+        when(personRepository.findAccountNumbersByPersonId(personId)).thenReturn(Optional.of(accountNumbers));
+    }
+
 }
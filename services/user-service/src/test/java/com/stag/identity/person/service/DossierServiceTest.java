@@ -0,0 +1,112 @@
+package com.stag.identity.person.service;
+
+import com.stag.identity.person.exception.PersonNotFoundException;
+import com.stag.identity.person.model.Dossier;
+import com.stag.identity.person.repository.PersonRepository;
+import com.stag.identity.person.repository.projection.DossierView;
+import com.stag.identity.person.service.data.DossierLookupData;
+import com.stag.identity.shared.grpc.client.CodelistClient;
+import com.stag.identity.shared.grpc.client.StudentClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DossierServiceTest {
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private StudentClient studentClient;
+
+    @Mock
+    private CodelistClient codelistClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DossierService dossierService;
+
+    @BeforeEach
+    void setUp() {
+        // Lenient stubbing for TransactionTemplate
+        lenient().when(transactionTemplate.execute(any()))
+                 .thenAnswer(invocation -> {
+                     TransactionCallback<?> callback = invocation.getArgument(0);
+                     return callback.doInTransaction(mock(TransactionStatus.class));
+                 });
+    }
+
+    @Test
+    @DisplayName("Should return dossier with one repository read and one codelist call")
+    void getPersonDossier_Success_ReturnsDossier() {
+        Integer personId = 123;
+        String language = "en";
+        DossierView dossierView = mock(DossierView.class);
+
+        when(personRepository.findDossierByPersonId(personId)).thenReturn(Optional.of(dossierView));
+        when(studentClient.getStudentIds(personId)).thenReturn(List.of("ST123"));
+        when(codelistClient.getPersonDossierData(dossierView, language)).thenReturn(DossierLookupData.builder().build());
+
+        Dossier result = dossierService.getPersonDossier(personId, language);
+
+        assertThat(result).isNotNull();
+
+        verify(transactionTemplate).execute(any());
+        verify(personRepository).findDossierByPersonId(personId);
+        verify(studentClient).getStudentIds(personId);
+        verify(codelistClient).getPersonDossierData(dossierView, language);
+    }
+
+    @Test
+    @DisplayName("Should throw PersonNotFoundException when person not found")
+    void getPersonDossier_PersonNotFound_ThrowsException() {
+        Integer personId = 999;
+        String language = "cs";
+
+        when(personRepository.findDossierByPersonId(personId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> dossierService.getPersonDossier(personId, language))
+            .isInstanceOf(PersonNotFoundException.class)
+            .hasMessageContaining(String.valueOf(personId));
+
+        verifyNoInteractions(studentClient, codelistClient);
+    }
+
+    @Test
+    @DisplayName("Should propagate RuntimeException from tasks as-is")
+    void getPersonDossier_TaskThrowsRuntimeException_PropagatesIt() {
+        Integer personId = 123;
+        String language = "en";
+        DossierView dossierView = mock(DossierView.class);
+
+        when(personRepository.findDossierByPersonId(personId)).thenReturn(Optional.of(dossierView));
+        when(codelistClient.getPersonDossierData(dossierView, language)).thenThrow(new RuntimeException("Service unavailable"));
+
+        assertThatThrownBy(() -> dossierService.getPersonDossier(personId, language))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Service unavailable");
+    }
+
+}
@@ -1,11 +1,14 @@
 package com.stag.identity.person.service;
 
-import com.stag.identity.person.entity.Person;
+import com.stag.identity.person.event.PersonProfileUpdatedEvent;
 import com.stag.identity.person.exception.PersonNotFoundException;
 import com.stag.identity.person.exception.PersonProfileFetchException;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.model.SimpleProfile;
+import com.stag.identity.person.repository.PersonPatch;
+import com.stag.identity.person.repository.PersonPatch.Column;
 import com.stag.identity.person.repository.PersonRepository;
+import com.stag.identity.person.repository.projection.IdentifiedSimpleProfileView;
 import com.stag.identity.person.repository.projection.ProfileView;
 import com.stag.identity.person.repository.projection.SimpleProfileView;
 import com.stag.identity.person.service.data.CodelistMeaningsLookupData;
@@ -14,18 +17,27 @@ import com.stag.identity.person.service.data.ProfileUpdateLookupData;
 import com.stag.identity.person.service.dto.PersonUpdateCommand;
 import com.stag.identity.shared.grpc.client.CodelistClient;
 import com.stag.identity.shared.grpc.client.StudentClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,8 +47,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -59,6 +74,15 @@ class ProfileServiceTest {
     @Mock
     private TransactionTemplate transactionTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -206,12 +230,53 @@ class ProfileServiceTest {
             .isInstanceOf(PersonNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("Should load only uncached simple profiles with one query and one codelist call")
+    void getPersonSimpleProfiles_PartiallyCached_LoadsMissingInOneBatch() {
+        String language = "cs";
+        ConcurrentMapCache cache = new ConcurrentMapCache("person-simple-profile");
+        SimpleProfile cachedProfile = SimpleProfile.builder().firstName("Jan").lastName("Novák").build();
+        cache.put(List.of(1, language), cachedProfile);
+        CodelistMeaningsLookupData lookupData = mock(CodelistMeaningsLookupData.class);
+
+        when(cacheManager.getCache("person-simple-profile")).thenReturn(cache);
+        when(personRepository.findByIdIn(List.of(3, 2), IdentifiedSimpleProfileView.class))
+            .thenReturn(List.of(new IdentifiedSimpleProfileView(2, "Eva", "Malá", null, null, "Z")));
+        when(codelistClient.getSimpleProfilesData(any(), eq(language))).thenReturn(lookupData);
+
+        Map<Integer, SimpleProfile> result = profileService.getPersonSimpleProfiles(List.of(3, 2, 1, 2), language);
+
+        assertThat(result).containsOnlyKeys(2, 1);
+        assertThat(result.keySet()).containsExactly(2, 1);
+        assertThat(result.get(1)).isSameAs(cachedProfile);
+        assertThat(result.get(2).firstName()).isEqualTo("Eva");
+        assertThat(cache.get(List.of(2, language), SimpleProfile.class)).isEqualTo(result.get(2));
+        assertThat(cache.get(List.of(3, language))).isNull();
+
+        verify(personRepository).findByIdIn(List.of(3, 2), IdentifiedSimpleProfileView.class);
+        verify(codelistClient).getSimpleProfilesData(any(), eq(language));
+    }
+
+    @Test
+    @DisplayName("Should not touch database when all simple profiles are cached")
+    void getPersonSimpleProfiles_AllCached_SkipsLoad() {
+        String language = "en";
+        ConcurrentMapCache cache = new ConcurrentMapCache("person-simple-profile");
+        cache.put(List.of(1, language), SimpleProfile.builder().firstName("Jan").build());
+        cache.put(List.of(2, language), SimpleProfile.builder().firstName("Eva").build());
+
+        when(cacheManager.getCache("person-simple-profile")).thenReturn(cache);
+
+        Map<Integer, SimpleProfile> result = profileService.getPersonSimpleProfiles(List.of(2, 1), language);
+
+        assertThat(result.keySet()).containsExactly(2, 1);
+        verifyNoInteractions(personRepository, codelistClient);
+    }
+
     @Test
     @DisplayName("Should update profile with valid data")
     void updatePersonProfile_ValidData_UpdatesPerson() {
         Integer personId = 123;
-        Person person = new Person();
-        person.setId(personId);
 
         Profile.Contact contact = new Profile.Contact("email@test.com", "123", "456", "aaaaaaa");
         PersonUpdateCommand.BankAccount bankAccount = mock(PersonUpdateCommand.BankAccount.class);
@@ -229,21 +294,46 @@ class ProfileServiceTest {
 
         ProfileUpdateLookupData lookupData = new ProfileUpdateLookupData("S", "10", "20", 1);
 
-        when(personRepository.findById(personId)).thenReturn(Optional.of(person));
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(1);
         when(codelistClient.getPersonProfileUpdateData(any(), any(), any())).thenReturn(lookupData);
 
         profileService.updatePersonProfile(personId, command);
 
-        assertThat(person.getBirthSurname()).isEqualTo("NewSurname");
-        assertThat(person.getEmail()).isEqualTo("email@test.com");
-        assertThat(person.getDataBox()).isEqualTo("aaaaaaa");
-        assertThat(person.getBirthPlace()).isEqualTo("City");
-        assertThat(person.getMaritalStatus()).isEqualTo("S");
-        assertThat(person.getTitlePrefix()).isEqualTo("10");
-        assertThat(person.getBirthCountryId()).isEqualTo(1);
-
-        verify(bankingService).updatePersonBankAccount(person, bankAccount);
+        PersonPatch patch = capturePatch(personId);
+        assertThat(patch.getValues())
+            .containsEntry(Column.BIRTH_SURNAME, "NewSurname")
+            .containsEntry(Column.EMAIL, "email@test.com")
+            .containsEntry(Column.DATA_BOX, "aaaaaaa")
+            .containsEntry(Column.BIRTH_PLACE, "City")
+            .containsEntry(Column.MARITAL_STATUS, "S")
+            .containsEntry(Column.TITLE_PREFIX, "10")
+            .containsEntry(Column.BIRTH_COUNTRY_ID, 1);
+
+        verify(bankingService).updatePersonBankAccount(personId, patch, bankAccount);
         verify(codelistClient).getPersonProfileUpdateData("Single", "CZ", titles);
+        verify(eventPublisher).publishEvent(new PersonProfileUpdatedEvent(personId));
+        verify(transactionTemplate).execute(any());
+        verify(personRepository, never()).findById(any());
+        assertThat(meterRegistry.get("person.profile.update.transaction").tag("outcome", "success").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resolve codelist values before opening the transaction")
+    void updatePersonProfile_ResolvesLookupsBeforeTransaction() {
+        Integer personId = 123;
+        PersonUpdateCommand command = new PersonUpdateCommand(
+            "Surname", "Single", null, null, null, null
+        );
+
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(1);
+
+        profileService.updatePersonProfile(personId, command);
+
+        InOrder inOrder = inOrder(codelistClient, transactionTemplate, personRepository);
+        inOrder.verify(codelistClient).getPersonProfileUpdateData("Single", null, null);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(personRepository).patch(eq(personId), any(PersonPatch.class));
     }
 
     @Test
@@ -252,18 +342,20 @@ class ProfileServiceTest {
         Integer personId = 999;
         PersonUpdateCommand command = mock(PersonUpdateCommand.class);
 
-        when(personRepository.findById(personId)).thenReturn(Optional.empty());
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(0);
 
         assertThatThrownBy(() -> profileService.updatePersonProfile(personId, command))
             .isInstanceOf(PersonNotFoundException.class);
+
+        verifyNoInteractions(eventPublisher);
+        assertThat(meterRegistry.get("person.profile.update.transaction").tag("outcome", "failure").timer().count())
+            .isEqualTo(1);
     }
 
     @Test
     @DisplayName("Should skip contact update if contact is null")
     void updatePersonProfile_NullContact_DoesNotUpdateContact() {
         Integer personId = 123;
-        Person person = new Person();
-        person.setEmail("old@test.com");
 
         PersonUpdateCommand command = new PersonUpdateCommand(
             "Surname",
@@ -274,68 +366,73 @@ class ProfileServiceTest {
             null
         );
 
-        when(personRepository.findById(personId)).thenReturn(Optional.of(person));
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(1);
 
         profileService.updatePersonProfile(personId, command);
 
-        assertThat(person.getEmail()).isEqualTo("old@test.com");
+        assertThat(capturePatch(personId).getValues())
+            .containsOnlyKeys(Column.BIRTH_SURNAME);
     }
 
     @Test
     @DisplayName("Should clear data box if provided data box is null in contact")
     void updatePersonProfile_NullDataBox_ClearsDataBox() {
         Integer personId = 123;
-        Person person = new Person();
-        person.setDataBox("aaaaaaa");
 
         Profile.Contact contact = new Profile.Contact("e", "p", "m", null);
         PersonUpdateCommand command = new PersonUpdateCommand(
             "S", "single", contact, null, null, null
         );
 
-        when(personRepository.findById(personId)).thenReturn(Optional.of(person));
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(1);
 
         profileService.updatePersonProfile(personId, command);
 
-        assertThat(person.getDataBox()).isNull();
+        assertThat(capturePatch(personId).getValues())
+            .containsEntry(Column.DATA_BOX, null);
     }
 
     @Test
     @DisplayName("Should not update data box if provided ID is invalid")
     void updatePersonProfile_InvalidDataBox_DoesNotUpdateDataBox() {
         Integer personId = 123;
-        Person person = new Person();
-        person.setDataBox("aaaaaaa");
 
         Profile.Contact contact = new Profile.Contact("e", "p", "m", "invalid");
         PersonUpdateCommand command = new PersonUpdateCommand(
             "S", "single", contact, null, null, null
         );
 
-        when(personRepository.findById(personId)).thenReturn(Optional.of(person));
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(1);
 
         profileService.updatePersonProfile(personId, command);
 
-        assertThat(person.getDataBox()).isEqualTo("aaaaaaa");
+        assertThat(capturePatch(personId).getValues())
+            .containsEntry(Column.EMAIL, "e")
+            .doesNotContainKey(Column.DATA_BOX);
     }
 
     @Test
     @DisplayName("Should not update valid fields if codelist lookup returns null")
     void updatePersonProfile_NullLookupData_DoesNotUpdateValidatedFields() {
         Integer personId = 123;
-        Person person = new Person();
-        person.setMaritalStatus("Old");
 
         PersonUpdateCommand command = new PersonUpdateCommand(
             "S", "NewStatus", null, null, null, null
         );
 
-        when(personRepository.findById(personId)).thenReturn(Optional.of(person));
+        when(personRepository.patch(eq(personId), any(PersonPatch.class))).thenReturn(1);
         when(codelistClient.getPersonProfileUpdateData(any(), any(), any())).thenReturn(null);
 
         profileService.updatePersonProfile(personId, command);
 
-        assertThat(person.getMaritalStatus()).isEqualTo("Old");
+        assertThat(capturePatch(personId).getValues())
+            .doesNotContainKeys(Column.MARITAL_STATUS, Column.TITLE_PREFIX, Column.TITLE_SUFFIX, Column.BIRTH_COUNTRY_ID);
+    }
+
+    private PersonPatch capturePatch(Integer personId) {
+        ArgumentCaptor<PersonPatch> patchCaptor = ArgumentCaptor.forClass(PersonPatch.class);
+        verify(personRepository).patch(eq(personId), patchCaptor.capture());
+        return patchCaptor.getValue();
     }
 
 }
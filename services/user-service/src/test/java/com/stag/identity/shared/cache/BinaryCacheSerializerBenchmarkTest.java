@@ -0,0 +1,112 @@
+package com.stag.identity.shared.cache;
+
+import com.stag.identity.person.model.Addresses;
+import com.stag.identity.person.model.Education;
+import com.stag.identity.person.model.Profile;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/// Compares stored bytes and encode/decode time of the JDK and the binary cache serializer on cached person
+/// records. Run with `mvn test -Dtest=BinaryCacheSerializerBenchmarkTest -Dbenchmark=true`.
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BinaryCacheSerializerBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static final Profile PROFILE = Profile.builder()
+                                                  .personId(123456)
+                                                  .studentIds(List.of("A21B0001P", "A22N0002P"))
+                                                  .firstName("Jan")
+                                                  .lastName("Novák")
+                                                  .birthSurname("Novák")
+                                                  .contact(new Profile.Contact("jan.novak@example.com", "+420 377 631 111", "+420 777 123 456", "abc123x"))
+                                                  .titles(new Profile.Titles("Ing.", "Ph.D."))
+                                                  .birthNumber("9912310000")
+                                                  .birthDate(LocalDate.of(1999, 12, 31))
+                                                  .birthPlace(new Profile.BirthPlace("Plzeň", "Česká republika"))
+                                                  .citizenship(new Profile.Citizenship("Česká republika", "státní občan"))
+                                                  .gender("muž")
+                                                  .maritalStatus("svobodný/á")
+                                                  .build();
+
+    private static final Addresses ADDRESSES = Addresses.builder()
+                                                        .permanentAddress(new Addresses.Address(
+                                                            "Univerzitní", "2732/8", "30100", "Plzeň", "Jižní Předměstí", "Plzeň-město", "Česká republika"
+                                                        ))
+                                                        .temporaryAddress(new Addresses.Address(
+                                                            "Bolevecká", "1", "30100", "Plzeň", "Bolevec", "Plzeň-město", "Česká republika"
+                                                        ))
+                                                        .foreignPermanentAddress(new Addresses.ForeignAddress("10115", "Berlin", "Mitte", "Berlin 1"))
+                                                        .build();
+
+    private static final Education EDUCATION = new Education(
+        new Education.HighSchool(
+            "Gymnázium Luďka Pika", "Gymnázium", LocalDate.of(2018, 5, 25),
+            new Education.HighSchoolAddress("Opavská 21", "30100", "Plzeň", "Plzeň-město", "Česká republika")
+        ),
+        null
+    );
+
+    @Test
+    @DisplayName("binary serializer should store cached records in fewer bytes than JDK serialization")
+    void compareSerializers() {
+        RedisSerializer<Object> jdk = new JdkSerializationRedisSerializer();
+        RedisSerializer<Object> binary = new BinaryCacheSerializer(getClass().getClassLoader(), 1024);
+
+        log.info("Value     | serializer | bytes | encode ns | decode ns");
+        for (Object value : List.of(PROFILE, ADDRESSES, EDUCATION)) {
+            Result jdkResult = run(jdk, value);
+            Result binaryResult = run(binary, value);
+
+            log.info("{} | jdk        | {}", "%-9s".formatted(value.getClass().getSimpleName()), jdkResult.format());
+            log.info("{} | binary     | {}", "%-9s".formatted(value.getClass().getSimpleName()), binaryResult.format());
+
+            assertThat(binaryResult.bytes()).isLessThan(jdkResult.bytes());
+        }
+    }
+
+    private static Result run(RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        long blackhole = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blackhole += serializer.serialize(value).length;
+            blackhole += serializer.deserialize(bytes).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += serializer.serialize(value).length;
+        }
+        long encodeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole += serializer.deserialize(bytes).hashCode();
+        }
+        long decodeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        assertThat(blackhole).isNotZero();
+        return new Result(bytes.length, encodeNanos, decodeNanos);
+    }
+
+    private record Result(int bytes, long encodeNanos, long decodeNanos) {
+
+        String format() {
+            return "%5d | %9d | %9d".formatted(bytes, encodeNanos, decodeNanos);
+        }
+
+    }
+
+}
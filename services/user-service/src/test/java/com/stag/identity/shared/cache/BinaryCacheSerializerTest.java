@@ -0,0 +1,192 @@
+package com.stag.identity.shared.cache;
+
+import com.stag.identity.person.model.Addresses;
+import com.stag.identity.person.model.Profile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryCacheSerializerTest {
+
+    private static final Profile PROFILE = Profile.builder()
+                                                  .personId(42)
+                                                  .studentIds(List.of("A21B0001P", "A22N0002P"))
+                                                  .firstName("Jan")
+                                                  .lastName("Novák")
+                                                  .contact(new Profile.Contact("jan.novak@example.com", null, "+420 777 123 456", null))
+                                                  .titles(new Profile.Titles("Ing.", null))
+                                                  .birthDate(LocalDate.of(1999, 12, 31))
+                                                  .birthPlace(new Profile.BirthPlace("Plzeň", "Česká republika"))
+                                                  .gender("muž")
+                                                  .build();
+
+    private final BinaryCacheSerializer serializer = new BinaryCacheSerializer(getClass().getClassLoader(), 1024);
+
+    @Nested
+    @DisplayName("records")
+    class Records {
+
+        @Test
+        @DisplayName("should round trip a record with nested records, lists, dates and nulls")
+        void roundTrip() {
+            byte[] bytes = serializer.serialize(PROFILE);
+
+            assertThat(serializer.deserialize(bytes)).isEqualTo(PROFILE);
+        }
+
+        @Test
+        @DisplayName("should store a record in a fraction of the JDK serialized size")
+        void compact() {
+            byte[] jdkBytes = new JdkSerializationRedisSerializer().serialize(PROFILE);
+
+            assertThat(serializer.serialize(PROFILE).length).isLessThan(jdkBytes.length / 4);
+        }
+
+        @Test
+        @DisplayName("should compress values above the threshold")
+        void compresses() {
+            Addresses.Address address = new Addresses.Address("Univerzitní ".repeat(100), "8", "30100", "Plzeň", "Bory", "Plzeň-město", "Česko");
+            Addresses addresses = new Addresses(address, address, null, null);
+
+            byte[] bytes = serializer.serialize(addresses);
+
+            assertThat(bytes.length).isLessThan(1024);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(addresses);
+        }
+
+        @Test
+        @DisplayName("should treat a record cached with another schema as a miss")
+        void outdatedSchema() {
+            byte[] bytes = serializer.serialize(PROFILE);
+            bytes[1 + 1 + Profile.class.getName().length()] ^= 0x01;
+
+            assertThat(serializer.deserialize(bytes)).isNull();
+        }
+
+        @Test
+        @DisplayName("should not load classes outside the allowed packages named by a cached value")
+        void foreignClass() {
+            List<String> requestedClasses = new ArrayList<>();
+            ClassLoader recordingClassLoader = new ClassLoader(getClass().getClassLoader()) {
+                @Override
+                protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                    requestedClasses.add(name);
+                    return super.loadClass(name, resolve);
+                }
+            };
+            BinaryCacheSerializer recordingSerializer = new BinaryCacheSerializer(recordingClassLoader, 1024);
+
+            byte[] bytes = serializer.serialize(PROFILE);
+            String originalName = Profile.class.getName();
+            byte[] foreignName = "java.lang.Runtime".getBytes(StandardCharsets.UTF_8);
+            byte[] forged = new byte[bytes.length - originalName.length() + foreignName.length];
+            forged[0] = bytes[0];
+            forged[1] = (byte) (bytes[1] - originalName.length() + foreignName.length);
+            System.arraycopy(foreignName, 0, forged, 2, foreignName.length);
+            System.arraycopy(bytes, 2 + originalName.length(), forged, 2 + foreignName.length, bytes.length - 2 - originalName.length());
+
+            assertThat(recordingSerializer.deserialize(forged)).isNull();
+            assertThat(requestedClasses).doesNotContain("java.lang.Runtime");
+        }
+    }
+
+    @Nested
+    @DisplayName("schema fingerprint")
+    class SchemaFingerprint {
+
+        private final RecordCodec codec = new RecordCodec("com.stag.", getClass().getClassLoader());
+
+        @Test
+        @DisplayName("should include the components of nested records, so changing them invalidates the outer entry")
+        void nestedComponents() {
+            assertThat(codec.signature(Profile.class)).contains(
+                "contact:" + Profile.Contact.class.getName() + "(email:STRING,phone:STRING,mobile:STRING,dataBox:STRING)"
+            );
+            assertThat(codec.signature(Outer.class)).isNotEqualTo(codec.signature(OuterWithChangedInner.class).replace(
+                OuterWithChangedInner.class.getName(), Outer.class.getName()
+            ).replace(ChangedInner.class.getName(), Inner.class.getName()));
+        }
+
+        @Test
+        @DisplayName("should reference a self-referencing record by name and round trip it")
+        void selfReference() {
+            TreeNode tree = new TreeNode("root", List.of(new TreeNode("leaf", List.of())));
+
+            assertThat(codec.signature(TreeNode.class))
+                .isEqualTo(TreeNode.class.getName() + "(name:STRING,children:List<" + TreeNode.class.getName() + ">)");
+            assertThat(serializer.deserialize(serializer.serialize(tree))).isEqualTo(tree);
+        }
+    }
+
+    @Nested
+    @DisplayName("other values")
+    class OtherValues {
+
+        @Test
+        @DisplayName("should fall back to JDK serialization for non-record values")
+        void jdkFallback() {
+            Map<String, Integer> value = Map.of("a", 1);
+
+            assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+        }
+
+        @Test
+        @DisplayName("should fall back to JDK serialization for records with unsupported components")
+        void unsupportedRecord() {
+            UnsupportedRecord value = new UnsupportedRecord(new StringBuilder("x"));
+
+            assertThat(serializer.deserialize(serializer.serialize(value))).isInstanceOf(UnsupportedRecord.class);
+        }
+
+        @Test
+        @DisplayName("should read values cached by the JDK serializer")
+        void legacyEntries() {
+            byte[] legacyBytes = new JdkSerializationRedisSerializer().serialize(PROFILE);
+
+            assertThat(serializer.deserialize(legacyBytes)).isEqualTo(PROFILE);
+        }
+
+        @Test
+        @DisplayName("should map null to empty bytes and back")
+        void nullValue() {
+            assertThat(serializer.serialize(null)).isEmpty();
+            assertThat(serializer.deserialize(new byte[0])).isNull();
+            assertThat(serializer.deserialize(null)).isNull();
+        }
+    }
+
+    private record UnsupportedRecord(StringBuilder value) implements Serializable {
+
+    }
+
+    public record Inner(String value) {
+
+    }
+
+    public record ChangedInner(String value, Integer order) {
+
+    }
+
+    public record Outer(String name, Inner inner) {
+
+    }
+
+    public record OuterWithChangedInner(String name, ChangedInner inner) {
+
+    }
+
+    public record TreeNode(String name, List<TreeNode> children) {
+
+    }
+
+}
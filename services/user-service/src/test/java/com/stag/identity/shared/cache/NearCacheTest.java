@@ -0,0 +1,356 @@
+package com.stag.identity.shared.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheTest {
+
+    private static final List<Object> KEY = List.of(42, "cs");
+
+    @Mock
+    private RedisCache redisCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NearCacheInvalidations invalidations;
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisCache.getName()).thenReturn("person-profile");
+        meterRegistry = new SimpleMeterRegistry();
+        invalidations = new NearCacheInvalidations(redisTemplate, "near-cache:invalidations");
+        nearCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, null, null, null, meterRegistry);
+        invalidations.bind(name -> name.equals("person-profile") ? nearCache : null);
+    }
+
+    @Nested
+    @DisplayName("get")
+    class Get {
+
+        @Test
+        @DisplayName("should read Redis once and serve repeated reads from L1")
+        void fillsL1() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Novák"));
+
+            assertThat(nearCache.get(KEY).get()).isEqualTo("Novák");
+            assertThat(nearCache.get(KEY).get()).isEqualTo("Novák");
+
+            verify(redisCache, times(1)).get(KEY);
+            assertThat(requests("l1", "hit")).isEqualTo(1);
+            assertThat(requests("l1", "miss")).isEqualTo(1);
+            assertThat(requests("l2", "hit")).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.near.latency").tags("tier", "l2").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should report a miss of both tiers")
+        void missesBothTiers() {
+            assertThat(nearCache.get(KEY)).isNull();
+            assertThat(requests("l2", "miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not fill L1 with a value read before a concurrent eviction")
+        void skipsStaleFill() throws Exception {
+            CountDownLatch reading = new CountDownLatch(1);
+            CountDownLatch evicted = new CountDownLatch(1);
+            when(redisCache.get(KEY))
+                .thenAnswer(_ -> {
+                    reading.countDown();
+                    evicted.await();
+                    return new SimpleValueWrapper("Novák");
+                })
+                .thenReturn(new SimpleValueWrapper("Nováková"));
+
+            CompletableFuture<Object> reader = CompletableFuture.supplyAsync(() -> nearCache.get(KEY).get());
+            reading.await();
+            nearCache.evict(KEY);
+            evicted.countDown();
+
+            assertThat(reader.get()).isEqualTo("Novák");
+            assertThat(nearCache.get(KEY).get()).isEqualTo("Nováková");
+            verify(redisCache, times(2)).get(KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("retrieve")
+    class Retrieve {
+
+        @Test
+        @DisplayName("should read Redis asynchronously and serve repeated lookups from L1")
+        void fillsL1() {
+            when(redisCache.retrieve(KEY)).thenAnswer(_ -> CompletableFuture.completedFuture("Novák"));
+
+            assertThat(nearCache.retrieve(KEY).join()).isEqualTo("Novák");
+            assertThat(nearCache.retrieve(KEY).join()).isEqualTo("Novák");
+
+            verify(redisCache, times(1)).retrieve(KEY);
+            verify(redisCache, never()).get(KEY);
+            assertThat(requests("l1", "hit")).isEqualTo(1);
+            assertThat(requests("l2", "hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should fall back to a blocking read when Redis has no asynchronous reads")
+        void fallsBackToBlockingRead() {
+            when(redisCache.retrieve(KEY)).thenThrow(new UnsupportedOperationException());
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Novák"));
+
+            assertThat(nearCache.retrieve(KEY).join()).isEqualTo("Novák");
+        }
+
+        @Test
+        @DisplayName("should not fill L1 with a value read before another instance invalidated it")
+        void skipsStaleFill() {
+            CompletableFuture<Object> l2Read = new CompletableFuture<>();
+            when(redisCache.retrieve(KEY)).thenAnswer(_ -> l2Read);
+
+            CompletableFuture<?> lookup = nearCache.retrieve(KEY);
+            invalidations.handle("other-instance|person-profile|[42, cs]");
+            l2Read.complete("Novák");
+
+            assertThat(lookup.join()).isEqualTo("Novák");
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Nováková"));
+            assertThat(nearCache.get(KEY).get()).isEqualTo("Nováková");
+        }
+
+        @Test
+        @DisplayName("should complete with null on a miss of both tiers")
+        void missesBothTiers() {
+            when(redisCache.retrieve(KEY)).thenAnswer(_ -> CompletableFuture.completedFuture(null));
+
+            assertThat(nearCache.retrieve(KEY).join()).isNull();
+            assertThat(requests("l2", "miss")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("putAll")
+    class PutAll {
+
+        @Test
+        @DisplayName("should pipeline Redis writes under the keys of single puts, fill L1 and publish nothing")
+        void storesBatch() {
+            RedisCacheWriter writer = mock(RedisCacheWriter.class);
+            when(writer.supportsAsyncRetrieve()).thenReturn(true);
+            when(writer.store(anyString(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+            RedisCache l2 = new RedisCache("person-simple-profile", writer, RedisCacheConfiguration.defaultCacheConfig()) {
+            };
+            NearCache batchCache = new NearCache(l2, 1024 * 1024, Duration.ofMinutes(1), invalidations, null, null, null, meterRegistry);
+
+            batchCache.putAll(Map.of(KEY, "Novák", List.of(43, "cs"), "Nováková"));
+            l2.put(KEY, "Novák");
+
+            ArgumentCaptor<byte[]> storedKeys = ArgumentCaptor.forClass(byte[].class);
+            verify(writer, times(2)).store(eq("person-simple-profile"), storedKeys.capture(), any(), any());
+            ArgumentCaptor<byte[]> putKey = ArgumentCaptor.forClass(byte[].class);
+            verify(writer).put(eq("person-simple-profile"), putKey.capture(), any(), any());
+            assertThat(storedKeys.getAllValues()).anySatisfy(key -> assertThat(key).isEqualTo(putKey.getValue()));
+
+            assertThat(batchCache.get(KEY).get()).isEqualTo("Novák");
+            assertThat(batchCache.get(List.of(43, "cs")).get()).isEqualTo("Nováková");
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("get with value loader")
+    class GetWithValueLoader {
+
+        @Test
+        @DisplayName("should run a single loader for concurrent misses of a key")
+        void coalescesLoads() throws Exception {
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> nearCache.get(KEY, () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "Novák";
+            }));
+            await().until(() -> nearCache.inFlightLoads() == 1);
+
+            CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> nearCache.get(KEY, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            await().until(() -> coalesced("local") == 1);
+            release.countDown();
+
+            assertThat(leader.get()).isEqualTo("Novák");
+            assertThat(waiter.get()).isEqualTo("Novák");
+            assertThat(loads).hasValue(1);
+            assertThat(nearCache.inFlightLoads()).isZero();
+            verify(redisCache).put(KEY, "Novák");
+        }
+
+        @Test
+        @DisplayName("should propagate loader failures without caching")
+        void propagatesFailure() {
+            assertThatThrownBy(() -> nearCache.get(KEY, () -> {
+                throw new IllegalStateException("DB down");
+            }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+            verify(redisCache, never()).put(eq(KEY), any());
+            assertThat(nearCache.inFlightLoads()).isZero();
+        }
+
+        @Test
+        @DisplayName("should wait for the instance holding the distributed lock")
+        void waitsForDistributedLoad() {
+            NearCacheLoadLock loadLock = mock(NearCacheLoadLock.class);
+            when(loadLock.getLease()).thenReturn(Duration.ofSeconds(5));
+            when(loadLock.getPollInterval()).thenReturn(Duration.ofMillis(1));
+            when(loadLock.tryAcquire(anyString(), anyString())).thenReturn(null);
+            when(redisCache.get(KEY)).thenReturn(null, new SimpleValueWrapper("Novák"));
+            NearCache lockedCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, loadLock, null, null, meterRegistry);
+
+            String value = lockedCache.get(KEY, () -> "other");
+
+            assertThat(value).isEqualTo("Novák");
+            assertThat(coalesced("distributed")).isEqualTo(1);
+            verify(redisCache, never()).put(eq(KEY), any());
+        }
+
+        @Test
+        @DisplayName("should load and release the distributed lock when acquired")
+        void loadsUnderDistributedLock() {
+            NearCacheLoadLock loadLock = mock(NearCacheLoadLock.class);
+            when(loadLock.getLease()).thenReturn(Duration.ofSeconds(5));
+            when(loadLock.tryAcquire(anyString(), anyString())).thenReturn("token");
+            NearCache lockedCache = new NearCache(redisCache, 1024 * 1024, Duration.ofMinutes(1), invalidations, loadLock, null, null, meterRegistry);
+
+            String value = lockedCache.get(KEY, () -> "Novák");
+
+            assertThat(value).isEqualTo("Novák");
+            verify(redisCache).put(KEY, "Novák");
+            verify(loadLock).release(anyString(), anyString(), eq("token"));
+        }
+    }
+
+    @Nested
+    @DisplayName("weight")
+    class Weight {
+
+        @Test
+        @DisplayName("should weigh L1 entries without serializing them for Redis")
+        void skipsSerializer() {
+            nearCache.put(KEY, "Novák");
+
+            assertThat(nearCache.get(KEY).get()).isEqualTo("Novák");
+            verify(redisCache, never()).getCacheConfiguration();
+        }
+
+        @Test
+        @DisplayName("should estimate records, collections and strings from their contents")
+        void estimatesSize() {
+            record Item(String name, int order) {
+            }
+            List<Item> items = IntStream.range(0, 100).mapToObj(i -> new Item("x".repeat(99), i)).toList();
+
+            assertThat(NearCacheWeigher.weigh("x".repeat(99))).isEqualTo(100);
+            assertThat(NearCacheWeigher.weigh(items)).isEqualTo(100 * (100 + 8));
+            assertThat(NearCacheWeigher.weigh(new Object())).isEqualTo(NearCacheWeigher.UNKNOWN_WEIGHT);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("should publish evictions and skip its own messages")
+        void publishesEvict() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Novák"));
+            nearCache.get(KEY);
+
+            nearCache.evict(KEY);
+
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq("near-cache:invalidations"), payload.capture());
+            assertThat(payload.getValue()).endsWith("|person-profile|[42, cs]");
+
+            nearCache.put(KEY, "Nováková");
+            invalidations.handle(payload.getValue());
+            assertThat(nearCache.get(KEY).get()).isEqualTo("Nováková");
+            verify(redisCache).evict(KEY);
+        }
+
+        @Test
+        @DisplayName("should drop L1 entries changed by another instance")
+        void appliesRemoteEvict() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Novák"));
+            nearCache.get(KEY);
+
+            invalidations.handle("other-instance|person-profile|[42, cs]");
+            nearCache.get(KEY);
+
+            verify(redisCache, times(2)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("should drop all L1 entries when another instance clears the cache")
+        void appliesRemoteClear() {
+            when(redisCache.get(KEY)).thenReturn(new SimpleValueWrapper("Novák"));
+            nearCache.get(KEY);
+
+            invalidations.handle("other-instance|person-profile");
+            invalidations.handle("other-instance|person-banking");
+            nearCache.get(KEY);
+
+            verify(redisCache, times(2)).get(KEY);
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+
+    private double coalesced(String scope) {
+        return meterRegistry.get("cache.near.coalesced").tags("scope", scope).counter().count();
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.get("cache.near.requests").tags("tier", tier, "result", result).counter().count();
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.stag.identity.shared.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import oracle.jdbc.OracleConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OracleProxySessionDataSourceTest {
+
+    @Mock
+    private DataSource physicalDataSource;
+
+    @Mock
+    private Connection physicalConnection;
+
+    @Mock
+    private OracleConnection oracleConnection;
+
+    @Mock
+    private Statement statement;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OracleProxySessionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new OracleProxySessionDataSource(physicalDataSource, "TARGET", meterRegistry);
+        when(physicalDataSource.getConnection("proxy", "secret")).thenReturn(physicalConnection);
+        when(physicalConnection.unwrap(OracleConnection.class)).thenReturn(oracleConnection);
+    }
+
+    @Test
+    @DisplayName("Should open the proxy session once when the physical connection is created")
+    void getConnection_NewConnection_OpensProxySession() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(true);
+
+        Connection connection = dataSource.getConnection("proxy", "secret");
+
+        assertThat(connection).isInstanceOf(PooledProxyOracleConnection.class);
+        verify(oracleConnection).openProxySession(
+            eq(OracleConnection.PROXYTYPE_USER_NAME),
+            argThat((Properties props) -> "TARGET".equals(props.get(OracleConnection.PROXY_USER_NAME)))
+        );
+        verify(physicalConnection, never()).close();
+        assertThat(meterRegistry.get("oracle.proxy.session.open").tag("mode", "pooled").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close the proxy session before the physical connection when the pool retires it")
+    void close_RetiredConnection_ClosesProxySession() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(true);
+        Connection connection = dataSource.getConnection("proxy", "secret");
+
+        connection.close();
+
+        InOrder inOrder = inOrder(oracleConnection, physicalConnection);
+        inOrder.verify(oracleConnection).close(OracleConnection.PROXY_SESSION);
+        inOrder.verify(physicalConnection).close();
+        assertThat(meterRegistry.get("oracle.proxy.session.close").tag("mode", "pooled").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject statements changing the session state of a pooled connection")
+    void prepareStatement_SessionStateChange_IsRejected() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(true);
+        Connection connection = dataSource.getConnection("proxy", "secret");
+
+        assertThatThrownBy(() -> connection.prepareStatement("ALTER SESSION SET NLS_LANGUAGE = 'CZECH'"))
+            .isInstanceOf(SQLException.class)
+            .hasMessageContaining("next borrower");
+        assertThatThrownBy(() -> connection.prepareCall("BEGIN dbms_session.set_role('ADMIN'); END;"))
+            .isInstanceOf(SQLException.class);
+
+        verify(physicalConnection, never()).prepareStatement(anyString());
+        verify(physicalConnection, never()).prepareCall(anyString());
+    }
+
+    @Test
+    @DisplayName("Should check the SQL executed by plain statements of a pooled connection")
+    void createStatement_SessionStateChange_IsRejected() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(true);
+        when(physicalConnection.createStatement()).thenReturn(statement);
+        when(statement.execute("SELECT 1 FROM DUAL")).thenReturn(true);
+        Connection connection = dataSource.getConnection("proxy", "secret");
+
+        Statement guarded = connection.createStatement();
+
+        assertThat(guarded.execute("SELECT 1 FROM DUAL")).isTrue();
+        assertThatThrownBy(() -> guarded.execute("alter session set time_zone = 'UTC'"))
+            .isInstanceOf(SQLException.class);
+        verify(statement, never()).execute("alter session set time_zone = 'UTC'");
+    }
+
+    @Test
+    @DisplayName("Should reject session state changes executed dynamically inside PL/SQL blocks")
+    void prepareCall_DynamicSessionStateChange_IsRejected() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(true);
+        Connection connection = dataSource.getConnection("proxy", "secret");
+
+        assertThatThrownBy(() -> connection.prepareCall("BEGIN EXECUTE IMMEDIATE 'ALTER SESSION SET NLS_DATE_FORMAT = ''YYYY'''; END;"))
+            .isInstanceOf(SQLException.class)
+            .hasMessageContaining("next borrower");
+        assertThatThrownBy(() -> connection.prepareStatement("begin execute immediate 'set role admin'; end;"))
+            .isInstanceOf(SQLException.class);
+
+        verify(physicalConnection, never()).prepareCall(anyString());
+        verify(physicalConnection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject client info on a pooled connection")
+    void setClientInfo_PooledConnection_IsRejected() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(true);
+        Connection connection = dataSource.getConnection("proxy", "secret");
+        Properties clientInfo = new Properties();
+        clientInfo.setProperty("OCSID.MODULE", "profile");
+
+        assertThatThrownBy(() -> connection.setClientInfo("OCSID.ACTION", "update"))
+            .isInstanceOf(SQLClientInfoException.class)
+            .hasMessageContaining("next borrower");
+        assertThatThrownBy(() -> connection.setClientInfo(clientInfo))
+            .isInstanceOf(SQLClientInfoException.class);
+
+        verify(physicalConnection, never()).setClientInfo(anyString(), anyString());
+        verify(physicalConnection, never()).setClientInfo(any(Properties.class));
+    }
+
+    @Test
+    @DisplayName("Should close the physical connection when the proxy session cannot be opened")
+    void getConnection_ProxySessionFails_ClosesPhysicalConnection() throws SQLException {
+        doThrow(new SQLException("ORA-28150")).when(oracleConnection).openProxySession(anyInt(), any(Properties.class));
+
+        assertThatThrownBy(() -> dataSource.getConnection("proxy", "secret"))
+            .isInstanceOf(SQLException.class)
+            .hasMessageContaining("TARGET");
+
+        verify(physicalConnection).close();
+    }
+
+    @Test
+    @DisplayName("Should reject a connection whose proxy session is not active after opening it")
+    void getConnection_ProxySessionInactive_ClosesPhysicalConnection() throws SQLException {
+        when(oracleConnection.isProxySession()).thenReturn(false);
+
+        assertThatThrownBy(() -> dataSource.getConnection("proxy", "secret"))
+            .isInstanceOf(SQLException.class);
+
+        verify(physicalConnection).close();
+    }
+
+}
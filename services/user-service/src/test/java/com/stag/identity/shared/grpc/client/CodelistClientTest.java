@@ -3,15 +3,19 @@ package com.stag.identity.shared.grpc.client;
 import com.stag.identity.person.model.Profile;
 import com.stag.identity.person.repository.projection.AddressView;
 import com.stag.identity.person.repository.projection.BankView;
+import com.stag.identity.person.repository.projection.DossierView;
 import com.stag.identity.person.repository.projection.EducationView;
 import com.stag.identity.person.repository.projection.ProfileView;
 import com.stag.identity.person.repository.projection.SimpleProfileView;
 import com.stag.identity.person.service.data.AddressLookupData;
 import com.stag.identity.person.service.data.BankingLookupData;
 import com.stag.identity.person.service.data.CodelistMeaningsLookupData;
+import com.stag.identity.person.service.data.DossierLookupData;
 import com.stag.identity.person.service.data.EducationLookupData;
 import com.stag.identity.person.service.data.ProfileLookupData;
 import com.stag.identity.person.service.data.ProfileUpdateLookupData;
+import com.stag.identity.shared.grpc.replica.CodelistReplica;
+import com.stag.platform.codelist.v1.CodelistKey;
 import com.stag.platform.codelist.v1.CodelistMeaning;
 import com.stag.platform.codelist.v1.CodelistServiceGrpc;
 import com.stag.platform.codelist.v1.GetCodelistValuesRequest;
@@ -20,6 +24,8 @@ import com.stag.platform.codelist.v1.GetPersonAddressDataRequest;
 import com.stag.platform.codelist.v1.GetPersonAddressDataResponse;
 import com.stag.platform.codelist.v1.GetPersonBankingDataRequest;
 import com.stag.platform.codelist.v1.GetPersonBankingDataResponse;
+import com.stag.platform.codelist.v1.GetPersonDossierDataRequest;
+import com.stag.platform.codelist.v1.GetPersonDossierDataResponse;
 import com.stag.platform.codelist.v1.GetPersonEducationDataRequest;
 import com.stag.platform.codelist.v1.GetPersonEducationDataResponse;
 import com.stag.platform.codelist.v1.GetPersonProfileDataRequest;
@@ -29,15 +35,21 @@ import com.stag.platform.codelist.v1.GetPersonProfileUpdateDataResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +59,9 @@ class CodelistClientTest {
     @Mock
     private CodelistServiceGrpc.CodelistServiceBlockingStub codelistServiceStub;
 
+    @Mock
+    private CodelistReplica codelistReplica;
+
     @InjectMocks
     private CodelistClient codelistClient;
 
@@ -79,6 +94,69 @@ class CodelistClientTest {
         verify(codelistServiceStub).getCodelistValues(any(GetCodelistValuesRequest.class));
     }
 
+    @Test
+    @DisplayName("getSimpleProfilesData should send the merged codelist keys of all profiles in one call")
+    void getSimpleProfilesData_MergesCodelistKeys() {
+        List<SimpleProfileView> simpleProfiles = List.of(
+            new SimpleProfileView("John", "Doe", "Ing.", null, "M"),
+            new SimpleProfileView("Jane", "Doe", "Ing.", "Ph.D.", "Z"),
+            new SimpleProfileView("Jack", "Doe", null, null, "M")
+        );
+
+        when(codelistServiceStub.getCodelistValues(any(GetCodelistValuesRequest.class)))
+            .thenReturn(GetCodelistValuesResponse.getDefaultInstance());
+
+        CodelistMeaningsLookupData result = codelistClient.getSimpleProfilesData(simpleProfiles, LANGUAGE);
+
+        assertThat(result.codelistMeanings()).isEmpty();
+
+        ArgumentCaptor<GetCodelistValuesRequest> requestCaptor = ArgumentCaptor.forClass(GetCodelistValuesRequest.class);
+        verify(codelistServiceStub).getCodelistValues(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().getCodelistKeysList())
+            .extracting(CodelistKey::getDomain, CodelistKey::getLowValue)
+            .containsExactly(
+                tuple("TITUL_PRED", "Ing."),
+                tuple("POHLAVI", "M"),
+                tuple("TITUL_ZA", "Ph.D."),
+                tuple("POHLAVI", "Z")
+            );
+    }
+
+    @Test
+    @DisplayName("getSimpleProfilesData should split keys over the request limit")
+    void getSimpleProfilesData_OverKeyLimit_SplitsRequests() {
+        List<SimpleProfileView> simpleProfiles = IntStream.range(0, 12)
+                                                          .mapToObj(i -> new SimpleProfileView("John", "Doe", "T" + i, null, null))
+                                                          .toList();
+
+        when(codelistServiceStub.getCodelistValues(any(GetCodelistValuesRequest.class)))
+            .thenAnswer(invocation -> {
+                GetCodelistValuesRequest request = invocation.getArgument(0);
+                return GetCodelistValuesResponse.newBuilder()
+                                                .addCodelistMeanings(CodelistMeaning.newBuilder()
+                                                                                    .setDomain("TITUL_PRED")
+                                                                                    .setLowValue(request.getCodelistKeys(0).getLowValue())
+                                                                                    .setMeaning("Title"))
+                                                .build();
+            });
+
+        CodelistMeaningsLookupData result = codelistClient.getSimpleProfilesData(simpleProfiles, LANGUAGE);
+
+        assertThat(result.codelistMeanings()).hasSize(2);
+        verify(codelistServiceStub, times(2)).getCodelistValues(any(GetCodelistValuesRequest.class));
+    }
+
+    @Test
+    @DisplayName("getSimpleProfilesData should skip the call when no profile has codelist values")
+    void getSimpleProfilesData_NoCodelistKeys_SkipsCall() {
+        List<SimpleProfileView> simpleProfiles = List.of(new SimpleProfileView("John", "Doe", null, null, null));
+
+        CodelistMeaningsLookupData result = codelistClient.getSimpleProfilesData(simpleProfiles, LANGUAGE);
+
+        assertThat(result.codelistMeanings()).isEmpty();
+        verify(codelistServiceStub, never()).getCodelistValues(any(GetCodelistValuesRequest.class));
+    }
+
     @Test
     @DisplayName("getPersonProfileData should return data when request has fields")
     void getPersonProfileData_WithFields_ReturnsData() {
@@ -107,6 +185,29 @@ class CodelistClientTest {
         verify(codelistServiceStub).getPersonProfileData(any(GetPersonProfileDataRequest.class));
     }
 
+    @Test
+    @DisplayName("getPersonProfileData should resolve from the replica without a remote call")
+    void getPersonProfileData_ReplicaReady_SkipsRemoteCall() {
+        ProfileView profile = new ProfileView(
+            1, "John", "Doe", null, null, null, null, null,
+            "Mr.", null, null, LocalDate.now(),
+            123, null, null, null, null, "M", "SINGLE"
+        );
+
+        GetPersonProfileDataResponse response = GetPersonProfileDataResponse.newBuilder()
+                                                                            .setBirthCountryName("Czechia")
+                                                                            .build();
+
+        when(codelistReplica.findPersonProfileData(any(GetPersonProfileDataRequest.class)))
+            .thenReturn(Optional.of(response));
+
+        ProfileLookupData result = codelistClient.getPersonProfileData(profile, LANGUAGE);
+
+        assertThat(result).isNotNull();
+        assertThat(result.birthCountryName()).isEqualTo("Czechia");
+        verify(codelistServiceStub, never()).getPersonProfileData(any());
+    }
+
     @Test
     @DisplayName("getPersonProfileData should return null when request is empty (skipped)")
     void getPersonProfileData_EmptyRequest_ReturnsNull() {
@@ -278,4 +379,62 @@ class CodelistClientTest {
         verify(codelistServiceStub, never()).getPersonEducationData(any());
     }
 
+    @Test
+    @DisplayName("getPersonDossierData should send only parts the replica cannot answer in one call")
+    void getPersonDossierData_PartialReplica_SendsRemainingParts() {
+        DossierView dossier = dossierView(123, 1L, "0100", "SCHOOL1");
+
+        when(codelistReplica.findPersonProfileData(any(GetPersonProfileDataRequest.class)))
+            .thenReturn(Optional.of(GetPersonProfileDataResponse.newBuilder().setBirthCountryName("Czechia").build()));
+
+        GetPersonDossierDataResponse response = GetPersonDossierDataResponse.newBuilder()
+                                                                            .setAddress(GetPersonAddressDataResponse.newBuilder().setPermanentCountryName("Czechia"))
+                                                                            .setEducation(GetPersonEducationDataResponse.newBuilder().setHighSchoolName("School Name"))
+                                                                            .build();
+
+        ArgumentCaptor<GetPersonDossierDataRequest> captor = ArgumentCaptor.forClass(GetPersonDossierDataRequest.class);
+        when(codelistServiceStub.getPersonDossierData(captor.capture())).thenReturn(response);
+
+        DossierLookupData result = codelistClient.getPersonDossierData(dossier, LANGUAGE);
+
+        assertThat(captor.getValue().hasProfile()).isFalse();
+        assertThat(captor.getValue().hasAddress()).isTrue();
+        assertThat(captor.getValue().hasBanking()).isTrue();
+        assertThat(captor.getValue().hasEducation()).isTrue();
+        assertThat(result.profile().birthCountryName()).isEqualTo("Czechia");
+        assertThat(result.addresses().permanentCountry()).isEqualTo("Czechia");
+        assertThat(result.banking()).isNull();
+        assertThat(result.education().highSchoolName()).isEqualTo("School Name");
+    }
+
+    @Test
+    @DisplayName("getPersonDossierData should skip the call when no part has data to fetch")
+    void getPersonDossierData_NoIds_SkipsCall() {
+        DossierView dossier = dossierView(null, null, null, null);
+
+        DossierLookupData result = codelistClient.getPersonDossierData(dossier, LANGUAGE);
+
+        assertThat(result.profile()).isNull();
+        assertThat(result.addresses()).isNull();
+        assertThat(result.banking()).isNull();
+        assertThat(result.education()).isNull();
+        verify(codelistServiceStub, never()).getPersonDossierData(any());
+    }
+
+    private static DossierView dossierView(Integer birthCountryId, Long municipalityPartId, String bankCode, String highSchoolId) {
+        return new DossierView(
+            1, "John", "Doe", null, null, null, null, null,
+            null, null, null, LocalDate.now(),
+            birthCountryId, null, null, null, null, null, null,
+            "Main", "1", "10000", municipalityPartId, null,
+            null, null, null, null, null,
+            null, null, null, null,
+            null, null, null, null,
+            "Owner", "Addr", "123", "456", bankCode, null, "CZK",
+            null, null, null, null, null, null, null, null, null,
+            highSchoolId, null, null, LocalDate.now(),
+            null, null, null
+        );
+    }
+
 }
@@ -0,0 +1,143 @@
+package com.stag.identity.shared.grpc.replica;
+
+import com.stag.platform.codelist.v1.AddressPlaceRecord;
+import com.stag.platform.codelist.v1.CodelistChangeEvent;
+import com.stag.platform.codelist.v1.CodelistEntryRecord;
+import com.stag.platform.codelist.v1.CodelistKey;
+import com.stag.platform.codelist.v1.CodelistMeaning;
+import com.stag.platform.codelist.v1.CountryRecord;
+import com.stag.platform.codelist.v1.GetCodelistSnapshotResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodelistReplicaDataTest {
+
+    private static final CodelistKey MALE_KEY = CodelistKey.newBuilder().setDomain("POHLAVI").setLowValue("M").build();
+    private static final CodelistKey FEMALE_KEY = CodelistKey.newBuilder().setDomain("POHLAVI").setLowValue("Z").build();
+
+    private static final CodelistEntryRecord MALE = CodelistEntryRecord.newBuilder()
+                                                                       .setDomain("POHLAVI")
+                                                                       .setLowValue("M")
+                                                                       .setMeaningCz("muž")
+                                                                       .setMeaningEn("male")
+                                                                       .build();
+
+    private static final CodelistEntryRecord FEMALE = CodelistEntryRecord.newBuilder()
+                                                                         .setDomain("POHLAVI")
+                                                                         .setLowValue("Z")
+                                                                         .setMeaningCz("žena")
+                                                                         .build();
+
+    private static final CountryRecord CZECHIA = CountryRecord.newBuilder().setId(203).setNameCz("Česko").build();
+
+    private static final AddressPlaceRecord BORY = AddressPlaceRecord.newBuilder()
+                                                                     .setMunicipalityPartId(1000L)
+                                                                     .setMunicipalityName("Plzeň")
+                                                                     .setMunicipalityPartName("Bory")
+                                                                     .build();
+
+    private static CodelistReplicaData snapshot() {
+        return CodelistReplicaData.of(List.of(
+            GetCodelistSnapshotResponse.newBuilder()
+                                       .setReplicaId("replica")
+                                       .setVersion(1)
+                                       .addCodelistEntries(MALE)
+                                       .addCodelistEntries(FEMALE)
+                                       .build(),
+            GetCodelistSnapshotResponse.newBuilder()
+                                       .setReplicaId("replica")
+                                       .setVersion(1)
+                                       .addCountries(CZECHIA)
+                                       .addAddressPlaces(BORY)
+                                       .build()
+        ));
+    }
+
+    @Nested
+    @DisplayName("of")
+    class Of {
+
+        @Test
+        @DisplayName("should merge all snapshot chunks")
+        void mergesChunks() {
+            CodelistReplicaData data = snapshot();
+
+            assertThat(data.replicaId()).isEqualTo("replica");
+            assertThat(data.version()).isEqualTo(1);
+            assertThat(data.size()).isEqualTo(4);
+            assertThat(data.findAddressPlace(1000L)).isEqualTo(BORY);
+        }
+    }
+
+    @Nested
+    @DisplayName("findMeanings")
+    class FindMeanings {
+
+        @Test
+        @DisplayName("should fall back to the Czech meaning when English is missing")
+        void fallsBackToCzech() {
+            List<CodelistMeaning> meanings = snapshot().findMeanings(List.of(MALE_KEY, FEMALE_KEY), "en");
+
+            assertThat(meanings).extracting(CodelistMeaning::getMeaning).containsExactly("male", "žena");
+        }
+
+        @Test
+        @DisplayName("should return null when any key is missing")
+        void missingKey() {
+            CodelistKey unknown = CodelistKey.newBuilder().setDomain("POHLAVI").setLowValue("X").build();
+
+            assertThat(snapshot().findMeanings(List.of(MALE_KEY, unknown), "cs")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findCountryName")
+    class FindCountryName {
+
+        @Test
+        @DisplayName("should not fall back to the Czech name")
+        void noFallback() {
+            CodelistReplicaData data = snapshot();
+
+            assertThat(data.findCountryName(203, "cs")).isEqualTo("Česko");
+            assertThat(data.findCountryName(203, "en")).isNull();
+            assertThat(data.containsCountry(203)).isTrue();
+            assertThat(data.containsCountry(999)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("apply")
+    class Apply {
+
+        @Test
+        @DisplayName("should upsert and remove records and take the event version")
+        void appliesEvent() {
+            CodelistReplicaData data = snapshot();
+            CountryRecord slovakia = CountryRecord.newBuilder().setId(703).setNameCz("Slovensko").setNameEn("Slovakia").build();
+
+            CodelistChangeEvent event = CodelistChangeEvent.newBuilder()
+                                                           .setReplicaId("replica")
+                                                           .setVersion(2)
+                                                           .addRemovedCodelistKeys(MALE_KEY)
+                                                           .addUpsertedCountries(slovakia)
+                                                           .addRemovedMunicipalityPartIds(1000L)
+                                                           .build();
+
+            CodelistReplicaData applied = data.apply(event);
+
+            assertThat(applied.version()).isEqualTo(2);
+            assertThat(applied.findMeanings(List.of(MALE_KEY), "cs")).isNull();
+            assertThat(applied.findCountryName(703, "en")).isEqualTo("Slovakia");
+            assertThat(applied.findAddressPlace(1000L)).isNull();
+            assertThat(data.version()).isEqualTo(1);
+            assertThat(data.findAddressPlace(1000L)).isEqualTo(BORY);
+        }
+    }
+
+}
@@ -5,15 +5,25 @@ import com.stag.identity.person.model.SimpleProfile;
 import com.stag.identity.person.service.ProfileService;
 import com.stag.identity.user.v1.GetPersonSimpleProfileRequest;
 import com.stag.identity.user.v1.GetPersonSimpleProfileResponse;
+import com.stag.identity.user.v1.GetPersonSimpleProfilesRequest;
+import com.stag.identity.user.v1.GetPersonSimpleProfilesResponse;
+import com.stag.identity.user.v1.PersonSimpleProfileResult;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,4 +68,37 @@ class UserGrpcServiceTest {
         verify(responseObserver).onCompleted();
     }
 
+    @Test
+    @DisplayName("getPersonSimpleProfiles should return results in request order with errors for missing persons")
+    void shouldReturnPersonSimpleProfilesInRequestOrder() {
+        String language = "cs";
+        List<Integer> personIds = List.of(2, 999, 1);
+
+        GetPersonSimpleProfilesRequest request = GetPersonSimpleProfilesRequest.newBuilder()
+                                                                               .addAllPersonIds(personIds)
+                                                                               .setLanguage(language)
+                                                                               .build();
+
+        when(profileService.getPersonSimpleProfiles(personIds, language))
+            .thenReturn(Map.of(
+                1, SimpleProfile.builder().firstName("John").lastName("Doe").gender("M").build(),
+                2, SimpleProfile.builder().firstName("Jane").lastName("Doe").gender("Z").build()
+            ));
+
+        @SuppressWarnings("unchecked")
+        StreamObserver<GetPersonSimpleProfilesResponse> batchObserver = mock(StreamObserver.class);
+
+        userGrpcService.getPersonSimpleProfiles(request, batchObserver);
+
+        ArgumentCaptor<GetPersonSimpleProfilesResponse> responseCaptor = ArgumentCaptor.forClass(GetPersonSimpleProfilesResponse.class);
+        verify(batchObserver).onNext(responseCaptor.capture());
+        verify(batchObserver).onCompleted();
+
+        List<PersonSimpleProfileResult> results = responseCaptor.getValue().getResultsList();
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getProfile().getFirstName()).isEqualTo("Jane");
+        assertThat(results.get(1).getError().getCode()).isEqualTo(Status.Code.NOT_FOUND.value());
+        assertThat(results.get(2).getProfile().getFirstName()).isEqualTo("John");
+    }
+
 }